@@ -0,0 +1,39 @@
+package com.ticari.benchmark;
+
+import com.ticari.entity.Cari;
+import com.ticari.service.CariService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class AramaBenchmark extends SpringBenchmarkDurumu {
+
+    // Kısa (kelime başı), tek kelime ve çok kelimeli sorgular
+    @Param({ "ış", "yıldız", "ege tic" })
+    public String aramaMetni;
+
+    private CariService cariService;
+
+    @Override
+    protected void hazirla() {
+        cariService = bean(CariService.class);
+    }
+
+    @Benchmark
+    public List<Cari> cariUnvanaGoreAra() {
+        return cariService.unvanaGoreAra(aramaMetni);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ticari.benchmark;
+
+import com.ticari.service.BelgeNoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aynı seriden eşzamanlı numara alma hızı. Verilen her numara bir kümede tutulur;
+ * aynı numara ikinci kez gelirse benchmark hata ile durur.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(8)
+@Fork(1)
+public class BelgeNoBenchmark extends SpringBenchmarkDurumu {
+
+    private final Set<String> verilenler = ConcurrentHashMap.newKeySet();
+    private BelgeNoService belgeNoService;
+
+    @Override
+    protected void hazirla() {
+        belgeNoService = bean(BelgeNoService.class);
+    }
+
+    @Benchmark
+    public String faturaNoAl() {
+        String numara = belgeNoService.sonraki(BelgeNoService.SERI_FATURA, 2024);
+        if (!verilenler.add(numara)) {
+            throw new IllegalStateException("Aynı belge numarası iki kez verildi: " + numara);
+        }
+        return numara;
+    }
+}
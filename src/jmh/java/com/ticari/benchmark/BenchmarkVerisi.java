@@ -0,0 +1,123 @@
+package com.ticari.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark veritabanını sabit tohumlu rastgele veriyle doldurur; her çalıştırma aynı veriyi üretir.
+ * Kimlikler elle verilir; yüklemeden sonra ilgili sekanslar verilen kimliklerin ilerisine alınır.
+ */
+class BenchmarkVerisi {
+
+    static final int KATEGORI_SAYISI = 20;
+    static final int URUN_SAYISI = 10_000;
+    static final int CARI_SAYISI = 5_000;
+    static final int HESAP_SAYISI = 5;
+    static final int HAREKET_ILK_ID = 900_000_000;
+
+    private static final String[] UNVAN_KELIMELERI = {
+            "Anadolu", "Işık", "Yıldız", "Güneş", "Çelik", "Öztürk", "Şahin", "Ege", "Marmara", "Karadeniz",
+            "Ticaret", "Gıda", "İnşaat", "Tekstil", "Lojistik", "Elektrik", "Otomotiv", "Mobilya", "Kimya", "Yazılım"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SplittableRandom rastgele = new SplittableRandom(42);
+
+    BenchmarkVerisi(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void yukle() {
+        jdbcTemplate.update("INSERT INTO ParaBirimleri (ParaKod, Aciklama, Sembol) VALUES ('TRY', 'Türk Lirası', '₺')");
+
+        List<Object[]> kategoriler = new ArrayList<>();
+        for (int i = 1; i <= KATEGORI_SAYISI; i++) {
+            kategoriler.add(new Object[] { i, "Kategori " + i });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Kategoriler (KategoriID, KategoriAd) VALUES (?, ?)", kategoriler);
+
+        List<Object[]> urunler = new ArrayList<>();
+        for (int i = 1; i <= URUN_SAYISI; i++) {
+            urunler.add(new Object[] {
+                    i,
+                    kelime() + " " + kelime() + " " + i,
+                    1 + rastgele.nextInt(KATEGORI_SAYISI),
+                    BigDecimal.valueOf(100 + rastgele.nextInt(100_000), 2),
+                    10,
+                    rastgele.nextInt(200)
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Urunler (UrunID, UrunAd, KategoriID, MevcutSatisFiyati, "
+                + "MinimumStokSeviyesi, MevcutStokMiktari) VALUES (?, ?, ?, ?, ?, ?)", urunler);
+
+        List<Object[]> cariler = new ArrayList<>();
+        for (int i = 1; i <= CARI_SAYISI; i++) {
+            cariler.add(new Object[] {
+                    i,
+                    String.format("C%05d", i),
+                    kelime() + " " + kelime() + " Ltd. Şti.",
+                    rastgele.nextBoolean() ? "ALICI" : "SATICI",
+                    String.format("%010d", rastgele.nextLong(10_000_000_000L)),
+                    BigDecimal.valueOf(rastgele.nextInt(2_000_000) - 1_000_000, 2)
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO Cariler (CariID, CariKod, Unvan, Tur, VergiNo, GuncelBakiye) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", cariler);
+
+        List<Object[]> hesaplar = new ArrayList<>();
+        for (int i = 1; i <= HESAP_SAYISI; i++) {
+            hesaplar.add(new Object[] { i, "Hesap " + i, i == 1 ? "KASA" : "BANKA", BigDecimal.ZERO });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO KasaBanka (HesapID, HesapAdi, Tur, Bakiye) VALUES (?, ?, ?, ?)", hesaplar);
+
+        jdbcTemplate.execute("ALTER SEQUENCE Kategoriler_SEQ RESTART WITH " + (KATEGORI_SAYISI + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE Urunler_SEQ RESTART WITH " + (URUN_SAYISI + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE Cariler_SEQ RESTART WITH " + (CARI_SAYISI + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE KasaBanka_SEQ RESTART WITH " + (HESAP_SAYISI + 1));
+    }
+
+    /**
+     * Her ürüne {@code ilkGun}'den itibaren {@code gunSayisi} güne dağılmış rastgele giriş ve
+     * çıkış hareketleri ekler. Hareketler tek bir alış faturasına bağlanır; kimlikler
+     * {@link #HAREKET_ILK_ID}'den başlar.
+     */
+    void hareketleriYukle(int urunBasina, LocalDate ilkGun, int gunSayisi) {
+        jdbcTemplate.update("INSERT INTO Faturalar (FaturaID, CariID, FaturaTarihi, FaturaNo, Tur, GenelToplam) "
+                + "VALUES (?, 1, ?, 'BENCH', 'ALIS', 0)", HAREKET_ILK_ID, Timestamp.valueOf(ilkGun.atStartOfDay()));
+        List<Object[]> hareketler = new ArrayList<>();
+        int hareketId = HAREKET_ILK_ID;
+        for (int urun = 1; urun <= URUN_SAYISI; urun++) {
+            for (int i = 0; i < urunBasina; i++) {
+                hareketler.add(new Object[] {
+                        hareketId++,
+                        HAREKET_ILK_ID,
+                        urun,
+                        rastgele.nextBoolean() ? "GIRIS" : "CIKIS",
+                        1 + rastgele.nextInt(20),
+                        BigDecimal.valueOf(100 + rastgele.nextInt(10_000), 2),
+                        Timestamp.valueOf(ilkGun.plusDays(rastgele.nextInt(gunSayisi)).atTime(rastgele.nextInt(24), 0))
+                });
+                if (hareketler.size() == 5000) {
+                    hareketleriYaz(hareketler);
+                }
+            }
+        }
+        hareketleriYaz(hareketler);
+    }
+
+    private void hareketleriYaz(List<Object[]> hareketler) {
+        jdbcTemplate.batchUpdate("INSERT INTO StokGirisCikis (HareketID, FaturaID, UrunID, IslemTuru, Miktar, "
+                + "BirimFiyat, Tarih, Kur) VALUES (?, ?, ?, ?, ?, ?, ?, 1)", hareketler);
+        hareketler.clear();
+    }
+
+    private String kelime() {
+        return UNVAN_KELIMELERI[rastgele.nextInt(UNVAN_KELIMELERI.length)];
+    }
+}
@@ -0,0 +1,79 @@
+package com.ticari.benchmark;
+
+import com.ticari.entity.Cari;
+import com.ticari.entity.Fatura;
+import com.ticari.entity.ParaBirimi;
+import com.ticari.entity.StokGirisCikis;
+import com.ticari.entity.Urun;
+import com.ticari.enums.FaturaTuru;
+import com.ticari.enums.StokIslemTuru;
+import com.ticari.service.FaturaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FaturaKaydetBenchmark extends SpringBenchmarkDurumu {
+
+    @Param({ "1", "50", "500" })
+    public int satirSayisi;
+
+    private FaturaService faturaService;
+    private int faturaSayaci;
+    private int sonrakiUrun;
+
+    @Override
+    protected void hazirla() {
+        faturaService = bean(FaturaService.class);
+    }
+
+    @Benchmark
+    public Fatura kaydet() {
+        int sira = faturaSayaci++;
+        ParaBirimi tl = new ParaBirimi();
+        tl.setParaKod("TRY");
+        Cari cari = new Cari();
+        cari.setCariId(1 + sira % BenchmarkVerisi.CARI_SAYISI);
+
+        Fatura fatura = new Fatura();
+        fatura.setFaturaNo("BENCH-" + sira);
+        fatura.setCari(cari);
+        fatura.setTur(FaturaTuru.SATIS);
+        fatura.setParaBirimi(tl);
+
+        List<StokGirisCikis> satirlar = new ArrayList<>(satirSayisi);
+        BigDecimal toplam = BigDecimal.ZERO;
+        for (int i = 0; i < satirSayisi; i++) {
+            Urun urun = new Urun();
+            urun.setUrunId(1 + sonrakiUrun++ % BenchmarkVerisi.URUN_SAYISI);
+            StokGirisCikis satir = new StokGirisCikis();
+            satir.setFatura(fatura);
+            satir.setUrun(urun);
+            satir.setIslemTuru(StokIslemTuru.CIKIS);
+            satir.setMiktar(1);
+            satir.setBirimFiyat(BigDecimal.TEN);
+            satir.setTarih(LocalDateTime.now());
+            satir.setParaBirimi(tl);
+            satirlar.add(satir);
+            toplam = toplam.add(BigDecimal.TEN);
+        }
+        fatura.setGenelToplam(toplam);
+        fatura.setStokGirisCikislar(satirlar);
+        return faturaService.kaydet(fatura);
+    }
+}
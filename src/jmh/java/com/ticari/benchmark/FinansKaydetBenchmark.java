@@ -0,0 +1,49 @@
+package com.ticari.benchmark;
+
+import com.ticari.entity.Cari;
+import com.ticari.entity.FinansHareketi;
+import com.ticari.entity.KasaBanka;
+import com.ticari.enums.FinansIslemTuru;
+import com.ticari.service.FinansService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FinansKaydetBenchmark extends SpringBenchmarkDurumu {
+
+    private FinansService finansService;
+    private int sayac;
+
+    @Override
+    protected void hazirla() {
+        finansService = bean(FinansService.class);
+    }
+
+    @Benchmark
+    public FinansHareketi tahsilatKaydet() {
+        int sira = sayac++;
+        KasaBanka hesap = new KasaBanka();
+        hesap.setHesapId(1 + sira % BenchmarkVerisi.HESAP_SAYISI);
+        Cari cari = new Cari();
+        cari.setCariId(1 + sira % BenchmarkVerisi.CARI_SAYISI);
+
+        FinansHareketi hareket = new FinansHareketi();
+        hareket.setHesap(hesap);
+        hareket.setCari(cari);
+        hareket.setIslemTuru(FinansIslemTuru.TAHSILAT);
+        hareket.setTutar(BigDecimal.valueOf(125, 0));
+        return finansService.kaydet(hareket);
+    }
+}
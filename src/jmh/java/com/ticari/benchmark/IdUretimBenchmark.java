@@ -0,0 +1,63 @@
+package com.ticari.benchmark;
+
+import com.ticari.entity.Kategori;
+import com.ticari.repository.KategoriRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Toplu INSERT hızının id blok boyutuna bağlılığı. Blok boyutu 1, her satır için ayrı
+ * sekans çağrısı yapan eski davranışa karşılık gelir.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(IdUretimBenchmark.SATIR_SAYISI)
+public class IdUretimBenchmark extends SpringBenchmarkDurumu {
+
+    static final int SATIR_SAYISI = 100;
+
+    @Param({"1", "50"})
+    public int blokBoyutu;
+
+    private KategoriRepository kategoriRepository;
+    private TransactionTemplate transactionTemplate;
+    private int sayac;
+
+    @Override
+    protected String[] ekOzellikler() {
+        return new String[] { "spring.jpa.properties.ticari.id.blok-boyutu=" + blokBoyutu };
+    }
+
+    @Override
+    protected void hazirla() {
+        kategoriRepository = bean(KategoriRepository.class);
+        transactionTemplate = new TransactionTemplate(bean(PlatformTransactionManager.class));
+    }
+
+    @Benchmark
+    public List<Kategori> topluEkle() {
+        List<Kategori> kategoriler = new ArrayList<>(SATIR_SAYISI);
+        for (int i = 0; i < SATIR_SAYISI; i++) {
+            Kategori kategori = new Kategori();
+            kategori.setKategoriAd("ID-" + blokBoyutu + "-" + sayac++);
+            kategoriler.add(kategori);
+        }
+        return transactionTemplate.execute(durum -> kategoriRepository.saveAll(kategoriler));
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticari.benchmark;
+
+import com.ticari.service.KurOnbellegi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On yıllık, yalnızca iş günlerini içeren kur geçmişi üzerinde tarihli çapraz kur dönüşümü.
+ * Sorgu günleri hafta sonlarını da kapsar.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KurBenchmark extends SpringBenchmarkDurumu {
+
+    private static final LocalDate ILK_GUN = LocalDate.of(2015, 1, 1);
+    private static final int GUN_SAYISI = 3650;
+
+    private KurOnbellegi kurOnbellegi;
+    private long ilkEpochGun;
+    private int sayac;
+
+    @Override
+    protected void hazirla() {
+        kurOnbellegi = bean(KurOnbellegi.class);
+        for (int i = 0; i < GUN_SAYISI; i++) {
+            LocalDate gun = ILK_GUN.plusDays(i);
+            if (gun.getDayOfWeek() == DayOfWeek.SATURDAY || gun.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            kurOnbellegi.ekle("USD", gun, BigDecimal.valueOf(2_500_000 + i * 8_000L, 6));
+            kurOnbellegi.ekle("EUR", gun, BigDecimal.valueOf(2_800_000 + i * 9_000L, 6));
+        }
+        ilkEpochGun = ILK_GUN.toEpochDay() + 7;
+    }
+
+    @Benchmark
+    public long caprazCevir() {
+        int i = sayac++;
+        long gun = ilkEpochGun + (i * 7919L) % (GUN_SAYISI - 7);
+        return kurOnbellegi.cevir(1_234_567L, "USD", "EUR", gun);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ticari.benchmark;
+
+import com.ticari.service.MaliyetService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tüm ürünlerin maliyetinin hareketlerden paralel olarak yeniden hesaplanması (ürün başına 30 hareket).
+ * Artımlı maliyetlendirme fatura kaydının parçası olduğundan {@link FaturaKaydetBenchmark} ile ölçülür.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MaliyetBenchmark extends SpringBenchmarkDurumu {
+
+    private static final int URUN_BASINA_HAREKET = 30;
+
+    @Param({ "FIFO", "ORTALAMA" })
+    public String yontem;
+
+    private MaliyetService maliyetService;
+
+    @Override
+    protected String[] ekOzellikler() {
+        return new String[] { "ticari.maliyet.yontemi=" + yontem };
+    }
+
+    @Override
+    protected void hazirla() {
+        maliyetService = bean(MaliyetService.class);
+        new BenchmarkVerisi(bean(JdbcTemplate.class)).hareketleriYukle(URUN_BASINA_HAREKET, LocalDate.of(2021, 1, 1), 3 * 365);
+    }
+
+    @Benchmark
+    public int yenidenHesapla() {
+        return maliyetService.yenidenHesapla();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ticari.benchmark;
+
+import com.ticari.entity.Urun;
+import com.ticari.service.DashboardAggregateService;
+import com.ticari.service.KritikStokTakibi;
+import com.ticari.service.KritikStokTakibi.KritikStok;
+import com.ticari.service.NakitAkisService;
+import com.ticari.service.NakitAkisService.HesapTahmini;
+import com.ticari.service.UrunService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ana ekranın açılışta çağırdığı okuma yolları.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class OkumaBenchmark extends SpringBenchmarkDurumu {
+
+    private UrunService urunService;
+    private DashboardAggregateService dashboardAggregateService;
+    private KritikStokTakibi kritikStokTakibi;
+    private NakitAkisService nakitAkisService;
+
+    @Override
+    protected void hazirla() {
+        urunService = bean(UrunService.class);
+        dashboardAggregateService = bean(DashboardAggregateService.class);
+        kritikStokTakibi = bean(KritikStokTakibi.class);
+        nakitAkisService = bean(NakitAkisService.class);
+    }
+
+    @Benchmark
+    public List<Urun> dusukStokluUrunler() {
+        return urunService.dusukStokluUrunleriGetir();
+    }
+
+    @Benchmark
+    public List<KritikStok> kritikStokListesi() {
+        return kritikStokTakibi.kritikUrunler();
+    }
+
+    @Benchmark
+    public List<HesapTahmini> nakitAkisiTahmini() {
+        return nakitAkisService.tahmin(90);
+    }
+
+    @Benchmark
+    public DashboardAggregateService.Ozet dashboardOzeti() {
+        return dashboardAggregateService.ozetGetir();
+    }
+
+    @Benchmark
+    public DashboardAggregateService.Ozet dashboardOzetiSogukBaslangic() {
+        dashboardAggregateService.gecersizKil();
+        return dashboardAggregateService.ozetGetir();
+    }
+}
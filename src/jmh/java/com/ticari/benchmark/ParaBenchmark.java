@@ -0,0 +1,88 @@
+package com.ticari.benchmark;
+
+import com.ticari.utils.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fatura satırlarından ara toplam + satır KDV'si toplamı: BigDecimal, double ve kuruş (long).
+ * {@code -prof gc} ile çalıştırıldığında gc.alloc.rate.norm kuruş yolunda 0 olmalıdır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParaBenchmark {
+
+    private static final int SATIR_SAYISI = 10_000;
+    private static final int KDV_ORANI = 20;
+
+    private BigDecimal[] fiyatlarBigDecimal;
+    private double[] fiyatlarDouble;
+    private long[] fiyatlarKurus;
+    private int[] miktarlar;
+
+    @Setup(Level.Trial)
+    public void hazirla() {
+        SplittableRandom rastgele = new SplittableRandom(42);
+        fiyatlarBigDecimal = new BigDecimal[SATIR_SAYISI];
+        fiyatlarDouble = new double[SATIR_SAYISI];
+        fiyatlarKurus = new long[SATIR_SAYISI];
+        miktarlar = new int[SATIR_SAYISI];
+        for (int i = 0; i < SATIR_SAYISI; i++) {
+            long kurus = rastgele.nextLong(1, 5_000_000);
+            fiyatlarKurus[i] = kurus;
+            fiyatlarBigDecimal[i] = BigDecimal.valueOf(kurus, 2);
+            fiyatlarDouble[i] = kurus / 100.0;
+            miktarlar[i] = rastgele.nextInt(1, 50);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalToplam() {
+        BigDecimal yuzde = BigDecimal.valueOf(KDV_ORANI);
+        BigDecimal toplam = BigDecimal.ZERO;
+        for (int i = 0; i < SATIR_SAYISI; i++) {
+            BigDecimal satir = fiyatlarBigDecimal[i].multiply(BigDecimal.valueOf(miktarlar[i]));
+            BigDecimal kdv = satir.multiply(yuzde).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+            toplam = toplam.add(satir).add(kdv);
+        }
+        return toplam;
+    }
+
+    @Benchmark
+    public double doubleToplam() {
+        double toplam = 0;
+        for (int i = 0; i < SATIR_SAYISI; i++) {
+            double satir = fiyatlarDouble[i] * miktarlar[i];
+            toplam += satir + satir * KDV_ORANI / 100.0;
+        }
+        return toplam;
+    }
+
+    @Benchmark
+    public long kurusToplam() {
+        long toplam = 0;
+        for (int i = 0; i < SATIR_SAYISI; i++) {
+            long satir = Money.carp(fiyatlarKurus[i], miktarlar[i]);
+            toplam = Money.topla(toplam, Money.topla(satir, Money.kdv(satir, KDV_ORANI)));
+        }
+        return toplam;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ticari.benchmark;
+
+import com.ticari.CrmApplication;
+import com.ticari.service.AramaService;
+import com.ticari.service.DashboardAggregateService;
+import com.ticari.service.KritikStokTakibi;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Benchmark sınıflarının ortak durumu: her trial için application-h2.properties ile
+ * (H2, MODE=MSSQLServer) bir Spring context açar ve {@link BenchmarkVerisi} ile doldurur.
+ * SQL loglaması kapatılır; aksi halde ölçülen şey konsol çıktısı olur.
+ */
+@State(Scope.Benchmark)
+public abstract class SpringBenchmarkDurumu {
+
+    protected ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void contextiAc() {
+        context = new SpringApplicationBuilder(CrmApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("h2")
+                .properties(ekOzellikler())
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.h2.console.enabled=false",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.com.ticari=WARN")
+                .run();
+
+        new BenchmarkVerisi(bean(JdbcTemplate.class)).yukle();
+        bean(AramaService.class).indeksleriKur();
+        bean(DashboardAggregateService.class).gecersizKil();
+        bean(KritikStokTakibi.class).yukle();
+        hazirla();
+    }
+
+    @TearDown(Level.Trial)
+    public void contextiKapat() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Alt sınıfların context'e eklemek istediği özellikler (ör. id blok boyutu).
+     */
+    protected String[] ekOzellikler() {
+        return new String[0];
+    }
+
+    protected <T> T bean(Class<T> tip) {
+        return context.getBean(tip);
+    }
+
+    /**
+     * Alt sınıfların servis referanslarını aldığı yer; veri yüklendikten sonra çağrılır.
+     */
+    protected abstract void hazirla();
+}
@@ -0,0 +1,69 @@
+package com.ticari.benchmark;
+
+import com.ticari.service.StokProjeksiyonService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Üç yıllık stok hareketi üzerinde tüm ürünlerin yıl sonu stoğu: aylık görüntü + son ayın
+ * hareketleri ile tüm geçmişin toplanması karşılaştırılır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StokProjeksiyonBenchmark extends SpringBenchmarkDurumu {
+
+    private static final LocalDate ILK_GUN = LocalDate.of(2021, 1, 1);
+    private static final int GUN_SAYISI = 3 * 365;
+    private static final int URUN_BASINA_HAREKET = 30;
+    private static final LocalDate SAYIM_GUNU = LocalDate.of(2023, 12, 31);
+
+    private static final String TAM_TARAMA_SQL =
+            "SELECT UrunID, SUM(CASE WHEN IslemTuru = 'GIRIS' THEN Miktar ELSE -Miktar END) "
+            + "FROM StokGirisCikis WHERE Tarih < ? GROUP BY UrunID";
+
+    private StokProjeksiyonService stokProjeksiyonService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected String[] ekOzellikler() {
+        return new String[] { "ticari.stok.goruntu-periyodu=AYLIK" };
+    }
+
+    @Override
+    protected void hazirla() {
+        stokProjeksiyonService = bean(StokProjeksiyonService.class);
+        jdbcTemplate = bean(JdbcTemplate.class);
+
+        new BenchmarkVerisi(jdbcTemplate).hareketleriYukle(URUN_BASINA_HAREKET, ILK_GUN, GUN_SAYISI);
+        stokProjeksiyonService.yenidenOlustur(null);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> goruntuVeHareketler() {
+        return stokProjeksiyonService.tumStoklarTarihinde(SAYIM_GUNU);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> tumGecmisTaramasi() {
+        Map<Integer, Integer> stoklar = new HashMap<>();
+        jdbcTemplate.query(TAM_TARAMA_SQL, rs -> {
+            stoklar.put(rs.getInt(1), rs.getInt(2));
+        }, Timestamp.valueOf(SAYIM_GUNU.plusDays(1).atStartOfDay()));
+        return stoklar;
+    }
+}
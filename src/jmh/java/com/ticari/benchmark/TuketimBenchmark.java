@@ -0,0 +1,49 @@
+package com.ticari.benchmark;
+
+import com.ticari.service.SiparisOnerisiService;
+import com.ticari.service.SiparisOnerisiService.TedarikciOnerileri;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Üç yıllık çıkış geçmişinden tüm ürünlerin satış hızının paralel olarak yeniden hesaplanması ve
+ * hesaplanmış değerlerden tedarikçi bazında sipariş önerisi listesinin okunması.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TuketimBenchmark extends SpringBenchmarkDurumu {
+
+    private static final int URUN_BASINA_HAREKET = 30;
+
+    private SiparisOnerisiService siparisOnerisiService;
+
+    @Override
+    protected void hazirla() {
+        siparisOnerisiService = bean(SiparisOnerisiService.class);
+        new BenchmarkVerisi(bean(JdbcTemplate.class)).hareketleriYukle(URUN_BASINA_HAREKET, LocalDate.of(2021, 1, 1), 3 * 365);
+        siparisOnerisiService.yenidenHesapla();
+    }
+
+    @Benchmark
+    public int yenidenHesapla() {
+        return siparisOnerisiService.yenidenHesapla();
+    }
+
+    @Benchmark
+    public List<TedarikciOnerileri> oneriler() {
+        return siparisOnerisiService.oneriler();
+    }
+}
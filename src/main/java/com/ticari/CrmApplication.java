@@ -3,8 +3,10 @@ package com.ticari;
 import com.ticari.config.JavaFXApplication;
 import javafx.application.Application;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CrmApplication {
     
     public static void main(String[] args) {
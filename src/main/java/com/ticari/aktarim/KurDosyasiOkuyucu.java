@@ -0,0 +1,276 @@
+package com.ticari.aktarim;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Kur geçmişi dosyalarını satır satır okur; dosyanın tamamı hiçbir zaman belleğe alınmaz.
+ * Desteklenen biçimler:
+ * <ul>
+ *   <li>XML: TCMB kur dosyası ({@code Tarih_Date/Currency/ForexBuying}); birden fazla
+ *       {@code Tarih_Date} tek bir kök altında birleştirilmiş olabilir. {@code Unit} 1'den büyükse
+ *       kur birime bölünür.</li>
+ *   <li>CSV: başlık satırında ParaKod, Tarih ve Kur (isteğe bağlı Kaynak) kolonları; ayraç
+ *       noktalı virgül ya da virgüldür. Noktalı virgüllü dosyalarda ondalık ayraç virgül olabilir.</li>
+ * </ul>
+ * Okunamayan satırlar atlanır ve {@link #getHataliSatir()} ile sayılır.
+ */
+public abstract class KurDosyasiOkuyucu implements Iterator<KurSatiri>, Closeable {
+
+    private static final DateTimeFormatter NOKTALI_TARIH = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter ABD_TARIHI = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private static final int KUR_ONDALIK = 6;
+
+    private KurSatiri siradaki;
+    private long hataliSatir;
+
+    public static KurDosyasiOkuyucu ac(Path dosya) throws IOException {
+        String ad = dosya.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (ad.endsWith(".xml")) {
+            return new Xml(Files.newInputStream(dosya));
+        }
+        return new Csv(Files.newBufferedReader(dosya, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Bir sonraki kuru döner; dosya bittiyse null.
+     */
+    protected abstract KurSatiri oku() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (siradaki == null) {
+            try {
+                siradaki = oku();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return siradaki != null;
+    }
+
+    @Override
+    public KurSatiri next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        KurSatiri satir = siradaki;
+        siradaki = null;
+        return satir;
+    }
+
+    public long getHataliSatir() {
+        return hataliSatir;
+    }
+
+    protected void hataliSay() {
+        hataliSatir++;
+    }
+
+    static LocalDate tarihOku(String metin) {
+        String t = metin.trim();
+        if (t.indexOf('.') > 0) {
+            return LocalDate.parse(t, NOKTALI_TARIH);
+        }
+        if (t.indexOf('/') > 0) {
+            return LocalDate.parse(t, ABD_TARIHI);
+        }
+        return LocalDate.parse(t);
+    }
+
+    private static final class Csv extends KurDosyasiOkuyucu {
+
+        private final BufferedReader okuyucu;
+        private String ayrac;
+        private boolean ondalikVirgul;
+        private int paraKodKolonu = -1;
+        private int tarihKolonu = -1;
+        private int kurKolonu = -1;
+        private int kaynakKolonu = -1;
+
+        Csv(BufferedReader okuyucu) {
+            this.okuyucu = okuyucu;
+        }
+
+        @Override
+        protected KurSatiri oku() throws IOException {
+            if (ayrac == null && !basligiOku()) {
+                return null;
+            }
+            String satir;
+            while ((satir = okuyucu.readLine()) != null) {
+                if (satir.isBlank()) {
+                    continue;
+                }
+                String[] alanlar = satir.split(ayrac, -1);
+                try {
+                    String kur = alanlar[kurKolonu].trim();
+                    return new KurSatiri(
+                            alanlar[paraKodKolonu].trim().toUpperCase(Locale.ROOT),
+                            tarihOku(alanlar[tarihKolonu]),
+                            new BigDecimal(ondalikVirgul ? kur.replace(',', '.') : kur),
+                            kaynakKolonu >= 0 && !alanlar[kaynakKolonu].isBlank() ? alanlar[kaynakKolonu].trim() : "CSV");
+                } catch (ArrayIndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+                    hataliSay();
+                }
+            }
+            return null;
+        }
+
+        private boolean basligiOku() throws IOException {
+            String baslik = okuyucu.readLine();
+            if (baslik == null) {
+                return false;
+            }
+            if (baslik.startsWith("\uFEFF")) {
+                baslik = baslik.substring(1);
+            }
+            ondalikVirgul = baslik.indexOf(';') >= 0;
+            ayrac = ondalikVirgul ? ";" : ",";
+            String[] kolonlar = baslik.split(ayrac, -1);
+            for (int i = 0; i < kolonlar.length; i++) {
+                switch (kolonlar[i].trim().toLowerCase(Locale.ROOT)) {
+                    case "parakod", "kod", "currencycode" -> paraKodKolonu = i;
+                    case "tarih", "kurtarihi", "date" -> tarihKolonu = i;
+                    case "kur", "rate", "forexbuying" -> kurKolonu = i;
+                    case "kaynak", "source" -> kaynakKolonu = i;
+                    default -> { }
+                }
+            }
+            if (paraKodKolonu < 0 || tarihKolonu < 0 || kurKolonu < 0) {
+                throw new IllegalArgumentException("CSV başlığında ParaKod, Tarih ve Kur kolonları bulunamadı: " + baslik);
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            okuyucu.close();
+        }
+    }
+
+    private static final class Xml extends KurDosyasiOkuyucu {
+
+        private static final String KAYNAK = "TCMB";
+
+        private final InputStream girdi;
+        private final XMLStreamReader okuyucu;
+        private LocalDate tarih;
+        private String paraKod;
+        private int birim = 1;
+
+        Xml(InputStream girdi) throws IOException {
+            this.girdi = girdi;
+            XMLInputFactory fabrika = XMLInputFactory.newInstance();
+            fabrika.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            fabrika.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            fabrika.setProperty(XMLInputFactory.IS_COALESCING, true);
+            try {
+                this.okuyucu = fabrika.createXMLStreamReader(girdi);
+            } catch (XMLStreamException e) {
+                girdi.close();
+                throw new IOException("XML dosyası açılamadı", e);
+            }
+        }
+
+        @Override
+        protected KurSatiri oku() throws IOException {
+            try {
+                while (okuyucu.hasNext()) {
+                    if (okuyucu.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    switch (okuyucu.getLocalName()) {
+                        case "Tarih_Date" -> tarih = tarihNiteligi();
+                        case "Currency" -> {
+                            paraKod = okuyucu.getAttributeValue(null, "CurrencyCode");
+                            birim = 1;
+                        }
+                        case "Unit" -> birim = tamSayi(okuyucu.getElementText(), 1);
+                        case "ForexBuying" -> {
+                            KurSatiri satir = satir(okuyucu.getElementText());
+                            if (satir != null) {
+                                return satir;
+                            }
+                        }
+                        default -> { }
+                    }
+                }
+                return null;
+            } catch (XMLStreamException e) {
+                throw new IOException("XML okunamadı, satır " + okuyucu.getLocation().getLineNumber(), e);
+            }
+        }
+
+        private LocalDate tarihNiteligi() {
+            String deger = okuyucu.getAttributeValue(null, "Tarih");
+            if (deger == null) {
+                deger = okuyucu.getAttributeValue(null, "Date");
+            }
+            try {
+                return deger != null ? tarihOku(deger) : null;
+            } catch (DateTimeParseException e) {
+                hataliSay();
+                return null;
+            }
+        }
+
+        private KurSatiri satir(String metin) {
+            // XDR gibi alış kuru olmayan para birimleri boş gelir
+            if (metin == null || metin.isBlank()) {
+                return null;
+            }
+            if (tarih == null || paraKod == null) {
+                hataliSay();
+                return null;
+            }
+            try {
+                BigDecimal kur = new BigDecimal(metin.trim());
+                if (birim > 1) {
+                    kur = kur.divide(BigDecimal.valueOf(birim), KUR_ONDALIK, RoundingMode.HALF_UP);
+                }
+                return new KurSatiri(paraKod, tarih, kur, KAYNAK);
+            } catch (NumberFormatException e) {
+                hataliSay();
+                return null;
+            }
+        }
+
+        private static int tamSayi(String metin, int varsayilan) {
+            try {
+                return Integer.parseInt(metin.trim());
+            } catch (NumberFormatException e) {
+                return varsayilan;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                okuyucu.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            } finally {
+                girdi.close();
+            }
+        }
+    }
+}
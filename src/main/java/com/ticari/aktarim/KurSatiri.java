@@ -0,0 +1,10 @@
+package com.ticari.aktarim;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Kur dosyasından okunan tek bir kur: bir birim yabancı paranın TL karşılığı.
+ */
+public record KurSatiri(String paraKod, LocalDate tarih, BigDecimal kur, String kaynak) {
+}
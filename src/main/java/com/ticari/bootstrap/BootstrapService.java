@@ -1,5 +1,8 @@
 package com.ticari.bootstrap;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -8,14 +11,37 @@ import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import javafx.util.Duration;
 
 import java.io.File;
 
+/**
+ * Makes sure SQL Server and the application database are available. When the database already
+ * accepts connections (the usual case) no service detection runs. Otherwise SQL Server is
+ * detected, installed and started as needed; every wait ends as soon as the awaited condition
+ * holds. Each step is recorded as a phase of the startup timeline shown on the splash screen.
+ */
 public class BootstrapService {
     
+    private static final int INSTALL_WAIT_SECONDS = 60;
+    private static final int SERVICE_START_WAIT_SECONDS = 30;
+    private static final int TIMINGS_REFRESH_MILLIS = 100;
+    
+    private final StartupTimeline timeline;
+    
     private Stage splashStage;
     private Label statusLabel;
     private ProgressBar progressBar;
+    private VBox timingsBox;
+    private Label totalLabel;
+    private Timeline timingsRefresh;
+    // The probe may report before the splash is shown; the latest status is applied on show
+    private volatile String lastStatus = "Starting bootstrap process...";
+    private volatile double lastProgress;
+    
+    public BootstrapService(StartupTimeline timeline) {
+        this.timeline = timeline;
+    }
     
     public static class BootstrapResult {
         public boolean success;
@@ -32,17 +58,24 @@ public class BootstrapService {
         }
     }
     
-    public BootstrapResult performBootstrap(boolean showUI) {
+    public BootstrapResult performBootstrap() {
         BootstrapResult result = new BootstrapResult();
         
         try {
-            if (showUI) {
-                Platform.runLater(() -> showSplashScreen());
-                Thread.sleep(500);
+            updateStatus("Connecting to database...", 0.1);
+            String reachableUrl = timeline.time("Database connection", DatabaseInitializer::findReachableUrl);
+            if (reachableUrl != null) {
+                result.sqlServerInstalled = true;
+                result.sqlServerStarted = true;
+                result.databaseInitialized = true;
+                result.connectionUrl = reachableUrl;
+                result.success = true;
+                updateStatus("Database ready", 1.0);
+                return result;
             }
             
-            updateStatus("Checking SQL Server installation...", 0.1);
-            SqlServerDetector.DetectionResult detection = SqlServerDetector.detectSqlServer();
+            updateStatus("Checking SQL Server installation...", 0.2);
+            SqlServerDetector.DetectionResult detection = timeline.time("SQL Server detection", SqlServerDetector::detectSqlServer);
             System.out.println(detection);
             
             if (!detection.isInstalled) {
@@ -52,7 +85,7 @@ public class BootstrapService {
                 boolean shouldInstall = promptForInstallation();
                 if (shouldInstall) {
                     updateStatus("Installing SQL Server Express...", 0.3);
-                    boolean installed = installSqlServerExpress();
+                    boolean installed = timeline.time("SQL Server installation", this::installSqlServerExpress);
                     result.sqlServerInstalled = installed;
                     
                     if (!installed) {
@@ -60,10 +93,11 @@ public class BootstrapService {
                         return result;
                     }
                     
-                    updateStatus("Waiting for SQL Server to start...", 0.5);
-                    Thread.sleep(10000);
-                    
-                    detection = SqlServerDetector.detectSqlServer();
+                    updateStatus("Waiting for SQL Server to register...", 0.5);
+                    detection = timeline.time("SQL Server registration", () -> {
+                        SqlServerDetector.waitUntil(() -> SqlServerDetector.detectSqlServer().isInstalled, INSTALL_WAIT_SECONDS);
+                        return SqlServerDetector.detectSqlServer();
+                    });
                 } else {
                     return result;
                 }
@@ -71,14 +105,15 @@ public class BootstrapService {
                 result.sqlServerInstalled = true;
             }
             
-            if (!detection.isRunning) {
+            if (!detection.isRunning || !detection.canConnect) {
                 updateStatus("Starting SQL Server service...", 0.4);
                 String serviceName = detection.serviceName != null ? detection.serviceName : "MSSQL$SQLEXPRESS";
-                boolean started = SqlServerDetector.startService(serviceName);
+                boolean started = detection.isRunning || SqlServerDetector.startService(serviceName);
                 
                 if (started) {
                     updateStatus("Waiting for SQL Server to be ready...", 0.5);
-                    boolean ready = SqlServerDetector.waitForServiceStart(serviceName, 30);
+                    boolean ready = timeline.time("SQL Server start",
+                            () -> SqlServerDetector.waitForServiceStart(serviceName, SERVICE_START_WAIT_SECONDS));
                     result.sqlServerStarted = ready;
                     
                     if (!ready) {
@@ -94,7 +129,8 @@ public class BootstrapService {
             }
             
             updateStatus("Initializing database...", 0.7);
-            DatabaseInitializer.InitializationResult dbInit = DatabaseInitializer.initializeDatabase();
+            DatabaseInitializer.InitializationResult dbInit = timeline.time("Database initialization",
+                    DatabaseInitializer::initializeDatabase);
             System.out.println(dbInit);
             result.databaseInitialized = dbInit.success;
             
@@ -107,14 +143,9 @@ public class BootstrapService {
             String[] connInfo = DatabaseInitializer.detectConnectionUrl();
             result.connectionUrl = connInfo[0];
             
-            updateStatus("Bootstrap complete!", 1.0);
+            updateStatus("Database ready", 1.0);
             result.success = true;
             
-            if (showUI) {
-                Thread.sleep(1000);
-                Platform.runLater(() -> closeSplashScreen());
-            }
-            
         } catch (Exception e) {
             result.success = false;
             result.errorMessage = "Bootstrap error: " + e.getMessage();
@@ -124,7 +155,11 @@ public class BootstrapService {
         return result;
     }
     
-    private void showSplashScreen() {
+    /**
+     * Shows the splash screen; must be called on the JavaFX thread. Phase timings, including
+     * the running time of unfinished phases, are refreshed every 100 ms until it is closed.
+     */
+    public void showSplashScreen() {
         splashStage = new Stage(StageStyle.UNDECORATED);
         splashStage.setTitle("Application Bootstrap");
         splashStage.setAlwaysOnTop(true);
@@ -136,41 +171,63 @@ public class BootstrapService {
         Label titleLabel = new Label("Ticari CRM - Initializing...");
         titleLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold;");
         
-        statusLabel = new Label("Starting bootstrap process...");
+        statusLabel = new Label(lastStatus);
         statusLabel.setStyle("-fx-font-size: 12px;");
         
-        progressBar = new ProgressBar(0);
+        progressBar = new ProgressBar(lastProgress);
         progressBar.setPrefWidth(400);
         
-        vbox.getChildren().addAll(titleLabel, statusLabel, progressBar);
+        timingsBox = new VBox(2);
+        timingsBox.setAlignment(Pos.CENTER_LEFT);
+        timingsBox.setPrefWidth(400);
+        
+        totalLabel = new Label();
+        totalLabel.setStyle("-fx-font-size: 11px; -fx-text-fill: #555;");
         
-        Scene scene = new Scene(vbox, 500, 200);
+        vbox.getChildren().addAll(titleLabel, statusLabel, progressBar, timingsBox, totalLabel);
+        
+        Scene scene = new Scene(vbox, 500, 320);
         splashStage.setScene(scene);
         splashStage.show();
         splashStage.centerOnScreen();
+        
+        showTimings();
+        timingsRefresh = new Timeline(new KeyFrame(Duration.millis(TIMINGS_REFRESH_MILLIS), e -> showTimings()));
+        timingsRefresh.setCycleCount(Animation.INDEFINITE);
+        timingsRefresh.play();
     }
     
-    private void closeSplashScreen() {
+    public void closeSplashScreen() {
+        if (timingsRefresh != null) {
+            timingsRefresh.stop();
+        }
         if (splashStage != null) {
             splashStage.close();
         }
     }
     
+    private void showTimings() {
+        timingsBox.getChildren().clear();
+        for (StartupTimeline.Phase phase : timeline.getPhases()) {
+            Label label = new Label(phase.toString());
+            label.setStyle("-fx-font-size: 11px; -fx-font-family: monospace;"
+                    + (phase.isFailed() ? " -fx-text-fill: #c0392b;" : ""));
+            timingsBox.getChildren().add(label);
+        }
+        totalLabel.setText("Elapsed: " + timeline.getTotalMillis() + " ms");
+    }
+    
     private void updateStatus(String message, double progress) {
         System.out.println("[Bootstrap] " + message);
+        lastStatus = message;
+        lastProgress = progress;
         
-        if (statusLabel != null && progressBar != null) {
-            Platform.runLater(() -> {
+        Platform.runLater(() -> {
+            if (statusLabel != null && progressBar != null) {
                 statusLabel.setText(message);
                 progressBar.setProgress(progress);
-            });
-        }
-        
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+            }
+        });
     }
     
     private boolean promptForInstallation() {
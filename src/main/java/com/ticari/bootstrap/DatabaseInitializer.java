@@ -9,6 +9,10 @@ public class DatabaseInitializer {
     
     private static final String DATABASE_NAME = "TicariDB";
     private static final String SA_PASSWORD = "YourPassword123!";
+    private static final String[] DATABASE_URLS = {
+        "jdbc:sqlserver://localhost:1433;databaseName=" + DATABASE_NAME + ";encrypt=true;trustServerCertificate=true",
+        "jdbc:sqlserver://localhost\\SQLEXPRESS;databaseName=" + DATABASE_NAME + ";encrypt=true;trustServerCertificate=true"
+    };
     
     public static class InitializationResult {
         public boolean success;
@@ -100,9 +104,7 @@ public class DatabaseInitializer {
                 
                 System.out.println("Executed: " + createDbSql);
                 
-                Thread.sleep(2000);
-                
-                return databaseExists();
+                return SqlServerDetector.waitUntil(DatabaseInitializer::databaseExists, 10);
                 
             } catch (Exception e) {
                 System.err.println("Attempt to create database failed with URL: " + masterUrl);
@@ -114,20 +116,24 @@ public class DatabaseInitializer {
     }
     
     public static String[] detectConnectionUrl() {
-        String[] urls = {
-            "jdbc:sqlserver://localhost:1433;databaseName=" + DATABASE_NAME + ";encrypt=true;trustServerCertificate=true",
-            "jdbc:sqlserver://localhost\\SQLEXPRESS;databaseName=" + DATABASE_NAME + ";encrypt=true;trustServerCertificate=true"
-        };
-        
-        for (String url : urls) {
-            try (Connection conn = DriverManager.getConnection(url, "sa", SA_PASSWORD)) {
+        String url = findReachableUrl();
+        return new String[] { url != null ? url : DATABASE_URLS[0], "sa", SA_PASSWORD };
+    }
+    
+    /**
+     * First application database URL that accepts a login, or null. Used as the fast path at
+     * startup: when the database is already up, no service detection is needed.
+     */
+    public static String findReachableUrl() {
+        for (String url : DATABASE_URLS) {
+            try (Connection conn = DriverManager.getConnection(url + ";loginTimeout=5", "sa", SA_PASSWORD)) {
                 System.out.println("Successfully connected using URL: " + url);
-                return new String[] { url, "sa", SA_PASSWORD };
+                return url;
             } catch (Exception e) {
                 // Try next URL
             }
         }
         
-        return new String[] { urls[0], "sa", SA_PASSWORD };
+        return null;
     }
 }
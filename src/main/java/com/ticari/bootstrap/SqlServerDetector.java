@@ -6,6 +6,7 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 public class SqlServerDetector {
     
@@ -15,6 +16,9 @@ public class SqlServerDetector {
         "SQLServerExpress"
     };
     
+    private static final long FIRST_POLL_MILLIS = 100;
+    private static final long MAX_POLL_MILLIS = 2000;
+    
     public static class DetectionResult {
         public boolean isInstalled;
         public boolean isRunning;
@@ -129,7 +133,6 @@ public class SqlServerDetector {
             int exitCode = process.waitFor();
             
             if (exitCode == 0) {
-                Thread.sleep(3000);
                 return true;
             }
         } catch (Exception e) {
@@ -163,22 +166,37 @@ public class SqlServerDetector {
         return false;
     }
     
+    /**
+     * Waits until the service is running and accepts connections. "RUNNING" is reported before
+     * SQL Server finishes recovery, so the connection check is what ends the wait.
+     */
     public static boolean waitForServiceStart(String serviceName, int maxWaitSeconds) {
-        int waited = 0;
-        while (waited < maxWaitSeconds) {
-            if (isServiceRunning(serviceName)) {
+        return waitUntil(() -> isServiceRunning(serviceName) && testConnection(), maxWaitSeconds);
+    }
+    
+    /**
+     * Polls {@code condition} until it holds or {@code maxWaitSeconds} pass. The interval starts
+     * at 100 ms and doubles up to 2 s, so a fast condition costs little and a slow one is not
+     * polled in a tight loop.
+     */
+    public static boolean waitUntil(BooleanSupplier condition, int maxWaitSeconds) {
+        long deadline = System.nanoTime() + maxWaitSeconds * 1_000_000_000L;
+        long interval = FIRST_POLL_MILLIS;
+        while (true) {
+            if (condition.getAsBoolean()) {
                 return true;
             }
-            
+            long remaining = (deadline - System.nanoTime()) / 1_000_000;
+            if (remaining <= 0) {
+                return false;
+            }
             try {
-                Thread.sleep(1000);
-                waited++;
+                Thread.sleep(Math.min(interval, remaining));
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 return false;
             }
+            interval = Math.min(interval * 2, MAX_POLL_MILLIS);
         }
-        
-        return false;
     }
 }
@@ -0,0 +1,79 @@
+package com.ticari.bootstrap;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each startup phase takes. Phases may run concurrently on different threads
+ * and are read by the splash screen while they run.
+ */
+public class StartupTimeline {
+
+    private final long origin = System.nanoTime();
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+
+    public static class Phase {
+        private final String name;
+        private final long startNanos = System.nanoTime();
+        private volatile long endNanos = -1;
+        private volatile boolean failed;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isFinished() {
+            return endNanos >= 0;
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+
+        /**
+         * Duration so far for a running phase.
+         */
+        public long getMillis() {
+            long end = isFinished() ? endNanos : System.nanoTime();
+            return (end - startNanos) / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %s%d ms", name, isFinished() ? (failed ? "failed after " : "") : "running, ", getMillis());
+        }
+    }
+
+    /**
+     * Runs {@code work} as a phase named {@code name}; a thrown exception marks the phase failed.
+     */
+    public <T> T time(String name, Supplier<T> work) {
+        Phase phase = new Phase(name);
+        phases.add(phase);
+        try {
+            return work.get();
+        } catch (RuntimeException | Error e) {
+            phase.failed = true;
+            throw e;
+        } finally {
+            phase.endNanos = System.nanoTime();
+            System.out.println("[Bootstrap] " + phase);
+        }
+    }
+
+    public List<Phase> getPhases() {
+        return List.copyOf(phases);
+    }
+
+    /**
+     * Time since the timeline was created.
+     */
+    public long getTotalMillis() {
+        return (System.nanoTime() - origin) / 1_000_000;
+    }
+}
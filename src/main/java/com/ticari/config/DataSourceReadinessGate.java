@@ -0,0 +1,42 @@
+package com.ticari.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Lets the Spring context refresh while the database is still being probed. Creation of the
+ * DataSource bean waits until the probe completes, and the detected connection URL replaces
+ * spring.datasource.url. Nothing connects before that; the Hikari pool starts on the first
+ * connection. If the probe fails, the refresh fails with its error.
+ *
+ * <p>Registered by {@link JavaFXApplication} and not picked up by component scanning.
+ */
+public class DataSourceReadinessGate implements BeanPostProcessor {
+    
+    private final CompletableFuture<String> connectionUrl;
+    
+    public DataSourceReadinessGate(CompletableFuture<String> connectionUrl) {
+        this.connectionUrl = connectionUrl;
+    }
+    
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof HikariDataSource dataSource) {
+            String url;
+            try {
+                url = connectionUrl.join();
+            } catch (CompletionException e) {
+                throw new BeanInitializationException("Database is not available: " + e.getCause().getMessage(), e.getCause());
+            }
+            if (url != null && !url.isEmpty()) {
+                dataSource.setJdbcUrl(url);
+            }
+        }
+        return bean;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ticari.config;
 
 import com.ticari.bootstrap.BootstrapService;
+import com.ticari.bootstrap.StartupTimeline;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.scene.control.Alert;
@@ -10,81 +11,80 @@ import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Startup runs three tasks concurrently: the database probe, the Spring context refresh and
+ * loading the main screen's FXML classes. The context only waits for the probe when it creates
+ * the DataSource (see {@link DataSourceReadinessGate}). Once the context is up, the main screen's
+ * controller and its dependencies are created off the JavaFX thread. The splash screen stays up
+ * with live phase timings until the main stage is shown.
+ */
 public class JavaFXApplication extends Application {
     
-    private ConfigurableApplicationContext applicationContext;
-    private boolean bootstrapFailed = false;
+    private final StartupTimeline timeline = new StartupTimeline();
+    private BootstrapService bootstrapService;
+    private CompletableFuture<BootstrapService.BootstrapResult> databaseReady;
+    private CompletableFuture<ConfigurableApplicationContext> contextReady;
+    private CompletableFuture<Void> mainScreenReady;
+    private volatile ConfigurableApplicationContext applicationContext;
     
     @Override
     public void init() {
         System.out.println("=== Starting Application Bootstrap ===");
         
-        BootstrapService bootstrapService = new BootstrapService();
-        BootstrapService.BootstrapResult result = bootstrapService.performBootstrap(true);
+        bootstrapService = new BootstrapService(timeline);
+        String[] args = getParameters().getRaw().toArray(new String[0]);
         
-        System.out.println("Bootstrap result: " + result);
+        databaseReady = CompletableFuture.supplyAsync(bootstrapService::performBootstrap, thread("bootstrap-database"));
+        CompletableFuture<String> connectionUrl = databaseReady.thenApply(result -> {
+            System.out.println("Bootstrap result: " + result);
+            if (!result.success) {
+                throw new IllegalStateException(result.errorMessage);
+            }
+            return result.connectionUrl;
+        });
         
-        if (!result.success) {
-            System.err.println("Bootstrap failed: " + result.errorMessage);
-            bootstrapFailed = true;
-            
-            Platform.runLater(() -> {
-                Alert alert = new Alert(Alert.AlertType.ERROR);
-                alert.setTitle("Application Initialization Failed");
-                alert.setHeaderText("Cannot start application");
-                alert.setContentText(result.errorMessage + "\n\n" +
-                    "Please ensure:\n" +
-                    "1. SQL Server Express is installed\n" +
-                    "2. SQL Server service is running\n" +
-                    "3. SA password is set to: YourPassword123!\n\n" +
-                    "For automatic installation, run: bootstrap/install-sqlserver.ps1");
-                
-                alert.showAndWait().ifPresent(response -> {
-                    if (response == ButtonType.OK) {
-                        Platform.exit();
-                        System.exit(1);
-                    }
-                });
-            });
-            
-            return;
-        }
+        contextReady = CompletableFuture.supplyAsync(() -> timeline.time("Spring context", () ->
+                new SpringApplicationBuilder(com.ticari.CrmApplication.class)
+                        .initializers(context -> context.getBeanFactory()
+                                .addBeanPostProcessor(new DataSourceReadinessGate(connectionUrl)))
+                        .run(args)), thread("bootstrap-spring"));
         
-        System.out.println("=== Bootstrap Successful - Starting Spring Boot ===");
+        CompletableFuture<Class<?>> fxmlClasses = CompletableFuture.supplyAsync(() -> timeline.time("FXML preload", () -> {
+            try {
+                return SpringFXMLLoader.siniflariYukle(StageInitializer.ANA_EKRAN);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }), thread("bootstrap-fxml"));
         
-        try {
-            if (result.connectionUrl != null && !result.connectionUrl.isEmpty()) {
-                System.setProperty("spring.datasource.url", result.connectionUrl);
+        mainScreenReady = contextReady.thenAcceptBoth(fxmlClasses, (context, controller) -> {
+            applicationContext = context;
+            if (controller != null) {
+                timeline.time("Main screen controller", () -> context.getBean(controller));
             }
-            
-            applicationContext = new SpringApplicationBuilder(com.ticari.CrmApplication.class)
-                    .run(getParameters().getRaw().toArray(new String[0]));
-                    
-        } catch (Exception e) {
-            System.err.println("Spring Boot initialization failed: " + e.getMessage());
-            e.printStackTrace();
-            bootstrapFailed = true;
-            
-            Platform.runLater(() -> {
-                Alert alert = new Alert(Alert.AlertType.ERROR);
-                alert.setTitle("Application Startup Failed");
-                alert.setHeaderText("Spring Boot failed to start");
-                alert.setContentText("Error: " + e.getMessage() + "\n\nCheck logs for details.");
-                alert.showAndWait();
-                Platform.exit();
-                System.exit(1);
-            });
-        }
+        });
     }
     
     @Override
     public void start(Stage primaryStage) {
-        if (bootstrapFailed) {
-            Platform.exit();
-            return;
-        }
+        bootstrapService.showSplashScreen();
         
-        applicationContext.publishEvent(new StageReadyEvent(primaryStage));
+        mainScreenReady.whenComplete((ignored, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                bootstrapService.closeSplashScreen();
+                showStartupError(error);
+                return;
+            }
+            System.out.println("=== Startup complete in " + timeline.getTotalMillis() + " ms ===");
+            applicationContext.publishEvent(new StageReadyEvent(primaryStage));
+            bootstrapService.closeSplashScreen();
+        }));
     }
     
     @Override
@@ -95,6 +95,51 @@ public class JavaFXApplication extends Application {
         Platform.exit();
     }
     
+    private void showStartupError(Throwable error) {
+        BootstrapService.BootstrapResult result = databaseReady.getNow(null);
+        if (result != null && !result.success) {
+            System.err.println("Bootstrap failed: " + result.errorMessage);
+            
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Application Initialization Failed");
+            alert.setHeaderText("Cannot start application");
+            alert.setContentText(result.errorMessage + "\n\n" +
+                "Please ensure:\n" +
+                "1. SQL Server Express is installed\n" +
+                "2. SQL Server service is running\n" +
+                "3. SA password is set to: YourPassword123!\n\n" +
+                "For automatic installation, run: bootstrap/install-sqlserver.ps1");
+            
+            alert.showAndWait().ifPresent(response -> {
+                if (response == ButtonType.OK) {
+                    Platform.exit();
+                    System.exit(1);
+                }
+            });
+            return;
+        }
+        
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        System.err.println("Spring Boot initialization failed: " + cause.getMessage());
+        cause.printStackTrace();
+        
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Application Startup Failed");
+        alert.setHeaderText("Spring Boot failed to start");
+        alert.setContentText("Error: " + cause.getMessage() + "\n\nCheck logs for details.");
+        alert.showAndWait();
+        Platform.exit();
+        System.exit(1);
+    }
+    
+    private static Executor thread(String name) {
+        return task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+    
     public static class StageReadyEvent extends ApplicationEvent {
         public StageReadyEvent(Stage stage) {
             super(stage);
@@ -0,0 +1,106 @@
+package com.ticari.config;
+
+import com.ticari.service.CekSenetVadeService;
+import com.ticari.service.KurIceAktarmaService;
+import com.ticari.service.MaliyetService;
+import com.ticari.service.NakitAkisService;
+import com.ticari.service.SatisOzetiService;
+import com.ticari.service.SiparisOnerisiService;
+import com.ticari.service.StokProjeksiyonService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Uygulama argümanlarıyla tetiklenen bakım işlemleri.
+ * Örnek: {@code --satis-ozeti-yeniden-olustur} günlük satış özetini tüm faturalardan yeniden kurar,
+ * {@code --kur-ice-aktar=kurlar-2019.xml,kurlar.csv} kur geçmişi dosyalarını Kurlar tablosuna aktarır,
+ * {@code --stok-goruntuleri-yeniden-olustur[=2024-01-01]} stok görüntülerini verilen tarihten
+ * (verilmezse baştan) itibaren hareketlerden yeniden hesaplar, {@code --maliyet-yeniden-hesapla}
+ * tüm ürünlerin stok maliyetini seçili yöntemle baştan hesaplar, {@code --tuketim-yeniden-hesapla}
+ * sipariş önerisinin dayandığı satış hızlarını tüm çıkış geçmişinden yeniden hesaplar,
+ * {@code --nakit-akisi-yeniden-olustur} nakit akışı kovalarını bekleyen belgelerden yeniden kurar,
+ * {@code --cek-senet-vadeleri-isle[=2024-01-31]} verilen güne (verilmezse bugüne) kadar vadesi gelen
+ * çek/senetleri işler.
+ */
+@Component
+public class KomutSatiriIslemleri implements ApplicationRunner {
+    
+    static final String SATIS_OZETI_YENIDEN_OLUSTUR = "satis-ozeti-yeniden-olustur";
+    static final String KUR_ICE_AKTAR = "kur-ice-aktar";
+    static final String STOK_GORUNTULERI_YENIDEN_OLUSTUR = "stok-goruntuleri-yeniden-olustur";
+    static final String MALIYET_YENIDEN_HESAPLA = "maliyet-yeniden-hesapla";
+    static final String TUKETIM_YENIDEN_HESAPLA = "tuketim-yeniden-hesapla";
+    static final String NAKIT_AKISI_YENIDEN_OLUSTUR = "nakit-akisi-yeniden-olustur";
+    static final String CEK_SENET_VADELERI_ISLE = "cek-senet-vadeleri-isle";
+    
+    private final SatisOzetiService satisOzetiService;
+    private final KurIceAktarmaService kurIceAktarmaService;
+    private final StokProjeksiyonService stokProjeksiyonService;
+    private final MaliyetService maliyetService;
+    private final SiparisOnerisiService siparisOnerisiService;
+    private final NakitAkisService nakitAkisService;
+    private final CekSenetVadeService cekSenetVadeService;
+    
+    public KomutSatiriIslemleri(SatisOzetiService satisOzetiService, KurIceAktarmaService kurIceAktarmaService,
+                                StokProjeksiyonService stokProjeksiyonService, MaliyetService maliyetService,
+                                SiparisOnerisiService siparisOnerisiService, NakitAkisService nakitAkisService,
+                                CekSenetVadeService cekSenetVadeService) {
+        this.satisOzetiService = satisOzetiService;
+        this.kurIceAktarmaService = kurIceAktarmaService;
+        this.stokProjeksiyonService = stokProjeksiyonService;
+        this.maliyetService = maliyetService;
+        this.siparisOnerisiService = siparisOnerisiService;
+        this.nakitAkisService = nakitAkisService;
+        this.cekSenetVadeService = cekSenetVadeService;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (args.containsOption(KUR_ICE_AKTAR)) {
+            for (String deger : args.getOptionValues(KUR_ICE_AKTAR)) {
+                for (String dosya : deger.split(",")) {
+                    if (!dosya.isBlank()) {
+                        System.out.println("Kur aktarımı " + dosya.trim() + ": "
+                                + kurIceAktarmaService.iceAktar(Path.of(dosya.trim())));
+                    }
+                }
+            }
+        }
+        if (args.containsOption(SATIS_OZETI_YENIDEN_OLUSTUR)) {
+            long baslangic = System.currentTimeMillis();
+            int satir = satisOzetiService.yenidenOlustur();
+            System.out.println("Günlük satış özeti yeniden oluşturuldu: " + satir + " satır ("
+                    + (System.currentTimeMillis() - baslangic) + " ms)");
+        }
+        if (args.containsOption(STOK_GORUNTULERI_YENIDEN_OLUSTUR)) {
+            var degerler = args.getOptionValues(STOK_GORUNTULERI_YENIDEN_OLUSTUR);
+            LocalDate tarih = degerler.isEmpty() || degerler.get(0).isBlank() ? null : LocalDate.parse(degerler.get(0).trim());
+            long baslangic = System.currentTimeMillis();
+            int satir = stokProjeksiyonService.yenidenOlustur(tarih);
+            System.out.println("Stok görüntüleri yeniden oluşturuldu: " + satir + " satır ("
+                    + (System.currentTimeMillis() - baslangic) + " ms)");
+        }
+        if (args.containsOption(MALIYET_YENIDEN_HESAPLA)) {
+            maliyetService.yenidenHesapla();
+        }
+        if (args.containsOption(TUKETIM_YENIDEN_HESAPLA)) {
+            siparisOnerisiService.yenidenHesapla();
+        }
+        if (args.containsOption(NAKIT_AKISI_YENIDEN_OLUSTUR)) {
+            long baslangic = System.currentTimeMillis();
+            int satir = nakitAkisService.yenidenOlustur();
+            System.out.println("Nakit akışı kovaları yeniden oluşturuldu: " + satir + " satır ("
+                    + (System.currentTimeMillis() - baslangic) + " ms)");
+        }
+        if (args.containsOption(CEK_SENET_VADELERI_ISLE)) {
+            var degerler = args.getOptionValues(CEK_SENET_VADELERI_ISLE);
+            LocalDate tarih = degerler.isEmpty() || degerler.get(0).isBlank() ? LocalDate.now() : LocalDate.parse(degerler.get(0).trim());
+            cekSenetVadeService.vadeleriIsle(tarih);
+        }
+    }
+}
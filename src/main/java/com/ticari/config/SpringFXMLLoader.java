@@ -6,11 +6,18 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Component
 public class SpringFXMLLoader {
     
+    private static final Pattern IMPORT = Pattern.compile("<\\?import\\s+([\\w.]+)\\s*\\?>");
+    private static final Pattern CONTROLLER = Pattern.compile("fx:controller=\"([\\w.]+)\"");
+    
     private final ApplicationContext applicationContext;
     
     public SpringFXMLLoader(ApplicationContext applicationContext) {
@@ -27,4 +34,39 @@ public class SpringFXMLLoader {
         loader.setControllerFactory(applicationContext::getBean);
         return loader.load();
     }
+    
+    /**
+     * FXML'in içe aktardığı JavaFX sınıflarını ve denetleyici sınıfını yükler. Spring bağlamı
+     * gerekmez; açılışta bağlam kurulurken arka planda çağrılır, ekran sonradan FX thread'inde
+     * açılırken sınıf yükleme beklenmez. Joker (.*) içe aktarmalar atlanır.
+     *
+     * @return denetleyici sınıfı; FXML denetleyici tanımlamıyorsa null
+     */
+    public static Class<?> siniflariYukle(String fxmlPath) throws IOException {
+        String fxml;
+        try (InputStream in = SpringFXMLLoader.class.getResourceAsStream(fxmlPath)) {
+            if (in == null) {
+                throw new IOException("FXML dosyası bulunamadı: " + fxmlPath);
+            }
+            fxml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        ClassLoader yukleyici = SpringFXMLLoader.class.getClassLoader();
+        Matcher m = IMPORT.matcher(fxml);
+        while (m.find()) {
+            try {
+                Class.forName(m.group(1), true, yukleyici);
+            } catch (ClassNotFoundException e) {
+                // Paket ya da statik alan içe aktarması; FXMLLoader yükleme sırasında çözer
+            }
+        }
+        Matcher denetleyici = CONTROLLER.matcher(fxml);
+        if (!denetleyici.find()) {
+            return null;
+        }
+        try {
+            return Class.forName(denetleyici.group(1), true, yukleyici);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Denetleyici sınıfı bulunamadı: " + denetleyici.group(1), e);
+        }
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class StageInitializer implements ApplicationListener<JavaFXApplication.StageReadyEvent> {
     
+    public static final String ANA_EKRAN = "/com/ticari/cariler.fxml";
+    
     private final SpringFXMLLoader fxmlLoader;
     
     public StageInitializer(SpringFXMLLoader fxmlLoader) {
@@ -18,7 +20,7 @@ public class StageInitializer implements ApplicationListener<JavaFXApplication.S
     public void onApplicationEvent(JavaFXApplication.StageReadyEvent event) {
         try {
             Stage stage = event.getStage();
-            var root = fxmlLoader.load("/com/ticari/cariler.fxml");
+            var root = fxmlLoader.load(ANA_EKRAN);
             
             Scene scene = new Scene(root, 800, 600);
             stage.setScene(scene);
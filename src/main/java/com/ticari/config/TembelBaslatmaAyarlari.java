@@ -0,0 +1,26 @@
+package com.ticari.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * Bean'ler ilk kullanımda oluşturulur ({@code spring.main.lazy-initialization}); açılışta yalnızca
+ * ilk ekranın ve açılış dinleyicilerinin ihtiyaç duyduğu zincir kurulur. Zamanlanmış işler bean
+ * oluşturulurken kaydedildiğinden @Scheduled yöntemi olan bean'ler yine açılışta oluşturulur.
+ */
+@Configuration(proxyBeanMethods = false)
+public class TembelBaslatmaAyarlari {
+    
+    @Bean
+    static LazyInitializationExcludeFilter zamanlanmisIslerHaric() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+                        .anyMatch(yontem -> AnnotatedElementUtils.hasAnnotation(yontem, Scheduled.class));
+    }
+}
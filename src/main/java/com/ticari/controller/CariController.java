@@ -2,6 +2,10 @@ package com.ticari.controller;
 
 import com.ticari.entity.Cari;
 import com.ticari.service.CariService;
+import com.ticari.service.EkstreService;
+import com.ticari.ui.DebouncedSearch;
+import com.ticari.ui.EkstrePenceresi;
+import com.ticari.ui.LazyPagedList;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -10,11 +14,13 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import org.springframework.stereotype.Controller;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 @Controller
 public class CariController {
     
     private final CariService cariService;
+    private final EkstreService ekstreService;
     
     @FXML
     private TextField txtArama;
@@ -54,8 +60,11 @@ public class CariController {
     
     private ObservableList<Cari> cariListesi;
     
-    public CariController(CariService cariService) {
+    private LazyPagedList<Cari> sayfaliCariListesi;
+    
+    public CariController(CariService cariService, EkstreService ekstreService) {
         this.cariService = cariService;
+        this.ekstreService = ekstreService;
     }
     
     @FXML
@@ -97,20 +106,26 @@ public class CariController {
     }
     
     private void loadCariler() {
-        cariListesi = FXCollections.observableArrayList(cariService.tumunuGetir());
-        tblCariler.setItems(cariListesi);
+        if (sayfaliCariListesi == null) {
+            sayfaliCariListesi = new LazyPagedList<>(cariService::sayfaGetir, cariService::say, "cariId");
+            sayfaliCariListesi.tabloyaBagla(tblCariler, Map.of(
+                colCariKod, "cariKod",
+                colUnvan, "unvan",
+                colTur, "tur",
+                colVergiNo, "vergiNo",
+                colBakiye, "guncelBakiye"
+            ));
+        } else {
+            sayfaliCariListesi.yenile();
+            tblCariler.setItems(sayfaliCariListesi);
+        }
     }
     
     private void setupSearchListener() {
-        txtArama.textProperty().addListener((observable, oldValue, newValue) -> {
-            if (newValue == null || newValue.trim().isEmpty()) {
-                loadCariler();
-            } else {
-                var filteredList = cariService.unvanaGoreAra(newValue);
-                cariListesi = FXCollections.observableArrayList(filteredList);
-                tblCariler.setItems(cariListesi);
-            }
-        });
+        new DebouncedSearch<>(txtArama, cariService::unvanaGoreAra, sonuc -> {
+            cariListesi = FXCollections.observableArrayList(sonuc);
+            tblCariler.setItems(cariListesi);
+        }, this::loadCariler);
     }
     
     @FXML
@@ -125,7 +140,7 @@ public class CariController {
             showAlert("Uyarı", "Lütfen bir cari seçiniz", Alert.AlertType.WARNING);
             return;
         }
-        showAlert("Bilgi", "Ekstre formu açılacak: " + selectedCari.getUnvan(), Alert.AlertType.INFORMATION);
+        new EkstrePenceresi(ekstreService, selectedCari).goster();
     }
     
     @FXML
@@ -1,29 +1,37 @@
 package com.ticari.controller;
 
-import com.ticari.entity.Urun;
 import com.ticari.service.*;
+import com.ticari.service.KritikStokTakibi.KritikStok;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.PieChart;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 
 import java.net.URL;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
 import java.util.ResourceBundle;
 
 @Controller
 @RequiredArgsConstructor
 public class DashboardController implements Initializable {
 
-    private final KasaBankaService kasaBankaService;
-    private final CariService cariService;
-    private final UrunService urunService;
-    private final FaturaService faturaService;
+    private final DashboardAggregateService dashboardAggregateService;
+    private final KritikStokTakibi kritikStokTakibi;
+    private final SatisOzetiService satisOzetiService;
+    
+    private static final Locale TR = Locale.forLanguageTag("tr");
 
     // Summary cards
     @FXML private Label lblToplamKasa;
@@ -36,11 +44,14 @@ public class DashboardController implements Initializable {
     @FXML private PieChart chartKategoriler;
     
     // Critical stock table
-    @FXML private TableView<Urun> tblKritikStok;
-    @FXML private TableColumn<Urun, Integer> colUrunId;
-    @FXML private TableColumn<Urun, String> colUrunAd;
-    @FXML private TableColumn<Urun, Integer> colKalan;
-    @FXML private TableColumn<Urun, Integer> colMinSinir;
+    @FXML private TableView<KritikStok> tblKritikStok;
+    @FXML private TableColumn<KritikStok, Integer> colUrunId;
+    @FXML private TableColumn<KritikStok, String> colUrunAd;
+    @FXML private TableColumn<KritikStok, Integer> colKalan;
+    @FXML private TableColumn<KritikStok, Integer> colMinSinir;
+    
+    private final ObservableList<KritikStok> kritikStoklar = FXCollections.observableArrayList();
+    private boolean kritikStokDinleniyor;
     
     // Recent invoices table
     @FXML private TableView<?> tblSonIslemler;
@@ -65,68 +76,56 @@ public class DashboardController implements Initializable {
     }
 
     private void loadSummaryData() {
-        // Load total cash
-        double toplamKasa = kasaBankaService.getToplamBakiye().doubleValue();
-        lblToplamKasa.setText(String.format("₺ %.2f", toplamKasa));
-        
-        // Load receivables (customers with positive balance)
-        double alacaklar = cariService.findAll().stream()
-            .filter(c -> c.getGuncelBakiye() != null && c.getGuncelBakiye().doubleValue() > 0)
-            .mapToDouble(c -> c.getGuncelBakiye().doubleValue())
-            .sum();
-        lblAlacaklar.setText(String.format("₺ %.2f", alacaklar));
-        
-        // Calculate total stock value
-        double stokDegeri = urunService.findAll().stream()
-            .mapToDouble(u -> u.getMevcutStokMiktari() * u.getMevcutSatisFiyati().doubleValue())
-            .sum();
-        lblStokDegeri.setText(String.format("₺ %.2f", stokDegeri));
-        
-        // Count critical stock items
-        long kritikStokSayisi = urunService.findLowStockProducts().size();
-        lblKritikStokSayisi.setText(kritikStokSayisi + " Ürün");
+        // Toplamlar bellekte tutulur; ekran veri miktarından bağımsız açılır
+        DashboardAggregateService.Ozet ozet = dashboardAggregateService.ozetGetir();
+        lblToplamKasa.setText(String.format("₺ %.2f", ozet.toplamKasa()));
+        lblAlacaklar.setText(String.format("₺ %.2f", ozet.alacaklar()));
+        lblStokDegeri.setText(String.format("₺ %.2f", ozet.stokDegeri()));
+        lblKritikStokSayisi.setText(kritikStokTakibi.sayi() + " Ürün");
     }
 
     private void setupCharts() {
-        // Setup sales bar chart (sample data)
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-        series.setName("Satışlar");
-        series.getData().add(new XYChart.Data<>("Pzt", 12500));
-        series.getData().add(new XYChart.Data<>("Sal", 15200));
-        series.getData().add(new XYChart.Data<>("Çar", 18900));
-        series.getData().add(new XYChart.Data<>("Per", 14300));
-        series.getData().add(new XYChart.Data<>("Cum", 21000));
-        series.getData().add(new XYChart.Data<>("Cmt", 8500));
-        series.getData().add(new XYChart.Data<>("Paz", 6200));
+        // Son 7 günün satışları ve kategori payları günlük özet tablosundan okunur
+        LocalDate bugun = LocalDate.now();
+        LocalDate haftaBasi = bugun.minusDays(6);
         
         if (chartSatislar != null) {
-            chartSatislar.getData().add(series);
+            XYChart.Series<String, Number> series = new XYChart.Series<>();
+            series.setName("Satışlar");
+            satisOzetiService.gunlukSatislar(haftaBasi, bugun).forEach((gun, tutar) ->
+                    series.getData().add(new XYChart.Data<>(
+                            gun.getDayOfWeek().getDisplayName(TextStyle.SHORT, TR), tutar)));
+            chartSatislar.getData().setAll(List.of(series));
         }
         
-        // Setup category pie chart (sample data)
         if (chartKategoriler != null) {
-            PieChart.Data slice1 = new PieChart.Data("Elektronik", 35);
-            PieChart.Data slice2 = new PieChart.Data("Gıda", 25);
-            PieChart.Data slice3 = new PieChart.Data("Giyim", 20);
-            PieChart.Data slice4 = new PieChart.Data("Mobilya", 15);
-            PieChart.Data slice5 = new PieChart.Data("Diğer", 5);
-            
-            chartKategoriler.setData(FXCollections.observableArrayList(
-                slice1, slice2, slice3, slice4, slice5
-            ));
+            var dilimler = FXCollections.<PieChart.Data>observableArrayList();
+            satisOzetiService.kategoriPaylari(haftaBasi, bugun).forEach((kategori, tutar) -> {
+                if (tutar.signum() > 0) {
+                    dilimler.add(new PieChart.Data(kategori, tutar.doubleValue()));
+                }
+            });
+            chartKategoriler.setData(dilimler);
         }
     }
 
     private void setupCriticalStockTable() {
         if (tblKritikStok != null) {
-            colUrunId.setCellValueFactory(new PropertyValueFactory<>("urunId"));
-            colUrunAd.setCellValueFactory(new PropertyValueFactory<>("urunAd"));
-            colKalan.setCellValueFactory(new PropertyValueFactory<>("mevcutStokMiktari"));
-            colMinSinir.setCellValueFactory(new PropertyValueFactory<>("minimumStokSeviyesi"));
+            colUrunId.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().urunId()));
+            colUrunAd.setCellValueFactory(c -> new SimpleStringProperty(c.getValue().urunAd()));
+            colKalan.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().mevcutStok()));
+            colMinSinir.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().minimumStok()));
             
-            // Load critical stock items
-            var kritikUrunler = urunService.findLowStockProducts();
-            tblKritikStok.setItems(FXCollections.observableArrayList(kritikUrunler));
+            // Liste bellekte sıralı tutulur; stok değiştikçe takipten gelen yeni liste gösterilir
+            kritikStoklar.setAll(kritikStokTakibi.kritikUrunler());
+            tblKritikStok.setItems(kritikStoklar);
+            if (!kritikStokDinleniyor) {
+                kritikStokTakibi.dinle(liste -> Platform.runLater(() -> {
+                    kritikStoklar.setAll(liste);
+                    lblKritikStokSayisi.setText(liste.size() + " Ürün");
+                }));
+                kritikStokDinleniyor = true;
+            }
             
             // Color code the rows
             colKalan.setCellFactory(column -> new TableCell<>() {
@@ -138,7 +137,7 @@ public class DashboardController implements Initializable {
                         setStyle("");
                     } else {
                         setText(String.valueOf(item));
-                        if (item == 0) {
+                        if (item <= 0) {
                             setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
                         } else {
                             setStyle("-fx-text-fill: #f39c12; -fx-font-weight: bold;");
@@ -1,7 +1,10 @@
 package com.ticari.controller;
 
 import com.ticari.entity.Fatura;
+import com.ticari.service.AramaService;
 import com.ticari.service.FaturaService;
+import com.ticari.ui.DebouncedSearch;
+import com.ticari.ui.LazyPagedList;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -10,8 +13,10 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 
+import java.math.BigDecimal;
 import java.net.URL;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 @Controller
@@ -19,6 +24,7 @@ import java.util.ResourceBundle;
 public class FaturalarController implements Initializable {
 
     private final FaturaService faturaService;
+    private final AramaService aramaService;
 
     @FXML
     private TableView<Fatura> tblFaturalar;
@@ -36,7 +42,7 @@ public class FaturalarController implements Initializable {
     private TableColumn<Fatura, String> colTur;
     
     @FXML
-    private TableColumn<Fatura, Double> colGenelToplam;
+    private TableColumn<Fatura, BigDecimal> colGenelToplam;
     
     @FXML
     private TableColumn<Fatura, String> colParaBirimi;
@@ -55,6 +61,8 @@ public class FaturalarController implements Initializable {
     
     @FXML
     private Button btnDetay;
+    
+    private LazyPagedList<Fatura> faturaListesi;
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -68,7 +76,9 @@ public class FaturalarController implements Initializable {
         colFaturaNo.setCellValueFactory(new PropertyValueFactory<>("faturaNo"));
         colTur.setCellValueFactory(new PropertyValueFactory<>("tur"));
         colGenelToplam.setCellValueFactory(new PropertyValueFactory<>("genelToplam"));
-        colParaBirimi.setCellValueFactory(new PropertyValueFactory<>("paraBirimi"));
+        colParaBirimi.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+            cellData.getValue().getParaBirimi() != null ? cellData.getValue().getParaBirimi().getParaKod() : ""
+        ));
         
         // Custom cell factory for Cari display
         colCari.setCellValueFactory(cellData -> {
@@ -96,7 +106,7 @@ public class FaturalarController implements Initializable {
         // Format currency column
         colGenelToplam.setCellFactory(column -> new TableCell<>() {
             @Override
-            protected void updateItem(Double item, boolean empty) {
+            protected void updateItem(BigDecimal item, boolean empty) {
                 super.updateItem(item, empty);
                 if (empty || item == null) {
                     setText(null);
@@ -108,23 +118,27 @@ public class FaturalarController implements Initializable {
     }
 
     private void loadFaturalar() {
-        var faturalar = faturaService.findAll();
-        tblFaturalar.setItems(FXCollections.observableArrayList(faturalar));
+        if (faturaListesi == null) {
+            faturaListesi = new LazyPagedList<>(faturaService::sayfaGetir, faturaService::say, "faturaId");
+            faturaListesi.tabloyaBagla(tblFaturalar, Map.of(
+                colTarih, "faturaTarihi",
+                colFaturaNo, "faturaNo",
+                colCari, "cari.unvan",
+                colTur, "tur",
+                colGenelToplam, "genelToplam",
+                colParaBirimi, "paraBirimi.paraKod"
+            ));
+        } else {
+            faturaListesi.yenile();
+            tblFaturalar.setItems(faturaListesi);
+        }
     }
 
     private void setupSearchListener() {
         if (txtArama != null) {
-            txtArama.textProperty().addListener((observable, oldValue, newValue) -> {
-                if (newValue == null || newValue.isEmpty()) {
-                    loadFaturalar();
-                } else {
-                    var filtered = faturaService.findAll().stream()
-                        .filter(f -> f.getFaturaNo().toLowerCase().contains(newValue.toLowerCase()) ||
-                                   (f.getCari() != null && f.getCari().getUnvan().toLowerCase().contains(newValue.toLowerCase())))
-                        .toList();
-                    tblFaturalar.setItems(FXCollections.observableArrayList(filtered));
-                }
-            });
+            new DebouncedSearch<>(txtArama, aramaService::faturaAra,
+                sonuc -> tblFaturalar.setItems(FXCollections.observableArrayList(sonuc)),
+                this::loadFaturalar);
         }
     }
 
@@ -150,8 +164,22 @@ public class FaturalarController implements Initializable {
             showAlert("Uyarı", "Lütfen detay görmek için bir fatura seçin", Alert.AlertType.WARNING);
             return;
         }
-        showAlert("Bilgi", "Fatura ID: " + selected.getFaturaId() + "\nFatura No: " + selected.getFaturaNo(), 
-                 Alert.AlertType.INFORMATION);
+        Fatura detay = faturaService.detayGetir(selected.getFaturaId()).orElse(null);
+        if (detay == null) {
+            showAlert("Uyarı", "Fatura bulunamadı", Alert.AlertType.WARNING);
+            return;
+        }
+        StringBuilder mesaj = new StringBuilder()
+            .append("Fatura ID: ").append(detay.getFaturaId())
+            .append("\nFatura No: ").append(detay.getFaturaNo());
+        if (detay.getStokGirisCikislar() != null) {
+            for (var satir : detay.getStokGirisCikislar()) {
+                mesaj.append("\n  ").append(satir.getUrun().getUrunAd())
+                    .append(" x ").append(satir.getMiktar())
+                    .append(" @ ").append(satir.getBirimFiyat());
+            }
+        }
+        showAlert("Bilgi", mesaj.toString(), Alert.AlertType.INFORMATION);
     }
 
     private void showAlert(String title, String message, Alert.AlertType type) {
@@ -2,6 +2,7 @@ package com.ticari.controller;
 
 import com.ticari.entity.KasaBanka;
 import com.ticari.service.KasaBankaService;
+import com.ticari.ui.DebouncedSearch;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -10,6 +11,7 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 
+import java.math.BigDecimal;
 import java.net.URL;
 import java.util.ResourceBundle;
 
@@ -17,13 +19,15 @@ import java.util.ResourceBundle;
 @RequiredArgsConstructor
 public class KasaController implements Initializable {
 
+    private static final BigDecimal YUKSEK_BAKIYE = BigDecimal.valueOf(10000);
+
     private final KasaBankaService kasaBankaService;
 
     @FXML private TableView<KasaBanka> tblKasa;
     @FXML private TableColumn<KasaBanka, Integer> colHesapId;
     @FXML private TableColumn<KasaBanka, String> colHesapAdi;
     @FXML private TableColumn<KasaBanka, String> colTur;
-    @FXML private TableColumn<KasaBanka, Double> colBakiye;
+    @FXML private TableColumn<KasaBanka, BigDecimal> colBakiye;
     @FXML private TableColumn<KasaBanka, String> colParaBirimi;
     
     @FXML private TextField txtArama;
@@ -51,7 +55,7 @@ public class KasaController implements Initializable {
         // Format balance column with currency
         colBakiye.setCellFactory(column -> new TableCell<>() {
             @Override
-            protected void updateItem(Double item, boolean empty) {
+            protected void updateItem(BigDecimal item, boolean empty) {
                 super.updateItem(item, empty);
                 if (empty || item == null) {
                     setText(null);
@@ -59,9 +63,9 @@ public class KasaController implements Initializable {
                 } else {
                     setText(String.format("%.2f ₺", item));
                     // Color code based on balance
-                    if (item < 0) {
+                    if (item.signum() < 0) {
                         setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
-                    } else if (item > 10000) {
+                    } else if (item.compareTo(YUKSEK_BAKIYE) > 0) {
                         setStyle("-fx-text-fill: #2FA84F; -fx-font-weight: bold;");
                     } else {
                         setStyle("-fx-text-fill: #2d3447;");
@@ -103,16 +107,9 @@ public class KasaController implements Initializable {
 
     private void setupSearchListener() {
         if (txtArama != null) {
-            txtArama.textProperty().addListener((observable, oldValue, newValue) -> {
-                if (newValue == null || newValue.isEmpty()) {
-                    loadKasaBanka();
-                } else {
-                    var filtered = kasaBankaService.findAll().stream()
-                        .filter(k -> k.getHesapAdi().toLowerCase().contains(newValue.toLowerCase()))
-                        .toList();
-                    tblKasa.setItems(FXCollections.observableArrayList(filtered));
-                }
-            });
+            new DebouncedSearch<>(txtArama, kasaBankaService::hesapAdinaGoreAra,
+                sonuc -> tblKasa.setItems(FXCollections.observableArrayList(sonuc)),
+                this::loadKasaBanka);
         }
     }
 
@@ -2,18 +2,28 @@ package com.ticari.controller;
 
 import com.ticari.entity.Teklif;
 import com.ticari.enums.TeklifDurumu;
+import com.ticari.service.AramaService;
+import com.ticari.service.TeklifDonusumService;
+import com.ticari.service.TeklifDonusumService.DonusumSonucu;
 import com.ticari.service.TeklifService;
+import com.ticari.ui.DebouncedSearch;
+import com.ticari.ui.LazyPagedList;
 import javafx.collections.FXCollections;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.VBox;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 
+import java.math.BigDecimal;
 import java.net.URL;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 @Controller
@@ -21,13 +31,15 @@ import java.util.ResourceBundle;
 public class TekliflerController implements Initializable {
 
     private final TeklifService teklifService;
+    private final AramaService aramaService;
+    private final TeklifDonusumService teklifDonusumService;
 
     @FXML private TableView<Teklif> tblTeklifler;
-    @FXML private TableColumn<Teklif, Integer> colTeklifNo;
+    @FXML private TableColumn<Teklif, String> colTeklifNo;
     @FXML private TableColumn<Teklif, String> colCari;
     @FXML private TableColumn<Teklif, LocalDateTime> colTarih;
     @FXML private TableColumn<Teklif, LocalDate> colGecerlilik;
-    @FXML private TableColumn<Teklif, Double> colToplam;
+    @FXML private TableColumn<Teklif, BigDecimal> colToplam;
     @FXML private TableColumn<Teklif, String> colDurum;
     
     @FXML private TextField txtArama;
@@ -36,6 +48,8 @@ public class TekliflerController implements Initializable {
     @FXML private Button btnPdf;
     @FXML private Button btnDuzenle;
     @FXML private Button btnSipariseDonustur;
+    
+    private LazyPagedList<Teklif> teklifListesi;
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -45,7 +59,9 @@ public class TekliflerController implements Initializable {
     }
 
     private void setupTableColumns() {
-        colTeklifNo.setCellValueFactory(new PropertyValueFactory<>("teklifId"));
+        // Ay sonu dönüşümü için birden fazla teklif seçilebilir
+        tblTeklifler.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        colTeklifNo.setCellValueFactory(new PropertyValueFactory<>("teklifNo"));
         colTarih.setCellValueFactory(new PropertyValueFactory<>("teklifTarihi"));
         colGecerlilik.setCellValueFactory(new PropertyValueFactory<>("gecerlilikTarihi"));
         colToplam.setCellValueFactory(new PropertyValueFactory<>("toplamTutar"));
@@ -98,7 +114,7 @@ public class TekliflerController implements Initializable {
         // Format currency column
         colToplam.setCellFactory(column -> new TableCell<>() {
             @Override
-            protected void updateItem(Double item, boolean empty) {
+            protected void updateItem(BigDecimal item, boolean empty) {
                 super.updateItem(item, empty);
                 if (empty || item == null) {
                     setText(null);
@@ -110,23 +126,27 @@ public class TekliflerController implements Initializable {
     }
 
     private void loadTeklifler() {
-        var teklifler = teklifService.findAll();
-        tblTeklifler.setItems(FXCollections.observableArrayList(teklifler));
+        if (teklifListesi == null) {
+            teklifListesi = new LazyPagedList<>(teklifService::sayfaGetir, teklifService::say, "teklifId");
+            teklifListesi.tabloyaBagla(tblTeklifler, Map.of(
+                colTeklifNo, "teklifNo",
+                colCari, "cari.unvan",
+                colTarih, "teklifTarihi",
+                colGecerlilik, "gecerlilikTarihi",
+                colToplam, "toplamTutar",
+                colDurum, "durum"
+            ));
+        } else {
+            teklifListesi.yenile();
+            tblTeklifler.setItems(teklifListesi);
+        }
     }
 
     private void setupSearchListener() {
         if (txtArama != null) {
-            txtArama.textProperty().addListener((observable, oldValue, newValue) -> {
-                if (newValue == null || newValue.isEmpty()) {
-                    loadTeklifler();
-                } else {
-                    var filtered = teklifService.findAll().stream()
-                        .filter(t -> String.valueOf(t.getTeklifId()).contains(newValue) ||
-                                   (t.getCari() != null && t.getCari().getUnvan().toLowerCase().contains(newValue.toLowerCase())))
-                        .toList();
-                    tblTeklifler.setItems(FXCollections.observableArrayList(filtered));
-                }
-            });
+            new DebouncedSearch<>(txtArama, aramaService::teklifAra,
+                sonuc -> tblTeklifler.setItems(FXCollections.observableArrayList(sonuc)),
+                this::loadTeklifler);
         }
     }
 
@@ -157,13 +177,12 @@ public class TekliflerController implements Initializable {
 
     @FXML
     private void handleSipariseDonustur() {
-        Teklif selected = tblTeklifler.getSelectionModel().getSelectedItem();
-        if (selected == null) {
-            showAlert("Uyarı", "Lütfen siparişe dönüştürmek için bir teklif seçin", Alert.AlertType.WARNING);
-            return;
-        }
-        
-        if (selected.getDurum() != TeklifDurumu.ONAYLANDI) {
+        List<Teklif> secili = tblTeklifler.getSelectionModel().getSelectedItems();
+        List<Integer> teklifIdler = secili.stream()
+                .filter(t -> t.getDurum() == TeklifDurumu.ONAYLANDI)
+                .map(Teklif::getTeklifId)
+                .toList();
+        if (!secili.isEmpty() && teklifIdler.isEmpty()) {
             showAlert("Uyarı", "Sadece onaylanmış teklifler siparişe dönüştürülebilir", Alert.AlertType.WARNING);
             return;
         }
@@ -171,15 +190,70 @@ public class TekliflerController implements Initializable {
         Alert confirm = new Alert(Alert.AlertType.CONFIRMATION);
         confirm.setTitle("Onay");
         confirm.setHeaderText("Siparişe Dönüştür");
-        confirm.setContentText("Bu teklifi siparişe dönüştürmek istediğinizden emin misiniz?");
+        confirm.setContentText(teklifIdler.isEmpty()
+                ? "Seçim yapılmadı. Onaylanmış ve henüz dönüştürülmemiş tüm teklifler sipariş ve faturaya dönüştürülsün mü?"
+                : teklifIdler.size() + " onaylanmış teklif sipariş ve faturaya dönüştürülsün mü?");
         
         confirm.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                // TODO: Implement order creation logic
-                showAlert("Başarılı", "Teklif siparişe dönüştürüldü", Alert.AlertType.INFORMATION);
-                loadTeklifler();
+                donusturmeyiBaslat(teklifIdler);
+            }
+        });
+    }
+
+    /**
+     * Dönüşümü arka planda çalıştırır; ilerleme parti parti gösterilir.
+     */
+    private void donusturmeyiBaslat(List<Integer> teklifIdler) {
+        Task<DonusumSonucu> gorev = new Task<>() {
+            @Override
+            protected DonusumSonucu call() {
+                TeklifDonusumService.Ilerleme ilerleme = (islenen, toplam) -> {
+                    updateProgress(islenen, toplam);
+                    updateMessage(islenen + " / " + toplam + " teklif işlendi");
+                };
+                return teklifIdler.isEmpty()
+                        ? teklifDonusumService.onaylanmislariDonustur(ilerleme)
+                        : teklifDonusumService.donustur(teklifIdler, ilerleme);
             }
+        };
+        
+        ProgressBar ilerlemeCubugu = new ProgressBar();
+        ilerlemeCubugu.setPrefWidth(300);
+        ilerlemeCubugu.progressProperty().bind(gorev.progressProperty());
+        Label lblIlerleme = new Label();
+        lblIlerleme.textProperty().bind(gorev.messageProperty());
+        Alert ilerlemePenceresi = new Alert(Alert.AlertType.INFORMATION);
+        ilerlemePenceresi.setTitle("Siparişe Dönüştür");
+        ilerlemePenceresi.setHeaderText("Teklifler dönüştürülüyor...");
+        ilerlemePenceresi.getDialogPane().setContent(new VBox(8, ilerlemeCubugu, lblIlerleme));
+        ilerlemePenceresi.getButtonTypes().clear();
+        
+        gorev.setOnSucceeded(e -> {
+            kapat(ilerlemePenceresi);
+            DonusumSonucu sonuc = gorev.getValue();
+            showAlert("Başarılı", sonuc.donusturulen() + " teklif sipariş ve faturaya dönüştürüldü"
+                    + (sonuc.atlanan() > 0 ? ", " + sonuc.atlanan() + " teklif atlandı" : ""), Alert.AlertType.INFORMATION);
+            loadTeklifler();
+        });
+        gorev.setOnFailed(e -> {
+            kapat(ilerlemePenceresi);
+            showAlert("Hata", "Dönüştürme tamamlanamadı: " + gorev.getException().getMessage(), Alert.AlertType.ERROR);
+            loadTeklifler();
         });
+        
+        btnSipariseDonustur.setDisable(true);
+        Thread thread = new Thread(gorev, "teklif-donusumu");
+        thread.setDaemon(true);
+        thread.start();
+        ilerlemePenceresi.show();
+    }
+
+    private void kapat(Alert pencere) {
+        btnSipariseDonustur.setDisable(false);
+        // Düğmesiz bir diyalog close() ile kapanmaz; önce kapatma düğmesi eklenir
+        pencere.getButtonTypes().setAll(ButtonType.CLOSE);
+        pencere.close();
     }
 
     private void showAlert(String title, String message, Alert.AlertType type) {
@@ -2,6 +2,8 @@ package com.ticari.controller;
 
 import com.ticari.entity.Urun;
 import com.ticari.service.UrunService;
+import com.ticari.ui.DebouncedSearch;
+import com.ticari.ui.LazyPagedList;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -10,6 +12,7 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import org.springframework.stereotype.Controller;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 @Controller
 public class UrunController {
@@ -54,6 +57,8 @@ public class UrunController {
     
     private ObservableList<Urun> urunListesi;
     
+    private LazyPagedList<Urun> sayfaliUrunListesi;
+    
     public UrunController(UrunService urunService) {
         this.urunService = urunService;
     }
@@ -90,7 +95,7 @@ public class UrunController {
                     if (urun.getMevcutStokMiktari() == 0) {
                         setText("TÜKENDİ");
                         setStyle("-fx-text-fill: #e74c3c; -fx-font-weight: bold;");
-                    } else if (urun.getMevcutStokMiktari() <= urun.getMinimumStokSeviyesi()) {
+                    } else if (Boolean.TRUE.equals(urun.getKritikStokta())) {
                         setText("DÜŞÜK");
                         setStyle("-fx-text-fill: #f39c12; -fx-font-weight: bold;");
                     } else {
@@ -103,20 +108,27 @@ public class UrunController {
     }
     
     private void loadUrunler() {
-        urunListesi = FXCollections.observableArrayList(urunService.tumunuGetir());
-        tblUrunler.setItems(urunListesi);
+        if (sayfaliUrunListesi == null) {
+            sayfaliUrunListesi = new LazyPagedList<>(urunService::sayfaGetir, urunService::say, "urunId");
+            sayfaliUrunListesi.tabloyaBagla(tblUrunler, Map.of(
+                colId, "urunId",
+                colUrunAd, "urunAd",
+                colKategori, "kategori.kategoriAd",
+                colStokMiktar, "mevcutStokMiktari",
+                colMinStok, "minimumStokSeviyesi",
+                colSatisFiyat, "mevcutSatisFiyati"
+            ));
+        } else {
+            sayfaliUrunListesi.yenile();
+            tblUrunler.setItems(sayfaliUrunListesi);
+        }
     }
     
     private void setupSearchListener() {
-        txtArama.textProperty().addListener((observable, oldValue, newValue) -> {
-            if (newValue == null || newValue.trim().isEmpty()) {
-                loadUrunler();
-            } else {
-                var filteredList = urunService.urunAdaGoreAra(newValue);
-                urunListesi = FXCollections.observableArrayList(filteredList);
-                tblUrunler.setItems(urunListesi);
-            }
-        });
+        new DebouncedSearch<>(txtArama, urunService::urunAdaGoreAra, sonuc -> {
+            urunListesi = FXCollections.observableArrayList(sonuc);
+            tblUrunler.setItems(urunListesi);
+        }, this::loadUrunler);
     }
     
     @FXML
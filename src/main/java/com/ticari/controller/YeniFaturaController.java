@@ -4,6 +4,7 @@ import com.ticari.entity.*;
 import com.ticari.enums.FaturaTuru;
 import com.ticari.enums.StokIslemTuru;
 import com.ticari.service.*;
+import com.ticari.utils.Money;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -17,7 +18,6 @@ import org.springframework.stereotype.Controller;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
@@ -29,8 +29,8 @@ public class YeniFaturaController implements Initializable {
     private final FaturaService faturaService;
     private final CariService cariService;
     private final UrunService urunService;
-    private final StokService stokService;
     private final ParaBirimiService paraBirimiService;
+    private final KurOnbellegi kurOnbellegi;
 
     // Form fields
     @FXML private TextField txtFaturaNo;
@@ -54,9 +54,9 @@ public class YeniFaturaController implements Initializable {
     @FXML private TableColumn<FaturaDetayRow, String> colUrunAd;
     @FXML private TableColumn<FaturaDetayRow, Integer> colMiktar;
     @FXML private TableColumn<FaturaDetayRow, String> colBirim;
-    @FXML private TableColumn<FaturaDetayRow, Double> colBirimFiyat;
+    @FXML private TableColumn<FaturaDetayRow, BigDecimal> colBirimFiyat;
     @FXML private TableColumn<FaturaDetayRow, Integer> colKdv;
-    @FXML private TableColumn<FaturaDetayRow, Double> colSatirTutari;
+    @FXML private TableColumn<FaturaDetayRow, BigDecimal> colSatirTutari;
     
     // Summary labels
     @FXML private Label lblAraToplam;
@@ -66,9 +66,10 @@ public class YeniFaturaController implements Initializable {
     @FXML private Button btnFaturayiKaydet;
 
     private final ObservableList<FaturaDetayRow> detayList = FXCollections.observableArrayList();
-    private double araToplam = 0.0;
-    private double kdvToplam = 0.0;
-    private double genelToplam = 0.0;
+    // Tutarlar kuruş cinsinden
+    private long araToplam;
+    private long kdvToplam;
+    private long genelToplam;
 
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -138,11 +139,11 @@ public class YeniFaturaController implements Initializable {
         colBirim.setCellValueFactory(cellData -> 
             new javafx.beans.property.SimpleStringProperty("Adet"));
         colBirimFiyat.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleDoubleProperty(cellData.getValue().getBirimFiyat()).asObject());
+            new javafx.beans.property.SimpleObjectProperty<>(Money.bigDecimal(cellData.getValue().getBirimFiyat())));
         colKdv.setCellValueFactory(cellData -> 
             new javafx.beans.property.SimpleIntegerProperty(cellData.getValue().getKdvOrani()).asObject());
         colSatirTutari.setCellValueFactory(cellData -> 
-            new javafx.beans.property.SimpleDoubleProperty(cellData.getValue().getSatirTutari()).asObject());
+            new javafx.beans.property.SimpleObjectProperty<>(Money.bigDecimal(cellData.getValue().getSatirTutari())));
 
         tblFaturaDetay.setItems(detayList);
     }
@@ -151,7 +152,7 @@ public class YeniFaturaController implements Initializable {
         // When product is selected, auto-fill price
         cmbUrunSec.valueProperty().addListener((obs, oldVal, newVal) -> {
             if (newVal != null) {
-                txtBirimFiyat.setText(String.valueOf(newVal.getMevcutSatisFiyati().doubleValue()));
+                txtBirimFiyat.setText(Money.bicimle(Money.kurus(newVal.getMevcutSatisFiyati())));
                 calculateRowTotal();
             }
         });
@@ -159,6 +160,10 @@ public class YeniFaturaController implements Initializable {
         // Calculate row total when quantity or price changes
         txtMiktar.textProperty().addListener((obs, oldVal, newVal) -> calculateRowTotal());
         txtBirimFiyat.textProperty().addListener((obs, oldVal, newVal) -> calculateRowTotal());
+
+        // Kur, fatura tarihindeki ya da öncesindeki son kurla doldurulur
+        cmbParaBirimi.valueProperty().addListener((obs, oldVal, newVal) -> fillExchangeRate());
+        dpFaturaTarihi.valueProperty().addListener((obs, oldVal, newVal) -> fillExchangeRate());
     }
 
     private void setDefaultValues() {
@@ -169,15 +174,28 @@ public class YeniFaturaController implements Initializable {
         paraBirimiService.findById("TRY").ifPresent(cmbParaBirimi::setValue);
         
         txtKur.setText("1.00");
-        txtFaturaNo.setText("FAT-" + System.currentTimeMillis());
+        // Boş bırakılan numara kayıt sırasında seriden verilir
+        txtFaturaNo.setPromptText("Otomatik");
+        txtFaturaNo.clear();
+    }
+
+    private void fillExchangeRate() {
+        ParaBirimi paraBirimi = cmbParaBirimi.getValue();
+        LocalDate tarih = dpFaturaTarihi.getValue();
+        if (paraBirimi == null || tarih == null) {
+            return;
+        }
+        long kur = kurOnbellegi.kurMikro(paraBirimi.getParaKod(), tarih);
+        if (kur != KurOnbellegi.KUR_YOK) {
+            txtKur.setText(BigDecimal.valueOf(kur, 6).stripTrailingZeros().toPlainString());
+        }
     }
 
     private void calculateRowTotal() {
         try {
             int miktar = Integer.parseInt(txtMiktar.getText().trim());
-            double birimFiyat = Double.parseDouble(txtBirimFiyat.getText().trim());
-            double total = miktar * birimFiyat;
-            txtSatirToplami.setText(String.format("%.2f", total));
+            long birimFiyat = Money.kurus(txtBirimFiyat.getText());
+            txtSatirToplami.setText(Money.bicimle(Money.carp(birimFiyat, miktar)));
         } catch (NumberFormatException e) {
             txtSatirToplami.setText("0.00");
         }
@@ -193,7 +211,7 @@ public class YeniFaturaController implements Initializable {
 
         try {
             int miktar = Integer.parseInt(txtMiktar.getText().trim());
-            double birimFiyat = Double.parseDouble(txtBirimFiyat.getText().trim());
+            long birimFiyat = Money.kurus(txtBirimFiyat.getText());
             int kdvOrani = 20; // Default KDV
             
             FaturaDetayRow row = new FaturaDetayRow();
@@ -203,9 +221,8 @@ public class YeniFaturaController implements Initializable {
             row.setBirimFiyat(birimFiyat);
             row.setKdvOrani(kdvOrani);
             
-            double satirToplami = miktar * birimFiyat;
-            double satirKdv = satirToplami * kdvOrani / 100.0;
-            row.setSatirTutari(satirToplami + satirKdv);
+            long satirToplami = Money.carp(birimFiyat, miktar);
+            row.setSatirTutari(Money.topla(satirToplami, Money.kdv(satirToplami, kdvOrani)));
             
             detayList.add(row);
             calculateTotals();
@@ -239,28 +256,32 @@ public class YeniFaturaController implements Initializable {
             fatura.setFaturaTarihi(dpFaturaTarihi.getValue().atStartOfDay());
             fatura.setCari(cmbCari.getValue());
             fatura.setTur(cmbTur.getValue());
-            fatura.setGenelToplam(BigDecimal.valueOf(genelToplam));
+            fatura.setGenelToplam(Money.bigDecimal(genelToplam));
             fatura.setParaBirimi(cmbParaBirimi.getValue());
             fatura.setKur(new BigDecimal(txtKur.getText().trim()));
             fatura.setAciklama(txtAciklama.getText());
 
-            // Save fatura
-            Fatura savedFatura = faturaService.save(fatura);
-
-            // Create stock movements
+            // Stok hareketleri faturayla birlikte tek seferde kaydedilir
+            List<StokGirisCikis> hareketler = new ArrayList<>();
             for (FaturaDetayRow row : detayList) {
+                Urun urun = new Urun();
+                urun.setUrunId(row.getUrunId());
+                
                 StokGirisCikis stok = new StokGirisCikis();
-                stok.setFatura(savedFatura);
-                stok.setUrun(urunService.findById(row.getUrunId()).orElse(null));
+                stok.setFatura(fatura);
+                stok.setUrun(urun);
                 stok.setIslemTuru(cmbTur.getValue() == FaturaTuru.ALIS ? StokIslemTuru.GIRIS : StokIslemTuru.CIKIS);
                 stok.setMiktar(row.getMiktar());
-                stok.setBirimFiyat(BigDecimal.valueOf(row.getBirimFiyat()));
-                stok.setTarih(LocalDateTime.now());
+                stok.setBirimFiyat(Money.bigDecimal(row.getBirimFiyat()));
+                // Geçmiş tarihli faturanın hareketi o tarihteki stoğa işlenir
+                stok.setTarih(fatura.getFaturaTarihi());
                 stok.setParaBirimi(cmbParaBirimi.getValue());
                 stok.setKur(new BigDecimal(txtKur.getText().trim()));
-                
-                stokService.save(stok);
+                hareketler.add(stok);
             }
+            fatura.setStokGirisCikislar(hareketler);
+
+            Fatura savedFatura = faturaService.save(fatura);
 
             showAlert("Başarılı", "Fatura başarıyla kaydedildi!\nFatura No: " + savedFatura.getFaturaNo(), 
                      Alert.AlertType.INFORMATION);
@@ -277,10 +298,6 @@ public class YeniFaturaController implements Initializable {
     }
 
     private boolean validateForm() {
-        if (txtFaturaNo.getText().trim().isEmpty()) {
-            showAlert("Uyarı", "Fatura numarası boş olamaz", Alert.AlertType.WARNING);
-            return false;
-        }
         if (cmbCari.getValue() == null) {
             showAlert("Uyarı", "Lütfen bir cari seçin", Alert.AlertType.WARNING);
             return false;
@@ -297,21 +314,21 @@ public class YeniFaturaController implements Initializable {
     }
 
     private void calculateTotals() {
-        araToplam = 0.0;
-        kdvToplam = 0.0;
+        araToplam = 0;
+        kdvToplam = 0;
         
+        // KDV satır başına yuvarlanır, fatura KDV'si satır KDV'lerinin toplamıdır
         for (FaturaDetayRow row : detayList) {
-            double satirToplami = row.getMiktar() * row.getBirimFiyat();
-            double satirKdv = satirToplami * row.getKdvOrani() / 100.0;
-            araToplam += satirToplami;
-            kdvToplam += satirKdv;
+            long satirToplami = Money.carp(row.getBirimFiyat(), row.getMiktar());
+            araToplam = Money.topla(araToplam, satirToplami);
+            kdvToplam = Money.topla(kdvToplam, Money.kdv(satirToplami, row.getKdvOrani()));
         }
         
-        genelToplam = araToplam + kdvToplam;
+        genelToplam = Money.topla(araToplam, kdvToplam);
         
-        lblAraToplam.setText(String.format("%.2f ₺", araToplam));
-        lblKdvToplam.setText(String.format("%.2f ₺", kdvToplam));
-        lblGenelToplam.setText(String.format("%.2f ₺", genelToplam));
+        lblAraToplam.setText(Money.bicimle(araToplam) + " ₺");
+        lblKdvToplam.setText(Money.bicimle(kdvToplam) + " ₺");
+        lblGenelToplam.setText(Money.bicimle(genelToplam) + " ₺");
     }
 
     private void clearProductSelection() {
@@ -322,7 +339,7 @@ public class YeniFaturaController implements Initializable {
     }
 
     private void clearForm() {
-        txtFaturaNo.setText("FAT-" + System.currentTimeMillis());
+        txtFaturaNo.clear();
         dpFaturaTarihi.setValue(LocalDate.now());
         dpVadeTarihi.setValue(LocalDate.now().plusDays(30));
         cmbCari.setValue(null);
@@ -346,8 +363,8 @@ public class YeniFaturaController implements Initializable {
         private Integer urunId;
         private String urunAd;
         private Integer miktar;
-        private Double birimFiyat;
+        private long birimFiyat;
         private Integer kdvOrani;
-        private Double satirTutari;
+        private long satirTutari;
     }
 }
@@ -1,28 +1,46 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
-@Table(name = "Atiklar")
-@Data
+@Table(name = "Atiklar", indexes = {
+        @Index(name = "IX_Atiklar_Urun", columnList = "UrunID"),
+        @Index(name = "IX_Atiklar_Tarih", columnList = "Tarih")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Atik {
     
     @Id
+    @GeneratedValue(generator = "atik_id")
+    @GenericGenerator(name = "atik_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Atiklar_SEQ"))
     @Column(name = "AtikID")
     private Integer atikId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "UrunID")
     private Urun urun;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "NedenID")
     private AtikNedeni neden;
     
@@ -31,4 +49,21 @@ public class Atik {
     
     @Column(name = "Tarih")
     private LocalDateTime tarih = LocalDateTime.now();
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Atik diger = (Atik) o;
+        return getAtikId() != null && getAtikId().equals(diger.getAtikId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getAtikId());
+    }
 }
@@ -1,26 +1,57 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "AtikNedenleri")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class AtikNedeni {
     
     @Id
+    @GeneratedValue(generator = "neden_id")
+    @GenericGenerator(name = "neden_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "AtikNedenleri_SEQ"))
     @Column(name = "NedenID")
     private Integer nedenId;
     
     @Column(name = "Aciklama", length = 100)
     private String aciklama;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "neden", cascade = CascadeType.ALL)
     private List<Atik> atiklar;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        AtikNedeni diger = (AtikNedeni) o;
+        return getNedenId() != null && getNedenId().equals(diger.getNedenId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getNedenId());
+    }
 }
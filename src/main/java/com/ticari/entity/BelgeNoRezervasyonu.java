@@ -0,0 +1,52 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.util.Objects;
+
+/**
+ * Bir terminalin seri ve yıl için elinde tuttuğu numara bloğu: [Siradaki, Bitis).
+ * Blok alınırken Siradaki = Bitis yazılır, düzgün kapanışta kullanılmayan kısım geri yazılır.
+ * Terminal çökerse blok tüketilmiş sayılır; boşluk en fazla bir blok kadar olur.
+ */
+@Entity
+@Table(name = "BelgeNoRezervasyonlari")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BelgeNoRezervasyonu {
+    
+    @EmbeddedId
+    private BelgeNoRezervasyonuId id;
+    
+    @Column(name = "Siradaki", nullable = false)
+    private Long siradaki;
+    
+    @Column(name = "Bitis", nullable = false)
+    private Long bitis;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        BelgeNoRezervasyonu diger = (BelgeNoRezervasyonu) o;
+        return getId() != null && getId().equals(diger.getId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getId());
+    }
+}
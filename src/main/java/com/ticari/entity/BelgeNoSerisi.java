@@ -0,0 +1,48 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.util.Objects;
+
+/**
+ * Seri ve yıl başına verilmiş en büyük belge numarası. Terminaller bu satırdan tek tek değil
+ * blok blok numara ayırır; ayrılan bloklar {@link BelgeNoRezervasyonu} tablosunda tutulur.
+ */
+@Entity
+@Table(name = "BelgeNoSerileri")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BelgeNoSerisi {
+    
+    @EmbeddedId
+    private BelgeNoSerisiId id;
+    
+    @Column(name = "SonNumara", nullable = false)
+    private Long sonNumara = 0L;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        BelgeNoSerisi diger = (BelgeNoSerisi) o;
+        return getId() != null && getId().equals(diger.getId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getId());
+    }
+}
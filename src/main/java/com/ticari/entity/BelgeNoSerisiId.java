@@ -0,0 +1,22 @@
+package com.ticari.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BelgeNoSerisiId implements Serializable {
+    
+    @Column(name = "Seri", length = 3, nullable = false)
+    private String seri;
+    
+    @Column(name = "Yil", nullable = false)
+    private Integer yil;
+}
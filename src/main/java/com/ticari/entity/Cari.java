@@ -1,22 +1,35 @@
 package com.ticari.entity;
 
 import com.ticari.enums.CariTuru;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "Cariler")
-@Data
+@Table(name = "Cariler", indexes = @Index(name = "IX_Cariler_VergiNo", columnList = "VergiNo"))
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Cari {
     
     @Id
+    @GeneratedValue(generator = "cari_id")
+    @GenericGenerator(name = "cari_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Cariler_SEQ"))
     @Column(name = "CariID")
     private Integer cariId;
     
@@ -36,18 +49,40 @@ public class Cari {
     @Column(name = "GuncelBakiye", precision = 15, scale = 2)
     private BigDecimal guncelBakiye = BigDecimal.ZERO;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "cari", cascade = CascadeType.ALL)
     private List<Teklif> teklifler;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "cari", cascade = CascadeType.ALL)
     private List<Siparis> siparisler;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "cari", cascade = CascadeType.ALL)
     private List<Fatura> faturalar;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "cari", cascade = CascadeType.ALL)
     private List<CekSenet> cekSenetler;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "cari", cascade = CascadeType.ALL)
     private List<FinansHareketi> finansHareketleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Cari diger = (Cari) o;
+        return getCariId() != null && getCariId().equals(diger.getCariId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getCariId());
+    }
 }
@@ -3,27 +3,45 @@ package com.ticari.entity;
 import com.ticari.enums.CekSenetDurumu;
 import com.ticari.enums.CekSenetTuru;
 import com.ticari.enums.CekSenetYonu;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "CekSenetler")
-@Data
+@Table(name = "CekSenetler", indexes = {
+        @Index(name = "IX_CekSenetler_Durum_Vade", columnList = "Durum, VadeTarihi"),
+        @Index(name = "IX_CekSenetler_VadeTarihi", columnList = "VadeTarihi"),
+        @Index(name = "IX_CekSenetler_Cari", columnList = "CariID")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class CekSenet {
     
     @Id
+    @GeneratedValue(generator = "evrak_id")
+    @GenericGenerator(name = "evrak_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "CekSenetler_SEQ"))
     @Column(name = "EvrakID")
     private Integer evrakId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CariID")
     private Cari cari;
     
@@ -41,6 +59,16 @@ public class CekSenet {
     @Column(name = "Tutar", precision = 15, scale = 2, nullable = false)
     private BigDecimal tutar;
     
+    // Boşsa yerel para birimidir
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ParaBirimi")
+    private ParaBirimi paraBirimi;
+    
+    // Kayıttaki kur (nakit akışı tahmini); vadede işlenirken o günün kuru kullanılır
+    @Column(name = "Kur", precision = 18, scale = 6)
+    private BigDecimal kur;
+    
     @Enumerated(EnumType.STRING)
     @Column(name = "Durum", length = 20)
     private CekSenetDurumu durum = CekSenetDurumu.PORTFOYDE;
@@ -48,6 +76,30 @@ public class CekSenet {
     @Column(name = "BankaAdi", length = 50)
     private String bankaAdi;
     
+    // Tahsil edileceği / ödeneceği kasa-banka hesabı; nakit akışı tahmini bu hesaba yazılır
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "HesapID")
+    private KasaBanka hesap;
+    
+    @ToString.Exclude
     @OneToMany(mappedBy = "evrak", cascade = CascadeType.ALL)
     private List<FinansHareketi> finansHareketleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        CekSenet diger = (CekSenet) o;
+        return getEvrakId() != null && getEvrakId().equals(diger.getEvrakId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getEvrakId());
+    }
 }
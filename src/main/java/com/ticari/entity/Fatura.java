@@ -1,27 +1,56 @@
 package com.ticari.entity;
 
 import com.ticari.enums.FaturaTuru;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "Faturalar")
-@Data
+@Table(name = "Faturalar", indexes = {
+        @Index(name = "IX_Faturalar_FaturaTarihi", columnList = "FaturaTarihi"),
+        @Index(name = "IX_Faturalar_Tur_Tarih", columnList = "Tur, FaturaTarihi, GenelToplam"),
+        @Index(name = "IX_Faturalar_Cari_Tarih", columnList = "CariID, FaturaTarihi"),
+        @Index(name = "IX_Faturalar_FaturaNo", columnList = "FaturaNo")
+})
+@NamedEntityGraph(name = "Fatura.liste", attributeNodes = {
+        @NamedAttributeNode("cari"),
+        @NamedAttributeNode("paraBirimi")
+})
+@NamedEntityGraph(name = "Fatura.detay", attributeNodes = {
+        @NamedAttributeNode("cari"),
+        @NamedAttributeNode("paraBirimi"),
+        @NamedAttributeNode(value = "stokGirisCikislar", subgraph = "satir")
+}, subgraphs = @NamedSubgraph(name = "satir", attributeNodes = @NamedAttributeNode("urun")))
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Fatura {
     
     @Id
+    @GeneratedValue(generator = "fatura_id")
+    @GenericGenerator(name = "fatura_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Faturalar_SEQ"))
     @Column(name = "FaturaID")
     private Integer faturaId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CariID", nullable = false)
     private Cari cari;
     
@@ -41,16 +70,44 @@ public class Fatura {
     @Column(name = "Aciklama", length = 255)
     private String aciklama;
     
-    @ManyToOne
+    // Boşsa fatura tarihinde vadelidir
+    @Column(name = "VadeTarihi")
+    private LocalDate vadeTarihi;
+    
+    // Tahsil/ödeme bekleyen tutar (fatura para biriminde); kayıtta boşsa genel toplamdır
+    @Column(name = "KalanTutar", precision = 15, scale = 2)
+    private BigDecimal kalanTutar;
+    
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ParaBirimi")
     private ParaBirimi paraBirimi;
     
     @Column(name = "Kur", precision = 18, scale = 6)
     private BigDecimal kur = BigDecimal.ONE;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "fatura", cascade = CascadeType.ALL)
     private List<StokGirisCikis> stokGirisCikislar;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "fatura", cascade = CascadeType.ALL)
     private List<FaturaHizmetKalemi> hizmetKalemleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Fatura diger = (Fatura) o;
+        return getFaturaId() != null && getFaturaId().equals(diger.getFaturaId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getFaturaId());
+    }
 }
@@ -1,28 +1,44 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 @Entity
-@Table(name = "FaturaHizmetKalemleri")
-@Data
+@Table(name = "FaturaHizmetKalemleri",
+        indexes = @Index(name = "IX_FaturaHizmetKalemleri_Fatura", columnList = "FaturaID"))
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class FaturaHizmetKalemi {
     
     @Id
+    @GeneratedValue(generator = "kalem_id")
+    @GenericGenerator(name = "kalem_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "FaturaHizmetKalemleri_SEQ"))
     @Column(name = "KalemID")
     private Integer kalemId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "FaturaID", nullable = false)
     private Fatura fatura;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "HizmetID", nullable = false)
     private Hizmet hizmet;
     
@@ -32,10 +48,28 @@ public class FaturaHizmetKalemi {
     @Column(name = "Tutar", precision = 10, scale = 2)
     private BigDecimal tutar;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ParaBirimi")
     private ParaBirimi paraBirimi;
     
     @Column(name = "Kur", precision = 18, scale = 6)
     private BigDecimal kur = BigDecimal.ONE;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        FaturaHizmetKalemi diger = (FaturaHizmetKalemi) o;
+        return getKalemId() != null && getKalemId().equals(diger.getKalemId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getKalemId());
+    }
 }
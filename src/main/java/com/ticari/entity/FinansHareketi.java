@@ -1,38 +1,65 @@
 package com.ticari.entity;
 
 import com.ticari.enums.FinansIslemTuru;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
-@Table(name = "FinansHareketleri")
-@Data
+@Table(name = "FinansHareketleri", indexes = {
+        @Index(name = "IX_FinansHareketleri_Tarih", columnList = "Tarih"),
+        @Index(name = "IX_FinansHareketleri_Hesap_Tarih", columnList = "HesapID, Tarih"),
+        @Index(name = "IX_FinansHareketleri_Cari_Tarih", columnList = "CariID, Tarih"),
+        @Index(name = "IX_FinansHareketleri_IslemTuru_Tarih", columnList = "IslemTuru, Tarih")
+})
+@NamedEntityGraph(name = "FinansHareketi.ekstre", attributeNodes = {
+        @NamedAttributeNode("hesap"),
+        @NamedAttributeNode("evrak"),
+        @NamedAttributeNode("paraBirimi")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class FinansHareketi {
     
     @Id
+    @GeneratedValue(generator = "finans_hareket_id")
+    @GenericGenerator(name = "finans_hareket_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "FinansHareketleri_SEQ"))
     @Column(name = "HareketID")
     private Integer hareketId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "HesapID")
     private KasaBanka hesap;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CariID")
     private Cari cari;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "PersonelID")
     private Personel personel;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "EvrakID")
     private CekSenet evrak;
     
@@ -46,10 +73,28 @@ public class FinansHareketi {
     @Column(name = "Tarih")
     private LocalDateTime tarih = LocalDateTime.now();
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ParaBirimi")
     private ParaBirimi paraBirimi;
     
     @Column(name = "Kur", precision = 18, scale = 6)
     private BigDecimal kur = BigDecimal.ONE;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        FinansHareketi diger = (FinansHareketi) o;
+        return getHareketId() != null && getHareketId().equals(diger.getHareketId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getHareketId());
+    }
 }
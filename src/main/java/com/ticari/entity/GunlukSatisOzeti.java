@@ -0,0 +1,56 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Faturaların gün, fatura türü, kategori ve para birimi bazında önceden toplanmış tutarları.
+ * Satırlar FaturaService tarafından artımlı olarak güncellenir; grafikler faturaları değil bu tabloyu okur.
+ */
+@Entity
+@Table(name = "GunlukSatisOzetleri",
+        indexes = @Index(name = "IX_GunlukSatisOzetleri_Tur_Tarih", columnList = "Tur, Tarih, KategoriID, YerelTutar"))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class GunlukSatisOzeti {
+    
+    // Ürün satırlarına dağıtılamayan tutar (hizmet, KDV, yuvarlama) bu kategoriye yazılır
+    public static final int KATEGORISIZ = 0;
+    
+    @EmbeddedId
+    private GunlukSatisOzetiId id;
+    
+    @Column(name = "Tutar", precision = 15, scale = 2, nullable = false)
+    private BigDecimal tutar = BigDecimal.ZERO;
+    
+    @Column(name = "YerelTutar", precision = 15, scale = 2, nullable = false)
+    private BigDecimal yerelTutar = BigDecimal.ZERO;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        GunlukSatisOzeti diger = (GunlukSatisOzeti) o;
+        return getId() != null && getId().equals(diger.getId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getId());
+    }
+}
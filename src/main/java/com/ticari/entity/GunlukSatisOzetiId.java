@@ -0,0 +1,30 @@
+package com.ticari.entity;
+
+import com.ticari.enums.FaturaTuru;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GunlukSatisOzetiId implements Serializable {
+    
+    @Column(name = "Tarih", nullable = false)
+    private LocalDate tarih;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Tur", length = 10, nullable = false)
+    private FaturaTuru tur;
+    
+    @Column(name = "KategoriID", nullable = false)
+    private Integer kategoriId;
+    
+    @Column(name = "ParaBirimi", length = 3, nullable = false)
+    private String paraBirimi;
+}
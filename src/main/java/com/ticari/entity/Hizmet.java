@@ -1,21 +1,34 @@
 package com.ticari.entity;
 
 import com.ticari.enums.HizmetTuru;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "Hizmetler")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Hizmet {
     
     @Id
+    @GeneratedValue(generator = "hizmet_id")
+    @GenericGenerator(name = "hizmet_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Hizmetler_SEQ"))
     @Column(name = "HizmetID")
     private Integer hizmetId;
     
@@ -29,6 +42,24 @@ public class Hizmet {
     @Column(name = "KDVOrani")
     private Integer kdvOrani = 20;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "hizmet", cascade = CascadeType.ALL)
     private List<FaturaHizmetKalemi> faturaHizmetKalemleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Hizmet diger = (Hizmet) o;
+        return getHizmetId() != null && getHizmetId().equals(diger.getHizmetId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getHizmetId());
+    }
 }
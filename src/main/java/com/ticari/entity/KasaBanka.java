@@ -1,22 +1,35 @@
 package com.ticari.entity;
 
 import com.ticari.enums.HesapTuru;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "KasaBanka")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class KasaBanka {
     
     @Id
+    @GeneratedValue(generator = "hesap_id")
+    @GenericGenerator(name = "hesap_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "KasaBanka_SEQ"))
     @Column(name = "HesapID")
     private Integer hesapId;
     
@@ -30,6 +43,24 @@ public class KasaBanka {
     @Column(name = "Bakiye", precision = 15, scale = 2)
     private BigDecimal bakiye = BigDecimal.ZERO;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "hesap", cascade = CascadeType.ALL)
     private List<FinansHareketi> finansHareketleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        KasaBanka diger = (KasaBanka) o;
+        return getHesapId() != null && getHesapId().equals(diger.getHesapId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getHesapId());
+    }
 }
@@ -1,26 +1,57 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "Kategoriler")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Kategori {
     
     @Id
+    @GeneratedValue(generator = "kategori_id")
+    @GenericGenerator(name = "kategori_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Kategoriler_SEQ"))
     @Column(name = "KategoriID")
     private Integer kategoriId;
     
     @Column(name = "KategoriAd", length = 50, unique = true, nullable = false)
     private String kategoriAd;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "kategori", cascade = CascadeType.ALL)
     private List<Urun> urunler;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Kategori diger = (Kategori) o;
+        return getKategoriId() != null && getKategoriId().equals(diger.getKategoriId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getKategoriId());
+    }
 }
@@ -1,26 +1,42 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Entity
-@Table(name = "Kurlar")
-@Data
+@Table(name = "Kurlar", indexes = {
+        @Index(name = "IX_Kurlar_ParaKod_Tarih", columnList = "ParaKod, KurTarihi, KurID"),
+        @Index(name = "IX_Kurlar_KurTarihi", columnList = "KurTarihi")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Kur {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "kur_id")
+    @GenericGenerator(name = "kur_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Kurlar_SEQ"))
     @Column(name = "KurID")
     private Integer kurId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ParaKod")
     private ParaBirimi paraBirimi;
     
@@ -32,4 +48,21 @@ public class Kur {
     
     @Column(name = "Kaynak", length = 20)
     private String kaynak = "TCMB";
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Kur diger = (Kur) o;
+        return getKurId() != null && getKurId().equals(diger.getKurId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getKurId());
+    }
 }
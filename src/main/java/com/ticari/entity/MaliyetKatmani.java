@@ -0,0 +1,60 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * FIFO yönteminde bir giriş hareketinin henüz tüketilmemiş kısmı. Tamamen tüketilen katmanlar silinir.
+ */
+@Entity
+@Table(name = "MaliyetKatmanlari",
+        indexes = @Index(name = "IX_MaliyetKatmanlari_Urun_Tarih", columnList = "UrunID, Tarih, HareketID"))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaliyetKatmani {
+    
+    @Id
+    @Column(name = "HareketID")
+    private Integer hareketId;
+    
+    @Column(name = "UrunID", nullable = false)
+    private Integer urunId;
+    
+    @Column(name = "Tarih", nullable = false)
+    private LocalDateTime tarih;
+    
+    @Column(name = "KalanMiktar", nullable = false)
+    private Integer kalanMiktar;
+    
+    @Column(name = "KalanMaliyet", precision = 15, scale = 2, nullable = false)
+    private BigDecimal kalanMaliyet;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        MaliyetKatmani diger = (MaliyetKatmani) o;
+        return getHareketId() != null && getHareketId().equals(diger.getHareketId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getHareketId());
+    }
+}
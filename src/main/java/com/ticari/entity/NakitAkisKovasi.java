@@ -0,0 +1,57 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Bekleyen çek/senet ve açık fatura bakiyelerinin vade günü, kasa-banka hesabı ve kaynak bazında
+ * yerel para birimindeki giriş/çıkış toplamları. Satırlar belgeler kaydedildikçe ya da durumları
+ * değiştikçe artımlı güncellenir; nakit akışı tahmini belgeleri değil bu tabloyu okur.
+ */
+@Entity
+@Table(name = "NakitAkisKovalari",
+        indexes = @Index(name = "IX_NakitAkisKovalari_Tarih", columnList = "Tarih"))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class NakitAkisKovasi {
+    
+    // Hesabı belli olmayan belgeler (faturalar, hesabı seçilmemiş çekler) bu hesaba yazılır
+    public static final int ATANMAMIS_HESAP = 0;
+    
+    @EmbeddedId
+    private NakitAkisKovasiId id;
+    
+    @Column(name = "Giris", precision = 15, scale = 2, nullable = false)
+    private BigDecimal giris = BigDecimal.ZERO;
+    
+    @Column(name = "Cikis", precision = 15, scale = 2, nullable = false)
+    private BigDecimal cikis = BigDecimal.ZERO;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        NakitAkisKovasi diger = (NakitAkisKovasi) o;
+        return getId() != null && getId().equals(diger.getId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getId());
+    }
+}
@@ -0,0 +1,27 @@
+package com.ticari.entity;
+
+import com.ticari.enums.NakitAkisKaynagi;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NakitAkisKovasiId implements Serializable {
+    
+    @Column(name = "Tarih", nullable = false)
+    private LocalDate tarih;
+    
+    @Column(name = "HesapID", nullable = false)
+    private Integer hesapId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Kaynak", length = 10, nullable = false)
+    private NakitAkisKaynagi kaynak;
+}
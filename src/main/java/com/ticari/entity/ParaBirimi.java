@@ -2,14 +2,20 @@ package com.ticari.entity;
 
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "ParaBirimleri")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class ParaBirimi {
@@ -24,18 +30,40 @@ public class ParaBirimi {
     @Column(name = "Sembol", length = 5)
     private String sembol;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "paraBirimi", cascade = CascadeType.ALL)
     private List<Kur> kurlar;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "paraBirimi", cascade = CascadeType.ALL)
     private List<Fatura> faturalar;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "paraBirimi", cascade = CascadeType.ALL)
     private List<StokGirisCikis> stokHareketleri;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "paraBirimi", cascade = CascadeType.ALL)
     private List<FaturaHizmetKalemi> faturaHizmetKalemleri;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "paraBirimi", cascade = CascadeType.ALL)
     private List<FinansHareketi> finansHareketleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        ParaBirimi diger = (ParaBirimi) o;
+        return getParaKod() != null && getParaKod().equals(diger.getParaKod());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getParaKod());
+    }
 }
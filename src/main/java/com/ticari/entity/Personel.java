@@ -1,22 +1,35 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "Personeller")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Personel {
     
     @Id
+    @GeneratedValue(generator = "personel_id")
+    @GenericGenerator(name = "personel_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Personeller_SEQ"))
     @Column(name = "PersonelID")
     private Integer personelId;
     
@@ -35,6 +48,24 @@ public class Personel {
     @Column(name = "AktifMi")
     private Boolean aktifMi = true;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "personel", cascade = CascadeType.ALL)
     private List<FinansHareketi> finansHareketleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Personel diger = (Personel) o;
+        return getPersonelId() != null && getPersonelId().equals(diger.getPersonelId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getPersonelId());
+    }
 }
@@ -1,30 +1,53 @@
 package com.ticari.entity;
 
 import com.ticari.enums.SiparisDurumu;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "Siparisler")
-@Data
+@Table(name = "Siparisler", indexes = {
+        @Index(name = "IX_Siparisler_Cari_Tarih", columnList = "CariID, SiparisTarihi"),
+        @Index(name = "IX_Siparisler_SiparisTarihi", columnList = "SiparisTarihi"),
+        @Index(name = "IX_Siparisler_Teklif", columnList = "TeklifID"),
+        @Index(name = "IX_Siparisler_Durum", columnList = "Durum")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Siparis {
     
     @Id
+    @GeneratedValue(generator = "siparis_id")
+    @GenericGenerator(name = "siparis_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Siparisler_SEQ"))
     @Column(name = "SiparisID")
     private Integer siparisId;
     
-    @ManyToOne
+    @Column(name = "SiparisNo", length = 20)
+    private String siparisNo;
+    
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "TeklifID")
     private Teklif teklif;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CariID", nullable = false)
     private Cari cari;
     
@@ -35,6 +58,24 @@ public class Siparis {
     @Column(name = "Durum", length = 20)
     private SiparisDurumu durum = SiparisDurumu.HAZIRLANIYOR;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "siparis", cascade = CascadeType.ALL)
     private List<StokGirisCikis> stokHareketleri;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Siparis diger = (Siparis) o;
+        return getSiparisId() != null && getSiparisId().equals(diger.getSiparisId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getSiparisId());
+    }
 }
@@ -0,0 +1,51 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.util.Objects;
+
+/**
+ * Bir ürünün dönem sonundaki (Tarih günü bitiminde) stok miktarı. Yalnızca dönem içinde
+ * hareketi olan ürünler için satır yazılır; bir tarihteki stok, o tarihten önceki son
+ * görüntü ile sonrasındaki hareketlerin toplamıdır.
+ */
+@Entity
+// Son görüntü ürün başına aranır; birincil anahtarın kolon sırasından bağımsız olarak (UrunID, Tarih) indeksi
+@Table(name = "StokAnlikGoruntuleri",
+        indexes = @Index(name = "IX_StokAnlikGoruntuleri_Urun_Tarih", columnList = "UrunID, Tarih"))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StokAnlikGoruntusu {
+    
+    @EmbeddedId
+    private StokAnlikGoruntusuId id;
+    
+    @Column(name = "Miktar", nullable = false)
+    private Integer miktar;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        StokAnlikGoruntusu diger = (StokAnlikGoruntusu) o;
+        return getId() != null && getId().equals(diger.getId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getId());
+    }
+}
@@ -0,0 +1,23 @@
+package com.ticari.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StokAnlikGoruntusuId implements Serializable {
+    
+    @Column(name = "UrunID", nullable = false)
+    private Integer urunId;
+    
+    @Column(name = "Tarih", nullable = false)
+    private LocalDate tarih;
+}
@@ -1,34 +1,59 @@
 package com.ticari.entity;
 
 import com.ticari.enums.StokIslemTuru;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
-@Table(name = "StokGirisCikis")
-@Data
+@Table(name = "StokGirisCikis", indexes = {
+        @Index(name = "IX_StokGirisCikis_Urun_Tarih", columnList = "UrunID, Tarih"),
+        @Index(name = "IX_StokGirisCikis_Fatura", columnList = "FaturaID"),
+        @Index(name = "IX_StokGirisCikis_Tarih", columnList = "Tarih"),
+        @Index(name = "IX_StokGirisCikis_IslemTuru_Tarih", columnList = "IslemTuru, Tarih")
+})
+@NamedEntityGraph(name = "StokGirisCikis.hareket", attributeNodes = {
+        @NamedAttributeNode("urun"),
+        @NamedAttributeNode("fatura")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class StokGirisCikis {
     
     @Id
+    @GeneratedValue(generator = "stok_hareket_id")
+    @GenericGenerator(name = "stok_hareket_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "StokGirisCikis_SEQ"))
     @Column(name = "HareketID")
     private Integer hareketId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "FaturaID", nullable = false)
     private Fatura fatura;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "UrunID", nullable = false)
     private Urun urun;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "SiparisID")
     private Siparis siparis;
     
@@ -45,10 +70,32 @@ public class StokGirisCikis {
     @Column(name = "Tarih")
     private LocalDateTime tarih = LocalDateTime.now();
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ParaBirimi")
     private ParaBirimi paraBirimi;
     
     @Column(name = "Kur", precision = 18, scale = 6)
     private BigDecimal kur = BigDecimal.ONE;
+    
+    // Yerel para biriminde: girişte alış maliyeti, çıkışta satılan malın maliyeti
+    @Column(name = "Maliyet", precision = 15, scale = 2)
+    private BigDecimal maliyet;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        StokGirisCikis diger = (StokGirisCikis) o;
+        return getHareketId() != null && getHareketId().equals(diger.getHareketId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getHareketId());
+    }
 }
@@ -0,0 +1,52 @@
+package com.ticari.entity;
+
+import com.ticari.enums.StokGoruntuPeriyodu;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Stok anlık görüntülerinin hangi döneme kadar yazıldığı. Sonraki dönemler için stok
+ * son görüntü ve hareketlerden hesaplanır.
+ */
+@Entity
+@Table(name = "StokGoruntuDurumu")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StokGoruntuDurumu {
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Periyot", length = 10)
+    private StokGoruntuPeriyodu periyot;
+    
+    @Column(name = "SonKapanan", nullable = false)
+    private LocalDate sonKapanan;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        StokGoruntuDurumu diger = (StokGoruntuDurumu) o;
+        return getPeriyot() != null && getPeriyot().equals(diger.getPeriyot());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getPeriyot());
+    }
+}
@@ -1,28 +1,54 @@
 package com.ticari.entity;
 
 import com.ticari.enums.TeklifDurumu;
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "Teklifler")
-@Data
+@Table(name = "Teklifler", indexes = {
+        @Index(name = "IX_Teklifler_Cari_Tarih", columnList = "CariID, TeklifTarihi"),
+        @Index(name = "IX_Teklifler_TeklifTarihi", columnList = "TeklifTarihi"),
+        @Index(name = "IX_Teklifler_Durum", columnList = "Durum, TeklifID")
+})
+@NamedEntityGraph(name = "Teklif.liste", attributeNodes = @NamedAttributeNode("cari"))
+@NamedEntityGraph(name = "Teklif.detay", attributeNodes = {
+        @NamedAttributeNode("cari"),
+        @NamedAttributeNode(value = "teklifDetaylari", subgraph = "satir")
+}, subgraphs = @NamedSubgraph(name = "satir", attributeNodes = @NamedAttributeNode("urun")))
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Teklif {
     
     @Id
+    @GeneratedValue(generator = "teklif_id")
+    @GenericGenerator(name = "teklif_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Teklifler_SEQ"))
     @Column(name = "TeklifID")
     private Integer teklifId;
     
-    @ManyToOne
+    @Column(name = "TeklifNo", length = 20)
+    private String teklifNo;
+    
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "CariID", nullable = false)
     private Cari cari;
     
@@ -39,9 +65,28 @@ public class Teklif {
     @Column(name = "ToplamTutar", precision = 15, scale = 2)
     private BigDecimal toplamTutar;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "teklif", cascade = CascadeType.ALL)
     private List<TeklifDetay> teklifDetaylari;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "teklif", cascade = CascadeType.ALL)
     private List<Siparis> siparisler;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Teklif diger = (Teklif) o;
+        return getTeklifId() != null && getTeklifId().equals(diger.getTeklifId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getTeklifId());
+    }
 }
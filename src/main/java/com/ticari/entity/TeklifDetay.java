@@ -1,28 +1,44 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
+import java.util.Objects;
 
 @Entity
-@Table(name = "TeklifDetaylari")
-@Data
+@Table(name = "TeklifDetaylari",
+        indexes = @Index(name = "IX_TeklifDetaylari_Teklif", columnList = "TeklifID, DetayID"))
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class TeklifDetay {
     
     @Id
+    @GeneratedValue(generator = "detay_id")
+    @GenericGenerator(name = "detay_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "TeklifDetaylari_SEQ"))
     @Column(name = "DetayID")
     private Integer detayId;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "TeklifID", nullable = false)
     private Teklif teklif;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "UrunID")
     private Urun urun;
     
@@ -31,4 +47,21 @@ public class TeklifDetay {
     
     @Column(name = "BirimFiyat", precision = 10, scale = 2)
     private BigDecimal birimFiyat;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        TeklifDetay diger = (TeklifDetay) o;
+        return getDetayId() != null && getDetayId().equals(diger.getDetayId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getDetayId());
+    }
 }
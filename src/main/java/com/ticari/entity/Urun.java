@@ -1,28 +1,46 @@
 package com.ticari.entity;
 
+import com.ticari.config.BlokluSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
-@Table(name = "Urunler")
-@Data
+@Table(name = "Urunler", indexes = {
+        @Index(name = "IX_Urunler_KritikStokta", columnList = "KritikStokta"),
+        @Index(name = "IX_Urunler_Kategori", columnList = "KategoriID")
+})
+@NamedEntityGraph(name = "Urun.liste", attributeNodes = @NamedAttributeNode("kategori"))
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 public class Urun {
     
     @Id
+    @GeneratedValue(generator = "urun_id")
+    @GenericGenerator(name = "urun_id", type = BlokluSequenceGenerator.class,
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "Urunler_SEQ"))
     @Column(name = "UrunID")
     private Integer urunId;
     
     @Column(name = "UrunAd", length = 100, nullable = false)
     private String urunAd;
     
-    @ManyToOne
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "KategoriID", nullable = false)
     private Kategori kategori;
     
@@ -35,12 +53,46 @@ public class Urun {
     @Column(name = "MevcutStokMiktari")
     private Integer mevcutStokMiktari = 0;
     
+    // Stok minimumun altında mı; iki kolonu karşılaştıran sorgu indeks kullanamadığından saklanır
+    @Column(name = "KritikStokta")
+    private Boolean kritikStokta = false;
+    
+    @ToString.Exclude
     @OneToMany(mappedBy = "urun", cascade = CascadeType.ALL)
     private List<TeklifDetay> teklifDetaylari;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "urun", cascade = CascadeType.ALL)
     private List<StokGirisCikis> stokHareketleri;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "urun", cascade = CascadeType.ALL)
     private List<Atik> atiklar;
+    
+    @PrePersist
+    @PreUpdate
+    void kritikStokHesapla() {
+        kritikStokta = kritikMi(mevcutStokMiktari, minimumStokSeviyesi);
+    }
+    
+    public static boolean kritikMi(Integer mevcutStok, Integer minimumStok) {
+        return mevcutStok != null && minimumStok != null && mevcutStok < minimumStok;
+    }
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        Urun diger = (Urun) o;
+        return getUrunId() != null && getUrunId().equals(diger.getUrunId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getUrunId());
+    }
 }
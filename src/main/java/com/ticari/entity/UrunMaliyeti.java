@@ -0,0 +1,73 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Bir ürünün maliyetlendirilmiş stok pozisyonu: eldeki miktar ve yerel para birimindeki toplam
+ * maliyeti. Son uygulanan hareket, sonradan gelen bir hareketin geriye tarihli olup olmadığını
+ * anlamak için tutulur; geriye tarihli hareket ürünü {@code gecersiz} yapar ve pozisyon
+ * hareketlerden yeniden hesaplanana kadar öyle kalır.
+ */
+@Entity
+@Table(name = "UrunMaliyetleri",
+        indexes = @Index(name = "IX_UrunMaliyetleri_Gecersiz", columnList = "Gecersiz"))
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class UrunMaliyeti {
+    
+    @Id
+    @Column(name = "UrunID")
+    private Integer urunId;
+    
+    @Column(name = "Miktar", nullable = false)
+    private Integer miktar = 0;
+    
+    @Column(name = "Maliyet", precision = 15, scale = 2, nullable = false)
+    private BigDecimal maliyet = BigDecimal.ZERO;
+    
+    // Stok yetersiz çıkışlarda eksik miktar son girişin birim maliyetiyle değerlenir
+    @Column(name = "SonGirisMiktar", nullable = false)
+    private Integer sonGirisMiktar = 0;
+    
+    @Column(name = "SonGirisMaliyet", precision = 15, scale = 2, nullable = false)
+    private BigDecimal sonGirisMaliyet = BigDecimal.ZERO;
+    
+    @Column(name = "SonHareketTarihi")
+    private LocalDateTime sonHareketTarihi;
+    
+    @Column(name = "SonHareketID")
+    private Integer sonHareketId;
+    
+    @Column(name = "Gecersiz", nullable = false)
+    private Boolean gecersiz = false;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        UrunMaliyeti diger = (UrunMaliyeti) o;
+        return getUrunId() != null && getUrunId().equals(diger.getUrunId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getUrunId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.ticari.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Bir ürünün günlük çıkış hızı: günlük çıkış miktarlarının üstel ağırlıklı ortalaması ve
+ * varyansı, {@code sonGun} dahil olmak üzere. Güvenlik stoğu ve yeniden sipariş noktası bu
+ * değerlerden hesaplanıp saklanır; tedarikçi ürünün son alış faturasının carisidir.
+ */
+@Entity
+@Table(name = "UrunTuketimleri")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class UrunTuketimi {
+    
+    @Id
+    @Column(name = "UrunID")
+    private Integer urunId;
+    
+    @Column(name = "GunlukOrtalama", nullable = false)
+    private Double gunlukOrtalama;
+    
+    @Column(name = "GunlukVaryans", nullable = false)
+    private Double gunlukVaryans;
+    
+    @Column(name = "SonGun", nullable = false)
+    private LocalDate sonGun;
+    
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "TedarikciID")
+    private Cari tedarikci;
+    
+    @Column(name = "GuvenlikStogu", nullable = false)
+    private Integer guvenlikStogu;
+    
+    @Column(name = "YenidenSiparisNoktasi", nullable = false)
+    private Integer yenidenSiparisNoktasi;
+    
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClassLazy(this) != Hibernate.getClassLazy(o)) {
+            return false;
+        }
+        UrunTuketimi diger = (UrunTuketimi) o;
+        return getUrunId() != null && getUrunId().equals(diger.getUrunId());
+    }
+    
+    @Override
+    public final int hashCode() {
+        return Objects.hashCode(getUrunId());
+    }
+}
@@ -4,5 +4,6 @@ public enum FinansIslemTuru {
     TAHSILAT,
     ODEME,
     MAAS,
-    CEK_TAHSILATI
+    CEK_TAHSILATI,
+    CEK_ODEMESI
 }
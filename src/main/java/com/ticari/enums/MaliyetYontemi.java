@@ -0,0 +1,11 @@
+package com.ticari.enums;
+
+/**
+ * Stok çıkışlarının maliyetlendirme yöntemi.
+ */
+public enum MaliyetYontemi {
+    /** İlk giren ilk çıkar; her giriş ayrı bir katmandır. */
+    FIFO,
+    /** Hareketli ağırlıklı ortalama. */
+    ORTALAMA
+}
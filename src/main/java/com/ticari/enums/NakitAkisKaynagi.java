@@ -0,0 +1,7 @@
+package com.ticari.enums;
+
+public enum NakitAkisKaynagi {
+    CEK_SENET,
+    FATURA,
+    MAAS
+}
@@ -0,0 +1,30 @@
+package com.ticari.enums;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Stok anlık görüntülerinin hangi aralıkla yazılacağı.
+ */
+public enum StokGoruntuPeriyodu {
+    GUNLUK,
+    AYLIK;
+
+    /**
+     * Tarihin içinde bulunduğu dönemin son günü.
+     */
+    public LocalDate donemSonu(LocalDate tarih) {
+        return this == GUNLUK ? tarih : tarih.with(TemporalAdjusters.lastDayOfMonth());
+    }
+
+    public LocalDate sonrakiDonemSonu(LocalDate donemSonu) {
+        return donemSonu(donemSonu.plusDays(1));
+    }
+
+    /**
+     * Bugün itibarıyla tamamlanmış son dönemin son günü.
+     */
+    public LocalDate tamamlanmisSonDonem(LocalDate bugun) {
+        return this == GUNLUK ? bugun.minusDays(1) : bugun.withDayOfMonth(1).minusDays(1);
+    }
+}
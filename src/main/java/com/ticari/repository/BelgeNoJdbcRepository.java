@@ -0,0 +1,88 @@
+package com.ticari.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BelgeNoSerileri ve BelgeNoRezervasyonlari tabloları. Seri satırı yalnızca blok ayrılırken,
+ * kısa bir transaction içinde güncellenir; tek tek numaralar bu sınıfa hiç gelmez.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BelgeNoJdbcRepository {
+
+    private static final String SERI_ILERLET_SQL =
+            "UPDATE BelgeNoSerileri SET SonNumara = SonNumara + ? WHERE Seri = ? AND Yil = ?";
+    private static final String SERI_EKLE_SQL =
+            "INSERT INTO BelgeNoSerileri (SonNumara, Seri, Yil) VALUES (?, ?, ?)";
+    private static final String SERI_OKU_SQL =
+            "SELECT SonNumara FROM BelgeNoSerileri WHERE Seri = ? AND Yil = ?";
+
+    private static final String REZERVASYON_OKU_SQL =
+            "SELECT Siradaki, Bitis FROM BelgeNoRezervasyonlari WHERE Seri = ? AND Yil = ? AND Terminal = ?";
+    private static final String REZERVASYON_SAHIPLEN_SQL =
+            "UPDATE BelgeNoRezervasyonlari SET Siradaki = Bitis "
+            + "WHERE Seri = ? AND Yil = ? AND Terminal = ? AND Siradaki = ? AND Bitis = ?";
+    private static final String REZERVASYON_GUNCELLE_SQL =
+            "UPDATE BelgeNoRezervasyonlari SET Siradaki = ?, Bitis = ? WHERE Seri = ? AND Yil = ? AND Terminal = ?";
+    private static final String REZERVASYON_EKLE_SQL =
+            "INSERT INTO BelgeNoRezervasyonlari (Siradaki, Bitis, Seri, Yil, Terminal) VALUES (?, ?, ?, ?, ?)";
+    private static final String REZERVASYON_IADE_SQL =
+            "UPDATE BelgeNoRezervasyonlari SET Siradaki = ? "
+            + "WHERE Seri = ? AND Yil = ? AND Terminal = ? AND Siradaki = Bitis AND Bitis = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Seriyi {@code boyut} kadar ilerletir ve ayrılan bloğun ilk numarasını döner.
+     * Çağıran transaction açık olmalıdır; satır kilidi commit'e kadar tutulur.
+     */
+    public long blokAyir(String seri, int yil, int boyut) {
+        if (jdbcTemplate.update(SERI_ILERLET_SQL, boyut, seri, yil) == 0) {
+            try {
+                jdbcTemplate.update(SERI_EKLE_SQL, boyut, seri, yil);
+            } catch (DuplicateKeyException e) {
+                // Seriyi aynı anda başka bir terminal açtı
+                jdbcTemplate.update(SERI_ILERLET_SQL, boyut, seri, yil);
+            }
+        }
+        Long son = jdbcTemplate.queryForObject(SERI_OKU_SQL, Long.class, seri, yil);
+        return son - boyut + 1;
+    }
+
+    /**
+     * Terminalin önceki oturumdan geri verdiği blok varsa onu tüketilmiş olarak işaretleyip
+     * {@code [siradaki, bitis)} olarak döner.
+     */
+    public Optional<long[]> rezervasyonuSahiplen(String seri, int yil, String terminal) {
+        List<long[]> satirlar = jdbcTemplate.query(REZERVASYON_OKU_SQL,
+                (rs, i) -> new long[] { rs.getLong(1), rs.getLong(2) }, seri, yil, terminal);
+        if (satirlar.isEmpty() || satirlar.get(0)[0] >= satirlar.get(0)[1]) {
+            return Optional.empty();
+        }
+        long[] blok = satirlar.get(0);
+        int sahiplenilen = jdbcTemplate.update(REZERVASYON_SAHIPLEN_SQL, seri, yil, terminal, blok[0], blok[1]);
+        return sahiplenilen == 1 ? Optional.of(blok) : Optional.empty();
+    }
+
+    /**
+     * Yeni bloğu terminal adına tamamen tüketilmiş olarak kaydeder.
+     */
+    public void rezervasyonYaz(String seri, int yil, String terminal, long bitis) {
+        if (jdbcTemplate.update(REZERVASYON_GUNCELLE_SQL, bitis, bitis, seri, yil, terminal) == 0) {
+            jdbcTemplate.update(REZERVASYON_EKLE_SQL, bitis, bitis, seri, yil, terminal);
+        }
+    }
+
+    /**
+     * Kullanılmayan {@code [siradaki, bitis)} aralığını bir sonraki oturum için geri yazar.
+     */
+    public void rezervasyonIade(String seri, int yil, String terminal, long siradaki, long bitis) {
+        jdbcTemplate.update(REZERVASYON_IADE_SQL, siradaki, seri, yil, terminal, bitis);
+    }
+}
@@ -2,9 +2,16 @@ package com.ticari.repository;
 
 import com.ticari.entity.Cari;
 import com.ticari.enums.CariTuru;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,5 +20,23 @@ public interface CariRepository extends JpaRepository<Cari, Integer> {
     Optional<Cari> findByCariKod(String cariKod);
     List<Cari> findByTur(CariTuru tur);
     List<Cari> findByUnvanContainingIgnoreCase(String unvan);
+    List<Cari> findByUnvanContainingIgnoreCase(String unvan, Pageable pageable);
+    List<Cari> findByCariIdIn(Collection<Integer> cariIdler);
     Optional<Cari> findByVergiNo(String vergiNo);
+    Slice<Cari> findAllBy(Pageable pageable);
+    
+    // Bakiye farkı satırı yüklemeden veritabanında uygulanır (read-modify-write yok); ardından bağlam
+    // temizlenir ki aynı işlemde önceden yüklenmiş varlık eski bakiyeyi göstermesin ya da geri yazmasın
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Cari c SET c.guncelBakiye = COALESCE(c.guncelBakiye, 0) + :tutar WHERE c.cariId = :cariId")
+    int bakiyeEkle(@Param("cariId") Integer cariId, @Param("tutar") BigDecimal tutar);
+    
+    @Query("SELECT c.guncelBakiye FROM Cari c WHERE c.cariId = :cariId")
+    Optional<BigDecimal> bakiyeGetir(@Param("cariId") Integer cariId);
+    
+    @Query("SELECT COALESCE(SUM(c.guncelBakiye), 0) FROM Cari c WHERE c.guncelBakiye > 0")
+    BigDecimal toplamAlacak();
+    
+    @Query("SELECT COALESCE(SUM(-c.guncelBakiye), 0) FROM Cari c WHERE c.guncelBakiye < 0")
+    BigDecimal toplamBorc();
 }
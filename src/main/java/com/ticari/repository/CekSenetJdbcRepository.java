@@ -0,0 +1,128 @@
+package com.ticari.repository;
+
+import com.ticari.enums.CekSenetYonu;
+import com.ticari.enums.FinansIslemTuru;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vadesi gelen çek/senetlerin toplu işlenmesi için JDBC işlemleri. Durum değişikliği okunan
+ * evrakların kimlikleriyle yapılır, okumadan sonra vadesi gelen ya da hesaba bağlanan evrak
+ * güncellemeye karışmaz; finans hareketleri batch ile eklenir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CekSenetJdbcRepository {
+
+    private static final int BATCH_BOYUTU = 500;
+    private static final String HAREKET_SEKANSI = "FinansHareketleri_SEQ";
+
+    // Hesabı belli olmayan evraklar elle işlenir
+    private static final String VADESI_GELENLER_SQL =
+            "SELECT EvrakID, HesapID, CariID, Yon, VadeTarihi, Tutar, ParaBirimi, Kur FROM CekSenetler "
+            + "WHERE Durum = 'PORTFOYDE' AND VadeTarihi <= ? AND HesapID IS NOT NULL AND Yon IS NOT NULL "
+            + "ORDER BY HesapID, EvrakID";
+
+    private static final String TAHSIL_EDILDI_SQL =
+            "UPDATE CekSenetler SET Durum = 'TAHSIL_EDILDI' WHERE Durum = 'PORTFOYDE' AND EvrakID IN (%s)";
+
+    // SQL Server tek sorguda en fazla 2100 parametre kabul eder
+    private static final int IN_BOYUTU = 1000;
+
+    private static final String HAREKET_EKLE_SQL =
+            "INSERT INTO FinansHareketleri (HareketID, HesapID, CariID, EvrakID, IslemTuru, Tutar, Tarih, ParaBirimi, Kur) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlokAyirici idBlokAyirici;
+
+    /**
+     * @param paraKod   boşsa yerel para birimi
+     * @param belgeKuru evrak kaydedilirken yazılan kur; nakit akışı tahmini bununla hesaplanmıştır
+     */
+    public record VadesiGelen(int evrakId, int hesapId, Integer cariId, CekSenetYonu yon, LocalDate vadeTarihi,
+                              BigDecimal tutar, String paraKod, BigDecimal belgeKuru) {
+
+        /**
+         * Verilen kurla hesap bakiyesine etkisi, yerel para biriminde: alınan evrak giriş, verilen evrak çıkış.
+         */
+        public BigDecimal bakiyeEtkisi(BigDecimal kur) {
+            BigDecimal yerel = tutar.multiply(kur).setScale(2, RoundingMode.HALF_UP);
+            return yon == CekSenetYonu.GIRIS ? yerel : yerel.negate();
+        }
+
+        /**
+         * Nakit akışı tahminindeki yerel tutarı; {@link NakitAkisJdbcRepository} ile aynı hesaplanır.
+         */
+        public BigDecimal tahminTutari() {
+            return tutar.multiply(belgeKuru != null ? belgeKuru : BigDecimal.ONE).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * {@code tarih} dahil vadesi gelmiş, portföydeki tüm evraklar; hesap ve evrak sırasıyla.
+     */
+    public List<VadesiGelen> vadesiGelenler(LocalDate tarih) {
+        return jdbcTemplate.query(VADESI_GELENLER_SQL, (rs, i) -> new VadesiGelen(
+                rs.getInt(1),
+                rs.getInt(2),
+                rs.getObject(3, Integer.class),
+                CekSenetYonu.valueOf(rs.getString(4)),
+                rs.getDate(5).toLocalDate(),
+                rs.getBigDecimal(6),
+                rs.getString(7),
+                rs.getBigDecimal(8)), Date.valueOf(tarih));
+    }
+
+    /**
+     * Verilen evraklardan hâlâ portföyde olanları tahsil edildi yapar; güncellenen satır sayısını döner.
+     */
+    public int tahsilEdildiIsaretle(List<Integer> evrakIdler) {
+        int guncellenen = 0;
+        for (int i = 0; i < evrakIdler.size(); i += IN_BOYUTU) {
+            List<Integer> parca = evrakIdler.subList(i, Math.min(i + IN_BOYUTU, evrakIdler.size()));
+            String yerTutucular = String.join(", ", Collections.nCopies(parca.size(), "?"));
+            guncellenen += jdbcTemplate.update(TAHSIL_EDILDI_SQL.formatted(yerTutucular), parca.toArray());
+        }
+        return guncellenen;
+    }
+
+    /**
+     * Her evrak için vade gününe tarihli bir finans hareketi ekler: alınanlar için
+     * {@link FinansIslemTuru#CEK_TAHSILATI}, verilenler için {@link FinansIslemTuru#CEK_ODEMESI}.
+     * Tutar evrakın para birimindedir; kur {@code kurlar}'dan evrak kimliğiyle alınır.
+     */
+    public void hareketleriEkle(List<VadesiGelen> evraklar, Map<Integer, BigDecimal> kurlar) {
+        jdbcTemplate.batchUpdate(HAREKET_EKLE_SQL, evraklar, BATCH_BOYUTU, (ps, evrak) -> {
+            ps.setInt(1, idBlokAyirici.sonraki(HAREKET_SEKANSI));
+            ps.setInt(2, evrak.hesapId());
+            if (evrak.cariId() != null) {
+                ps.setInt(3, evrak.cariId());
+            } else {
+                ps.setNull(3, Types.INTEGER);
+            }
+            ps.setInt(4, evrak.evrakId());
+            ps.setString(5, (evrak.yon() == CekSenetYonu.GIRIS
+                    ? FinansIslemTuru.CEK_TAHSILATI : FinansIslemTuru.CEK_ODEMESI).name());
+            ps.setBigDecimal(6, evrak.tutar());
+            ps.setTimestamp(7, Timestamp.valueOf(evrak.vadeTarihi().atStartOfDay()));
+            if (evrak.paraKod() != null) {
+                ps.setString(8, evrak.paraKod());
+            } else {
+                ps.setNull(8, Types.VARCHAR);
+            }
+            ps.setBigDecimal(9, kurlar.get(evrak.evrakId()));
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.ticari.repository;
+
+import com.ticari.entity.Fatura;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Toplu fatura kaydı için JDBC batch ekleme. Kimlikler Hibernate ile aynı sekans bloklarından verilir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FaturaJdbcRepository {
+
+    private static final int BATCH_BOYUTU = 500;
+    private static final String FATURA_SEKANSI = "Faturalar_SEQ";
+
+    private static final String FATURA_EKLE_SQL =
+            "INSERT INTO Faturalar (FaturaID, CariID, FaturaTarihi, FaturaNo, Tur, GenelToplam, Aciklama, "
+            + "ParaBirimi, Kur, VadeTarihi, KalanTutar) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlokAyirici idBlokAyirici;
+
+    /**
+     * Faturaları ekler; kimliği ve tarihi olmayanlara verilir. Satırlar eklenmez.
+     */
+    public void faturalariEkle(List<Fatura> faturalar) {
+        for (Fatura fatura : faturalar) {
+            if (fatura.getFaturaId() == null) {
+                fatura.setFaturaId(idBlokAyirici.sonraki(FATURA_SEKANSI));
+            }
+            if (fatura.getFaturaTarihi() == null) {
+                fatura.setFaturaTarihi(LocalDateTime.now());
+            }
+        }
+        jdbcTemplate.batchUpdate(FATURA_EKLE_SQL, faturalar, BATCH_BOYUTU, (ps, fatura) -> {
+            ps.setInt(1, fatura.getFaturaId());
+            ps.setInt(2, fatura.getCari().getCariId());
+            ps.setTimestamp(3, Timestamp.valueOf(fatura.getFaturaTarihi()));
+            ps.setString(4, fatura.getFaturaNo());
+            ps.setString(5, fatura.getTur().name());
+            ps.setBigDecimal(6, fatura.getGenelToplam());
+            ps.setString(7, fatura.getAciklama());
+            if (fatura.getParaBirimi() != null) {
+                ps.setString(8, fatura.getParaBirimi().getParaKod());
+            } else {
+                ps.setNull(8, Types.VARCHAR);
+            }
+            ps.setBigDecimal(9, fatura.getKur());
+            if (fatura.getVadeTarihi() != null) {
+                ps.setDate(10, Date.valueOf(fatura.getVadeTarihi()));
+            } else {
+                ps.setNull(10, Types.DATE);
+            }
+            ps.setBigDecimal(11, fatura.getKalanTutar());
+        });
+    }
+}
@@ -3,10 +3,17 @@ package com.ticari.repository;
 import com.ticari.entity.Cari;
 import com.ticari.entity.Fatura;
 import com.ticari.enums.FaturaTuru;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +23,22 @@ public interface FaturaRepository extends JpaRepository<Fatura, Integer> {
     List<Fatura> findByTur(FaturaTuru tur);
     Optional<Fatura> findByFaturaNo(String faturaNo);
     List<Fatura> findByFaturaTarihiBetween(LocalDateTime baslangic, LocalDateTime bitis);
+    
+    @EntityGraph("Fatura.liste")
+    Slice<Fatura> findAllBy(Pageable pageable);
+    
+    @EntityGraph("Fatura.liste")
+    List<Fatura> findByFaturaIdIn(Collection<Integer> faturaIdler);
+    
+    @EntityGraph("Fatura.liste")
+    List<Fatura> findByFaturaNoContainingIgnoreCaseOrCariUnvanContainingIgnoreCase(String faturaNo, String unvan, Pageable pageable);
+    
+    @EntityGraph("Fatura.detay")
+    Optional<Fatura> findDetayByFaturaId(Integer faturaId);
+    
+    @Query("SELECT COALESCE(SUM(f.genelToplam), 0) FROM Fatura f "
+            + "WHERE f.tur = :tur AND f.faturaTarihi BETWEEN :baslangic AND :bitis")
+    BigDecimal toplamTutar(@Param("tur") FaturaTuru tur,
+                           @Param("baslangic") LocalDateTime baslangic,
+                           @Param("bitis") LocalDateTime bitis);
 }
@@ -4,6 +4,7 @@ import com.ticari.entity.Cari;
 import com.ticari.entity.FinansHareketi;
 import com.ticari.entity.KasaBanka;
 import com.ticari.enums.FinansIslemTuru;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,8 +13,14 @@ import java.util.List;
 
 @Repository
 public interface FinansHareketiRepository extends JpaRepository<FinansHareketi, Integer> {
+    @EntityGraph("FinansHareketi.ekstre")
     List<FinansHareketi> findByHesap(KasaBanka hesap);
+    
+    @EntityGraph("FinansHareketi.ekstre")
     List<FinansHareketi> findByCari(Cari cari);
+    
     List<FinansHareketi> findByIslemTuru(FinansIslemTuru islemTuru);
+    
+    @EntityGraph("FinansHareketi.ekstre")
     List<FinansHareketi> findByTarihBetween(LocalDateTime baslangic, LocalDateTime bitis);
 }
@@ -0,0 +1,32 @@
+package com.ticari.repository;
+
+import com.ticari.entity.GunlukSatisOzeti;
+import com.ticari.entity.GunlukSatisOzetiId;
+import com.ticari.enums.FaturaTuru;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface GunlukSatisOzetiRepository extends JpaRepository<GunlukSatisOzeti, GunlukSatisOzetiId> {
+    
+    // [tarih, yerel tutar]
+    @Query("SELECT o.id.tarih, SUM(o.yerelTutar) FROM GunlukSatisOzeti o "
+            + "WHERE o.id.tur = :tur AND o.id.tarih BETWEEN :baslangic AND :bitis "
+            + "GROUP BY o.id.tarih ORDER BY o.id.tarih")
+    List<Object[]> gunlukToplamlar(@Param("tur") FaturaTuru tur,
+                                   @Param("baslangic") LocalDate baslangic,
+                                   @Param("bitis") LocalDate bitis);
+    
+    // [kategori id, yerel tutar]
+    @Query("SELECT o.id.kategoriId, SUM(o.yerelTutar) FROM GunlukSatisOzeti o "
+            + "WHERE o.id.tur = :tur AND o.id.tarih BETWEEN :baslangic AND :bitis "
+            + "GROUP BY o.id.kategoriId")
+    List<Object[]> kategoriToplamlari(@Param("tur") FaturaTuru tur,
+                                      @Param("baslangic") LocalDate baslangic,
+                                      @Param("bitis") LocalDate bitis);
+}
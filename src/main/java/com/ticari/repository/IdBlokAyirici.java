@@ -0,0 +1,61 @@
+package com.ticari.repository;
+
+import com.ticari.config.BlokluSequenceGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC ile yazılan satırlar için Hibernate'in {@link BlokluSequenceGenerator}'ı ile aynı
+ * sekanslardan, aynı pooled-lo düzeninde kimlik ayırır. Sekans her çağrıda bir blok ilerlediğinden
+ * Hibernate, bu sınıf ve diğer terminaller aynı kimliği hiçbir zaman vermez.
+ */
+@Repository
+public class IdBlokAyirici {
+
+    private static final Pattern TANIMLAYICI = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blokBoyutu;
+    private final Map<String, Blok> bloklar = new ConcurrentHashMap<>();
+
+    public IdBlokAyirici(JdbcTemplate jdbcTemplate,
+                         @Value("${spring.jpa.properties." + BlokluSequenceGenerator.BLOK_BOYUTU_AYARI + ":"
+                                 + BlokluSequenceGenerator.VARSAYILAN_BLOK_BOYUTU + "}") int blokBoyutu) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blokBoyutu = blokBoyutu;
+    }
+
+    public int sonraki(String sekans) {
+        return bloklar.computeIfAbsent(tanimlayici(sekans), s -> new Blok()).sonraki(sekans);
+    }
+
+    private long sekanstanAl(String sekans) {
+        Long deger = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + tanimlayici(sekans), Long.class);
+        return deger != null ? deger : 0L;
+    }
+
+    private static String tanimlayici(String ad) {
+        if (!TANIMLAYICI.matcher(ad).matches()) {
+            throw new IllegalArgumentException("Geçersiz tanımlayıcı: " + ad);
+        }
+        return ad;
+    }
+
+    private final class Blok {
+        private long siradaki;
+        private long son;
+
+        synchronized int sonraki(String sekans) {
+            if (siradaki >= son) {
+                siradaki = sekanstanAl(sekans);
+                son = siradaki + blokBoyutu;
+            }
+            return Math.toIntExact(siradaki++);
+        }
+    }
+}
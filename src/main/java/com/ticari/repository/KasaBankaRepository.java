@@ -3,12 +3,29 @@ package com.ticari.repository;
 import com.ticari.entity.KasaBanka;
 import com.ticari.enums.HesapTuru;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface KasaBankaRepository extends JpaRepository<KasaBanka, Integer> {
     List<KasaBanka> findByTur(HesapTuru tur);
     List<KasaBanka> findByHesapAdiContainingIgnoreCase(String hesapAdi);
+    
+    // Bakiye farkı satırı yüklemeden veritabanında uygulanır (read-modify-write yok); ardından bağlam
+    // temizlenir ki aynı işlemde önceden yüklenmiş varlık eski bakiyeyi göstermesin ya da geri yazmasın
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE KasaBanka k SET k.bakiye = COALESCE(k.bakiye, 0) + :tutar WHERE k.hesapId = :hesapId")
+    int bakiyeEkle(@Param("hesapId") Integer hesapId, @Param("tutar") BigDecimal tutar);
+    
+    @Query("SELECT k.bakiye FROM KasaBanka k WHERE k.hesapId = :hesapId")
+    Optional<BigDecimal> bakiyeGetir(@Param("hesapId") Integer hesapId);
+    
+    @Query("SELECT COALESCE(SUM(k.bakiye), 0) FROM KasaBanka k")
+    BigDecimal toplamBakiye();
 }
@@ -0,0 +1,153 @@
+package com.ticari.repository;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.ISQLServerConnection;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.ticari.aktarim.KurSatiri;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Kurlar tablosuna toplu yazma. SQL Server'da satırlar bulk copy API'siyle tek akışta,
+ * diğer veritabanlarında (H2) büyük JDBC batch'leriyle yazılır. Her iki yolda da satırlar
+ * iteratörden çekildikçe yazılır; bellekte en fazla bir batch tutulur.
+ *
+ * <p>Transaction içinden çağrılmamalıdır: kimlikler yazma sürerken başka bir bağlantıdan ayrılır.
+ */
+@Repository
+@RequiredArgsConstructor
+public class KurJdbcRepository {
+
+    private static final String KUR_SEKANSI = "Kurlar_SEQ";
+    private static final int BATCH_BOYUTU = 5000;
+
+    private static final String KUR_EKLE_SQL =
+            "INSERT INTO Kurlar (KurID, ParaKod, KurTarihi, Kur, Kaynak) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlokAyirici idBlokAyirici;
+
+    /**
+     * Satırların tamamını yazar ve yazılan satır sayısını döner.
+     */
+    public long topluEkle(Iterator<KurSatiri> satirlar) {
+        Long yazilan = jdbcTemplate.execute((ConnectionCallback<Long>) con ->
+                con.isWrapperFor(ISQLServerConnection.class)
+                        ? bulkCopyIleYaz(con, satirlar)
+                        : batchIleYaz(satirlar));
+        return yazilan != null ? yazilan : 0L;
+    }
+
+    private long bulkCopyIleYaz(Connection con, Iterator<KurSatiri> satirlar) throws SQLException {
+        SQLServerBulkCopyOptions secenekler = new SQLServerBulkCopyOptions();
+        secenekler.setBatchSize(BATCH_BOYUTU);
+        secenekler.setBulkCopyTimeout(0);
+        KurBulkVerisi veri = new KurBulkVerisi(satirlar);
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(con.unwrap(ISQLServerConnection.class))) {
+            bulkCopy.setBulkCopyOptions(secenekler);
+            bulkCopy.setDestinationTableName("Kurlar");
+            for (int kolon : veri.getColumnOrdinals()) {
+                bulkCopy.addColumnMapping(kolon, veri.getColumnName(kolon));
+            }
+            bulkCopy.writeToServer(veri);
+        }
+        return veri.yazilan;
+    }
+
+    private long batchIleYaz(Iterator<KurSatiri> satirlar) {
+        long yazilan = 0;
+        List<KurSatiri> batch = new ArrayList<>(BATCH_BOYUTU);
+        while (satirlar.hasNext()) {
+            batch.add(satirlar.next());
+            if (batch.size() == BATCH_BOYUTU || !satirlar.hasNext()) {
+                jdbcTemplate.batchUpdate(KUR_EKLE_SQL, batch, BATCH_BOYUTU, (ps, satir) -> {
+                    ps.setInt(1, idBlokAyirici.sonraki(KUR_SEKANSI));
+                    ps.setString(2, satir.paraKod());
+                    ps.setDate(3, Date.valueOf(satir.tarih()));
+                    ps.setBigDecimal(4, satir.kur());
+                    ps.setString(5, satir.kaynak());
+                });
+                yazilan += batch.size();
+                batch.clear();
+            }
+        }
+        return yazilan;
+    }
+
+    /**
+     * Bulk copy'nin satırları iteratörden çektiği kaynak.
+     */
+    private final class KurBulkVerisi implements ISQLServerBulkData {
+
+        private static final String[] KOLONLAR = { "KurID", "ParaKod", "KurTarihi", "Kur", "Kaynak" };
+        private static final int[] TIPLER = { Types.INTEGER, Types.VARCHAR, Types.DATE, Types.DECIMAL, Types.VARCHAR };
+        private static final int[] HASSASIYETLER = { 10, 3, 10, 18, 20 };
+        private static final int[] OLCEKLER = { 0, 0, 0, 6, 0 };
+
+        private final Iterator<KurSatiri> satirlar;
+        private KurSatiri guncel;
+        private long yazilan;
+
+        KurBulkVerisi(Iterator<KurSatiri> satirlar) {
+            this.satirlar = satirlar;
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            return Set.of(1, 2, 3, 4, 5);
+        }
+
+        @Override
+        public String getColumnName(int kolon) {
+            return KOLONLAR[kolon - 1];
+        }
+
+        @Override
+        public int getColumnType(int kolon) {
+            return TIPLER[kolon - 1];
+        }
+
+        @Override
+        public int getPrecision(int kolon) {
+            return HASSASIYETLER[kolon - 1];
+        }
+
+        @Override
+        public int getScale(int kolon) {
+            return OLCEKLER[kolon - 1];
+        }
+
+        @Override
+        public boolean next() {
+            if (!satirlar.hasNext()) {
+                return false;
+            }
+            guncel = satirlar.next();
+            yazilan++;
+            return true;
+        }
+
+        @Override
+        public Object[] getRowData() {
+            return new Object[] {
+                    idBlokAyirici.sonraki(KUR_SEKANSI),
+                    guncel.paraKod(),
+                    Date.valueOf(guncel.tarih()),
+                    guncel.kur(),
+                    guncel.kaynak()
+            };
+        }
+    }
+}
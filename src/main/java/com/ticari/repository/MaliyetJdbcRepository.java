@@ -0,0 +1,273 @@
+package com.ticari.repository;
+
+import com.ticari.utils.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maliyet pozisyonları, FIFO katmanları ve hareket satırlarının maliyetleri için JDBC işlemleri.
+ * Tutarlar veritabanında DECIMAL, burada kuruş cinsinden {@code long} tutulur.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MaliyetJdbcRepository {
+
+    private static final int BATCH_BOYUTU = 500;
+    private static final int IN_BOYUTU = 1000;
+    private static final int FETCH_SIZE = 5000;
+    // Tarihi boş eski hareketler en başa sıralanır
+    private static final LocalDateTime TARIHSIZ = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private static final String POZISYON_KOLONLARI =
+            "UrunID, Miktar, Maliyet, SonGirisMiktar, SonGirisMaliyet, SonHareketTarihi, SonHareketID, Gecersiz";
+
+    private static final String POZISYON_KILITLE_SQL =
+            "UPDATE UrunMaliyetleri SET Gecersiz = Gecersiz WHERE UrunID = ?";
+    private static final String POZISYON_EKLE_SQL =
+            "INSERT INTO UrunMaliyetleri (UrunID, Miktar, Maliyet, SonGirisMiktar, SonGirisMaliyet, Gecersiz) "
+            + "VALUES (?, 0, 0, 0, 0, 0)";
+    private static final String POZISYON_GUNCELLE_SQL =
+            "UPDATE UrunMaliyetleri SET Miktar = ?, Maliyet = ?, SonGirisMiktar = ?, SonGirisMaliyet = ?, "
+            + "SonHareketTarihi = ?, SonHareketID = ?, Gecersiz = ? WHERE UrunID = ?";
+
+    private static final String ARALIK_EKSIKLERI_EKLE_SQL =
+            "INSERT INTO UrunMaliyetleri (UrunID, Miktar, Maliyet, SonGirisMiktar, SonGirisMaliyet, Gecersiz) "
+            + "SELECT u.UrunID, 0, 0, 0, 0, 0 FROM Urunler u WHERE u.UrunID BETWEEN ? AND ? "
+            + "AND NOT EXISTS (SELECT 1 FROM UrunMaliyetleri m WHERE m.UrunID = u.UrunID)";
+    private static final String ARALIK_SIFIRLA_SQL =
+            "UPDATE UrunMaliyetleri SET Miktar = 0, Maliyet = 0, SonGirisMiktar = 0, SonGirisMaliyet = 0, "
+            + "SonHareketTarihi = NULL, SonHareketID = NULL, Gecersiz = 0 WHERE UrunID BETWEEN ? AND ?";
+
+    private static final String KATMAN_KOLONLARI = "HareketID, UrunID, Tarih, KalanMiktar, KalanMaliyet";
+    private static final String KATMAN_EKLE_SQL =
+            "INSERT INTO MaliyetKatmanlari (" + KATMAN_KOLONLARI + ") VALUES (?, ?, ?, ?, ?)";
+
+    private static final String HAREKET_MALIYETI_SQL =
+            "UPDATE StokGirisCikis SET Maliyet = ? WHERE HareketID = ?";
+
+    private static final String HAREKETLER_SQL =
+            "SELECT HareketID, UrunID, Tarih, IslemTuru, Miktar, BirimFiyat, Kur FROM StokGirisCikis "
+            + "WHERE UrunID BETWEEN ? AND ? ORDER BY UrunID, Tarih, HareketID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Pozisyon(int urunId, int miktar, long maliyet, int sonGirisMiktar, long sonGirisMaliyet,
+                           LocalDateTime sonHareketTarihi, Integer sonHareketId, boolean gecersiz) {
+    }
+
+    public record Katman(int hareketId, int urunId, LocalDateTime tarih, int kalanMiktar, long kalanMaliyet) {
+    }
+
+    @FunctionalInterface
+    public interface HareketTuketici {
+        void kabul(int hareketId, int urunId, LocalDateTime tarih, boolean giris, int miktar,
+                   BigDecimal birimFiyat, BigDecimal kur);
+    }
+
+    /**
+     * Ürünlerin pozisyon satırlarını UrunID sırasıyla kilitler, olmayanları sıfır olarak ekler
+     * ve kilit altında okur.
+     */
+    public Map<Integer, Pozisyon> pozisyonlariKilitle(Collection<Integer> urunIdler) {
+        List<Integer> sirali = urunIdler.stream().sorted().toList();
+        int[] sayilar = jdbcTemplate.batchUpdate(POZISYON_KILITLE_SQL,
+                sirali.stream().map(id -> new Object[] { id }).toList());
+        for (int i = 0; i < sayilar.length; i++) {
+            if (sayilar[i] == 0) {
+                try {
+                    jdbcTemplate.update(POZISYON_EKLE_SQL, sirali.get(i));
+                } catch (DuplicateKeyException e) {
+                    // Aynı ürünün ilk hareketi başka bir işlemde de yazıldı; satır artık var
+                    jdbcTemplate.update(POZISYON_KILITLE_SQL, sirali.get(i));
+                }
+            }
+        }
+        Map<Integer, Pozisyon> sonuc = new HashMap<>();
+        for (int i = 0; i < sirali.size(); i += IN_BOYUTU) {
+            List<Integer> parca = sirali.subList(i, Math.min(i + IN_BOYUTU, sirali.size()));
+            jdbcTemplate.query("SELECT " + POZISYON_KOLONLARI + " FROM UrunMaliyetleri WHERE UrunID IN ("
+                    + yerTutucular(parca.size()) + ")", rs -> {
+                Pozisyon p = pozisyonOku(rs);
+                sonuc.put(p.urunId(), p);
+            }, parca.toArray());
+        }
+        return sonuc;
+    }
+
+    public Pozisyon pozisyon(int urunId) {
+        List<Pozisyon> liste = jdbcTemplate.query("SELECT " + POZISYON_KOLONLARI
+                + " FROM UrunMaliyetleri WHERE UrunID = ?", (rs, i) -> pozisyonOku(rs), urunId);
+        return liste.isEmpty() ? null : liste.get(0);
+    }
+
+    public void pozisyonlariYaz(Collection<Pozisyon> pozisyonlar) {
+        jdbcTemplate.batchUpdate(POZISYON_GUNCELLE_SQL, pozisyonlar, BATCH_BOYUTU, (ps, p) -> {
+            ps.setInt(1, p.miktar());
+            ps.setBigDecimal(2, Money.bigDecimal(p.maliyet()));
+            ps.setInt(3, p.sonGirisMiktar());
+            ps.setBigDecimal(4, Money.bigDecimal(p.sonGirisMaliyet()));
+            if (p.sonHareketTarihi() != null) {
+                ps.setTimestamp(5, Timestamp.valueOf(p.sonHareketTarihi()));
+            } else {
+                ps.setNull(5, Types.TIMESTAMP);
+            }
+            if (p.sonHareketId() != null) {
+                ps.setInt(6, p.sonHareketId());
+            } else {
+                ps.setNull(6, Types.INTEGER);
+            }
+            ps.setBoolean(7, p.gecersiz());
+            ps.setInt(8, p.urunId());
+        });
+    }
+
+    public void gecersizIsaretle(Collection<Integer> urunIdler) {
+        jdbcTemplate.batchUpdate("UPDATE UrunMaliyetleri SET Gecersiz = 1 WHERE UrunID = ?",
+                urunIdler.stream().sorted().map(id -> new Object[] { id }).toList());
+    }
+
+    public List<Integer> gecersizUrunler() {
+        return jdbcTemplate.queryForList("SELECT UrunID FROM UrunMaliyetleri WHERE Gecersiz = 1 ORDER BY UrunID",
+                Integer.class);
+    }
+
+    /**
+     * Aralıktaki tüm ürünlerin pozisyon satırlarını (yoksa ekleyip) kilitler.
+     *
+     * @return aralığın kilit altındaki toplam maliyeti
+     */
+    public long araligiKilitle(int ilkUrun, int sonUrun) {
+        jdbcTemplate.update(ARALIK_EKSIKLERI_EKLE_SQL, ilkUrun, sonUrun);
+        jdbcTemplate.update("UPDATE UrunMaliyetleri SET Gecersiz = Gecersiz WHERE UrunID BETWEEN ? AND ?", ilkUrun, sonUrun);
+        return Money.kurus(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(Maliyet), 0) FROM UrunMaliyetleri WHERE UrunID BETWEEN ? AND ?",
+                BigDecimal.class, ilkUrun, sonUrun));
+    }
+
+    public void araligiSifirla(int ilkUrun, int sonUrun) {
+        jdbcTemplate.update(ARALIK_SIFIRLA_SQL, ilkUrun, sonUrun);
+        jdbcTemplate.update("DELETE FROM MaliyetKatmanlari WHERE UrunID BETWEEN ? AND ?", ilkUrun, sonUrun);
+    }
+
+    /**
+     * Ürünlerin katmanları, ürün içinde tüketim sırasıyla (en eski önce).
+     */
+    public List<Katman> katmanlar(Collection<Integer> urunIdler) {
+        List<Integer> liste = new ArrayList<>(urunIdler);
+        List<Katman> sonuc = new ArrayList<>();
+        for (int i = 0; i < liste.size(); i += IN_BOYUTU) {
+            List<Integer> parca = liste.subList(i, Math.min(i + IN_BOYUTU, liste.size()));
+            sonuc.addAll(jdbcTemplate.query("SELECT " + KATMAN_KOLONLARI + " FROM MaliyetKatmanlari WHERE UrunID IN ("
+                    + yerTutucular(parca.size()) + ") ORDER BY UrunID, Tarih, HareketID",
+                    (rs, satir) -> new Katman(
+                            rs.getInt(1),
+                            rs.getInt(2),
+                            rs.getTimestamp(3).toLocalDateTime(),
+                            rs.getInt(4),
+                            Money.kurus(rs.getBigDecimal(5))),
+                    parca.toArray()));
+        }
+        return sonuc;
+    }
+
+    public void katmanlariSil(Collection<Integer> urunIdler) {
+        List<Integer> liste = new ArrayList<>(urunIdler);
+        for (int i = 0; i < liste.size(); i += IN_BOYUTU) {
+            List<Integer> parca = liste.subList(i, Math.min(i + IN_BOYUTU, liste.size()));
+            jdbcTemplate.update("DELETE FROM MaliyetKatmanlari WHERE UrunID IN (" + yerTutucular(parca.size()) + ")",
+                    parca.toArray());
+        }
+    }
+
+    public void katmanlariEkle(List<Katman> katmanlar) {
+        jdbcTemplate.batchUpdate(KATMAN_EKLE_SQL, katmanlar, BATCH_BOYUTU, (ps, k) -> {
+            ps.setInt(1, k.hareketId());
+            ps.setInt(2, k.urunId());
+            ps.setTimestamp(3, Timestamp.valueOf(k.tarih()));
+            ps.setInt(4, k.kalanMiktar());
+            ps.setBigDecimal(5, Money.bigDecimal(k.kalanMaliyet()));
+        });
+    }
+
+    /**
+     * Hareket satırlarının maliyetlerini yazar; anahtar HareketID, değer kuruş.
+     */
+    public void hareketMaliyetleriniYaz(Map<Integer, Long> maliyetler) {
+        List<Map.Entry<Integer, Long>> satirlar = new ArrayList<>(maliyetler.entrySet());
+        satirlar.sort(Map.Entry.comparingByKey());
+        jdbcTemplate.batchUpdate(HAREKET_MALIYETI_SQL, satirlar, BATCH_BOYUTU, (ps, e) -> {
+            ps.setBigDecimal(1, Money.bigDecimal(e.getValue()));
+            ps.setInt(2, e.getKey());
+        });
+    }
+
+    /**
+     * Aralıktaki hareketleri ürün ve uygulama sırasıyla (Tarih, HareketID) akıtır.
+     */
+    public void hareketleriAkit(int ilkUrun, int sonUrun, HareketTuketici tuketici) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(HAREKETLER_SQL);
+            ps.setInt(1, ilkUrun);
+            ps.setInt(2, sonUrun);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            Timestamp tarih = rs.getTimestamp(3);
+            tuketici.kabul(rs.getInt(1), rs.getInt(2), tarih != null ? tarih.toLocalDateTime() : TARIHSIZ,
+                    "GIRIS".equals(rs.getString(4)), rs.getInt(5), rs.getBigDecimal(6), rs.getBigDecimal(7));
+        });
+    }
+
+    public long toplamMaliyet() {
+        return Money.kurus(jdbcTemplate.queryForObject("SELECT COALESCE(SUM(Maliyet), 0) FROM UrunMaliyetleri",
+                BigDecimal.class));
+    }
+
+    /**
+     * Hareketi olduğu halde hiç maliyetlendirilmemiş bir veritabanı (özelliğin ilk açılışı).
+     */
+    public boolean hicHesaplanmamis() {
+        Boolean sonuc = jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN NOT EXISTS (SELECT 1 FROM UrunMaliyetleri) "
+                + "AND EXISTS (SELECT 1 FROM StokGirisCikis) THEN 1 ELSE 0 END", Boolean.class);
+        return Boolean.TRUE.equals(sonuc);
+    }
+
+    public int[] urunAraligi() {
+        return jdbcTemplate.queryForObject("SELECT MIN(UrunID), MAX(UrunID) FROM Urunler",
+                (rs, i) -> rs.getObject(1) != null ? new int[] { rs.getInt(1), rs.getInt(2) } : null);
+    }
+
+    private static Pozisyon pozisyonOku(ResultSet rs) throws SQLException {
+        Timestamp sonTarih = rs.getTimestamp(6);
+        return new Pozisyon(
+                rs.getInt(1),
+                rs.getInt(2),
+                Money.kurus(rs.getBigDecimal(3)),
+                rs.getInt(4),
+                Money.kurus(rs.getBigDecimal(5)),
+                sonTarih != null ? sonTarih.toLocalDateTime() : null,
+                rs.getObject(7, Integer.class),
+                rs.getBoolean(8));
+    }
+
+    private static String yerTutucular(int adet) {
+        return String.join(", ", Collections.nCopies(adet, "?"));
+    }
+}
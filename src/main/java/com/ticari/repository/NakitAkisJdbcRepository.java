@@ -0,0 +1,175 @@
+package com.ticari.repository;
+
+import com.ticari.entity.NakitAkisKovasi;
+import com.ticari.enums.NakitAkisKaynagi;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * NakitAkisKovalari tablosunun artımlı bakımı ve belgelerden yeniden oluşturulması. Bir belgenin
+ * katkısı veritabanındaki güncel satırından okunur: yalnızca portföydeki çek/senetler ve kalan
+ * tutarı olan faturalar katkı verir. Satış faturaları giriş, alış ve gider faturaları çıkıştır.
+ * Yabancı para birimli belgeler kendi kayıtlı kurlarıyla yerel para birimine çevrilir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NakitAkisJdbcRepository {
+
+    private static final String CEK_SENET_SQL =
+            "SELECT VadeTarihi, COALESCE(HesapID, " + NakitAkisKovasi.ATANMAMIS_HESAP + "), Yon, Tutar * COALESCE(Kur, 1) "
+            + "FROM CekSenetler WHERE EvrakID = ? AND Durum = 'PORTFOYDE' AND Yon IS NOT NULL";
+
+    private static final String FATURA_SQL =
+            "SELECT COALESCE(VadeTarihi, CAST(FaturaTarihi AS DATE)), Tur, KalanTutar * COALESCE(Kur, 1) "
+            + "FROM Faturalar WHERE FaturaID = ? AND KalanTutar <> 0";
+
+    private static final String FATURALAR_SQL =
+            "SELECT COALESCE(VadeTarihi, CAST(FaturaTarihi AS DATE)), "
+            + "SUM(CASE WHEN Tur = 'SATIS' THEN ROUND(KalanTutar * COALESCE(Kur, 1), 2) ELSE 0 END), "
+            + "SUM(CASE WHEN Tur <> 'SATIS' THEN ROUND(KalanTutar * COALESCE(Kur, 1), 2) ELSE 0 END) "
+            + "FROM Faturalar WHERE FaturaID IN (%s) AND KalanTutar <> 0 "
+            + "GROUP BY COALESCE(VadeTarihi, CAST(FaturaTarihi AS DATE))";
+
+    // SQL Server tek sorguda en fazla 2100 parametre kabul eder
+    private static final int IN_BOYUTU = 1000;
+
+    private static final String GUNCELLE_SQL =
+            "UPDATE NakitAkisKovalari SET Giris = Giris + ?, Cikis = Cikis + ? "
+            + "WHERE Tarih = ? AND HesapID = ? AND Kaynak = ?";
+
+    private static final String EKLE_SQL =
+            "INSERT INTO NakitAkisKovalari (Giris, Cikis, Tarih, HesapID, Kaynak) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String KOVALAR_SQL =
+            "SELECT Tarih, HesapID, Kaynak, Giris, Cikis FROM NakitAkisKovalari "
+            + "WHERE Tarih <= ? AND (Giris <> 0 OR Cikis <> 0) ORDER BY Tarih";
+
+    private static final String YENIDEN_OLUSTUR_SQL =
+            "INSERT INTO NakitAkisKovalari (Tarih, HesapID, Kaynak, Giris, Cikis) "
+            + "SELECT x.Tarih, x.HesapID, x.Kaynak, SUM(x.Giris), SUM(x.Cikis) FROM ("
+            + "  SELECT VadeTarihi AS Tarih, COALESCE(HesapID, " + NakitAkisKovasi.ATANMAMIS_HESAP + ") AS HesapID, "
+            + "         'CEK_SENET' AS Kaynak, "
+            + "         CASE WHEN Yon = 'GIRIS' THEN ROUND(Tutar * COALESCE(Kur, 1), 2) ELSE 0 END AS Giris, "
+            + "         CASE WHEN Yon = 'CIKIS' THEN ROUND(Tutar * COALESCE(Kur, 1), 2) ELSE 0 END AS Cikis "
+            + "  FROM CekSenetler WHERE Durum = 'PORTFOYDE' AND Yon IS NOT NULL "
+            + "  UNION ALL "
+            + "  SELECT COALESCE(VadeTarihi, CAST(FaturaTarihi AS DATE)), " + NakitAkisKovasi.ATANMAMIS_HESAP + ", 'FATURA', "
+            + "         CASE WHEN Tur = 'SATIS' THEN ROUND(KalanTutar * COALESCE(Kur, 1), 2) ELSE 0 END, "
+            + "         CASE WHEN Tur <> 'SATIS' THEN ROUND(KalanTutar * COALESCE(Kur, 1), 2) ELSE 0 END "
+            + "  FROM Faturalar WHERE KalanTutar <> 0"
+            + ") x GROUP BY x.Tarih, x.HesapID, x.Kaynak";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Bir belgenin tek kovaya katkısı; tutarlar yerel para birimindedir.
+     */
+    public record Katki(LocalDate tarih, int hesapId, NakitAkisKaynagi kaynak, BigDecimal giris, BigDecimal cikis) {
+    }
+
+    /**
+     * Çek/senedin şu anki katkısı; portföyde değilse null.
+     */
+    public Katki cekSenetKatkisi(int evrakId) {
+        List<Katki> sonuc = jdbcTemplate.query(CEK_SENET_SQL, (rs, i) -> {
+            boolean giris = "GIRIS".equals(rs.getString(3));
+            BigDecimal tutar = rs.getBigDecimal(4).setScale(2, RoundingMode.HALF_UP);
+            return new Katki(rs.getDate(1).toLocalDate(), rs.getInt(2), NakitAkisKaynagi.CEK_SENET,
+                    giris ? tutar : BigDecimal.ZERO, giris ? BigDecimal.ZERO : tutar);
+        }, evrakId);
+        return sonuc.isEmpty() ? null : sonuc.get(0);
+    }
+
+    /**
+     * Faturanın kalan tutarının şu anki katkısı; kalan yoksa null.
+     */
+    public Katki faturaKatkisi(int faturaId) {
+        List<Katki> sonuc = jdbcTemplate.query(FATURA_SQL, (rs, i) -> {
+            boolean giris = "SATIS".equals(rs.getString(2));
+            BigDecimal tutar = rs.getBigDecimal(3).setScale(2, RoundingMode.HALF_UP);
+            return new Katki(rs.getDate(1).toLocalDate(), NakitAkisKovasi.ATANMAMIS_HESAP, NakitAkisKaynagi.FATURA,
+                    giris ? tutar : BigDecimal.ZERO, giris ? BigDecimal.ZERO : tutar);
+        }, faturaId);
+        return sonuc.isEmpty() ? null : sonuc.get(0);
+    }
+
+    /**
+     * Faturaların katkıları vade gününe göre toplanmış olarak; toplu kayıtta kova başına tek güncelleme içindir.
+     */
+    public List<Katki> faturaKatkilari(List<Integer> faturaIdler) {
+        Map<LocalDate, BigDecimal[]> vadeBazinda = new TreeMap<>();
+        for (int i = 0; i < faturaIdler.size(); i += IN_BOYUTU) {
+            List<Integer> parca = faturaIdler.subList(i, Math.min(i + IN_BOYUTU, faturaIdler.size()));
+            String yerTutucular = String.join(", ", Collections.nCopies(parca.size(), "?"));
+            jdbcTemplate.query(FATURALAR_SQL.formatted(yerTutucular), (RowCallbackHandler) rs -> {
+                BigDecimal[] toplam = vadeBazinda.computeIfAbsent(rs.getDate(1).toLocalDate(),
+                        v -> new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO });
+                toplam[0] = toplam[0].add(rs.getBigDecimal(2));
+                toplam[1] = toplam[1].add(rs.getBigDecimal(3));
+            }, parca.toArray());
+        }
+        List<Katki> sonuc = new ArrayList<>(vadeBazinda.size());
+        vadeBazinda.forEach((vade, toplam) -> sonuc.add(new Katki(vade, NakitAkisKovasi.ATANMAMIS_HESAP,
+                NakitAkisKaynagi.FATURA, toplam[0], toplam[1])));
+        return sonuc;
+    }
+
+    /**
+     * Katkıyı kovaya ekler ({@code isaret} = 1) ya da geri alır ({@code isaret} = -1).
+     */
+    public void uygula(Katki katki, int isaret) {
+        BigDecimal carpan = BigDecimal.valueOf(isaret);
+        Object[] parametreler = { katki.giris().multiply(carpan), katki.cikis().multiply(carpan),
+                Date.valueOf(katki.tarih()), katki.hesapId(), katki.kaynak().name() };
+        if (jdbcTemplate.update(GUNCELLE_SQL, parametreler) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(EKLE_SQL, parametreler);
+        } catch (DuplicateKeyException e) {
+            // Aynı kovayı eşzamanlı başka bir işlem ekledi; artık güncellenebilir
+            jdbcTemplate.update(GUNCELLE_SQL, parametreler);
+        }
+    }
+
+    /**
+     * {@code bitis} gününe kadarki (vadesi geçmişler dahil) boş olmayan kovalar, tarih sırasıyla.
+     */
+    public void kovalariAkit(LocalDate bitis, RowCallbackHandler isleyici) {
+        jdbcTemplate.query(KOVALAR_SQL, isleyici, Date.valueOf(bitis));
+    }
+
+    public boolean bosMu() {
+        Integer sayi = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM NakitAkisKovalari", Integer.class);
+        return sayi == null || sayi == 0;
+    }
+
+    /**
+     * Aktif personelin aylık maaş toplamı.
+     */
+    public BigDecimal aylikMaasToplami() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(Maas), 0) FROM Personeller WHERE AktifMi = 1", BigDecimal.class);
+    }
+
+    /**
+     * Tabloyu bekleyen tüm belgelerden tek bir INSERT ... SELECT ile yeniden doldurur. Eklenen satır sayısını döner.
+     */
+    public int yenidenOlustur() {
+        jdbcTemplate.update("DELETE FROM NakitAkisKovalari");
+        return jdbcTemplate.update(YENIDEN_OLUSTUR_SQL);
+    }
+}
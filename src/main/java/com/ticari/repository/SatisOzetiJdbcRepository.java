@@ -0,0 +1,140 @@
+package com.ticari.repository;
+
+import com.ticari.entity.Fatura;
+import com.ticari.entity.GunlukSatisOzeti;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GunlukSatisOzetleri tablosunun artımlı bakımı ve geçmişten yeniden oluşturulması.
+ * Bir faturanın katkısı, ürün satırlarının kategori toplamları ve kalan tutarın
+ * (hizmet, KDV) {@link GunlukSatisOzeti#KATEGORISIZ} satırıdır.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SatisOzetiJdbcRepository {
+
+    private static final String VARSAYILAN_PARA_BIRIMI = "TRY";
+
+    // SQL Server tek sorguda en fazla 2100 parametre kabul eder
+    private static final int IN_BOYUTU = 1000;
+
+    private static final String KATEGORI_TOPLAMLARI_SQL =
+            "SELECT s.FaturaID, u.KategoriID, SUM(s.Miktar * s.BirimFiyat) FROM StokGirisCikis s "
+            + "JOIN Urunler u ON u.UrunID = s.UrunID WHERE s.FaturaID IN (%s) GROUP BY s.FaturaID, u.KategoriID";
+
+    private static final String GUNCELLE_SQL =
+            "UPDATE GunlukSatisOzetleri SET Tutar = Tutar + ?, YerelTutar = YerelTutar + ? "
+            + "WHERE Tarih = ? AND Tur = ? AND KategoriID = ? AND ParaBirimi = ?";
+
+    private static final String EKLE_SQL =
+            "INSERT INTO GunlukSatisOzetleri (Tutar, YerelTutar, Tarih, Tur, KategoriID, ParaBirimi) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String TEMIZLE_SQL = "DELETE FROM GunlukSatisOzetleri";
+
+    private static final String YENIDEN_OLUSTUR_SQL =
+            "INSERT INTO GunlukSatisOzetleri (Tarih, Tur, KategoriID, ParaBirimi, Tutar, YerelTutar) "
+            + "SELECT x.Tarih, x.Tur, x.KategoriID, x.ParaBirimi, SUM(x.Tutar), SUM(x.YerelTutar) FROM ("
+            + "  SELECT CAST(f.FaturaTarihi AS DATE) AS Tarih, f.Tur AS Tur, u.KategoriID AS KategoriID, "
+            + "         COALESCE(f.ParaBirimi, '" + VARSAYILAN_PARA_BIRIMI + "') AS ParaBirimi, "
+            + "         s.Miktar * s.BirimFiyat AS Tutar, s.Miktar * s.BirimFiyat * COALESCE(f.Kur, 1) AS YerelTutar "
+            + "  FROM Faturalar f "
+            + "  JOIN StokGirisCikis s ON s.FaturaID = f.FaturaID "
+            + "  JOIN Urunler u ON u.UrunID = s.UrunID "
+            + "  UNION ALL "
+            + "  SELECT CAST(f.FaturaTarihi AS DATE), f.Tur, " + GunlukSatisOzeti.KATEGORISIZ + ", "
+            + "         COALESCE(f.ParaBirimi, '" + VARSAYILAN_PARA_BIRIMI + "'), "
+            + "         f.GenelToplam - COALESCE(k.Toplam, 0), (f.GenelToplam - COALESCE(k.Toplam, 0)) * COALESCE(f.Kur, 1) "
+            + "  FROM Faturalar f "
+            + "  LEFT JOIN (SELECT FaturaID, SUM(Miktar * BirimFiyat) AS Toplam FROM StokGirisCikis GROUP BY FaturaID) k "
+            + "         ON k.FaturaID = f.FaturaID"
+            + ") x GROUP BY x.Tarih, x.Tur, x.KategoriID, x.ParaBirimi";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Faturanın katkısını özet satırlarına ekler ({@code isaret} = 1) ya da geri alır ({@code isaret} = -1).
+     * Stok satırları veritabanında olmalıdır; silmede bu yüzden fatura silinmeden önce çağrılır.
+     */
+    public void faturaUygula(Fatura fatura, int isaret) {
+        faturalarUygula(List.of(fatura), isaret);
+    }
+
+    /**
+     * Faturaların katkılarını toplayıp her özet satırına bir kez uygular; kategori toplamları
+     * en fazla {@value #IN_BOYUTU} faturalık sorgularla okunur.
+     */
+    public void faturalarUygula(List<Fatura> faturalar, int isaret) {
+        Map<Integer, Map<Integer, BigDecimal>> faturaBazinda = new HashMap<>();
+        for (int i = 0; i < faturalar.size(); i += IN_BOYUTU) {
+            List<Fatura> parca = faturalar.subList(i, Math.min(i + IN_BOYUTU, faturalar.size()));
+            String yerTutucular = String.join(", ", Collections.nCopies(parca.size(), "?"));
+            jdbcTemplate.query(KATEGORI_TOPLAMLARI_SQL.formatted(yerTutucular),
+                    (RowCallbackHandler) rs -> faturaBazinda.computeIfAbsent(rs.getInt(1), id -> new LinkedHashMap<>())
+                            .merge(rs.getInt(2), rs.getBigDecimal(3), BigDecimal::add),
+                    parca.stream().map(Fatura::getFaturaId).toArray());
+        }
+
+        Map<List<Object>, BigDecimal[]> satirlar = new LinkedHashMap<>();
+        for (Fatura fatura : faturalar) {
+            Map<Integer, BigDecimal> kategoriBazinda = faturaBazinda.getOrDefault(fatura.getFaturaId(), new LinkedHashMap<>());
+            BigDecimal satirToplami = kategoriBazinda.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal genelToplam = fatura.getGenelToplam() != null ? fatura.getGenelToplam() : BigDecimal.ZERO;
+            kategoriBazinda.merge(GunlukSatisOzeti.KATEGORISIZ, genelToplam.subtract(satirToplami), BigDecimal::add);
+
+            LocalDate tarih = fatura.getFaturaTarihi() != null ? fatura.getFaturaTarihi().toLocalDate() : LocalDate.now();
+            String paraBirimi = fatura.getParaBirimi() != null ? fatura.getParaBirimi().getParaKod() : VARSAYILAN_PARA_BIRIMI;
+            BigDecimal kur = fatura.getKur() != null ? fatura.getKur() : BigDecimal.ONE;
+            BigDecimal carpan = BigDecimal.valueOf(isaret);
+
+            kategoriBazinda.forEach((kategoriId, tutar) -> {
+                if (tutar.signum() == 0) {
+                    return;
+                }
+                BigDecimal fark = tutar.multiply(carpan).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal yerelFark = tutar.multiply(kur).multiply(carpan).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal[] toplam = satirlar.computeIfAbsent(
+                        List.of(Date.valueOf(tarih), fatura.getTur().name(), kategoriId, paraBirimi),
+                        k -> new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO });
+                toplam[0] = toplam[0].add(fark);
+                toplam[1] = toplam[1].add(yerelFark);
+            });
+        }
+        satirlar.forEach((anahtar, toplam) -> ekleVeyaGuncelle(new Object[] {
+                toplam[0], toplam[1], anahtar.get(0), anahtar.get(1), anahtar.get(2), anahtar.get(3) }));
+    }
+
+    /**
+     * Tabloyu tüm faturalardan tek bir INSERT ... SELECT ile yeniden doldurur. Eklenen satır sayısını döner.
+     */
+    public int yenidenOlustur() {
+        jdbcTemplate.update(TEMIZLE_SQL);
+        return jdbcTemplate.update(YENIDEN_OLUSTUR_SQL);
+    }
+
+    private void ekleVeyaGuncelle(Object[] parametreler) {
+        if (jdbcTemplate.update(GUNCELLE_SQL, parametreler) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(EKLE_SQL, parametreler);
+        } catch (DuplicateKeyException e) {
+            // Aynı satırı eşzamanlı başka bir işlem ekledi; artık güncellenebilir
+            jdbcTemplate.update(GUNCELLE_SQL, parametreler);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.ticari.repository;
 import com.ticari.entity.StokGirisCikis;
 import com.ticari.entity.Urun;
 import com.ticari.enums.StokIslemTuru;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,7 +12,12 @@ import java.util.List;
 
 @Repository
 public interface StokGirisCikisRepository extends JpaRepository<StokGirisCikis, Integer> {
+    @EntityGraph("StokGirisCikis.hareket")
     List<StokGirisCikis> findByUrun(Urun urun);
+    
+    @EntityGraph("StokGirisCikis.hareket")
     List<StokGirisCikis> findByIslemTuru(StokIslemTuru islemTuru);
+    
+    @EntityGraph("StokGirisCikis.hareket")
     List<StokGirisCikis> findByTarihBetween(LocalDateTime baslangic, LocalDateTime bitis);
 }
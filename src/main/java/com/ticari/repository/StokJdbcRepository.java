@@ -0,0 +1,119 @@
+package com.ticari.repository;
+
+import com.ticari.entity.StokGirisCikis;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fatura kaydı sırasında satır sayısından bağımsız sayıda round trip ile
+ * stok hareketi yazan JDBC tabanlı toplu işlemler.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StokJdbcRepository {
+
+    private static final int BATCH_BOYUTU = 500;
+    private static final String HAREKET_SEKANSI = "StokGirisCikis_SEQ";
+    private static final int IN_BOYUTU = 1000;
+
+    private static final String HAREKET_EKLE_SQL =
+            "INSERT INTO StokGirisCikis (HareketID, FaturaID, UrunID, SiparisID, IslemTuru, Miktar, BirimFiyat, Tarih, ParaBirimi, Kur) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // SET içindeki MevcutStokMiktari güncelleme öncesi değerdir
+    private static final String STOK_GUNCELLE_SQL =
+            "UPDATE Urunler SET MevcutStokMiktari = MevcutStokMiktari + ?, "
+            + "KritikStokta = CASE WHEN MevcutStokMiktari + ? < MinimumStokSeviyesi THEN 1 ELSE 0 END "
+            + "WHERE UrunID = ?";
+
+    private static final String STOK_DURUMU_SQL =
+            "SELECT UrunID, UrunAd, MevcutStokMiktari, MinimumStokSeviyesi FROM Urunler WHERE UrunID IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlokAyirici idBlokAyirici;
+
+    public void hareketleriEkle(List<StokGirisCikis> hareketler) {
+        if (hareketler.isEmpty()) {
+            return;
+        }
+        for (StokGirisCikis hareket : hareketler) {
+            if (hareket.getHareketId() == null) {
+                hareket.setHareketId(idBlokAyirici.sonraki(HAREKET_SEKANSI));
+            }
+            if (hareket.getTarih() == null) {
+                hareket.setTarih(LocalDateTime.now());
+            }
+        }
+        jdbcTemplate.batchUpdate(HAREKET_EKLE_SQL, hareketler, BATCH_BOYUTU, (ps, hareket) -> {
+            ps.setInt(1, hareket.getHareketId());
+            ps.setInt(2, hareket.getFatura().getFaturaId());
+            ps.setInt(3, hareket.getUrun().getUrunId());
+            if (hareket.getSiparis() != null) {
+                ps.setInt(4, hareket.getSiparis().getSiparisId());
+            } else {
+                ps.setNull(4, Types.INTEGER);
+            }
+            ps.setString(5, hareket.getIslemTuru().name());
+            ps.setInt(6, hareket.getMiktar());
+            ps.setBigDecimal(7, hareket.getBirimFiyat());
+            ps.setTimestamp(8, Timestamp.valueOf(hareket.getTarih()));
+            if (hareket.getParaBirimi() != null) {
+                ps.setString(9, hareket.getParaBirimi().getParaKod());
+            } else {
+                ps.setNull(9, Types.VARCHAR);
+            }
+            ps.setBigDecimal(10, hareket.getKur());
+        });
+    }
+
+    /**
+     * Ürün bazında toplanmış stok farklarını tek bir batch UPDATE ile uygular.
+     * Satırlar UrunID sırasıyla gönderilir; eşzamanlı iki fatura aynı ürünleri
+     * farklı sırayla kilitleyip deadlock'a girmez.
+     *
+     * @return güncellenen ürünlerin işlem sonrası stok durumu; satırlar bu işlemin
+     *         kilidi altında okunduğundan önceki değer {@code yeniStok - fark} olarak bulunabilir
+     */
+    public List<StokDurumu> stokMiktarlariniGuncelle(Map<Integer, Integer> urunBazindaFark) {
+        List<Object[]> parametreler = new ArrayList<>(urunBazindaFark.size());
+        urunBazindaFark.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> parametreler.add(new Object[] { e.getValue(), e.getValue(), e.getKey() }));
+        if (parametreler.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.batchUpdate(STOK_GUNCELLE_SQL, parametreler);
+        return stokDurumlariniGetir(parametreler.stream().map(p -> (Integer) p[2]).toList());
+    }
+
+    private List<StokDurumu> stokDurumlariniGetir(List<Integer> urunIdler) {
+        List<StokDurumu> sonuc = new ArrayList<>(urunIdler.size());
+        // SQL Server tek sorguda en fazla 2100 parametre kabul eder
+        for (int i = 0; i < urunIdler.size(); i += IN_BOYUTU) {
+            List<Integer> parca = urunIdler.subList(i, Math.min(i + IN_BOYUTU, urunIdler.size()));
+            String yerTutucular = String.join(", ", Collections.nCopies(parca.size(), "?"));
+            sonuc.addAll(jdbcTemplate.query(STOK_DURUMU_SQL + "(" + yerTutucular + ")",
+                    (rs, satir) -> new StokDurumu(
+                            rs.getInt(1),
+                            rs.getString(2),
+                            rs.getInt(3),
+                            rs.getInt(4)),
+                    parca.toArray()));
+        }
+        return sonuc;
+    }
+
+    public record StokDurumu(int urunId, String urunAd, int yeniStok, int minimumStok) {
+    }
+}
@@ -0,0 +1,199 @@
+package com.ticari.repository;
+
+import com.ticari.enums.StokGoruntuPeriyodu;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stok anlık görüntüleri ve bir tarihteki stoğun görüntü + hareket toplamı olarak hesaplanması.
+ * Ürün seçimi alan sorgular paralel yeniden oluşturmada her iş parçacığının kendi aralığıyla,
+ * hareket değişikliklerinde ise yalnızca etkilenen ürünlerle çalışması içindir; tüm ürünler için
+ * {@link #TUM_URUNLER_ILK} ve {@link #TUM_URUNLER_SON} aralığı verilir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StokProjeksiyonJdbcRepository {
+
+    public static final int TUM_URUNLER_ILK = Integer.MIN_VALUE;
+    public static final int TUM_URUNLER_SON = Integer.MAX_VALUE;
+    // SQL Server tek sorguda en fazla 2100 parametre kabul eder
+    public static final int IN_BOYUTU = 1000;
+
+    private static final int BATCH_BOYUTU = 1000;
+    private static final int FETCH_SIZE = 5000;
+
+    // Ürünün tarihe kadarki son görüntüsü + görüntü gününden sonraki hareketler
+    private static final String TARIHTEKI_STOK_SQL =
+            "SELECT u.UrunID, COALESCE(g.Miktar, 0) "
+            + "       + COALESCE(SUM(CASE WHEN h.IslemTuru = 'GIRIS' THEN h.Miktar ELSE -h.Miktar END), 0) "
+            + "FROM Urunler u "
+            + "LEFT JOIN StokAnlikGoruntuleri g ON g.UrunID = u.UrunID AND g.Tarih = "
+            + "     (SELECT MAX(g2.Tarih) FROM StokAnlikGoruntuleri g2 WHERE g2.UrunID = u.UrunID AND g2.Tarih <= ?) "
+            + "LEFT JOIN StokGirisCikis h ON h.UrunID = u.UrunID AND h.Tarih < ? "
+            + "     AND (g.Tarih IS NULL OR h.Tarih >= DATEADD(DAY, 1, CAST(g.Tarih AS DATETIME2))) "
+            + "WHERE %s "
+            + "GROUP BY u.UrunID, g.Miktar";
+
+    private static final String HAREKETLER_SQL =
+            "SELECT UrunID, Tarih, CASE WHEN IslemTuru = 'GIRIS' THEN Miktar ELSE -Miktar END "
+            + "FROM StokGirisCikis WHERE %s AND Tarih >= ? AND Tarih < ? "
+            + "ORDER BY UrunID, Tarih";
+
+    private static final String GORUNTU_SIL_SQL =
+            "DELETE FROM StokAnlikGoruntuleri WHERE Tarih >= ? AND %s";
+
+    private static final String GORUNTU_EKLE_SQL =
+            "INSERT INTO StokAnlikGoruntuleri (UrunID, Tarih, Miktar) VALUES (?, ?, ?)";
+
+    private static final String DURUM_OKU_SQL =
+            "SELECT SonKapanan FROM StokGoruntuDurumu WHERE Periyot = ?";
+    private static final String DURUM_GUNCELLE_SQL =
+            "UPDATE StokGoruntuDurumu SET SonKapanan = ? WHERE Periyot = ?";
+    private static final String DURUM_EKLE_SQL =
+            "INSERT INTO StokGoruntuDurumu (SonKapanan, Periyot) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Sorgulanacak ürünler: {@code [ilk, son]} aralığı, kimlikler verilmişse aralıktaki bu ürünler
+     * (en fazla {@link #IN_BOYUTU} tane). Aralık kümenin en küçük ve en büyük kimliğidir, böylece
+     * sorgular ürün-tarih indeksinde aralık taramasıyla kalır.
+     */
+    public record UrunSecimi(int ilk, int son, List<Integer> kimlikler) {
+
+        public static UrunSecimi aralik(int ilk, int son) {
+            return new UrunSecimi(ilk, son, null);
+        }
+
+        public static UrunSecimi kume(Collection<Integer> kimlikler) {
+            if (kimlikler.isEmpty() || kimlikler.size() > IN_BOYUTU) {
+                throw new IllegalArgumentException("Ürün kümesi 1 ile " + IN_BOYUTU + " arasında olmalı: " + kimlikler.size());
+            }
+            List<Integer> liste = kimlikler.stream().sorted().toList();
+            return new UrunSecimi(liste.get(0), liste.get(liste.size() - 1), liste);
+        }
+
+        String kosul(String kolon) {
+            String aralik = kolon + " BETWEEN ? AND ?";
+            return kimlikler == null ? aralik
+                    : aralik + " AND " + kolon + " IN (" + String.join(", ", Collections.nCopies(kimlikler.size(), "?")) + ")";
+        }
+
+        /**
+         * Parametreleri {@code i} konumundan başlayarak bağlar ve sonraki konumu döner.
+         */
+        int bagla(PreparedStatement ps, int i) throws SQLException {
+            ps.setInt(i++, ilk);
+            ps.setInt(i++, son);
+            if (kimlikler != null) {
+                for (Integer kimlik : kimlikler) {
+                    ps.setInt(i++, kimlik);
+                }
+            }
+            return i;
+        }
+    }
+
+    @FunctionalInterface
+    public interface StokTuketici {
+        void kabul(int urunId, int miktar);
+    }
+
+    @FunctionalInterface
+    public interface HareketTuketici {
+        void kabul(int urunId, LocalDateTime tarih, int fark);
+    }
+
+    /**
+     * Aralıktaki her ürünün {@code tarih} günü bitimindeki stoğu.
+     */
+    public void tarihtekiStoklar(LocalDate tarih, int ilkUrun, int sonUrun, StokTuketici tuketici) {
+        tarihtekiStoklar(tarih, UrunSecimi.aralik(ilkUrun, sonUrun), tuketici);
+    }
+
+    /**
+     * Seçilen her ürünün {@code tarih} günü bitimindeki stoğu.
+     */
+    public void tarihtekiStoklar(LocalDate tarih, UrunSecimi urunler, StokTuketici tuketici) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(TARIHTEKI_STOK_SQL.formatted(urunler.kosul("u.UrunID")));
+            ps.setDate(1, Date.valueOf(tarih));
+            ps.setTimestamp(2, Timestamp.valueOf(tarih.plusDays(1).atStartOfDay()));
+            urunler.bagla(ps, 3);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            tuketici.kabul(rs.getInt(1), rs.getInt(2));
+        });
+    }
+
+    /**
+     * Seçilen ürünlerin hareketlerini ürün ve tarih sırasıyla akıtır: {@code baslangic <= Tarih < bitis}.
+     */
+    public void hareketleriAkit(UrunSecimi urunler, LocalDateTime baslangic, LocalDateTime bitis,
+                                HareketTuketici tuketici) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(HAREKETLER_SQL.formatted(urunler.kosul("UrunID")));
+            int i = urunler.bagla(ps, 1);
+            ps.setTimestamp(i++, Timestamp.valueOf(baslangic));
+            ps.setTimestamp(i, Timestamp.valueOf(bitis));
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            tuketici.kabul(rs.getInt(1), rs.getTimestamp(2).toLocalDateTime(), rs.getInt(3));
+        });
+    }
+
+    public int goruntuleriSil(LocalDate baslangic, UrunSecimi urunler) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(GORUNTU_SIL_SQL.formatted(urunler.kosul("UrunID")));
+            ps.setDate(1, Date.valueOf(baslangic));
+            urunler.bagla(ps, 2);
+            return ps;
+        });
+    }
+
+    /**
+     * Satırlar {UrunID, Tarih (java.sql.Date), Miktar} biçimindedir.
+     */
+    public void goruntuleriEkle(List<Object[]> satirlar) {
+        for (int i = 0; i < satirlar.size(); i += BATCH_BOYUTU) {
+            jdbcTemplate.batchUpdate(GORUNTU_EKLE_SQL, satirlar.subList(i, Math.min(i + BATCH_BOYUTU, satirlar.size())));
+        }
+    }
+
+    public LocalDate ilkHareketTarihi() {
+        Timestamp ilk = jdbcTemplate.queryForObject("SELECT MIN(Tarih) FROM StokGirisCikis", Timestamp.class);
+        return ilk != null ? ilk.toLocalDateTime().toLocalDate() : null;
+    }
+
+    /**
+     * Ürün kimliklerinin alt ve üst sınırı; ürün yoksa null.
+     */
+    public int[] urunAraligi() {
+        return jdbcTemplate.queryForObject("SELECT MIN(UrunID), MAX(UrunID) FROM Urunler",
+                (rs, i) -> rs.getObject(1) != null ? new int[] { rs.getInt(1), rs.getInt(2) } : null);
+    }
+
+    public LocalDate sonKapanan(StokGoruntuPeriyodu periyot) {
+        List<Date> tarihler = jdbcTemplate.queryForList(DURUM_OKU_SQL, Date.class, periyot.name());
+        return tarihler.isEmpty() || tarihler.get(0) == null ? null : tarihler.get(0).toLocalDate();
+    }
+
+    public void sonKapananYaz(StokGoruntuPeriyodu periyot, LocalDate tarih) {
+        if (jdbcTemplate.update(DURUM_GUNCELLE_SQL, Date.valueOf(tarih), periyot.name()) == 0) {
+            jdbcTemplate.update(DURUM_EKLE_SQL, Date.valueOf(tarih), periyot.name());
+        }
+    }
+}
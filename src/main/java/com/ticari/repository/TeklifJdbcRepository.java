@@ -0,0 +1,123 @@
+package com.ticari.repository;
+
+import com.ticari.entity.Siparis;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tekliflerin toplu olarak siparişe ve faturaya dönüştürülmesi için JDBC işlemleri. Teklif ve
+ * satırlar kimlik listesiyle parça parça okunur; siparişler batch ile eklenir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeklifJdbcRepository {
+
+    private static final int BATCH_BOYUTU = 500;
+    // SQL Server tek sorguda en fazla 2100 parametre kabul eder
+    private static final int IN_BOYUTU = 1000;
+    private static final String SIPARIS_SEKANSI = "Siparisler_SEQ";
+
+    // Siparişi olan teklif daha önce dönüştürülmüştür
+    private static final String DONUSTURULECEKLER_SQL =
+            "SELECT t.TeklifID, t.TeklifNo, t.CariID, t.ToplamTutar FROM Teklifler t "
+            + "WHERE t.TeklifID IN (%s) AND t.Durum = 'ONAYLANDI' "
+            + "AND NOT EXISTS (SELECT 1 FROM Siparisler s WHERE s.TeklifID = t.TeklifID) ORDER BY t.TeklifID";
+
+    private static final String SATIRLAR_SQL =
+            "SELECT TeklifID, UrunID, Miktar, COALESCE(BirimFiyat, 0) FROM TeklifDetaylari "
+            + "WHERE TeklifID IN (%s) AND UrunID IS NOT NULL AND Miktar > 0 ORDER BY TeklifID, DetayID";
+
+    private static final String SIPARIS_EKLE_SQL =
+            "INSERT INTO Siparisler (SiparisID, SiparisNo, TeklifID, CariID, SiparisTarihi, Durum) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlokAyirici idBlokAyirici;
+
+    public record DonusturulecekTeklif(int teklifId, String teklifNo, int cariId, BigDecimal toplamTutar) {
+    }
+
+    public record TeklifSatiri(int teklifId, int urunId, int miktar, BigDecimal birimFiyat) {
+    }
+
+    /**
+     * Onaylanmış ve henüz siparişi olmayan tüm tekliflerin kimlikleri.
+     */
+    public List<Integer> donusturulecekIdler() {
+        return jdbcTemplate.queryForList("SELECT t.TeklifID FROM Teklifler t WHERE t.Durum = 'ONAYLANDI' "
+                + "AND NOT EXISTS (SELECT 1 FROM Siparisler s WHERE s.TeklifID = t.TeklifID) ORDER BY t.TeklifID",
+                Integer.class);
+    }
+
+    /**
+     * Verilenlerden onaylanmış ve henüz siparişi olmayan teklifler, kimlik sırasıyla.
+     */
+    public List<DonusturulecekTeklif> donusturulecekler(List<Integer> teklifIdler) {
+        List<DonusturulecekTeklif> sonuc = new ArrayList<>(teklifIdler.size());
+        for (List<Integer> parca : parcala(teklifIdler)) {
+            sonuc.addAll(jdbcTemplate.query(DONUSTURULECEKLER_SQL.formatted(yerTutucular(parca)),
+                    (rs, i) -> new DonusturulecekTeklif(
+                            rs.getInt(1),
+                            rs.getString(2),
+                            rs.getInt(3),
+                            rs.getBigDecimal(4)),
+                    parca.toArray()));
+        }
+        return sonuc;
+    }
+
+    /**
+     * Tekliflerin ürün satırları, teklif ve satır sırasıyla.
+     */
+    public List<TeklifSatiri> satirlar(List<Integer> teklifIdler) {
+        List<TeklifSatiri> sonuc = new ArrayList<>();
+        for (List<Integer> parca : parcala(teklifIdler)) {
+            sonuc.addAll(jdbcTemplate.query(SATIRLAR_SQL.formatted(yerTutucular(parca)),
+                    (rs, i) -> new TeklifSatiri(
+                            rs.getInt(1),
+                            rs.getInt(2),
+                            rs.getInt(3),
+                            rs.getBigDecimal(4)),
+                    parca.toArray()));
+        }
+        return sonuc;
+    }
+
+    /**
+     * Siparişleri ekler; kimliği olmayanlara sekanstan verilir.
+     */
+    public void siparisleriEkle(List<Siparis> siparisler) {
+        for (Siparis siparis : siparisler) {
+            if (siparis.getSiparisId() == null) {
+                siparis.setSiparisId(idBlokAyirici.sonraki(SIPARIS_SEKANSI));
+            }
+        }
+        jdbcTemplate.batchUpdate(SIPARIS_EKLE_SQL, siparisler, BATCH_BOYUTU, (ps, siparis) -> {
+            ps.setInt(1, siparis.getSiparisId());
+            ps.setString(2, siparis.getSiparisNo());
+            ps.setInt(3, siparis.getTeklif().getTeklifId());
+            ps.setInt(4, siparis.getCari().getCariId());
+            ps.setTimestamp(5, Timestamp.valueOf(siparis.getSiparisTarihi()));
+            ps.setString(6, siparis.getDurum().name());
+        });
+    }
+
+    private static List<List<Integer>> parcala(List<Integer> idler) {
+        List<List<Integer>> parcalar = new ArrayList<>();
+        for (int i = 0; i < idler.size(); i += IN_BOYUTU) {
+            parcalar.add(idler.subList(i, Math.min(i + IN_BOYUTU, idler.size())));
+        }
+        return parcalar;
+    }
+
+    private static String yerTutucular(List<Integer> parca) {
+        return String.join(", ", Collections.nCopies(parca.size(), "?"));
+    }
+}
@@ -3,15 +3,32 @@ package com.ticari.repository;
 import com.ticari.entity.Cari;
 import com.ticari.entity.Teklif;
 import com.ticari.enums.TeklifDurumu;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TeklifRepository extends JpaRepository<Teklif, Integer> {
     List<Teklif> findByCari(Cari cari);
     List<Teklif> findByDurum(TeklifDurumu durum);
     List<Teklif> findByTeklifTarihiBetween(LocalDateTime baslangic, LocalDateTime bitis);
+    
+    @EntityGraph("Teklif.liste")
+    Slice<Teklif> findAllBy(Pageable pageable);
+    
+    @EntityGraph("Teklif.liste")
+    List<Teklif> findByTeklifIdIn(Collection<Integer> teklifIdler);
+    
+    @EntityGraph("Teklif.liste")
+    List<Teklif> findByCariUnvanContainingIgnoreCase(String unvan, Pageable pageable);
+    
+    @EntityGraph("Teklif.detay")
+    Optional<Teklif> findDetayByTeklifId(Integer teklifId);
 }
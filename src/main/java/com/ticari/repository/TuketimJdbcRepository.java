@@ -0,0 +1,160 @@
+package com.ticari.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ürün tüketim hızları için JDBC işlemleri. Aralık alan yöntemler paralel hesaplamada her iş
+ * parçacığının kendi ürün kimliği aralığıyla çalışması içindir.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TuketimJdbcRepository {
+
+    private static final int BATCH_BOYUTU = 1000;
+    private static final int FETCH_SIZE = 5000;
+
+    private static final String TUKETIMLER_SQL =
+            "SELECT UrunID, GunlukOrtalama, GunlukVaryans, SonGun, TedarikciID FROM UrunTuketimleri "
+            + "WHERE UrunID BETWEEN ? AND ?";
+
+    private static final String GUNLUK_CIKISLAR_SQL =
+            "SELECT UrunID, CAST(Tarih AS DATE) AS Gun, SUM(Miktar) FROM StokGirisCikis "
+            + "WHERE IslemTuru = 'CIKIS' AND UrunID BETWEEN ? AND ? AND Tarih >= ? AND Tarih < ? "
+            + "GROUP BY UrunID, CAST(Tarih AS DATE) ORDER BY UrunID, Gun";
+
+    private static final String ALISLAR_SQL =
+            "SELECT h.UrunID, f.CariID FROM StokGirisCikis h JOIN Faturalar f ON f.FaturaID = h.FaturaID "
+            + "WHERE f.Tur = 'ALIS' AND h.UrunID BETWEEN ? AND ? AND h.Tarih >= ? AND h.Tarih < ? "
+            + "ORDER BY h.UrunID, h.Tarih, h.HareketID";
+
+    private static final String TUKETIM_EKLE_SQL =
+            "INSERT INTO UrunTuketimleri (UrunID, GunlukOrtalama, GunlukVaryans, SonGun, TedarikciID, "
+            + "GuvenlikStogu, YenidenSiparisNoktasi) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ADAYLAR_SQL =
+            "SELECT t.UrunID, u.UrunAd, u.MevcutStokMiktari, t.GunlukOrtalama, t.GuvenlikStogu, "
+            + "t.YenidenSiparisNoktasi, t.TedarikciID, c.Unvan "
+            + "FROM UrunTuketimleri t JOIN Urunler u ON u.UrunID = t.UrunID "
+            + "LEFT JOIN Cariler c ON c.CariID = t.TedarikciID "
+            + "WHERE u.MevcutStokMiktari <= t.YenidenSiparisNoktasi AND t.GunlukOrtalama > 0 "
+            + "ORDER BY c.Unvan, u.UrunAd";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Tuketim(int urunId, double ortalama, double varyans, LocalDate sonGun, Integer tedarikciId,
+                          int guvenlikStogu, int yenidenSiparisNoktasi) {
+    }
+
+    public record Aday(int urunId, String urunAd, int mevcutStok, double gunlukOrtalama, int guvenlikStogu,
+                       int yenidenSiparisNoktasi, Integer tedarikciId, String tedarikciUnvan) {
+    }
+
+    @FunctionalInterface
+    public interface GunlukCikisTuketici {
+        void kabul(int urunId, LocalDate gun, int miktar);
+    }
+
+    /**
+     * Tüm ürünlerin işlendiği son gün; hiç hesaplanmamışsa null.
+     */
+    public LocalDate sonGun() {
+        Date gun = jdbcTemplate.queryForObject("SELECT MAX(SonGun) FROM UrunTuketimleri", Date.class);
+        return gun != null ? gun.toLocalDate() : null;
+    }
+
+    public LocalDate ilkCikisGunu() {
+        Timestamp ilk = jdbcTemplate.queryForObject(
+                "SELECT MIN(Tarih) FROM StokGirisCikis WHERE IslemTuru = 'CIKIS'", Timestamp.class);
+        return ilk != null ? ilk.toLocalDateTime().toLocalDate() : null;
+    }
+
+    public int[] urunAraligi() {
+        return jdbcTemplate.queryForObject("SELECT MIN(UrunID), MAX(UrunID) FROM Urunler",
+                (rs, i) -> rs.getObject(1) != null ? new int[] { rs.getInt(1), rs.getInt(2) } : null);
+    }
+
+    public Map<Integer, Tuketim> tuketimler(int ilkUrun, int sonUrun) {
+        Map<Integer, Tuketim> sonuc = new HashMap<>();
+        jdbcTemplate.query(TUKETIMLER_SQL, rs -> {
+            Tuketim t = new Tuketim(rs.getInt(1), rs.getDouble(2), rs.getDouble(3), rs.getDate(4).toLocalDate(),
+                    rs.getObject(5, Integer.class), 0, 0);
+            sonuc.put(t.urunId(), t);
+        }, ilkUrun, sonUrun);
+        return sonuc;
+    }
+
+    /**
+     * Günlük çıkış toplamlarını ürün ve gün sırasıyla akıtır: {@code baslangic <= gün <= bitis}.
+     */
+    public void gunlukCikislariAkit(int ilkUrun, int sonUrun, LocalDate baslangic, LocalDate bitis,
+                                    GunlukCikisTuketici tuketici) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(GUNLUK_CIKISLAR_SQL);
+            ps.setInt(1, ilkUrun);
+            ps.setInt(2, sonUrun);
+            ps.setTimestamp(3, Timestamp.valueOf(baslangic.atStartOfDay()));
+            ps.setTimestamp(4, Timestamp.valueOf(bitis.plusDays(1).atStartOfDay()));
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            tuketici.kabul(rs.getInt(1), rs.getDate(2).toLocalDate(), rs.getInt(3));
+        });
+    }
+
+    /**
+     * Aralıktaki alışlarda her ürünün son tedarikçisi.
+     */
+    public Map<Integer, Integer> sonTedarikciler(int ilkUrun, int sonUrun, LocalDate baslangic, LocalDate bitis) {
+        Map<Integer, Integer> sonuc = new HashMap<>();
+        jdbcTemplate.query(ALISLAR_SQL, rs -> {
+            sonuc.put(rs.getInt(1), rs.getInt(2));
+        }, ilkUrun, sonUrun, Timestamp.valueOf(baslangic.atStartOfDay()), Timestamp.valueOf(bitis.plusDays(1).atStartOfDay()));
+        return sonuc;
+    }
+
+    /**
+     * Aralığın satırlarını verilenlerle değiştirir.
+     */
+    public void araligiYaz(int ilkUrun, int sonUrun, List<Tuketim> tuketimler) {
+        jdbcTemplate.update("DELETE FROM UrunTuketimleri WHERE UrunID BETWEEN ? AND ?", ilkUrun, sonUrun);
+        jdbcTemplate.batchUpdate(TUKETIM_EKLE_SQL, tuketimler, BATCH_BOYUTU, (ps, t) -> {
+            ps.setInt(1, t.urunId());
+            ps.setDouble(2, t.ortalama());
+            ps.setDouble(3, t.varyans());
+            ps.setDate(4, Date.valueOf(t.sonGun()));
+            if (t.tedarikciId() != null) {
+                ps.setInt(5, t.tedarikciId());
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setInt(6, t.guvenlikStogu());
+            ps.setInt(7, t.yenidenSiparisNoktasi());
+        });
+    }
+
+    /**
+     * Stoğu yeniden sipariş noktasına inmiş, satışı olan ürünler; tedarikçi ve ürün adına göre sıralı.
+     */
+    public List<Aday> siparisAdaylari() {
+        return jdbcTemplate.query(ADAYLAR_SQL, (rs, i) -> new Aday(
+                rs.getInt(1),
+                rs.getString(2),
+                rs.getInt(3),
+                rs.getDouble(4),
+                rs.getInt(5),
+                rs.getInt(6),
+                rs.getObject(7, Integer.class),
+                rs.getString(8)));
+    }
+}
@@ -2,10 +2,13 @@ package com.ticari.repository;
 
 import com.ticari.entity.Kategori;
 import com.ticari.entity.Urun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +16,15 @@ public interface UrunRepository extends JpaRepository<Urun, Integer> {
     List<Urun> findByKategori(Kategori kategori);
     List<Urun> findByUrunAdContainingIgnoreCase(String urunAd);
     
-    @Query("SELECT u FROM Urun u WHERE u.mevcutStokMiktari < u.minimumStokSeviyesi")
-    List<Urun> findDusukStokluUrunler();
+    @EntityGraph("Urun.liste")
+    Slice<Urun> findAllBy(Pageable pageable);
+    
+    @EntityGraph("Urun.liste")
+    List<Urun> findByUrunIdIn(Collection<Integer> urunIdler);
+    
+    @EntityGraph("Urun.liste")
+    List<Urun> findByUrunAdContainingIgnoreCase(String urunAd, Pageable pageable);
+    
+    @EntityGraph("Urun.liste")
+    List<Urun> findByKritikStoktaTrue();
 }
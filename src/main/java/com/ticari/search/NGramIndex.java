@@ -0,0 +1,278 @@
+package com.ticari.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bellekte tutulan trigram + kelime başı (prefix) indeksi. Metinler Türkçe kurallarıyla
+ * normalize edilir (bkz. {@link #normalize(String)}).
+ * Üç ve daha uzun sorgular trigram listeleriyle, bir-iki karakterlik sorgular
+ * kelime başı listeleriyle cevaplanır. Adaylar en seyrek listeden alınıp
+ * saklanan metin üzerinde doğrulandığı için sonuçlar her zaman kesindir.
+ *
+ * <p>Listeler id sırasında tutulur; ekleme ve çıkarma ikili aramayla yer bulur. Adaylar en yeni
+ * kayıttan (en büyük id) başlayarak taranır. Yalnızca bir-iki karakterlik kelimelerden oluşan
+ * sorgularda aday listesi neredeyse tüm kayıtlar olabildiğinden tarama en yeni
+ * {@link #KISA_SORGU_TARAMA_LIMITI} adayla sınırlanır; bu sorgularda sıralama bu adaylar içindedir.
+ */
+public class NGramIndex {
+
+    public static final int KISA_SORGU_TARAMA_LIMITI = 5000;
+
+    private static final Locale TR = Locale.forLanguageTag("tr");
+    private static final String PREFIX_ISARETI = "^";
+
+    private final Map<Integer, String> metinler = new HashMap<>();
+    private final Map<String, IntList> listeler = new HashMap<>();
+    private final ReadWriteLock kilit = new ReentrantReadWriteLock();
+
+    /**
+     * Kaydı ekler ya da günceller; indekslenen metin değiştiyse true döner.
+     */
+    public boolean ekle(int id, String... alanlar) {
+        String metin = normalize(String.join(" ", Arrays.stream(alanlar).map(a -> a != null ? a : "").toList()));
+        kilit.writeLock().lock();
+        try {
+            String eski = metinler.put(id, metin);
+            if (metin.equals(eski)) {
+                return false;
+            }
+            if (eski != null) {
+                anahtarlar(eski).forEach(a -> {
+                    IntList liste = listeler.get(a);
+                    if (liste != null) {
+                        liste.cikar(id);
+                    }
+                });
+            }
+            anahtarlar(metin).forEach(a -> listeler.computeIfAbsent(a, k -> new IntList()).ekle(id));
+            return true;
+        } finally {
+            kilit.writeLock().unlock();
+        }
+    }
+
+    public void cikar(int id) {
+        kilit.writeLock().lock();
+        try {
+            String eski = metinler.remove(id);
+            if (eski != null) {
+                anahtarlar(eski).forEach(a -> {
+                    IntList liste = listeler.get(a);
+                    if (liste != null) {
+                        liste.cikar(id);
+                    }
+                });
+            }
+        } finally {
+            kilit.writeLock().unlock();
+        }
+    }
+
+    public int boyut() {
+        kilit.readLock().lock();
+        try {
+            return metinler.size();
+        } finally {
+            kilit.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sorgudaki her kelimeyi içeren kayıtların id'lerini en iyi eşleşme önce olacak şekilde döner:
+     * metin sorguyla başlıyorsa, sonra bir kelime sorguyla başlıyorsa, sonra yalnızca içeriyorsa;
+     * eşitlikte kısa metin öne alınır.
+     */
+    public List<Integer> ara(String sorgu, int limit) {
+        String normal = normalize(sorgu);
+        if (normal.isEmpty()) {
+            return List.of();
+        }
+        String[] kelimeler = normal.split(" ");
+        boolean kisa = Arrays.stream(kelimeler).allMatch(k -> k.length() < 3);
+
+        kilit.readLock().lock();
+        try {
+            IntList adaylar = null;
+            for (String kelime : kelimeler) {
+                for (String anahtar : sorguAnahtarlari(kelime)) {
+                    IntList liste = listeler.get(anahtar);
+                    if (liste == null || liste.boyut == 0) {
+                        return List.of();
+                    }
+                    if (adaylar == null || liste.boyut < adaylar.boyut) {
+                        adaylar = liste;
+                    }
+                }
+            }
+            if (adaylar == null) {
+                return List.of();
+            }
+
+            Comparator<Eslesme> kotuOnce = Comparator.comparingInt(Eslesme::puan)
+                    .thenComparingInt(Eslesme::uzunluk)
+                    .thenComparingInt(e -> -e.id())
+                    .reversed();
+            PriorityQueue<Eslesme> enIyiler = new PriorityQueue<>(limit + 1, kotuOnce);
+            int alt = kisa ? Math.max(0, adaylar.boyut - KISA_SORGU_TARAMA_LIMITI) : 0;
+            for (int i = adaylar.boyut - 1; i >= alt; i--) {
+                int id = adaylar.degerler[i];
+                String metin = metinler.get(id);
+                int puan = puanla(metin, normal, kelimeler);
+                if (puan < 0) {
+                    continue;
+                }
+                enIyiler.add(new Eslesme(id, puan, metin.length()));
+                if (enIyiler.size() > limit) {
+                    enIyiler.poll();
+                }
+            }
+
+            List<Eslesme> sirali = new ArrayList<>(enIyiler);
+            sirali.sort(kotuOnce.reversed());
+            return sirali.stream().map(Eslesme::id).toList();
+        } finally {
+            kilit.readLock().unlock();
+        }
+    }
+
+    /**
+     * Türkçe kurallarına göre küçük harfe çevirir (I→ı, İ→i) ve ardından aksanları katlar
+     * (ı→i, ş→s, ğ→g, ç→c, ö→o, ü→u). Böylece "ISIK", "Işık" ve "isik" aynı anahtarlara düşer;
+     * Locale.ROOT ile yapılan katlamadaki "İ"→"i̇" (noktalı i + birleşik nokta) bozulması olmaz.
+     */
+    public static String normalize(String metin) {
+        if (metin == null) {
+            return "";
+        }
+        String kucuk = metin.toLowerCase(TR);
+        StringBuilder sb = new StringBuilder(kucuk.length());
+        boolean bosluk = true;
+        for (int i = 0; i < kucuk.length(); i++) {
+            char c = katla(kucuk.charAt(i));
+            if (Character.isWhitespace(c) || c == '\u0307') {
+                if (c != '\u0307' && !bosluk) {
+                    sb.append(' ');
+                    bosluk = true;
+                }
+                continue;
+            }
+            sb.append(c);
+            bosluk = false;
+        }
+        int son = sb.length();
+        if (son > 0 && sb.charAt(son - 1) == ' ') {
+            sb.setLength(son - 1);
+        }
+        return sb.toString();
+    }
+
+    private static char katla(char c) {
+        return switch (c) {
+            case 'ı' -> 'i';
+            case 'ş' -> 's';
+            case 'ğ' -> 'g';
+            case 'ç' -> 'c';
+            case 'ö' -> 'o';
+            case 'ü' -> 'u';
+            case 'â' -> 'a';
+            case 'î' -> 'i';
+            case 'û' -> 'u';
+            default -> c;
+        };
+    }
+
+    private static int puanla(String metin, String sorgu, String[] kelimeler) {
+        if (metin == null) {
+            return -1;
+        }
+        boolean hepsiKelimeBasi = true;
+        for (String kelime : kelimeler) {
+            boolean kelimeBasi = metin.startsWith(kelime) || metin.contains(" " + kelime);
+            if (!kelimeBasi) {
+                // Kısa sorgular yalnızca kelime başından eşleşir
+                if (kelime.length() < 3 || !metin.contains(kelime)) {
+                    return -1;
+                }
+                hepsiKelimeBasi = false;
+            }
+        }
+        if (metin.startsWith(sorgu)) {
+            return 0;
+        }
+        return hepsiKelimeBasi ? 1 : 2;
+    }
+
+    private static List<String> anahtarlar(String metin) {
+        List<String> sonuc = new ArrayList<>();
+        for (String kelime : metin.split(" ")) {
+            if (kelime.isEmpty()) {
+                continue;
+            }
+            sonuc.add(PREFIX_ISARETI + kelime.substring(0, 1));
+            if (kelime.length() > 1) {
+                sonuc.add(PREFIX_ISARETI + kelime.substring(0, 2));
+            }
+            for (int i = 0; i + 3 <= kelime.length(); i++) {
+                sonuc.add(kelime.substring(i, i + 3));
+            }
+        }
+        return sonuc.stream().distinct().toList();
+    }
+
+    private static List<String> sorguAnahtarlari(String kelime) {
+        if (kelime.length() < 3) {
+            return List.of(PREFIX_ISARETI + kelime);
+        }
+        List<String> sonuc = new ArrayList<>(kelime.length() - 2);
+        for (int i = 0; i + 3 <= kelime.length(); i++) {
+            sonuc.add(kelime.substring(i, i + 3));
+        }
+        return sonuc;
+    }
+
+    private record Eslesme(int id, int puan, int uzunluk) {
+    }
+
+    /**
+     * Artan sırada, tekrarsız id listesi. Yeni kayıtların id'si büyük olduğundan ekleme çoğunlukla
+     * sona yapılır; aradan ekleme ve çıkarma ikili arama ve tek blok kaydırmadır.
+     */
+    private static final class IntList {
+        private int[] degerler = new int[4];
+        private int boyut;
+
+        void ekle(int deger) {
+            int yer = boyut;
+            if (boyut > 0 && degerler[boyut - 1] >= deger) {
+                yer = Arrays.binarySearch(degerler, 0, boyut, deger);
+                if (yer >= 0) {
+                    return;
+                }
+                yer = -yer - 1;
+            }
+            if (boyut == degerler.length) {
+                degerler = Arrays.copyOf(degerler, boyut * 2);
+            }
+            System.arraycopy(degerler, yer, degerler, yer + 1, boyut - yer);
+            degerler[yer] = deger;
+            boyut++;
+        }
+
+        void cikar(int deger) {
+            int yer = Arrays.binarySearch(degerler, 0, boyut, deger);
+            if (yer >= 0) {
+                System.arraycopy(degerler, yer + 1, degerler, yer, boyut - yer - 1);
+                boyut--;
+            }
+        }
+    }
+}
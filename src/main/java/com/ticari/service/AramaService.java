@@ -0,0 +1,222 @@
+package com.ticari.service;
+
+import com.ticari.entity.Cari;
+import com.ticari.entity.Fatura;
+import com.ticari.entity.Teklif;
+import com.ticari.entity.Urun;
+import com.ticari.repository.CariRepository;
+import com.ticari.repository.FaturaRepository;
+import com.ticari.repository.TeklifRepository;
+import com.ticari.repository.UrunRepository;
+import com.ticari.search.NGramIndex;
+import com.ticari.utils.TransactionHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Tablo ekranlarının arama kutuları için bellekte tutulan n-gram indeksleri.
+ * İndeksler uygulama açıldıktan sonra arka planda kurulur; kurulum bitene kadar
+ * aramalar veritabanına düşer.
+ */
+@Service
+@RequiredArgsConstructor
+public class AramaService {
+
+    public static final int SONUC_LIMITI = 200;
+    private static final int FETCH_SIZE = 5000;
+    // SQL Server tek sorguda en fazla 2100 parametre kabul eder
+    private static final int IN_BOYUTU = 1000;
+
+    private static final String FATURA_SQL =
+            "SELECT f.FaturaID, f.FaturaNo, c.Unvan, c.CariKod, c.VergiNo FROM Faturalar f "
+            + "LEFT JOIN Cariler c ON c.CariID = f.CariID";
+    private static final String TEKLIF_SQL =
+            "SELECT t.TeklifID, t.TeklifNo, c.Unvan, c.CariKod FROM Teklifler t "
+            + "LEFT JOIN Cariler c ON c.CariID = t.CariID";
+    private static final String CARI_SQL =
+            "SELECT CariID, Unvan, CariKod, VergiNo FROM Cariler";
+    private static final String URUN_SQL =
+            "SELECT u.UrunID, u.UrunAd, k.KategoriAd FROM Urunler u "
+            + "LEFT JOIN Kategoriler k ON k.KategoriID = u.KategoriID";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FaturaRepository faturaRepository;
+    private final TeklifRepository teklifRepository;
+    private final CariRepository cariRepository;
+    private final UrunRepository urunRepository;
+
+    private final NGramIndex faturaIndeksi = new NGramIndex();
+    private final NGramIndex teklifIndeksi = new NGramIndex();
+    private final NGramIndex cariIndeksi = new NGramIndex();
+    private final NGramIndex urunIndeksi = new NGramIndex();
+    private volatile boolean hazir;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indeksleriKurmayaBasla() {
+        Thread thread = new Thread(this::indeksleriKur, "arama-indeksi");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * İndeksleri çağıran thread'de kurar. Toplu veri yüklemesinden sonra indeksleri tazelemek için de kullanılır.
+     */
+    public void indeksleriKur() {
+        try {
+            long baslangic = System.currentTimeMillis();
+            // Kimlik sırasıyla okunur; indeks listelerine ekleme sona yapılır
+            akisla(FATURA_SQL + " ORDER BY f.FaturaID", rs -> faturaIndeksi.ekle(rs.getInt(1),
+                    rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5)));
+            akisla(TEKLIF_SQL + " ORDER BY t.TeklifID", rs -> teklifIndeksi.ekle(rs.getInt(1),
+                    rs.getString(2), rs.getString(3), rs.getString(4)));
+            akisla(CARI_SQL + " ORDER BY CariID", rs -> cariIndeksi.ekle(rs.getInt(1),
+                    rs.getString(2), rs.getString(3), rs.getString(4)));
+            akisla(URUN_SQL + " ORDER BY u.UrunID", rs -> urunIndeksi.ekle(rs.getInt(1),
+                    rs.getString(2), rs.getString(3)));
+            hazir = true;
+            System.out.println("Arama indeksleri hazır: " + faturaIndeksi.boyut() + " fatura, "
+                    + teklifIndeksi.boyut() + " teklif, " + cariIndeksi.boyut() + " cari, "
+                    + urunIndeksi.boyut() + " ürün (" + (System.currentTimeMillis() - baslangic) + " ms)");
+        } catch (Exception e) {
+            System.err.println("Arama indeksi kurulamadı, aramalar veritabanından yapılacak: " + e.getMessage());
+        }
+    }
+
+    public List<Fatura> faturaAra(String metin) {
+        if (!hazir) {
+            return faturaRepository.findByFaturaNoContainingIgnoreCaseOrCariUnvanContainingIgnoreCase(
+                    metin, metin, PageRequest.of(0, SONUC_LIMITI));
+        }
+        List<Integer> idler = faturaIndeksi.ara(metin, SONUC_LIMITI);
+        return siraliGetir(idler, faturaRepository.findByFaturaIdIn(idler), Fatura::getFaturaId);
+    }
+
+    public List<Teklif> teklifAra(String metin) {
+        if (!hazir) {
+            return teklifRepository.findByCariUnvanContainingIgnoreCase(metin, PageRequest.of(0, SONUC_LIMITI));
+        }
+        List<Integer> idler = teklifIndeksi.ara(metin, SONUC_LIMITI);
+        return siraliGetir(idler, teklifRepository.findByTeklifIdIn(idler), Teklif::getTeklifId);
+    }
+
+    public List<Cari> cariAra(String metin) {
+        if (!hazir) {
+            return cariRepository.findByUnvanContainingIgnoreCase(metin, PageRequest.of(0, SONUC_LIMITI));
+        }
+        List<Integer> idler = cariIndeksi.ara(metin, SONUC_LIMITI);
+        return siraliGetir(idler, cariRepository.findByCariIdIn(idler), Cari::getCariId);
+    }
+
+    public List<Urun> urunAra(String metin) {
+        if (!hazir) {
+            return urunRepository.findByUrunAdContainingIgnoreCase(metin, PageRequest.of(0, SONUC_LIMITI));
+        }
+        List<Integer> idler = urunIndeksi.ara(metin, SONUC_LIMITI);
+        return siraliGetir(idler, urunRepository.findByUrunIdIn(idler), Urun::getUrunId);
+    }
+
+    public void faturaIndeksle(Integer faturaId) {
+        TransactionHelper.commitSonrasi(() -> jdbcTemplate.query(FATURA_SQL + " WHERE f.FaturaID = ?",
+                (RowCallbackHandler) rs -> faturaIndeksi.ekle(rs.getInt(1),
+                        rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5)),
+                faturaId));
+    }
+
+    /**
+     * Toplu kaydedilen faturaları commit sonrasında parça parça tek sorguyla indeksler.
+     */
+    public void faturalariIndeksle(List<Integer> faturaIdler) {
+        TransactionHelper.commitSonrasi(() -> {
+            for (int i = 0; i < faturaIdler.size(); i += IN_BOYUTU) {
+                List<Integer> parca = faturaIdler.subList(i, Math.min(i + IN_BOYUTU, faturaIdler.size()));
+                String yerTutucular = String.join(", ", Collections.nCopies(parca.size(), "?"));
+                jdbcTemplate.query(FATURA_SQL + " WHERE f.FaturaID IN (" + yerTutucular + ")",
+                        (RowCallbackHandler) rs -> faturaIndeksi.ekle(rs.getInt(1),
+                                rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5)),
+                        parca.toArray());
+            }
+        });
+    }
+
+    public void faturaCikar(Integer faturaId) {
+        TransactionHelper.commitSonrasi(() -> faturaIndeksi.cikar(faturaId));
+    }
+
+    public void teklifIndeksle(Integer teklifId) {
+        TransactionHelper.commitSonrasi(() -> jdbcTemplate.query(TEKLIF_SQL + " WHERE t.TeklifID = ?",
+                (RowCallbackHandler) rs -> teklifIndeksi.ekle(rs.getInt(1),
+                        rs.getString(2), rs.getString(3), rs.getString(4)),
+                teklifId));
+    }
+
+    public void teklifCikar(Integer teklifId) {
+        TransactionHelper.commitSonrasi(() -> teklifIndeksi.cikar(teklifId));
+    }
+
+    /**
+     * Cariyi yeniden indeksler; ünvan, kod ya da vergi no değiştiyse bu cariye ait
+     * fatura ve teklif kayıtları da yeni metinle güncellenir.
+     */
+    public void cariIndeksle(Integer cariId) {
+        TransactionHelper.commitSonrasi(() -> jdbcTemplate.query(CARI_SQL + " WHERE CariID = ?",
+                (RowCallbackHandler) rs -> {
+                    boolean degisti = cariIndeksi.ekle(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4));
+                    if (degisti) {
+                        jdbcTemplate.query(FATURA_SQL + " WHERE f.CariID = ?",
+                                (RowCallbackHandler) f -> faturaIndeksi.ekle(f.getInt(1),
+                                        f.getString(2), f.getString(3), f.getString(4), f.getString(5)),
+                                cariId);
+                        jdbcTemplate.query(TEKLIF_SQL + " WHERE t.CariID = ?",
+                                (RowCallbackHandler) t -> teklifIndeksi.ekle(t.getInt(1),
+                                        t.getString(2), t.getString(3), t.getString(4)),
+                                cariId);
+                    }
+                },
+                cariId));
+    }
+
+    public void cariCikar(Integer cariId) {
+        TransactionHelper.commitSonrasi(() -> cariIndeksi.cikar(cariId));
+    }
+
+    public void urunIndeksle(Integer urunId) {
+        TransactionHelper.commitSonrasi(() -> jdbcTemplate.query(URUN_SQL + " WHERE u.UrunID = ?",
+                (RowCallbackHandler) rs -> urunIndeksi.ekle(rs.getInt(1), rs.getString(2), rs.getString(3)),
+                urunId));
+    }
+
+    public void urunCikar(Integer urunId) {
+        TransactionHelper.commitSonrasi(() -> urunIndeksi.cikar(urunId));
+    }
+
+    private void akisla(String sql, RowCallbackHandler isleyici) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, isleyici);
+    }
+
+    private static <T> List<T> siraliGetir(List<Integer> idler, List<T> kayitlar, Function<T, Integer> idGetirici) {
+        Map<Integer, Integer> sira = new HashMap<>();
+        for (int i = 0; i < idler.size(); i++) {
+            sira.put(idler.get(i), i);
+        }
+        return kayitlar.stream()
+                .sorted(Comparator.comparingInt(k -> sira.get(idGetirici.apply(k))))
+                .toList();
+    }
+}
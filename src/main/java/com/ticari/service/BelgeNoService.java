@@ -0,0 +1,153 @@
+package com.ticari.service;
+
+import com.ticari.entity.BelgeNoSerisiId;
+import com.ticari.repository.BelgeNoJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fatura, teklif ve sipariş numaraları. Numara biçimi seri (3 harf) + yıl + 9 haneli sıra
+ * numarasıdır, örn. {@code FAT2024000000123}; her seri her yıl 1'den başlar.
+ *
+ * <p>Her terminal seri satırından blok boyutu kadar numarayı kendi adına ayırır ve blok bitene
+ * kadar bellekten verir; seri satırı numara başına değil blok başına bir kez, kendi kısa
+ * transaction'ında kilitlenir. Numaralar tekildir ama terminaller arasında tarih sırasını izlemez.
+ * Boşluklar ancak geri alınan kayıtlardan ve çöken bir terminalin kalan bloğundan oluşur;
+ * ikincisi en fazla blok boyutu kadardır.
+ *
+ * <p>{@code ticari.terminal} ilk belge kaydında değil açılışta doğrulansın diye bean tembel başlatılmaz.
+ */
+@Service
+@Lazy(false)
+public class BelgeNoService {
+
+    public static final String SERI_FATURA = "FAT";
+    public static final String SERI_TEKLIF = "TKL";
+    public static final String SERI_SIPARIS = "SIP";
+
+    private static final int TERMINAL_UZUNLUGU = 50;
+
+    private final BelgeNoJdbcRepository belgeNoJdbcRepository;
+    private final TransactionTemplate ayriTransaction;
+    private final int blokBoyutu;
+    private final String terminal;
+    private final Map<BelgeNoSerisiId, Blok> bloklar = new ConcurrentHashMap<>();
+
+    public BelgeNoService(BelgeNoJdbcRepository belgeNoJdbcRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${ticari.belge-no.blok-boyutu:20}") int blokBoyutu,
+                          @Value("${ticari.terminal:}") String terminal) {
+        this.belgeNoJdbcRepository = belgeNoJdbcRepository;
+        this.ayriTransaction = new TransactionTemplate(transactionManager);
+        this.ayriTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (terminal.strip().length() > TERMINAL_UZUNLUGU) {
+            throw new IllegalArgumentException("ticari.terminal en fazla " + TERMINAL_UZUNLUGU
+                    + " karakter olabilir: " + terminal);
+        }
+        if (blokBoyutu <= 0) {
+            throw new IllegalArgumentException("ticari.belge-no.blok-boyutu pozitif olmalı: " + blokBoyutu);
+        }
+        this.blokBoyutu = blokBoyutu;
+        this.terminal = terminal.isBlank() ? bilgisayarAdi() : terminal.strip();
+    }
+
+    public String faturaNo(LocalDateTime tarih) {
+        return sonraki(SERI_FATURA, yil(tarih));
+    }
+
+    public String teklifNo(LocalDateTime tarih) {
+        return sonraki(SERI_TEKLIF, yil(tarih));
+    }
+
+    public String siparisNo(LocalDateTime tarih) {
+        return sonraki(SERI_SIPARIS, yil(tarih));
+    }
+
+    public String sonraki(String seri, int yil) {
+        long numara = bloklar.computeIfAbsent(new BelgeNoSerisiId(seri, yil), id -> new Blok(seri, yil)).sonraki();
+        return bicimle(seri, yil, numara);
+    }
+
+    public static String bicimle(String seri, int yil, long numara) {
+        return seri + yil + String.format("%09d", numara);
+    }
+
+    /**
+     * Kullanılmayan blok kalanlarını veritabanına geri yazar; bir sonraki açılışta aynı terminal
+     * kaldığı yerden devam eder.
+     */
+    @PreDestroy
+    public void kapat() {
+        bloklar.values().forEach(Blok::iadeEt);
+    }
+
+    private static int yil(LocalDateTime tarih) {
+        return tarih != null ? tarih.getYear() : LocalDate.now().getYear();
+    }
+
+    private static String bilgisayarAdi() {
+        try {
+            String ad = InetAddress.getLocalHost().getHostName();
+            return ad.length() > TERMINAL_UZUNLUGU ? ad.substring(0, TERMINAL_UZUNLUGU) : ad;
+        } catch (UnknownHostException e) {
+            return "varsayilan";
+        }
+    }
+
+    private final class Blok {
+        private final String seri;
+        private final int yil;
+        private long siradaki;
+        private long bitis;
+        private boolean ilkYukleme = true;
+
+        Blok(String seri, int yil) {
+            this.seri = seri;
+            this.yil = yil;
+        }
+
+        synchronized long sonraki() {
+            if (siradaki >= bitis) {
+                yenile();
+            }
+            return siradaki++;
+        }
+
+        private void yenile() {
+            long[] blok = ayriTransaction.execute(durum -> {
+                if (ilkYukleme) {
+                    var kalan = belgeNoJdbcRepository.rezervasyonuSahiplen(seri, yil, terminal);
+                    if (kalan.isPresent()) {
+                        return kalan.get();
+                    }
+                }
+                long ilk = belgeNoJdbcRepository.blokAyir(seri, yil, blokBoyutu);
+                belgeNoJdbcRepository.rezervasyonYaz(seri, yil, terminal, ilk + blokBoyutu);
+                return new long[] { ilk, ilk + blokBoyutu };
+            });
+            ilkYukleme = false;
+            siradaki = blok[0];
+            bitis = blok[1];
+        }
+
+        synchronized void iadeEt() {
+            if (siradaki < bitis) {
+                ayriTransaction.executeWithoutResult(durum ->
+                        belgeNoJdbcRepository.rezervasyonIade(seri, yil, terminal, siradaki, bitis));
+                bitis = siradaki;
+            }
+        }
+    }
+}
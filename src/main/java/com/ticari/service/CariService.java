@@ -4,6 +4,8 @@ import com.ticari.entity.Cari;
 import com.ticari.enums.CariTuru;
 import com.ticari.repository.CariRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,9 +19,14 @@ import java.util.Optional;
 public class CariService {
     
     private final CariRepository cariRepository;
+    private final AramaService aramaService;
+    private final DashboardAggregateService dashboardAggregateService;
     
     public Cari kaydet(Cari cari) {
-        return cariRepository.save(cari);
+        Cari kaydedilen = cariRepository.save(cari);
+        aramaService.cariIndeksle(kaydedilen.getCariId());
+        dashboardAggregateService.gecersizKil();
+        return kaydedilen;
     }
     
     public Optional<Cari> getir(Integer id) {
@@ -30,8 +37,18 @@ public class CariService {
         return cariRepository.findAll();
     }
     
+    public Slice<Cari> sayfaGetir(Pageable pageable) {
+        return cariRepository.findAllBy(pageable);
+    }
+    
+    public long say() {
+        return cariRepository.count();
+    }
+    
     public void sil(Integer id) {
         cariRepository.deleteById(id);
+        aramaService.cariCikar(id);
+        dashboardAggregateService.gecersizKil();
     }
     
     public List<Cari> tureBul(CariTuru tur) {
@@ -39,20 +56,25 @@ public class CariService {
     }
     
     public List<Cari> unvanaGoreAra(String unvan) {
-        return cariRepository.findByUnvanContainingIgnoreCase(unvan);
+        return aramaService.cariAra(unvan);
     }
     
     public Optional<Cari> cariKodaBul(String cariKod) {
         return cariRepository.findByCariKod(cariKod);
     }
     
-    public void bakiyeGuncelle(Integer cariId, BigDecimal tutar) {
-        Optional<Cari> cariOpt = cariRepository.findById(cariId);
-        if (cariOpt.isPresent()) {
-            Cari cari = cariOpt.get();
-            cari.setGuncelBakiye(cari.getGuncelBakiye().add(tutar));
-            cariRepository.save(cari);
+    /**
+     * Bakiyeye farkı atomik olarak ekler ve yeni bakiyeyi döner. Cari bulunamazsa boş döner.
+     * UPDATE satır kilidini tuttuğundan ardından okunan bakiye bu işlemin sonucudur.
+     */
+    public Optional<BigDecimal> bakiyeGuncelle(Integer cariId, BigDecimal tutar) {
+        if (cariRepository.bakiyeEkle(cariId, tutar) == 0) {
+            return Optional.empty();
         }
+        Optional<BigDecimal> yeniBakiye = cariRepository.bakiyeGetir(cariId);
+        BigDecimal yeni = yeniBakiye.orElse(BigDecimal.ZERO);
+        dashboardAggregateService.cariBakiyeDegisti(yeni.subtract(tutar), yeni);
+        return yeniBakiye;
     }
     
     // English aliases for controllers
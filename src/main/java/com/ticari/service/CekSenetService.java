@@ -0,0 +1,78 @@
+package com.ticari.service;
+
+import com.ticari.entity.CekSenet;
+import com.ticari.enums.CekSenetDurumu;
+import com.ticari.enums.CekSenetYonu;
+import com.ticari.repository.CekSenetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Çek/senet kayıtları. Her değişiklikte evrakın nakit akışı katkısı önce veritabanındaki eski
+ * halinden geri alınır, kayıt yazıldıktan sonra yeni halinden eklenir. Kuru girilmemiş yabancı
+ * para birimli evraka kayıt günündeki kur yazılır; tahmin bu kurla yapılır.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CekSenetService {
+    
+    private final CekSenetRepository cekSenetRepository;
+    private final NakitAkisService nakitAkisService;
+    private final KurOnbellegi kurOnbellegi;
+    
+    public CekSenet kaydet(CekSenet evrak) {
+        if (evrak.getKur() == null && evrak.getParaBirimi() != null) {
+            long kur = kurOnbellegi.kurMikro(evrak.getParaBirimi().getParaKod(), LocalDate.now());
+            if (kur != KurOnbellegi.KUR_YOK) {
+                evrak.setKur(BigDecimal.valueOf(kur, 6));
+            }
+        }
+        if (evrak.getEvrakId() != null) {
+            nakitAkisService.cekSenetUygula(evrak.getEvrakId(), -1);
+        }
+        CekSenet kaydedilen = cekSenetRepository.saveAndFlush(evrak);
+        nakitAkisService.cekSenetUygula(kaydedilen.getEvrakId(), 1);
+        return kaydedilen;
+    }
+    
+    /**
+     * Evrakın durumunu değiştirir (tahsil, ciro, karşılıksız). Evrak yoksa boş döner.
+     */
+    public Optional<CekSenet> durumGuncelle(Integer evrakId, CekSenetDurumu durum) {
+        return cekSenetRepository.findById(evrakId).map(evrak -> {
+            nakitAkisService.cekSenetUygula(evrakId, -1);
+            evrak.setDurum(durum);
+            CekSenet kaydedilen = cekSenetRepository.saveAndFlush(evrak);
+            nakitAkisService.cekSenetUygula(evrakId, 1);
+            return kaydedilen;
+        });
+    }
+    
+    public Optional<CekSenet> getir(Integer id) {
+        return cekSenetRepository.findById(id);
+    }
+    
+    public List<CekSenet> tumunuGetir() {
+        return cekSenetRepository.findAll();
+    }
+    
+    public void sil(Integer id) {
+        nakitAkisService.cekSenetUygula(id, -1);
+        cekSenetRepository.deleteById(id);
+    }
+    
+    public List<CekSenet> yoneGoreBul(CekSenetYonu yon) {
+        return cekSenetRepository.findByYon(yon);
+    }
+    
+    public List<CekSenet> vadeAraligindaBul(LocalDate baslangic, LocalDate bitis) {
+        return cekSenetRepository.findByVadeTarihiBetween(baslangic, bitis);
+    }
+}
@@ -0,0 +1,135 @@
+package com.ticari.service;
+
+import com.ticari.enums.CekSenetYonu;
+import com.ticari.enums.NakitAkisKaynagi;
+import com.ticari.repository.CekSenetJdbcRepository;
+import com.ticari.repository.CekSenetJdbcRepository.VadesiGelen;
+import com.ticari.repository.NakitAkisJdbcRepository;
+import com.ticari.repository.NakitAkisJdbcRepository.Katki;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Vadesi gelen çek/senetlerin toplu işlenmesi. Vadesi gelmiş portföy evrakları tek sorguyla okunur
+ * ve kasa-banka hesabı bazında işlenir. Her hesap kendi transaction'ında çalışır ve şu adımları
+ * birlikte yapar: okunan evrakların durumunu kimlikleriyle tahsil edildi yapar, her evrak için finans
+ * hareketini batch ile ekler, hesap bakiyesine toplam farkı uygular ve evrakları nakit akışı
+ * tahmininden çıkarır. Yabancı para birimli evraklar vade günündeki kurla ({@link KurOnbellegi})
+ * yerel para birimine çevrilerek bakiyeye yazılır; o gün ya da öncesi için kur yoksa hesap işlenmez.
+ *
+ * <p>Durum değişikliği ve kayıt aynı transaction'da olduğundan iş yarıda kesilirse hesap hiç
+ * işlenmemiş sayılır; sonraki çalışma portföyde kalanları yeniden alır, işlenmiş evrak ikinci kez
+ * kaydedilmez. Okunan evraklardan biri güncellemeden önce elle işlenmişse güncellenen satır sayısı
+ * tutmaz ve o hesap geri alınıp sonraki çalışmaya bırakılır; bu arada vadesi gelen ya da hesaba
+ * bağlanan evraklar bu çalışmaya karışmaz. Karşılıksız ve ciro işlemleri vadeye bağlı olmadığından
+ * elle yapılır.
+ */
+@Service
+public class CekSenetVadeService {
+
+    private final CekSenetJdbcRepository cekSenetJdbcRepository;
+    private final NakitAkisJdbcRepository nakitAkisJdbcRepository;
+    private final KasaBankaService kasaBankaService;
+    private final KurOnbellegi kurOnbellegi;
+    private final TransactionTemplate transactionTemplate;
+
+    public CekSenetVadeService(CekSenetJdbcRepository cekSenetJdbcRepository,
+                               NakitAkisJdbcRepository nakitAkisJdbcRepository,
+                               KasaBankaService kasaBankaService,
+                               KurOnbellegi kurOnbellegi,
+                               PlatformTransactionManager transactionManager) {
+        this.cekSenetJdbcRepository = cekSenetJdbcRepository;
+        this.nakitAkisJdbcRepository = nakitAkisJdbcRepository;
+        this.kasaBankaService = kasaBankaService;
+        this.kurOnbellegi = kurOnbellegi;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void vadeleriIslemeyeBasla() {
+        Thread thread = new Thread(this::bugunuIsle, "cek-senet-vadeleri");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Scheduled(cron = "${ticari.cek-senet.vade-zamani:0 45 0 * * *}")
+    public void bugunuIsle() {
+        vadeleriIsle(LocalDate.now());
+    }
+
+    /**
+     * {@code tarih} dahil vadesi gelmiş, hesabı belli tüm portföy evraklarını işler.
+     *
+     * @return işlenen evrak sayısı
+     */
+    public synchronized int vadeleriIsle(LocalDate tarih) {
+        Map<Integer, List<VadesiGelen>> hesapBazinda = new LinkedHashMap<>();
+        for (VadesiGelen evrak : cekSenetJdbcRepository.vadesiGelenler(tarih)) {
+            hesapBazinda.computeIfAbsent(evrak.hesapId(), id -> new ArrayList<>()).add(evrak);
+        }
+        if (hesapBazinda.isEmpty()) {
+            return 0;
+        }
+
+        long sure = System.currentTimeMillis();
+        int islenen = 0;
+        for (Map.Entry<Integer, List<VadesiGelen>> e : hesapBazinda.entrySet()) {
+            try {
+                Integer sayi = transactionTemplate.execute(durum -> hesabiIsle(e.getKey(), e.getValue()));
+                islenen += sayi != null ? sayi : 0;
+            } catch (RuntimeException ex) {
+                // Diğer hesaplar işlenmeye devam eder; bu hesap sonraki çalışmada yeniden denenir
+                System.err.println("Hesap " + e.getKey() + " çek/senet vadeleri işlenemedi: " + ex.getMessage());
+            }
+        }
+        System.out.println("Vadesi gelen çek/senetler işlendi: " + islenen + " evrak, " + hesapBazinda.size()
+                + " hesap (" + (System.currentTimeMillis() - sure) + " ms)");
+        return islenen;
+    }
+
+    private int hesabiIsle(int hesapId, List<VadesiGelen> evraklar) {
+        // Kur yoksa hiçbir şey yazılmadan hesap bırakılır
+        Map<Integer, BigDecimal> kurlar = new HashMap<>();
+        for (VadesiGelen evrak : evraklar) {
+            kurlar.put(evrak.evrakId(), evrak.paraKod() != null
+                    ? kurOnbellegi.kur(evrak.paraKod(), evrak.vadeTarihi())
+                    : BigDecimal.ONE);
+        }
+
+        int guncellenen = cekSenetJdbcRepository.tahsilEdildiIsaretle(
+                evraklar.stream().map(VadesiGelen::evrakId).toList());
+        if (guncellenen != evraklar.size()) {
+            throw new IllegalStateException("okunan " + evraklar.size() + " evrak yerine " + guncellenen
+                    + " evrak güncellendi");
+        }
+        cekSenetJdbcRepository.hareketleriEkle(evraklar, kurlar);
+
+        BigDecimal fark = BigDecimal.ZERO;
+        Map<LocalDate, BigDecimal[]> vadeBazinda = new TreeMap<>();
+        for (VadesiGelen evrak : evraklar) {
+            fark = fark.add(evrak.bakiyeEtkisi(kurlar.get(evrak.evrakId())));
+            BigDecimal[] girisCikis = vadeBazinda.computeIfAbsent(evrak.vadeTarihi(),
+                    v -> new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO });
+            int i = evrak.yon() == CekSenetYonu.GIRIS ? 0 : 1;
+            girisCikis[i] = girisCikis[i].add(evrak.tahminTutari());
+        }
+        kasaBankaService.bakiyeGuncelle(hesapId, fark);
+        vadeBazinda.forEach((vade, girisCikis) -> nakitAkisJdbcRepository.uygula(
+                new Katki(vade, hesapId, NakitAkisKaynagi.CEK_SENET, girisCikis[0], girisCikis[1]), -1));
+        return evraklar.size();
+    }
+}
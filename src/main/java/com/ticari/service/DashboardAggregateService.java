@@ -0,0 +1,132 @@
+package com.ticari.service;
+
+import com.ticari.repository.CariRepository;
+import com.ticari.repository.KasaBankaRepository;
+import com.ticari.repository.MaliyetJdbcRepository;
+import com.ticari.utils.Money;
+import com.ticari.utils.TransactionHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * Ana ekrandaki özet kartlarının toplamlarını bellekte tutar.
+ * İlk okumada tek birer SUM sorgusuyla doldurulur; sonrasında bakiye ve stok
+ * güncellemelerinden gelen farklar commit sonrası eklenir. Fark hesaplanamayan
+ * değişiklikler (ürün/cari/hesap kaydı, silme) özeti geçersiz kılar ve bir
+ * sonraki okuma yeniden sorgular. Kritik stok listesi ve sayısı {@link KritikStokTakibi}'ndedir.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardAggregateService {
+
+    private final KasaBankaRepository kasaBankaRepository;
+    private final CariRepository cariRepository;
+    private final MaliyetJdbcRepository maliyetJdbcRepository;
+
+    private Ozet ozet;
+    private long surum;
+
+    /**
+     * Tutarlar kuruş cinsindendir; ekranlar için BigDecimal karşılıkları da verilir.
+     * Stok değeri satış fiyatıyla değil, {@link MaliyetService} maliyetiyle hesaplanır.
+     */
+    public record Ozet(long toplamKasaKurus, long alacaklarKurus, long borclarKurus,
+                       long stokDegeriKurus) {
+
+        public BigDecimal toplamKasa() {
+            return Money.bigDecimal(toplamKasaKurus);
+        }
+
+        public BigDecimal alacaklar() {
+            return Money.bigDecimal(alacaklarKurus);
+        }
+
+        public BigDecimal borclar() {
+            return Money.bigDecimal(borclarKurus);
+        }
+
+        public BigDecimal stokDegeri() {
+            return Money.bigDecimal(stokDegeriKurus);
+        }
+
+        private Ozet ekle(long kasaFarki, long alacakFarki, long borcFarki, long stokFarki) {
+            return new Ozet(
+                    Money.topla(toplamKasaKurus, kasaFarki),
+                    Money.topla(alacaklarKurus, alacakFarki),
+                    Money.topla(borclarKurus, borcFarki),
+                    Money.topla(stokDegeriKurus, stokFarki));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void isit() {
+        ozetGetir();
+    }
+
+    public Ozet ozetGetir() {
+        long baslangicSurumu;
+        synchronized (this) {
+            if (ozet != null) {
+                return ozet;
+            }
+            baslangicSurumu = surum;
+        }
+        Ozet hesaplanan = new Ozet(
+                Money.kurus(kasaBankaRepository.toplamBakiye()),
+                Money.kurus(cariRepository.toplamAlacak()),
+                Money.kurus(cariRepository.toplamBorc()),
+                maliyetJdbcRepository.toplamMaliyet());
+        synchronized (this) {
+            // Sorgular sürerken gelen farklar hesaplanan değerde olmayabilir; o durumda önbelleğe alınmaz
+            if (surum == baslangicSurumu) {
+                ozet = hesaplanan;
+            }
+        }
+        return hesaplanan;
+    }
+
+    public void kasaDegisti(BigDecimal fark) {
+        uygula(Money.kurus(fark), 0, 0, 0);
+    }
+
+    public void cariBakiyeDegisti(BigDecimal eskiBakiye, BigDecimal yeniBakiye) {
+        long eski = Money.kurus(eskiBakiye);
+        long yeni = Money.kurus(yeniBakiye);
+        long alacakFarki = Math.max(yeni, 0) - Math.max(eski, 0);
+        long borcFarki = Math.max(-yeni, 0) - Math.max(-eski, 0);
+        uygula(0, alacakFarki, borcFarki, 0);
+    }
+
+    /**
+     * Stok maliyetindeki kuruş farkı.
+     */
+    public void stokMaliyetiDegisti(long fark) {
+        if (fark != 0) {
+            uygula(0, 0, 0, fark);
+        }
+    }
+
+    public void gecersizKil() {
+        TransactionHelper.commitSonrasi(() -> {
+            synchronized (this) {
+                surum++;
+                ozet = null;
+            }
+        });
+    }
+
+    private void uygula(long kasaFarki, long alacakFarki, long borcFarki, long stokFarki) {
+        TransactionHelper.commitSonrasi(() -> {
+            synchronized (this) {
+                surum++;
+                if (ozet != null) {
+                    ozet = ozet.ekle(kasaFarki, alacakFarki, borcFarki, stokFarki);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,209 @@
+package com.ticari.service;
+
+import com.ticari.utils.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cari hesap ekstresi. Faturalar, tahsilat/ödemeler ve çek/senetler veritabanında tek bir
+ * UNION ALL sorgusuyla (tarih, kaynak, belge id) sırasında birleştirilir; bakiye satırlar
+ * okunurken yürütülür. Sayfalar OFFSET yerine son satırın anahtarıyla (keyset) istenir,
+ * böylece 60 binlik bir ekstrenin son sayfası da ilk sayfa kadar hızlı gelir.
+ *
+ * <p>İşaretler cari bakiyesiyle aynıdır: satış faturası ve ödeme borç (+),
+ * alış faturası ve tahsilat alacak (−). Çek/senetler cari bakiyesine işlenmediğinden bilgi satırı
+ * olarak gösterilir; tutarları borç/alacak kolonunda görünür ama yürüyen bakiyeye eklenmez, böylece
+ * son satırın bakiyesi carinin güncel bakiyesine eşit kalır. Karşılıksız çek ekstreye girmez.
+ *
+ * <p>Tarihi boş belgeler en başta sıralanır; imleçte boş tarih yerine {@link #TARIHSIZ} taşınır.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EkstreService {
+
+    public static final int VARSAYILAN_SAYFA_BOYUTU = 200;
+    private static final int FETCH_SIZE = 1000;
+
+    private static final int KAYNAK_FATURA = 1;
+    private static final int KAYNAK_FINANS = 2;
+    private static final int KAYNAK_CEK_SENET = 3;
+
+    // Tarihi boş satırların sıralama ve imleç değeri; ekranda boş gösterilir
+    private static final LocalDateTime TARIHSIZ = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final String TARIHSIZ_SQL = "CAST('1900-01-01' AS DATETIME2)";
+
+    private static final String HAREKETLER_SQL =
+            "SELECT e.Tarih, e.Kaynak, e.BelgeID, e.Aciklama, e.Tutar FROM ("
+            + "  SELECT COALESCE(f.FaturaTarihi, " + TARIHSIZ_SQL + ") AS Tarih, " + KAYNAK_FATURA + " AS Kaynak, f.FaturaID AS BelgeID, "
+            + "         f.FaturaNo AS Aciklama, "
+            + "         CASE WHEN f.Tur = 'SATIS' THEN f.GenelToplam ELSE -f.GenelToplam END AS Tutar "
+            + "  FROM Faturalar f WHERE f.CariID = ? AND f.Tur IN ('SATIS', 'ALIS') "
+            + "  UNION ALL "
+            + "  SELECT COALESCE(h.Tarih, " + TARIHSIZ_SQL + "), " + KAYNAK_FINANS + ", h.HareketID, h.IslemTuru, "
+            + "         CASE WHEN h.IslemTuru = 'TAHSILAT' THEN -h.Tutar ELSE h.Tutar END "
+            + "  FROM FinansHareketleri h WHERE h.CariID = ? AND h.IslemTuru IN ('TAHSILAT', 'ODEME') "
+            + "  UNION ALL "
+            + "  SELECT CAST(c.VadeTarihi AS DATETIME2), " + KAYNAK_CEK_SENET + ", c.EvrakID, c.Tur, "
+            + "         CASE WHEN c.Yon = 'GIRIS' THEN -c.Tutar ELSE c.Tutar END "
+            + "  FROM CekSenetler c WHERE c.CariID = ? AND (c.Durum IS NULL OR c.Durum <> 'KARSILIKSIZ')"
+            + ") e ";
+
+    private static final String IMLEC_KOSULU =
+            "WHERE e.Tarih > ? OR (e.Tarih = ? AND (e.Kaynak > ? OR (e.Kaynak = ? AND e.BelgeID > ?))) ";
+
+    private static final String SIRALAMA = "ORDER BY e.Tarih, e.Kaynak, e.BelgeID ";
+
+    private static final String SAYFA = "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record EkstreSatiri(LocalDateTime tarih, String kaynak, int belgeId, String aciklama,
+                               BigDecimal borc, BigDecimal alacak, BigDecimal bakiye) {
+    }
+
+    /**
+     * Bir sonraki sayfanın nereden başlayacağı ve o noktaya kadar yürütülen bakiye.
+     */
+    public record EkstreImleci(LocalDateTime tarih, int kaynak, int belgeId, BigDecimal bakiye) {
+    }
+
+    /**
+     * @param sonraki ekstre bittiyse null
+     */
+    public record EkstreSayfasi(List<EkstreSatiri> satirlar, EkstreImleci sonraki) {
+    }
+
+    public EkstreSayfasi ilkSayfa(Integer cariId, int sayfaBoyutu) {
+        return sayfaGetir(cariId, null, sayfaBoyutu);
+    }
+
+    /**
+     * İmleçten sonraki en fazla {@code sayfaBoyutu} satırı döner; imleç null ise baştan başlar.
+     */
+    public EkstreSayfasi sayfaGetir(Integer cariId, EkstreImleci imlec, int sayfaBoyutu) {
+        String sql = HAREKETLER_SQL + (imlec != null ? IMLEC_KOSULU : "") + SIRALAMA + SAYFA;
+        long[] bakiye = { imlec != null ? Money.kurus(imlec.bakiye()) : 0L };
+        List<EkstreSatiri> satirlar = new ArrayList<>(sayfaBoyutu);
+        EkstreImleci[] sonImlec = { null };
+        boolean[] devamiVar = { false };
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            int i = cariParametreleriniBagla(ps, cariId);
+            if (imlec != null) {
+                Timestamp tarih = Timestamp.valueOf(imlec.tarih() != null ? imlec.tarih() : TARIHSIZ);
+                ps.setTimestamp(i++, tarih);
+                ps.setTimestamp(i++, tarih);
+                ps.setInt(i++, imlec.kaynak());
+                ps.setInt(i++, imlec.kaynak());
+                ps.setInt(i++, imlec.belgeId());
+            }
+            // Bir fazlası istenir; gelirse sonraki sayfa vardır
+            ps.setInt(i, sayfaBoyutu + 1);
+            ps.setFetchSize(Math.min(sayfaBoyutu + 1, FETCH_SIZE));
+            return ps;
+        }, rs -> {
+            if (satirlar.size() == sayfaBoyutu) {
+                devamiVar[0] = true;
+                return;
+            }
+            long tutar = tutarOku(rs, bakiye);
+            LocalDateTime tarih = rs.getTimestamp(1).toLocalDateTime();
+            EkstreSatiri satir = new EkstreSatiri(
+                    TARIHSIZ.equals(tarih) ? null : tarih,
+                    kaynakAdi(rs.getInt(2)),
+                    rs.getInt(3),
+                    rs.getString(4),
+                    Money.bigDecimal(Math.max(tutar, 0)),
+                    Money.bigDecimal(Math.max(-tutar, 0)),
+                    Money.bigDecimal(bakiye[0]));
+            satirlar.add(satir);
+            sonImlec[0] = new EkstreImleci(tarih, rs.getInt(2), satir.belgeId(), satir.bakiye());
+        });
+
+        return new EkstreSayfasi(satirlar, devamiVar[0] ? sonImlec[0] : null);
+    }
+
+    /**
+     * Ekstrenin tamamını noktalı virgülle ayrılmış olarak yazar. Satırlar imleçle akıtılır,
+     * bellek kullanımı hareket sayısından bağımsızdır; tutarlar ara nesne üretilmeden yazılır.
+     */
+    public void csvYaz(Integer cariId, Writer yazici) {
+        long[] bakiye = { 0L };
+        try {
+            yazici.write("Tarih;Kaynak;Belge;Açıklama;Borç;Alacak;Bakiye\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(HAREKETLER_SQL + SIRALAMA);
+            cariParametreleriniBagla(ps, cariId);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            long tutar = tutarOku(rs, bakiye);
+            LocalDateTime tarih = rs.getTimestamp(1).toLocalDateTime();
+            String aciklama = rs.getString(4);
+            try {
+                yazici.write(TARIHSIZ.equals(tarih) ? "" : tarih.toString());
+                yazici.write(';');
+                yazici.write(kaynakAdi(rs.getInt(2)));
+                yazici.write(';');
+                yazici.write(Integer.toString(rs.getInt(3)));
+                yazici.write(';');
+                yazici.write(aciklama != null ? aciklama.replace(';', ',') : "");
+                yazici.write(';');
+                Money.yaz(yazici, Math.max(tutar, 0));
+                yazici.write(';');
+                Money.yaz(yazici, Math.max(-tutar, 0));
+                yazici.write(';');
+                Money.yaz(yazici, bakiye[0]);
+                yazici.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static int cariParametreleriniBagla(PreparedStatement ps, Integer cariId) throws SQLException {
+        ps.setInt(1, cariId);
+        ps.setInt(2, cariId);
+        ps.setInt(3, cariId);
+        return 4;
+    }
+
+    /**
+     * Satırın işaretli tutarını kuruş olarak okur ve bilgi satırı değilse yürüyen bakiyeye ekler.
+     */
+    private static long tutarOku(ResultSet rs, long[] bakiye) throws SQLException {
+        long tutar = Money.kurus(rs.getBigDecimal(5));
+        if (rs.getInt(2) != KAYNAK_CEK_SENET) {
+            bakiye[0] = Money.topla(bakiye[0], tutar);
+        }
+        return tutar;
+    }
+
+    private static String kaynakAdi(int kaynak) {
+        return switch (kaynak) {
+            case KAYNAK_FATURA -> "Fatura";
+            case KAYNAK_FINANS -> "Tahsilat/Ödeme";
+            case KAYNAK_CEK_SENET -> "Çek/Senet (bilgi)";
+            default -> "";
+        };
+    }
+}
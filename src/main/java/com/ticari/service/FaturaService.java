@@ -4,15 +4,28 @@ import com.ticari.entity.Fatura;
 import com.ticari.entity.StokGirisCikis;
 import com.ticari.enums.FaturaTuru;
 import com.ticari.enums.StokIslemTuru;
+import com.ticari.repository.FaturaJdbcRepository;
 import com.ticari.repository.FaturaRepository;
+import com.ticari.repository.SatisOzetiJdbcRepository;
+import com.ticari.repository.StokJdbcRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -20,22 +33,53 @@ import java.util.Optional;
 public class FaturaService {
     
     private final FaturaRepository faturaRepository;
+    private final FaturaJdbcRepository faturaJdbcRepository;
     private final CariService cariService;
-    private final UrunService urunService;
+    private final StokJdbcRepository stokJdbcRepository;
+    private final SatisOzetiJdbcRepository satisOzetiJdbcRepository;
+    private final AramaService aramaService;
+    private final KritikStokTakibi kritikStokTakibi;
+    private final BelgeNoService belgeNoService;
+    private final StokProjeksiyonService stokProjeksiyonService;
+    private final MaliyetService maliyetService;
+    private final NakitAkisService nakitAkisService;
+    private final EntityManager entityManager;
     
+    /**
+     * Faturayı satırlarıyla kaydeder; stok, maliyet, özet, nakit akışı ve cari bakiye güncellenir.
+     * Dönen fatura kalıcılık bağlamından ayrılmıştır ve verilen satırları taşır.
+     */
     public Fatura kaydet(Fatura fatura) {
-        Fatura kaydedilen = faturaRepository.save(fatura);
+        // Alış faturalarında tedarikçinin numarası girilir; boş bırakılırsa seriden verilir
+        if (fatura.getFaturaNo() == null || fatura.getFaturaNo().isBlank()) {
+            fatura.setFaturaNo(belgeNoService.faturaNo(fatura.getFaturaTarihi()));
+        }
+        
+        // Satırlar cascade ile tek tek değil, fatura yazıldıktan sonra JDBC batch ile eklenir
+        List<StokGirisCikis> hareketler = fatura.getStokGirisCikislar() != null
+                ? new ArrayList<>(fatura.getStokGirisCikislar())
+                : new ArrayList<>();
+        fatura.setStokGirisCikislar(null);
+        if (fatura.getKalanTutar() == null) {
+            fatura.setKalanTutar(fatura.getGenelToplam());
+        }
+        
+        Fatura kaydedilen = faturaRepository.saveAndFlush(fatura);
         
         // Fatura kaydedildiğinde stok ve cari bakiye güncellemeleri
-        if (kaydedilen.getStokGirisCikislar() != null) {
-            for (StokGirisCikis hareket : kaydedilen.getStokGirisCikislar()) {
-                if (hareket.getIslemTuru() == StokIslemTuru.GIRIS) {
-                    urunService.stokGuncelle(hareket.getUrun().getUrunId(), hareket.getMiktar());
-                } else if (hareket.getIslemTuru() == StokIslemTuru.CIKIS) {
-                    urunService.stokGuncelle(hareket.getUrun().getUrunId(), -hareket.getMiktar());
-                }
-            }
+        Map<Integer, Integer> urunBazindaFark = new HashMap<>();
+        for (StokGirisCikis hareket : hareketler) {
+            hareket.setFatura(kaydedilen);
+            int fark = hareket.getIslemTuru() == StokIslemTuru.GIRIS ? hareket.getMiktar() : -hareket.getMiktar();
+            urunBazindaFark.merge(hareket.getUrun().getUrunId(), fark, Integer::sum);
         }
+        stokJdbcRepository.hareketleriEkle(hareketler);
+        maliyetService.hareketlerKaydedildi(hareketler);
+        var stokDurumlari = stokJdbcRepository.stokMiktarlariniGuncelle(urunBazindaFark);
+        kritikStokTakibi.stokDegisti(stokDurumlari);
+        stokProjeksiyonService.hareketDegisti(urunBazindaFark.keySet(), enEskiTarih(hareketler));
+        satisOzetiJdbcRepository.faturaUygula(kaydedilen, 1);
+        nakitAkisService.faturaUygula(kaydedilen.getFaturaId(), 1);
         
         // Cari bakiye güncelle
         if (kaydedilen.getTur() == FaturaTuru.SATIS) {
@@ -44,19 +88,147 @@ public class FaturaService {
             cariService.bakiyeGuncelle(kaydedilen.getCari().getCariId(), kaydedilen.getGenelToplam().negate());
         }
         
+        aramaService.faturaIndeksle(kaydedilen.getFaturaId());
+        
+        // Satırlar JDBC ile yazıldığından yönetilen faturaya bağlanırsa commit'te cascade ile yeniden eklenmeye
+        // çalışılır; fatura ayrılıp satırlar öyle geri verilir
+        entityManager.detach(kaydedilen);
+        kaydedilen.setStokGirisCikislar(hareketler);
         return kaydedilen;
     }
     
+    /**
+     * Çok sayıda faturayı satırlarıyla birlikte tek seferde kaydeder. Faturalar ve stok satırları
+     * JDBC batch ile eklenir; stok, maliyet, özet, nakit akışı ve cari bakiye güncellemeleri
+     * fatura başına değil ürün, gün ve cari başına bir kez uygulanır. Cariler kimlik sırasıyla
+     * güncellenir; eşzamanlı toplu kayıtlar birbirini kilitlemez.
+     */
+    public List<Fatura> topluKaydet(List<Fatura> faturalar) {
+        if (faturalar.isEmpty()) {
+            return faturalar;
+        }
+        for (Fatura fatura : faturalar) {
+            if (fatura.getFaturaNo() == null || fatura.getFaturaNo().isBlank()) {
+                fatura.setFaturaNo(belgeNoService.faturaNo(fatura.getFaturaTarihi()));
+            }
+            if (fatura.getKalanTutar() == null) {
+                fatura.setKalanTutar(fatura.getGenelToplam());
+            }
+        }
+        faturaJdbcRepository.faturalariEkle(faturalar);
+        
+        List<StokGirisCikis> hareketler = new ArrayList<>();
+        Map<Integer, Integer> urunBazindaFark = new HashMap<>();
+        Map<Integer, BigDecimal> cariBazindaFark = new TreeMap<>();
+        for (Fatura fatura : faturalar) {
+            if (fatura.getStokGirisCikislar() != null) {
+                for (StokGirisCikis hareket : fatura.getStokGirisCikislar()) {
+                    hareket.setFatura(fatura);
+                    int fark = hareket.getIslemTuru() == StokIslemTuru.GIRIS ? hareket.getMiktar() : -hareket.getMiktar();
+                    urunBazindaFark.merge(hareket.getUrun().getUrunId(), fark, Integer::sum);
+                    hareketler.add(hareket);
+                }
+            }
+            if (fatura.getTur() == FaturaTuru.SATIS) {
+                cariBazindaFark.merge(fatura.getCari().getCariId(), fatura.getGenelToplam(), BigDecimal::add);
+            } else if (fatura.getTur() == FaturaTuru.ALIS) {
+                cariBazindaFark.merge(fatura.getCari().getCariId(), fatura.getGenelToplam().negate(), BigDecimal::add);
+            }
+        }
+        stokJdbcRepository.hareketleriEkle(hareketler);
+        maliyetService.hareketlerKaydedildi(hareketler);
+        kritikStokTakibi.stokDegisti(stokJdbcRepository.stokMiktarlariniGuncelle(urunBazindaFark));
+        stokProjeksiyonService.hareketDegisti(urunBazindaFark.keySet(), enEskiTarih(hareketler));
+        satisOzetiJdbcRepository.faturalarUygula(faturalar, 1);
+        
+        List<Integer> faturaIdler = faturalar.stream().map(Fatura::getFaturaId).toList();
+        nakitAkisService.faturalarUygula(faturaIdler, 1);
+        cariBazindaFark.forEach((cariId, fark) -> {
+            if (fark.signum() != 0) {
+                cariService.bakiyeGuncelle(cariId, fark);
+            }
+        });
+        aramaService.faturalariIndeksle(faturaIdler);
+        return faturalar;
+    }
+    
     public Optional<Fatura> getir(Integer id) {
         return faturaRepository.findById(id);
     }
     
+    /**
+     * Faturayı cari, para birimi ve ürünleriyle birlikte stok satırlarını içerecek şekilde tek sorguda getirir.
+     */
+    public Optional<Fatura> detayGetir(Integer id) {
+        return faturaRepository.findDetayByFaturaId(id);
+    }
+    
     public List<Fatura> tumunuGetir() {
         return faturaRepository.findAll();
     }
     
+    public Slice<Fatura> sayfaGetir(Pageable pageable) {
+        return faturaRepository.findAllBy(pageable);
+    }
+    
+    public long say() {
+        return faturaRepository.count();
+    }
+    
     public void sil(Integer id) {
+        Optional<Fatura> fatura = faturaRepository.findById(id);
+        // Özet katkısı stok satırlarından hesaplandığı için silmeden önce geri alınır
+        fatura.ifPresent(f -> satisOzetiJdbcRepository.faturaUygula(f, -1));
+        fatura.ifPresent(f -> nakitAkisService.faturaUygula(f.getFaturaId(), -1));
+        List<StokGirisCikis> hareketler = fatura.map(Fatura::getStokGirisCikislar)
+                .map(List::copyOf)
+                .orElse(List.of());
         faturaRepository.deleteById(id);
+        if (!hareketler.isEmpty()) {
+            // Görüntüler ve maliyetler JDBC ile hesaplandığından silme önce veritabanına yazılır
+            faturaRepository.flush();
+            // Kayıtta uygulanan stok farkları ters işaretle geri alınır
+            Map<Integer, Integer> urunBazindaFark = new HashMap<>();
+            for (StokGirisCikis hareket : hareketler) {
+                int fark = hareket.getIslemTuru() == StokIslemTuru.GIRIS ? -hareket.getMiktar() : hareket.getMiktar();
+                urunBazindaFark.merge(hareket.getUrun().getUrunId(), fark, Integer::sum);
+            }
+            kritikStokTakibi.stokDegisti(stokJdbcRepository.stokMiktarlariniGuncelle(urunBazindaFark));
+            Set<Integer> urunIdler = urunBazindaFark.keySet();
+            stokProjeksiyonService.hareketDegisti(urunIdler, enEskiTarih(hareketler));
+            maliyetService.hareketlerSilindi(urunIdler);
+        }
+        
+        // Cari bakiye kayıttaki farkın tersiyle düzeltilir
+        fatura.ifPresent(f -> {
+            if (f.getTur() == FaturaTuru.SATIS) {
+                cariService.bakiyeGuncelle(f.getCari().getCariId(), f.getGenelToplam().negate());
+            } else if (f.getTur() == FaturaTuru.ALIS) {
+                cariService.bakiyeGuncelle(f.getCari().getCariId(), f.getGenelToplam());
+            }
+        });
+        aramaService.faturaCikar(id);
+    }
+    
+    /**
+     * Faturanın tahsil/ödeme bekleyen tutarını değiştirir; sıfır faturayı kapatır. Fatura yoksa boş döner.
+     */
+    public Optional<Fatura> kalanTutarGuncelle(Integer faturaId, BigDecimal kalanTutar) {
+        return faturaRepository.findById(faturaId).map(fatura -> {
+            nakitAkisService.faturaUygula(faturaId, -1);
+            fatura.setKalanTutar(kalanTutar);
+            Fatura kaydedilen = faturaRepository.saveAndFlush(fatura);
+            nakitAkisService.faturaUygula(faturaId, 1);
+            return kaydedilen;
+        });
+    }
+    
+    private static LocalDateTime enEskiTarih(List<StokGirisCikis> hareketler) {
+        return hareketler.stream()
+                .map(StokGirisCikis::getTarih)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
     }
     
     public List<Fatura> tureBul(FaturaTuru tur) {
@@ -72,11 +244,7 @@ public class FaturaService {
     }
     
     public BigDecimal toplamSatisHesapla(LocalDateTime baslangic, LocalDateTime bitis) {
-        List<Fatura> faturalar = faturaRepository.findByFaturaTarihiBetween(baslangic, bitis);
-        return faturalar.stream()
-                .filter(f -> f.getTur() == FaturaTuru.SATIS)
-                .map(Fatura::getGenelToplam)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return faturaRepository.toplamTutar(FaturaTuru.SATIS, baslangic, bitis);
     }
     
     // English aliases for controllers
@@ -17,9 +17,12 @@ import java.util.Optional;
 public class KasaBankaService {
     
     private final KasaBankaRepository kasaBankaRepository;
+    private final DashboardAggregateService dashboardAggregateService;
     
     public KasaBanka kaydet(KasaBanka hesap) {
-        return kasaBankaRepository.save(hesap);
+        KasaBanka kaydedilen = kasaBankaRepository.save(hesap);
+        dashboardAggregateService.gecersizKil();
+        return kaydedilen;
     }
     
     public Optional<KasaBanka> getir(Integer id) {
@@ -32,25 +35,31 @@ public class KasaBankaService {
     
     public void sil(Integer id) {
         kasaBankaRepository.deleteById(id);
+        dashboardAggregateService.gecersizKil();
+    }
+    
+    public List<KasaBanka> hesapAdinaGoreAra(String hesapAdi) {
+        return kasaBankaRepository.findByHesapAdiContainingIgnoreCase(hesapAdi);
     }
     
     public List<KasaBanka> tureBul(HesapTuru tur) {
         return kasaBankaRepository.findByTur(tur);
     }
     
-    public void bakiyeGuncelle(Integer hesapId, BigDecimal tutar) {
-        Optional<KasaBanka> hesapOpt = kasaBankaRepository.findById(hesapId);
-        if (hesapOpt.isPresent()) {
-            KasaBanka hesap = hesapOpt.get();
-            hesap.setBakiye(hesap.getBakiye().add(tutar));
-            kasaBankaRepository.save(hesap);
+    /**
+     * Bakiyeye farkı atomik olarak ekler ve yeni bakiyeyi döner. Hesap bulunamazsa boş döner.
+     * UPDATE satır kilidini tuttuğundan ardından okunan bakiye bu işlemin sonucudur.
+     */
+    public Optional<BigDecimal> bakiyeGuncelle(Integer hesapId, BigDecimal tutar) {
+        if (kasaBankaRepository.bakiyeEkle(hesapId, tutar) == 0) {
+            return Optional.empty();
         }
+        dashboardAggregateService.kasaDegisti(tutar);
+        return kasaBankaRepository.bakiyeGetir(hesapId);
     }
     
     public BigDecimal toplamBakiyeHesapla() {
-        return kasaBankaRepository.findAll().stream()
-                .map(KasaBanka::getBakiye)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return dashboardAggregateService.ozetGetir().toplamKasa();
     }
     
     // English aliases for controllers
@@ -0,0 +1,165 @@
+package com.ticari.service;
+
+import com.ticari.entity.Urun;
+import com.ticari.repository.StokJdbcRepository.StokDurumu;
+import com.ticari.utils.TransactionHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Stoğu minimum seviyenin altındaki ürünler, en kritikten (mevcut / minimum oranı en düşük)
+ * başlayarak sıralı. Açılışta Urunler.KritikStokta indeksinden yüklenir (plan: SorguPlaniTest); sonrasında stok
+ * güncellemeleri ve ürün kayıtları commit sonrasında değişen ürünleri işler. Ekranlar hazır
+ * sıralı listeyi okur ve değişiklik bildirimlerini dinler; ürün tablosu taranmaz.
+ */
+@Service
+@RequiredArgsConstructor
+public class KritikStokTakibi {
+
+    // Sabit BIT türünde yazılır; tamsayı 1 ile karşılaştırmada H2 kolonu dönüştürür ve indeksi kullanmaz
+    private static final String KRITIKLER_SQL =
+            "SELECT UrunID, UrunAd, MevcutStokMiktari, MinimumStokSeviyesi FROM Urunler WHERE KritikStokta = CAST(1 AS BIT)";
+    // Bayrağı hiç hesaplanmamış (ör. dışarıdan eklenmiş) satırlar; NULL değerler de indeksten bulunur
+    private static final String ESITLE_SQL =
+            "UPDATE Urunler SET KritikStokta = CASE WHEN MevcutStokMiktari < MinimumStokSeviyesi THEN 1 ELSE 0 END "
+            + "WHERE KritikStokta IS NULL";
+
+    private static final Comparator<KritikStok> SIRA =
+            Comparator.comparingDouble(KritikStok::oran).thenComparingInt(KritikStok::urunId);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Integer, KritikStok> urunler = new HashMap<>();
+    private final TreeSet<KritikStok> sirali = new TreeSet<>(SIRA);
+    private final List<Consumer<List<KritikStok>>> dinleyiciler = new CopyOnWriteArrayList<>();
+    private volatile List<KritikStok> liste = List.of();
+
+    public record KritikStok(int urunId, String urunAd, int mevcutStok, int minimumStok) {
+
+        /**
+         * Mevcut stoğun minimuma oranı; 0 tükenmiş, 1'e yaklaştıkça minimuma yakın.
+         */
+        public double oran() {
+            return minimumStok > 0 ? (double) mevcutStok / minimumStok : mevcutStok;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void yukle() {
+        jdbcTemplate.update(ESITLE_SQL);
+        synchronized (this) {
+            urunler.clear();
+            sirali.clear();
+            jdbcTemplate.query(KRITIKLER_SQL, rs -> {
+                KritikStok k = new KritikStok(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getInt(4));
+                urunler.put(k.urunId(), k);
+                sirali.add(k);
+            });
+            yayinla();
+        }
+    }
+
+    /**
+     * Kritik ürünler, en kritik önce. Liste değiştirilemez ve değişikliklerde yenisiyle değiştirilir.
+     */
+    public List<KritikStok> kritikUrunler() {
+        return liste;
+    }
+
+    public int sayi() {
+        return liste.size();
+    }
+
+    /**
+     * Listenin her değişiminde yeni listeyle çağrılır; çağrı commit eden thread'dedir.
+     */
+    public void dinle(Consumer<List<KritikStok>> dinleyici) {
+        dinleyiciler.add(dinleyici);
+    }
+
+    public void birak(Consumer<List<KritikStok>> dinleyici) {
+        dinleyiciler.remove(dinleyici);
+    }
+
+    /**
+     * Batch stok güncellemesinin sonucunu commit sonrasında uygular.
+     */
+    public void stokDegisti(List<StokDurumu> durumlar) {
+        if (durumlar.isEmpty()) {
+            return;
+        }
+        TransactionHelper.commitSonrasi(() -> {
+            synchronized (this) {
+                boolean degisti = false;
+                for (StokDurumu durum : durumlar) {
+                    degisti |= guncelle(durum.urunId(), durum.urunAd(), durum.yeniStok(), durum.minimumStok());
+                }
+                if (degisti) {
+                    yayinla();
+                }
+            }
+        });
+    }
+
+    public void urunDegisti(Urun urun) {
+        int urunId = urun.getUrunId();
+        String urunAd = urun.getUrunAd();
+        int mevcut = urun.getMevcutStokMiktari() != null ? urun.getMevcutStokMiktari() : 0;
+        int minimum = urun.getMinimumStokSeviyesi() != null ? urun.getMinimumStokSeviyesi() : 0;
+        TransactionHelper.commitSonrasi(() -> {
+            synchronized (this) {
+                if (guncelle(urunId, urunAd, mevcut, minimum)) {
+                    yayinla();
+                }
+            }
+        });
+    }
+
+    public void urunSilindi(int urunId) {
+        TransactionHelper.commitSonrasi(() -> {
+            synchronized (this) {
+                KritikStok eski = urunler.remove(urunId);
+                if (eski != null) {
+                    sirali.remove(eski);
+                    yayinla();
+                }
+            }
+        });
+    }
+
+    /**
+     * @return liste değişti mi
+     */
+    private boolean guncelle(int urunId, String urunAd, int mevcut, int minimum) {
+        KritikStok eski = urunler.remove(urunId);
+        if (eski != null) {
+            sirali.remove(eski);
+        }
+        if (!Urun.kritikMi(mevcut, minimum)) {
+            return eski != null;
+        }
+        KritikStok yeni = new KritikStok(urunId, urunAd, mevcut, minimum);
+        urunler.put(urunId, yeni);
+        sirali.add(yeni);
+        return !yeni.equals(eski);
+    }
+
+    private void yayinla() {
+        List<KritikStok> yeni = List.copyOf(sirali);
+        liste = yeni;
+        for (Consumer<List<KritikStok>> dinleyici : dinleyiciler) {
+            dinleyici.accept(yeni);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ticari.service;
+
+import com.ticari.aktarim.KurDosyasiOkuyucu;
+import com.ticari.aktarim.KurSatiri;
+import com.ticari.entity.ParaBirimi;
+import com.ticari.repository.KurJdbcRepository;
+import com.ticari.repository.ParaBirimiRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Kur geçmişi dosyalarının (TCMB XML, CSV) Kurlar tablosuna aktarılması. Dosya akış halinde
+ * okunur, tabloda zaten olan (ParaKod, KurTarihi) çiftleri ve dosya içindeki tekrarlar atlanır,
+ * kalanlar {@link KurJdbcRepository} ile toplu yazılır. Aynı dosya tekrar aktarılırsa yeni satır
+ * eklenmez; yarıda kalan bir aktarım aynı komutla tamamlanabilir.
+ *
+ * <p>Bilinen kurlar önbellekten kontrol edilir; dosya içi tekrarlar para birimi başına gün
+ * bitsetinde tutulur, bellek kullanımı dosya boyutundan bağımsızdır.
+ */
+@Service
+@RequiredArgsConstructor
+public class KurIceAktarmaService {
+
+    private final KurJdbcRepository kurJdbcRepository;
+    private final ParaBirimiRepository paraBirimiRepository;
+    private final KurOnbellegi kurOnbellegi;
+
+    public record IceAktarmaSonucu(long okunan, long eklenen, long mukerrer, long bilinmeyenParaBirimi,
+                                   long hatali, long sureMs) {
+
+        public long satirPerSaniye() {
+            return sureMs > 0 ? okunan * 1000 / sureMs : okunan;
+        }
+
+        @Override
+        public String toString() {
+            return okunan + " satır okundu, " + eklenen + " eklendi, " + mukerrer + " zaten vardı, "
+                    + bilinmeyenParaBirimi + " bilinmeyen para birimi, " + hatali + " hatalı ("
+                    + sureMs + " ms, " + satirPerSaniye() + " satır/sn)";
+        }
+    }
+
+    public IceAktarmaSonucu iceAktar(Path dosya) throws IOException {
+        // Komut satırından çağrıldığında önbellek henüz yüklenmemiş olabilir
+        kurOnbellegi.yukle();
+        Set<String> paraBirimleri = paraBirimiRepository.findAll().stream()
+                .map(ParaBirimi::getParaKod)
+                .collect(Collectors.toSet());
+
+        long baslangic = System.currentTimeMillis();
+        try (KurDosyasiOkuyucu okuyucu = KurDosyasiOkuyucu.ac(dosya)) {
+            YeniKurlar yeniKurlar = new YeniKurlar(okuyucu, paraBirimleri);
+            long eklenen = kurJdbcRepository.topluEkle(yeniKurlar);
+            long sure = System.currentTimeMillis() - baslangic;
+            kurOnbellegi.yukle();
+            return new IceAktarmaSonucu(yeniKurlar.okunan, eklenen, yeniKurlar.mukerrer,
+                    yeniKurlar.bilinmeyen, okuyucu.getHataliSatir(), sure);
+        }
+    }
+
+    /**
+     * Okuyucudan yalnızca tabloda ve dosyanın önceki satırlarında olmayan kurları geçirir.
+     */
+    private final class YeniKurlar implements Iterator<KurSatiri> {
+
+        private final Iterator<KurSatiri> kaynak;
+        private final Set<String> paraBirimleri;
+        private final Map<String, BitSet> gorulenGunler = new HashMap<>();
+        private KurSatiri siradaki;
+        private long okunan;
+        private long mukerrer;
+        private long bilinmeyen;
+
+        YeniKurlar(Iterator<KurSatiri> kaynak, Set<String> paraBirimleri) {
+            this.kaynak = kaynak;
+            this.paraBirimleri = paraBirimleri;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (siradaki == null && kaynak.hasNext()) {
+                KurSatiri satir = kaynak.next();
+                okunan++;
+                if (!paraBirimleri.contains(satir.paraKod())
+                        || KurOnbellegi.YEREL_PARA_BIRIMI.equals(satir.paraKod())) {
+                    bilinmeyen++;
+                    continue;
+                }
+                long gun = satir.tarih().toEpochDay();
+                BitSet gunler = gorulenGunler.computeIfAbsent(satir.paraKod(), k -> new BitSet());
+                if ((gun >= 0 && gunler.get((int) gun)) || kurOnbellegi.kurGunuVar(satir.paraKod(), gun)) {
+                    mukerrer++;
+                    continue;
+                }
+                if (gun >= 0) {
+                    gunler.set((int) gun);
+                }
+                siradaki = satir;
+            }
+            return siradaki != null;
+        }
+
+        @Override
+        public KurSatiri next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KurSatiri satir = siradaki;
+            siradaki = null;
+            return satir;
+        }
+    }
+}
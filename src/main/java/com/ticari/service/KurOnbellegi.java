@@ -0,0 +1,212 @@
+package com.ticari.service;
+
+import com.ticari.utils.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kurlar tablosunun bellekteki kopyası. Her para birimi için kur tarihleri (epoch gün) ve
+ * kurlar (milyonda bir birimle) tarih sırasına dizilmiş iki ilkel dizide tutulur.
+ * "D tarihindeki kur" o tarihteki ya da ondan önceki son kurdur; hafta sonu ve tatil
+ * günleri bir önceki iş gününün kurunu alır. Arama ikili aramadır ve nesne üretmez.
+ *
+ * <p>Diziler değiştirilmez; yeni kur eklendiğinde ilgili para biriminin dizileri kopyalanıp
+ * tablo tek seferde değiştirilir. Yazanlar (yükleme ve ekleme) nesnenin kilidiyle sıralanır,
+ * okuyucular kilit almaz. Tutarlar kuruş gibi en küçük
+ * birimde {@code long} olarak verilir ve yarım yukarı yuvarlanır.
+ */
+@Service
+@RequiredArgsConstructor
+public class KurOnbellegi {
+
+    public static final String YEREL_PARA_BIRIMI = "TRY";
+    public static final long OLCEK = 1_000_000L;
+    public static final long KUR_YOK = 0L;
+
+    private static final String KURLAR_SQL =
+            "SELECT ParaKod, KurTarihi, Kur FROM Kurlar WHERE ParaKod IS NOT NULL ORDER BY ParaKod, KurTarihi, KurID";
+    private static final int FETCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Map<String, Seri> seriler = Map.of();
+
+    private record Seri(int[] gunler, long[] kurlar) {
+
+        long kur(int gun) {
+            int i = Arrays.binarySearch(gunler, gun);
+            if (i < 0) {
+                // Eklenme noktasından bir önceki, D'den küçük son tarih
+                i = -i - 2;
+                if (i < 0) {
+                    return KUR_YOK;
+                }
+            }
+            return kurlar[i];
+        }
+
+        Seri ekle(int gun, long kur) {
+            int i = Arrays.binarySearch(gunler, gun);
+            if (i >= 0) {
+                long[] yeniKurlar = kurlar.clone();
+                yeniKurlar[i] = kur;
+                return new Seri(gunler, yeniKurlar);
+            }
+            int yer = -i - 1;
+            int[] yeniGunler = new int[gunler.length + 1];
+            long[] yeniKurlar = new long[kurlar.length + 1];
+            System.arraycopy(gunler, 0, yeniGunler, 0, yer);
+            System.arraycopy(kurlar, 0, yeniKurlar, 0, yer);
+            yeniGunler[yer] = gun;
+            yeniKurlar[yer] = kur;
+            System.arraycopy(gunler, yer, yeniGunler, yer + 1, gunler.length - yer);
+            System.arraycopy(kurlar, yer, yeniKurlar, yer + 1, kurlar.length - yer);
+            return new Seri(yeniGunler, yeniKurlar);
+        }
+    }
+
+    /**
+     * Tabloyu baştan okur ve önbelleği tek seferde değiştirir. {@link #ekle} ile aynı kilidi tutar;
+     * okuma sürerken commit edilip eklenen bir kur yeni tabloya yükleme bittikten sonra işlenir,
+     * eski tablo üzerine kurulup kaybolmaz.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void yukle() {
+        long baslangic = System.currentTimeMillis();
+        Map<String, Seri> yeni = new HashMap<>();
+        // Satırlar para birimi ve tarih sırasında geldiğinden diziler doğrudan doldurulur
+        String[] paraKod = { null };
+        int[] boyut = { 0 };
+        int[][] gunler = { new int[64] };
+        long[][] kurlar = { new long[64] };
+        Runnable seriyiBitir = () -> {
+            if (paraKod[0] != null) {
+                yeni.put(paraKod[0], new Seri(Arrays.copyOf(gunler[0], boyut[0]), Arrays.copyOf(kurlar[0], boyut[0])));
+            }
+        };
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(KURLAR_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            String kod = rs.getString(1);
+            if (!kod.equals(paraKod[0])) {
+                seriyiBitir.run();
+                paraKod[0] = kod;
+                boyut[0] = 0;
+            }
+            int gun = (int) rs.getDate(2).toLocalDate().toEpochDay();
+            long kur = mikro(rs.getBigDecimal(3));
+            int n = boyut[0];
+            if (n > 0 && gunler[0][n - 1] == gun) {
+                // Aynı güne birden fazla kaynak yazılmışsa son kayıt geçerlidir
+                kurlar[0][n - 1] = kur;
+                return;
+            }
+            if (n == gunler[0].length) {
+                gunler[0] = Arrays.copyOf(gunler[0], n * 2);
+                kurlar[0] = Arrays.copyOf(kurlar[0], n * 2);
+            }
+            gunler[0][n] = gun;
+            kurlar[0][n] = kur;
+            boyut[0] = n + 1;
+        });
+        seriyiBitir.run();
+
+        seriler = yeni;
+        System.out.println("Kur önbelleği hazır: " + yeni.size() + " para birimi ("
+                + (System.currentTimeMillis() - baslangic) + " ms)");
+    }
+
+    /**
+     * Kaydedilen bir kuru tabloya ekler; aynı gün için kur varsa değiştirir.
+     * Commit sonrasında çağrılmalıdır.
+     */
+    public synchronized void ekle(String paraKod, LocalDate tarih, BigDecimal kur) {
+        Map<String, Seri> yeni = new HashMap<>(seriler);
+        int gun = (int) tarih.toEpochDay();
+        long kurMikro = mikro(kur);
+        Seri seri = yeni.get(paraKod);
+        yeni.put(paraKod, seri != null
+                ? seri.ekle(gun, kurMikro)
+                : new Seri(new int[] { gun }, new long[] { kurMikro }));
+        seriler = yeni;
+    }
+
+    /**
+     * D tarihindeki kur, milyonda bir birimle. Yerel para birimi için {@link #OLCEK};
+     * o tarihte ya da öncesinde kur yoksa {@link #KUR_YOK}.
+     */
+    public long kurMikro(String paraKod, long epochGun) {
+        if (YEREL_PARA_BIRIMI.equals(paraKod)) {
+            return OLCEK;
+        }
+        Seri seri = seriler.get(paraKod);
+        return seri != null ? seri.kur((int) epochGun) : KUR_YOK;
+    }
+
+    /**
+     * Tam olarak bu gün için kayıtlı bir kur olup olmadığı (önceki günün kuru sayılmaz).
+     */
+    public boolean kurGunuVar(String paraKod, long epochGun) {
+        Seri seri = seriler.get(paraKod);
+        return seri != null && Arrays.binarySearch(seri.gunler(), (int) epochGun) >= 0;
+    }
+
+    public long kurMikro(String paraKod, LocalDate tarih) {
+        return kurMikro(paraKod, tarih.toEpochDay());
+    }
+
+    public BigDecimal kur(String paraKod, LocalDate tarih) {
+        return BigDecimal.valueOf(kurVarsa(paraKod, tarih.toEpochDay()), 6);
+    }
+
+    /**
+     * En küçük birimdeki tutarı D tarihindeki kurla yerel para birimine çevirir.
+     */
+    public long yereleCevir(long tutar, String paraKod, long epochGun) {
+        return Money.carpBol(tutar, kurVarsa(paraKod, epochGun), OLCEK);
+    }
+
+    /**
+     * En küçük birimdeki tutarı D tarihindeki çapraz kurla bir para biriminden diğerine çevirir.
+     */
+    public long cevir(long tutar, String kaynak, String hedef, long epochGun) {
+        if (kaynak.equals(hedef)) {
+            return tutar;
+        }
+        return Money.carpBol(tutar, kurVarsa(kaynak, epochGun), kurVarsa(hedef, epochGun));
+    }
+
+    public long cevir(long tutar, String kaynak, String hedef, LocalDate tarih) {
+        return cevir(tutar, kaynak, hedef, tarih.toEpochDay());
+    }
+
+    public BigDecimal yereleCevir(BigDecimal tutar, String paraKod, LocalDate tarih) {
+        return tutar.multiply(kur(paraKod, tarih)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private long kurVarsa(String paraKod, long epochGun) {
+        long kur = kurMikro(paraKod, epochGun);
+        if (kur == KUR_YOK) {
+            throw new IllegalStateException(paraKod + " için " + LocalDate.ofEpochDay(epochGun) + " veya öncesine ait kur yok");
+        }
+        return kur;
+    }
+
+    static long mikro(BigDecimal kur) {
+        return kur.setScale(6, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
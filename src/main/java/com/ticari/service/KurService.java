@@ -0,0 +1,63 @@
+package com.ticari.service;
+
+import com.ticari.entity.Kur;
+import com.ticari.entity.ParaBirimi;
+import com.ticari.repository.KurRepository;
+import com.ticari.utils.TransactionHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Kur kayıtları. Dönüşümler veritabanına değil {@link KurOnbellegi}'ne sorulur;
+ * bu servis kaydedilen ve silinen kurları commit sonrasında önbelleğe yansıtır.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class KurService {
+    
+    private final KurRepository kurRepository;
+    private final KurOnbellegi kurOnbellegi;
+    
+    public Kur kaydet(Kur kur) {
+        Kur kaydedilen = kurRepository.save(kur);
+        String paraKod = kaydedilen.getParaBirimi().getParaKod();
+        LocalDate tarih = kaydedilen.getKurTarihi();
+        BigDecimal deger = kaydedilen.getKur();
+        TransactionHelper.commitSonrasi(() -> kurOnbellegi.ekle(paraKod, tarih, deger));
+        return kaydedilen;
+    }
+    
+    public Optional<Kur> getir(Integer id) {
+        return kurRepository.findById(id);
+    }
+    
+    public List<Kur> paraBirimineGoreBul(ParaBirimi paraBirimi) {
+        return kurRepository.findByParaBirimi(paraBirimi);
+    }
+    
+    public List<Kur> tarihAraliginaGoreBul(LocalDate baslangic, LocalDate bitis) {
+        return kurRepository.findByKurTarihiBetween(baslangic, bitis);
+    }
+    
+    public void sil(Integer id) {
+        kurRepository.deleteById(id);
+        // Silinen günün yerine bir önceki kur geçerli olur; tablo yeniden yüklenir
+        TransactionHelper.commitSonrasi(kurOnbellegi::yukle);
+    }
+    
+    // English aliases for controllers
+    public Kur save(Kur kur) {
+        return kaydet(kur);
+    }
+    
+    public Optional<Kur> findById(Integer id) {
+        return getir(id);
+    }
+}
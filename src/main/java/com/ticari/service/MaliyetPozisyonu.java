@@ -0,0 +1,164 @@
+package com.ticari.service;
+
+import com.ticari.enums.MaliyetYontemi;
+import com.ticari.repository.MaliyetJdbcRepository.Katman;
+import com.ticari.repository.MaliyetJdbcRepository.Pozisyon;
+import com.ticari.utils.Money;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Tek bir ürünün maliyet hesabı. Hareketler (Tarih, HareketID) sırasıyla uygulanır; tutarlar kuruştur.
+ *
+ * <p>Ortalama yönteminde çıkış, eldeki toplam maliyetin çıkan miktar oranındaki payıdır. FIFO'da
+ * en eski katmandan başlanarak tüketilir; bir katmanın tamamı çıkarsa kalan maliyeti olduğu gibi
+ * alınır, böylece yuvarlama farkı birikmez. Stok yetersizse eksik miktar son girişin birim
+ * maliyetiyle değerlenir ve pozisyon sıfırlanır; maliyet pozisyonu negatife düşmez.
+ */
+final class MaliyetPozisyonu {
+
+    private final int urunId;
+    private final MaliyetYontemi yontem;
+    private int miktar;
+    private long maliyet;
+    private int sonGirisMiktar;
+    private long sonGirisMaliyet;
+    private LocalDateTime sonTarih;
+    private Integer sonHareketId;
+    private final ArrayDeque<AcikKatman> katmanlar = new ArrayDeque<>();
+
+    private static final class AcikKatman {
+        final int hareketId;
+        final LocalDateTime tarih;
+        int kalanMiktar;
+        long kalanMaliyet;
+
+        AcikKatman(int hareketId, LocalDateTime tarih, int kalanMiktar, long kalanMaliyet) {
+            this.hareketId = hareketId;
+            this.tarih = tarih;
+            this.kalanMiktar = kalanMiktar;
+            this.kalanMaliyet = kalanMaliyet;
+        }
+    }
+
+    MaliyetPozisyonu(int urunId, MaliyetYontemi yontem) {
+        this.urunId = urunId;
+        this.yontem = yontem;
+    }
+
+    /**
+     * Kayıtlı pozisyondan ve (FIFO için) ürünün tüketim sırasındaki katmanlarından devam eder.
+     */
+    MaliyetPozisyonu(Pozisyon pozisyon, List<Katman> urununKatmanlari, MaliyetYontemi yontem) {
+        this(pozisyon.urunId(), yontem);
+        this.miktar = pozisyon.miktar();
+        this.maliyet = pozisyon.maliyet();
+        this.sonGirisMiktar = pozisyon.sonGirisMiktar();
+        this.sonGirisMaliyet = pozisyon.sonGirisMaliyet();
+        this.sonTarih = pozisyon.sonHareketTarihi();
+        this.sonHareketId = pozisyon.sonHareketId();
+        for (Katman k : urununKatmanlari) {
+            katmanlar.addLast(new AcikKatman(k.hareketId(), k.tarih(), k.kalanMiktar(), k.kalanMaliyet()));
+        }
+    }
+
+    /**
+     * Hareket son uygulanan hareketten önce mi sıralanıyor; öyleyse artımlı uygulanamaz.
+     */
+    boolean geriyeTarihli(LocalDateTime tarih, int hareketId) {
+        if (sonTarih == null || sonHareketId == null) {
+            return false;
+        }
+        int karsilastirma = tarih.compareTo(sonTarih);
+        return karsilastirma < 0 || (karsilastirma == 0 && hareketId < sonHareketId);
+    }
+
+    /**
+     * @param girisMaliyeti girişin yerel para birimindeki toplam maliyeti
+     * @return girişte giriş maliyeti, çıkışta satılan malın maliyeti
+     */
+    long uygula(int hareketId, LocalDateTime tarih, boolean giris, int adet, long girisMaliyeti) {
+        sonTarih = tarih;
+        sonHareketId = hareketId;
+        if (adet <= 0) {
+            return 0;
+        }
+        if (giris) {
+            miktar += adet;
+            maliyet = Money.topla(maliyet, girisMaliyeti);
+            sonGirisMiktar = adet;
+            sonGirisMaliyet = girisMaliyeti;
+            if (yontem == MaliyetYontemi.FIFO) {
+                katmanlar.addLast(new AcikKatman(hareketId, tarih, adet, girisMaliyeti));
+            }
+            return girisMaliyeti;
+        }
+        return yontem == MaliyetYontemi.FIFO ? fifoCikis(adet) : ortalamaCikis(adet);
+    }
+
+    private long ortalamaCikis(int adet) {
+        if (adet < miktar) {
+            long cikan = Money.carpBol(maliyet, adet, miktar);
+            miktar -= adet;
+            maliyet = Money.cikar(maliyet, cikan);
+            return cikan;
+        }
+        long cikan = Money.topla(maliyet, eksikMaliyeti(adet - miktar));
+        miktar = 0;
+        maliyet = 0;
+        return cikan;
+    }
+
+    private long fifoCikis(int adet) {
+        int kalan = adet;
+        long cikan = 0;
+        while (kalan > 0 && !katmanlar.isEmpty()) {
+            AcikKatman katman = katmanlar.peekFirst();
+            int alinan = Math.min(kalan, katman.kalanMiktar);
+            long alinanMaliyet = alinan == katman.kalanMiktar
+                    ? katman.kalanMaliyet
+                    : Money.carpBol(katman.kalanMaliyet, alinan, katman.kalanMiktar);
+            katman.kalanMiktar -= alinan;
+            katman.kalanMaliyet = Money.cikar(katman.kalanMaliyet, alinanMaliyet);
+            if (katman.kalanMiktar == 0) {
+                katmanlar.pollFirst();
+            }
+            miktar -= alinan;
+            maliyet = Money.cikar(maliyet, alinanMaliyet);
+            cikan = Money.topla(cikan, alinanMaliyet);
+            kalan -= alinan;
+        }
+        if (katmanlar.isEmpty()) {
+            miktar = 0;
+            maliyet = 0;
+        }
+        return Money.topla(cikan, eksikMaliyeti(kalan));
+    }
+
+    private long eksikMaliyeti(int eksik) {
+        if (eksik <= 0 || sonGirisMiktar <= 0) {
+            return 0;
+        }
+        return Money.carpBol(sonGirisMaliyet, eksik, sonGirisMiktar);
+    }
+
+    int urunId() {
+        return urunId;
+    }
+
+    long maliyet() {
+        return maliyet;
+    }
+
+    Pozisyon pozisyon() {
+        return new Pozisyon(urunId, miktar, maliyet, sonGirisMiktar, sonGirisMaliyet, sonTarih, sonHareketId, false);
+    }
+
+    void katmanlariEkle(List<Katman> hedef) {
+        for (AcikKatman k : katmanlar) {
+            hedef.add(new Katman(k.hareketId, urunId, k.tarih, k.kalanMiktar, k.kalanMaliyet));
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.ticari.service;
+
+import com.ticari.entity.StokGirisCikis;
+import com.ticari.enums.MaliyetYontemi;
+import com.ticari.enums.StokIslemTuru;
+import com.ticari.repository.MaliyetJdbcRepository;
+import com.ticari.repository.MaliyetJdbcRepository.Katman;
+import com.ticari.repository.MaliyetJdbcRepository.Pozisyon;
+import com.ticari.utils.Money;
+import com.ticari.utils.ParalelAraliklar;
+import com.ticari.utils.TransactionHelper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Stok maliyeti (FIFO ya da hareketli ortalama). Her ürünün eldeki miktarı ve toplam maliyeti
+ * UrunMaliyetleri'nde, her hareket satırının maliyeti StokGirisCikis.Maliyet'te tutulur; ürün
+ * maliyeti ve satır maliyeti tek satır okumasıdır. Tutarlar yerel para birimindedir; giriş
+ * maliyeti birim fiyat × miktar × hareketin kurudur.
+ *
+ * <p>Fatura kaydı ürünün son hareketinden sonra sıralanıyorsa pozisyona aynı transaction'da
+ * artımlı olarak uygulanır. Geriye tarihli bir hareket ya da silinen bir fatura ürünü geçersiz
+ * işaretler; geçersiz ürünler commit sonrasında, her biri kendi transaction'ında ve paralel
+ * olarak tüm hareketlerinden yeniden hesaplanır. Açılışta yarım kalmış hesaplar tamamlanır.
+ *
+ * <p>Yöntem değiştirilirse {@code --maliyet-yeniden-hesapla} ile tüm maliyetler yeniden
+ * hesaplanmalıdır.
+ */
+@Service
+public class MaliyetService {
+
+    private final MaliyetJdbcRepository maliyetJdbcRepository;
+    private final DashboardAggregateService dashboardAggregateService;
+    private final TransactionTemplate transactionTemplate;
+    private final MaliyetYontemi yontem;
+    private final ExecutorService hesaplamaHavuzu = Executors.newFixedThreadPool(ParalelAraliklar.AZAMI_IS_PARCACIGI, r -> {
+        Thread thread = new Thread(r, "maliyet");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MaliyetService(MaliyetJdbcRepository maliyetJdbcRepository,
+                          DashboardAggregateService dashboardAggregateService,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${ticari.maliyet.yontemi:ORTALAMA}") MaliyetYontemi yontem) {
+        this.maliyetJdbcRepository = maliyetJdbcRepository;
+        this.dashboardAggregateService = dashboardAggregateService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.yontem = yontem;
+    }
+
+    public MaliyetYontemi getYontem() {
+        return yontem;
+    }
+
+    /**
+     * Ürünün eldeki stoğunun toplam maliyeti; hiç hareketi yoksa sıfır.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal stokMaliyeti(int urunId) {
+        Pozisyon pozisyon = maliyetJdbcRepository.pozisyon(urunId);
+        return Money.bigDecimal(pozisyon != null ? pozisyon.maliyet() : 0);
+    }
+
+    /**
+     * Eldeki stoğun ortalama birim maliyeti (4 ondalık); stok yoksa null.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal birimMaliyet(int urunId) {
+        Pozisyon pozisyon = maliyetJdbcRepository.pozisyon(urunId);
+        if (pozisyon == null || pozisyon.miktar() <= 0) {
+            return null;
+        }
+        return Money.bigDecimal(pozisyon.maliyet()).divide(BigDecimal.valueOf(pozisyon.miktar()), 4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Yeni yazılmış hareketleri maliyetlendirir ve satır maliyetlerini hem veritabanına hem
+     * hareket nesnelerine yazar. Hareketler kimlik ve tarih almış olmalıdır.
+     */
+    public void hareketlerKaydedildi(List<StokGirisCikis> hareketler) {
+        if (hareketler.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<StokGirisCikis>> urunBazinda = new TreeMap<>();
+        for (StokGirisCikis hareket : hareketler) {
+            urunBazinda.computeIfAbsent(hareket.getUrun().getUrunId(), k -> new ArrayList<>()).add(hareket);
+        }
+        Map<Integer, Pozisyon> kayitli = maliyetJdbcRepository.pozisyonlariKilitle(urunBazinda.keySet());
+        Map<Integer, List<Katman>> katmanlar = new HashMap<>();
+        if (yontem == MaliyetYontemi.FIFO) {
+            for (Katman katman : maliyetJdbcRepository.katmanlar(urunBazinda.keySet())) {
+                katmanlar.computeIfAbsent(katman.urunId(), k -> new ArrayList<>()).add(katman);
+            }
+        }
+
+        Set<Integer> gecersizler = new TreeSet<>();
+        List<Pozisyon> yeniPozisyonlar = new ArrayList<>();
+        List<Katman> yeniKatmanlar = new ArrayList<>();
+        Map<Integer, Long> satirMaliyetleri = new HashMap<>();
+        long fark = 0;
+        for (Map.Entry<Integer, List<StokGirisCikis>> e : urunBazinda.entrySet()) {
+            Pozisyon pozisyon = kayitli.get(e.getKey());
+            List<StokGirisCikis> sirali = e.getValue().stream()
+                    .sorted(Comparator.comparing(StokGirisCikis::getTarih).thenComparing(StokGirisCikis::getHareketId))
+                    .toList();
+            StokGirisCikis ilk = sirali.get(0);
+            MaliyetPozisyonu hesap = new MaliyetPozisyonu(pozisyon, katmanlar.getOrDefault(e.getKey(), List.of()), yontem);
+            if (pozisyon.gecersiz() || hesap.geriyeTarihli(ilk.getTarih(), ilk.getHareketId())) {
+                gecersizler.add(e.getKey());
+                continue;
+            }
+            long once = hesap.maliyet();
+            for (StokGirisCikis hareket : sirali) {
+                boolean giris = hareket.getIslemTuru() == StokIslemTuru.GIRIS;
+                long satirMaliyeti = hesap.uygula(hareket.getHareketId(), hareket.getTarih(), giris, hareket.getMiktar(),
+                        giris ? girisMaliyeti(hareket.getBirimFiyat(), hareket.getKur(), hareket.getMiktar()) : 0);
+                satirMaliyetleri.put(hareket.getHareketId(), satirMaliyeti);
+                hareket.setMaliyet(Money.bigDecimal(satirMaliyeti));
+            }
+            fark = Money.topla(fark, Money.cikar(hesap.maliyet(), once));
+            yeniPozisyonlar.add(hesap.pozisyon());
+            hesap.katmanlariEkle(yeniKatmanlar);
+        }
+
+        maliyetJdbcRepository.pozisyonlariYaz(yeniPozisyonlar);
+        if (yontem == MaliyetYontemi.FIFO && !yeniPozisyonlar.isEmpty()) {
+            maliyetJdbcRepository.katmanlariSil(yeniPozisyonlar.stream().map(Pozisyon::urunId).toList());
+            maliyetJdbcRepository.katmanlariEkle(yeniKatmanlar);
+        }
+        maliyetJdbcRepository.hareketMaliyetleriniYaz(satirMaliyetleri);
+        dashboardAggregateService.stokMaliyetiDegisti(fark);
+        if (!gecersizler.isEmpty()) {
+            gecersizIsaretle(gecersizler);
+        }
+    }
+
+    /**
+     * Hareketleri silinen ürünleri geçersiz işaretler; commit sonrasında yeniden hesaplanırlar.
+     */
+    public void hareketlerSilindi(Collection<Integer> urunIdler) {
+        if (!urunIdler.isEmpty()) {
+            maliyetJdbcRepository.pozisyonlariKilitle(urunIdler);
+            gecersizIsaretle(new TreeSet<>(urunIdler));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void acilistaTamamla() {
+        Thread thread = new Thread(() -> {
+            if (maliyetJdbcRepository.hicHesaplanmamis()) {
+                yenidenHesapla();
+            } else {
+                gecersizleriHesapla(maliyetJdbcRepository.gecersizUrunler());
+            }
+        }, "maliyet-acilis");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Tüm ürünlerin maliyetlerini hareketlerden yeniden hesaplar; ürün kimliği aralıkları paralel
+     * işlenir, her aralık kendi transaction'ındadır.
+     *
+     * @return hesaplanan ürün sayısı
+     */
+    public int yenidenHesapla() {
+        int[] urunAraligi = maliyetJdbcRepository.urunAraligi();
+        if (urunAraligi == null) {
+            return 0;
+        }
+        long baslangic = System.currentTimeMillis();
+        int urun = ParalelAraliklar.isle(urunAraligi[0], urunAraligi[1], "maliyet",
+                (ilk, son) -> transactionTemplate.execute(durum -> hesapla(ilk, son)));
+        System.out.println("Maliyetler yeniden hesaplandı (" + yontem + "): " + urun + " ürün ("
+                + (System.currentTimeMillis() - baslangic) + " ms)");
+        return urun;
+    }
+
+    @PreDestroy
+    public void kapat() {
+        hesaplamaHavuzu.shutdownNow();
+    }
+
+    private void gecersizIsaretle(Set<Integer> urunIdler) {
+        maliyetJdbcRepository.gecersizIsaretle(urunIdler);
+        List<Integer> liste = List.copyOf(urunIdler);
+        TransactionHelper.commitSonrasi(() -> gecersizleriHesapla(liste));
+    }
+
+    private void gecersizleriHesapla(List<Integer> urunIdler) {
+        for (Integer urunId : urunIdler) {
+            hesaplamaHavuzu.execute(() -> {
+                try {
+                    transactionTemplate.execute(durum -> hesapla(urunId, urunId));
+                } catch (RuntimeException e) {
+                    // Ürün geçersiz kalır; bir sonraki açılışta ya da hareketinde yeniden denenir
+                    System.err.println("Ürün " + urunId + " maliyeti hesaplanamadı: " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Aralıktaki ürünlerin pozisyonlarını kilitleyip sıfırlar ve tüm hareketlerini sırayla uygular.
+     * Hareket akışı kapandıktan sonra sonuçlar batch ile yazılır.
+     */
+    private int hesapla(int ilkUrun, int sonUrun) {
+        long once = maliyetJdbcRepository.araligiKilitle(ilkUrun, sonUrun);
+        maliyetJdbcRepository.araligiSifirla(ilkUrun, sonUrun);
+
+        List<Pozisyon> pozisyonlar = new ArrayList<>();
+        List<Katman> katmanlar = new ArrayList<>();
+        Map<Integer, Long> satirMaliyetleri = new HashMap<>();
+        MaliyetPozisyonu[] hesap = { null };
+        long[] sonra = { 0 };
+        Runnable bitir = () -> {
+            if (hesap[0] != null) {
+                pozisyonlar.add(hesap[0].pozisyon());
+                hesap[0].katmanlariEkle(katmanlar);
+                sonra[0] = Money.topla(sonra[0], hesap[0].maliyet());
+            }
+        };
+
+        maliyetJdbcRepository.hareketleriAkit(ilkUrun, sonUrun, (hareketId, urunId, tarih, giris, miktar, birimFiyat, kur) -> {
+            if (hesap[0] == null || hesap[0].urunId() != urunId) {
+                bitir.run();
+                hesap[0] = new MaliyetPozisyonu(urunId, yontem);
+            }
+            satirMaliyetleri.put(hareketId, hesap[0].uygula(hareketId, tarih, giris, miktar,
+                    giris ? girisMaliyeti(birimFiyat, kur, miktar) : 0));
+        });
+        bitir.run();
+
+        maliyetJdbcRepository.pozisyonlariYaz(pozisyonlar);
+        maliyetJdbcRepository.katmanlariEkle(katmanlar);
+        maliyetJdbcRepository.hareketMaliyetleriniYaz(satirMaliyetleri);
+        dashboardAggregateService.stokMaliyetiDegisti(Money.cikar(sonra[0], once));
+        return pozisyonlar.size();
+    }
+
+    private static long girisMaliyeti(BigDecimal birimFiyat, BigDecimal kur, int miktar) {
+        long tutar = Money.carp(Money.kurus(birimFiyat), miktar);
+        return kur != null ? Money.carpBol(tutar, KurOnbellegi.mikro(kur), KurOnbellegi.OLCEK) : tutar;
+    }
+}
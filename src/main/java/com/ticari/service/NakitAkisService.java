@@ -0,0 +1,199 @@
+package com.ticari.service;
+
+import com.ticari.entity.KasaBanka;
+import com.ticari.entity.NakitAkisKovasi;
+import com.ticari.repository.KasaBankaRepository;
+import com.ticari.repository.NakitAkisJdbcRepository;
+import com.ticari.repository.NakitAkisJdbcRepository.Katki;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kasa-banka hesapları bazında ileriye dönük nakit akışı. Vadesi gelen çek/senetler ve açık fatura
+ * bakiyeleri NakitAkisKovalari tablosunda gün bazında tutulur; belge servisleri belge yazıldıktan
+ * sonra katkıyı ekler, değişiklik ya da silmeden önce geri alır. Aktif personelin maaşları her ayın
+ * maaş gününde tek toplam olarak eklenir. Vadesi geçmiş bekleyen belgeler bugünün kovasına düşer.
+ */
+@Service
+public class NakitAkisService {
+
+    public static final String ATANMAMIS_HESAP_ADI = "Atanmamış";
+
+    private final NakitAkisJdbcRepository nakitAkisJdbcRepository;
+    private final KasaBankaRepository kasaBankaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maasGunu;
+    private final int maasHesabi;
+
+    public record Kova(LocalDate baslangic, LocalDate bitis, BigDecimal giris, BigDecimal cikis, BigDecimal bakiye) {
+    }
+
+    public record HesapTahmini(int hesapId, String hesapAdi, BigDecimal acilisBakiyesi,
+                               List<Kova> gunluk, List<Kova> haftalik) {
+    }
+
+    public NakitAkisService(NakitAkisJdbcRepository nakitAkisJdbcRepository,
+                            KasaBankaRepository kasaBankaRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${ticari.nakit-akisi.maas-gunu:1}") int maasGunu,
+                            @Value("${ticari.nakit-akisi.maas-hesabi:" + NakitAkisKovasi.ATANMAMIS_HESAP + "}") int maasHesabi) {
+        this.nakitAkisJdbcRepository = nakitAkisJdbcRepository;
+        this.kasaBankaRepository = kasaBankaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maasGunu = maasGunu;
+        this.maasHesabi = maasHesabi;
+    }
+
+    /**
+     * Faturanın veritabanındaki güncel katkısını ekler ({@code isaret} = 1) ya da geri alır
+     * ({@code isaret} = -1). Ekleme fatura yazıldıktan sonra, geri alma değişiklikten önce çağrılır.
+     */
+    public void faturaUygula(int faturaId, int isaret) {
+        Katki katki = nakitAkisJdbcRepository.faturaKatkisi(faturaId);
+        if (katki != null) {
+            nakitAkisJdbcRepository.uygula(katki, isaret);
+        }
+    }
+
+    /**
+     * Toplu kaydedilen faturaların katkılarını vade günü başına tek güncellemeyle uygular.
+     */
+    public void faturalarUygula(List<Integer> faturaIdler, int isaret) {
+        for (Katki katki : nakitAkisJdbcRepository.faturaKatkilari(faturaIdler)) {
+            nakitAkisJdbcRepository.uygula(katki, isaret);
+        }
+    }
+
+    /**
+     * Çek/senedin veritabanındaki güncel katkısını ekler ya da geri alır; bkz. {@link #faturaUygula}.
+     */
+    public void cekSenetUygula(int evrakId, int isaret) {
+        Katki katki = nakitAkisJdbcRepository.cekSenetKatkisi(evrakId);
+        if (katki != null) {
+            nakitAkisJdbcRepository.uygula(katki, isaret);
+        }
+    }
+
+    /**
+     * Bugünden başlayarak {@code gunSayisi} günlük tahmin. Her hesap için günlük ve haftalık
+     * (pazartesi başlangıçlı, ilk hafta bugünden) kovalar ile dönem sonu bakiyeleri döner.
+     */
+    @Transactional(readOnly = true)
+    public List<HesapTahmini> tahmin(int gunSayisi) {
+        if (gunSayisi <= 0) {
+            throw new IllegalArgumentException("Gün sayısı pozitif olmalı: " + gunSayisi);
+        }
+        LocalDate bugun = LocalDate.now();
+        LocalDate bitis = bugun.plusDays(gunSayisi - 1L);
+
+        Map<Integer, HesapAkisi> akislar = new LinkedHashMap<>();
+        for (KasaBanka hesap : kasaBankaRepository.findAll()) {
+            BigDecimal bakiye = hesap.getBakiye() != null ? hesap.getBakiye() : BigDecimal.ZERO;
+            akislar.put(hesap.getHesapId(), new HesapAkisi(hesap.getHesapAdi(), bakiye, gunSayisi));
+        }
+
+        nakitAkisJdbcRepository.kovalariAkit(bitis, rs -> {
+            LocalDate tarih = rs.getDate(1).toLocalDate();
+            int gun = (int) Math.max(0, ChronoUnit.DAYS.between(bugun, tarih));
+            hesapAkisi(akislar, rs.getInt(2), gunSayisi).ekle(gun, rs.getBigDecimal(4), rs.getBigDecimal(5));
+        });
+
+        BigDecimal maas = nakitAkisJdbcRepository.aylikMaasToplami();
+        if (maas.signum() != 0) {
+            HesapAkisi akis = hesapAkisi(akislar, maasHesabi, gunSayisi);
+            for (LocalDate ay = bugun.withDayOfMonth(1); !ay.isAfter(bitis); ay = ay.plusMonths(1)) {
+                LocalDate odeme = ay.withDayOfMonth(Math.min(maasGunu, ay.lengthOfMonth()));
+                if (!odeme.isBefore(bugun) && !odeme.isAfter(bitis)) {
+                    akis.ekle((int) ChronoUnit.DAYS.between(bugun, odeme), BigDecimal.ZERO, maas);
+                }
+            }
+        }
+
+        List<HesapTahmini> sonuc = new ArrayList<>(akislar.size());
+        akislar.forEach((hesapId, akis) -> sonuc.add(akis.tahmin(hesapId, bugun)));
+        return sonuc;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void acilistaOlustur() {
+        if (nakitAkisJdbcRepository.bosMu()) {
+            yenidenOlustur();
+        }
+    }
+
+    /**
+     * Kovaları bekleyen tüm belgelerden yeniden oluşturur; eklenen satır sayısını döner.
+     */
+    public int yenidenOlustur() {
+        Integer satir = transactionTemplate.execute(durum -> nakitAkisJdbcRepository.yenidenOlustur());
+        return satir != null ? satir : 0;
+    }
+
+    private static HesapAkisi hesapAkisi(Map<Integer, HesapAkisi> akislar, int hesapId, int gunSayisi) {
+        return akislar.computeIfAbsent(hesapId, id -> new HesapAkisi(
+                id == NakitAkisKovasi.ATANMAMIS_HESAP ? ATANMAMIS_HESAP_ADI : "Hesap #" + id,
+                BigDecimal.ZERO, gunSayisi));
+    }
+
+    /**
+     * Tek hesabın gün dizini bazında giriş ve çıkışları.
+     */
+    private static final class HesapAkisi {
+        final String ad;
+        final BigDecimal acilis;
+        final BigDecimal[] giris;
+        final BigDecimal[] cikis;
+
+        HesapAkisi(String ad, BigDecimal acilis, int gunSayisi) {
+            this.ad = ad;
+            this.acilis = acilis;
+            this.giris = new BigDecimal[gunSayisi];
+            this.cikis = new BigDecimal[gunSayisi];
+            Arrays.fill(giris, BigDecimal.ZERO);
+            Arrays.fill(cikis, BigDecimal.ZERO);
+        }
+
+        void ekle(int gun, BigDecimal g, BigDecimal c) {
+            giris[gun] = giris[gun].add(g);
+            cikis[gun] = cikis[gun].add(c);
+        }
+
+        HesapTahmini tahmin(int hesapId, LocalDate bugun) {
+            List<Kova> gunluk = new ArrayList<>(giris.length);
+            List<Kova> haftalik = new ArrayList<>();
+            BigDecimal bakiye = acilis;
+            LocalDate haftaBaslangici = bugun;
+            BigDecimal haftaGiris = BigDecimal.ZERO;
+            BigDecimal haftaCikis = BigDecimal.ZERO;
+            for (int i = 0; i < giris.length; i++) {
+                LocalDate gun = bugun.plusDays(i);
+                bakiye = bakiye.add(giris[i]).subtract(cikis[i]);
+                gunluk.add(new Kova(gun, gun, giris[i], cikis[i], bakiye));
+                haftaGiris = haftaGiris.add(giris[i]);
+                haftaCikis = haftaCikis.add(cikis[i]);
+                if (gun.getDayOfWeek() == DayOfWeek.SUNDAY || i == giris.length - 1) {
+                    haftalik.add(new Kova(haftaBaslangici, gun, haftaGiris, haftaCikis, bakiye));
+                    haftaBaslangici = gun.plusDays(1);
+                    haftaGiris = BigDecimal.ZERO;
+                    haftaCikis = BigDecimal.ZERO;
+                }
+            }
+            return new HesapTahmini(hesapId, ad, acilis, gunluk, haftalik);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ticari.service;
+
+import com.ticari.entity.GunlukSatisOzeti;
+import com.ticari.entity.Kategori;
+import com.ticari.enums.FaturaTuru;
+import com.ticari.repository.GunlukSatisOzetiRepository;
+import com.ticari.repository.KategoriRepository;
+import com.ticari.repository.SatisOzetiJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Ana ekran grafiklerinin veri kaynağı. Sorgular faturaları değil, günlük özet tablosunu okur;
+ * bir haftalık grafik en fazla gün × kategori × para birimi kadar satır toplar.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SatisOzetiService {
+
+    private static final String KATEGORISIZ_ETIKET = "Diğer";
+
+    private final GunlukSatisOzetiRepository gunlukSatisOzetiRepository;
+    private final SatisOzetiJdbcRepository satisOzetiJdbcRepository;
+    private final KategoriRepository kategoriRepository;
+
+    /**
+     * Aralıktaki her gün için yerel para birimindeki satış toplamı; satış olmayan günler sıfırdır.
+     */
+    public Map<LocalDate, BigDecimal> gunlukSatislar(LocalDate baslangic, LocalDate bitis) {
+        Map<LocalDate, BigDecimal> sonuc = new LinkedHashMap<>();
+        for (LocalDate gun = baslangic; !gun.isAfter(bitis); gun = gun.plusDays(1)) {
+            sonuc.put(gun, BigDecimal.ZERO);
+        }
+        for (Object[] satir : gunlukSatisOzetiRepository.gunlukToplamlar(FaturaTuru.SATIS, baslangic, bitis)) {
+            sonuc.put((LocalDate) satir[0], (BigDecimal) satir[1]);
+        }
+        return sonuc;
+    }
+
+    /**
+     * Aralıktaki satışların kategori adına göre yerel para birimindeki toplamı, büyükten küçüğe.
+     */
+    public Map<String, BigDecimal> kategoriPaylari(LocalDate baslangic, LocalDate bitis) {
+        Map<Integer, String> kategoriAdlari = kategoriRepository.findAll().stream()
+                .collect(Collectors.toMap(Kategori::getKategoriId, Kategori::getKategoriAd));
+        Map<String, BigDecimal> paylar = new LinkedHashMap<>();
+        gunlukSatisOzetiRepository.kategoriToplamlari(FaturaTuru.SATIS, baslangic, bitis).stream()
+                .sorted((a, b) -> ((BigDecimal) b[1]).compareTo((BigDecimal) a[1]))
+                .forEach(satir -> {
+                    Integer kategoriId = (Integer) satir[0];
+                    String ad = kategoriId == GunlukSatisOzeti.KATEGORISIZ
+                            ? KATEGORISIZ_ETIKET
+                            : kategoriAdlari.getOrDefault(kategoriId, KATEGORISIZ_ETIKET);
+                    paylar.merge(ad, (BigDecimal) satir[1], BigDecimal::add);
+                });
+        return paylar;
+    }
+
+    @Transactional
+    public int yenidenOlustur() {
+        return satisOzetiJdbcRepository.yenidenOlustur();
+    }
+}
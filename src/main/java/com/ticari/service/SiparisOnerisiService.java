@@ -0,0 +1,213 @@
+package com.ticari.service;
+
+import com.ticari.repository.TuketimJdbcRepository;
+import com.ticari.repository.TuketimJdbcRepository.Aday;
+import com.ticari.repository.TuketimJdbcRepository.Tuketim;
+import com.ticari.utils.ParalelAraliklar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Satış hızına göre sipariş önerisi. Her ürünün günlük çıkış miktarının üstel ağırlıklı ortalaması
+ * ve varyansı UrunTuketimleri tablosunda tutulur; bunlardan güvenlik stoğu
+ * ({@code z * σ * √tedarik süresi}) ve yeniden sipariş noktası ({@code ortalama * tedarik süresi
+ * + güvenlik stoğu}) hesaplanır. Stoğu bu noktaya inen ürünler, gözden geçirme aralığını da
+ * karşılayacak miktarla son alış yapılan cariye göre gruplanarak önerilir.
+ *
+ * <p>Her gece yalnızca son işlenen günden sonra tamamlanan günlerin çıkışları mevcut değerlere
+ * katlanır; geçmiş yeniden taranmaz. Satışsız günler sıfır çıkış olarak işlenir. Tablo boşsa ya da
+ * {@link #yenidenHesapla()} çağrılırsa tüm geçmiş ürün kimliği aralıklarına bölünerek paralel
+ * işlenir. İşlenmiş bir güne sonradan eklenen hareketler yeniden hesaplamaya kadar yansımaz.
+ */
+@Service
+public class SiparisOnerisiService {
+
+    public static final String TEDARIKCISIZ = "Tedarikçisiz";
+    // İlk çalışmada son tedarikçi, ilk satıştan önceki alışlar da dahil bulunur
+    private static final LocalDate EN_ESKI = LocalDate.of(1900, 1, 1);
+
+    private final TuketimJdbcRepository tuketimJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double alfa;
+    private final double z;
+    private final int tedarikSuresi;
+    private final int gozdenGecirme;
+
+    public record SiparisOnerisi(int urunId, String urunAd, int mevcutStok, double gunlukOrtalama,
+                                 int guvenlikStogu, int yenidenSiparisNoktasi, int onerilenMiktar) {
+    }
+
+    public record TedarikciOnerileri(Integer cariId, String unvan, List<SiparisOnerisi> urunler) {
+    }
+
+    public SiparisOnerisiService(TuketimJdbcRepository tuketimJdbcRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${ticari.siparis-onerisi.alfa:0.1}") double alfa,
+                                 @Value("${ticari.siparis-onerisi.z:1.65}") double z,
+                                 @Value("${ticari.siparis-onerisi.tedarik-suresi-gun:7}") int tedarikSuresi,
+                                 @Value("${ticari.siparis-onerisi.gozden-gecirme-gun:14}") int gozdenGecirme) {
+        if (alfa <= 0 || alfa > 1) {
+            throw new IllegalArgumentException("ticari.siparis-onerisi.alfa 0 ile 1 arasında olmalı: " + alfa);
+        }
+        this.tuketimJdbcRepository = tuketimJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.alfa = alfa;
+        this.z = z;
+        this.tedarikSuresi = tedarikSuresi;
+        this.gozdenGecirme = gozdenGecirme;
+    }
+
+    /**
+     * Sipariş verilmesi gereken ürünler, tedarikçiye göre gruplu. Tedarikçisi bilinmeyen ürünler
+     * {@link #TEDARIKCISIZ} grubundadır.
+     */
+    @Transactional(readOnly = true)
+    public List<TedarikciOnerileri> oneriler() {
+        Map<Integer, TedarikciOnerileri> gruplar = new LinkedHashMap<>();
+        for (Aday aday : tuketimJdbcRepository.siparisAdaylari()) {
+            int miktar = (int) Math.ceil(aday.yenidenSiparisNoktasi() + aday.gunlukOrtalama() * gozdenGecirme
+                    - aday.mevcutStok());
+            if (miktar <= 0) {
+                continue;
+            }
+            TedarikciOnerileri grup = gruplar.computeIfAbsent(aday.tedarikciId(), id -> new TedarikciOnerileri(
+                    id, id != null ? aday.tedarikciUnvan() : TEDARIKCISIZ, new ArrayList<>()));
+            grup.urunler().add(new SiparisOnerisi(aday.urunId(), aday.urunAd(), aday.mevcutStok(),
+                    aday.gunlukOrtalama(), aday.guvenlikStogu(), aday.yenidenSiparisNoktasi(), miktar));
+        }
+        return new ArrayList<>(gruplar.values());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void guncellemeyeBasla() {
+        Thread thread = new Thread(this::guncelle, "siparis-onerisi");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Son işlenen günden dünün sonuna kadarki çıkışları katlar. Tablo boşsa tüm geçmiş işlenir.
+     */
+    @Scheduled(cron = "${ticari.siparis-onerisi.zamani:0 30 0 * * *}")
+    public synchronized void guncelle() {
+        LocalDate hedef = LocalDate.now().minusDays(1);
+        LocalDate sonGun = tuketimJdbcRepository.sonGun();
+        if (sonGun == null) {
+            hesapla(null, hedef);
+        } else if (sonGun.isBefore(hedef)) {
+            hesapla(sonGun.plusDays(1), hedef);
+        }
+    }
+
+    /**
+     * Tüm tüketim değerlerini çıkış geçmişinden baştan hesaplar.
+     *
+     * @return yazılan ürün sayısı
+     */
+    public synchronized int yenidenHesapla() {
+        return hesapla(null, LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * @param baslangic null ise mevcut değerler yok sayılır ve her ürün ilk satış gününden başlar
+     */
+    private int hesapla(LocalDate baslangic, LocalDate bitis) {
+        boolean tam = baslangic == null;
+        LocalDate ilk = tam ? tuketimJdbcRepository.ilkCikisGunu() : baslangic;
+        int[] urunAraligi = tuketimJdbcRepository.urunAraligi();
+        if (ilk == null || ilk.isAfter(bitis) || urunAraligi == null) {
+            return 0;
+        }
+        long sure = System.currentTimeMillis();
+        int urunSayisi = ParalelAraliklar.isle(urunAraligi[0], urunAraligi[1], "siparis-onerisi",
+                (ilkUrun, sonUrun) -> transactionTemplate.execute(durum -> araligiHesapla(ilk, bitis, ilkUrun, sonUrun, tam)));
+        System.out.println("Tüketim hızları " + bitis + " tarihine kadar güncellendi: " + urunSayisi + " ürün ("
+                + (System.currentTimeMillis() - sure) + " ms)");
+        return urunSayisi;
+    }
+
+    private int araligiHesapla(LocalDate baslangic, LocalDate bitis, int ilkUrun, int sonUrun, boolean tam) {
+        Map<Integer, Hiz> hizlar = new HashMap<>();
+        if (!tam) {
+            for (Tuketim t : tuketimJdbcRepository.tuketimler(ilkUrun, sonUrun).values()) {
+                hizlar.put(t.urunId(), new Hiz(t.ortalama(), t.varyans(), t.sonGun(), t.tedarikciId()));
+            }
+        }
+        tuketimJdbcRepository.gunlukCikislariAkit(ilkUrun, sonUrun, baslangic, bitis, (urunId, gun, miktar) -> {
+            Hiz hiz = hizlar.get(urunId);
+            if (hiz == null) {
+                hizlar.put(urunId, new Hiz(miktar, 0, gun, null));
+                return;
+            }
+            hiz.sifirGunler(gun.minusDays(1), alfa);
+            hiz.ekle(miktar, alfa);
+            hiz.sonGun = gun;
+        });
+        Map<Integer, Integer> tedarikciler = tuketimJdbcRepository.sonTedarikciler(ilkUrun, sonUrun,
+                tam ? EN_ESKI : baslangic, bitis);
+
+        List<Tuketim> yazilacak = new ArrayList<>(hizlar.size());
+        for (Map.Entry<Integer, Hiz> e : hizlar.entrySet()) {
+            Hiz hiz = e.getValue();
+            hiz.sifirGunler(bitis, alfa);
+            hiz.sonGun = bitis;
+            double sigma = Math.sqrt(Math.max(hiz.varyans, 0));
+            int guvenlikStogu = (int) Math.ceil(z * sigma * Math.sqrt(tedarikSuresi));
+            int yenidenSiparisNoktasi = (int) Math.ceil(hiz.ortalama * tedarikSuresi) + guvenlikStogu;
+            Integer tedarikci = Objects.requireNonNullElse(tedarikciler.get(e.getKey()), hiz.tedarikciId);
+            yazilacak.add(new Tuketim(e.getKey(), hiz.ortalama, hiz.varyans, hiz.sonGun, tedarikci,
+                    guvenlikStogu, yenidenSiparisNoktasi));
+        }
+        tuketimJdbcRepository.araligiYaz(ilkUrun, sonUrun, yazilacak);
+        return yazilacak.size();
+    }
+
+    /**
+     * Tek ürünün üstel ağırlıklı ortalama ve varyansı, {@code sonGun} dahil.
+     */
+    private static final class Hiz {
+        double ortalama;
+        double varyans;
+        LocalDate sonGun;
+        final Integer tedarikciId;
+
+        Hiz(double ortalama, double varyans, LocalDate sonGun, Integer tedarikciId) {
+            this.ortalama = ortalama;
+            this.varyans = varyans;
+            this.sonGun = sonGun;
+            this.tedarikciId = tedarikciId;
+        }
+
+        void ekle(double x, double alfa) {
+            double fark = x - ortalama;
+            double artis = alfa * fark;
+            ortalama += artis;
+            varyans = (1 - alfa) * (varyans + fark * artis);
+        }
+
+        /**
+         * {@code sonGun} ile {@code gun} (dahil) arasındaki satışsız günleri işler.
+         */
+        void sifirGunler(LocalDate gun, double alfa) {
+            long gunSayisi = ChronoUnit.DAYS.between(sonGun, gun);
+            for (long i = 0; i < gunSayisi; i++) {
+                ekle(0, alfa);
+            }
+        }
+    }
+}
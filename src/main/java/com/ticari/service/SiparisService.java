@@ -0,0 +1,57 @@
+package com.ticari.service;
+
+import com.ticari.entity.Cari;
+import com.ticari.entity.Siparis;
+import com.ticari.enums.SiparisDurumu;
+import com.ticari.repository.SiparisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SiparisService {
+    
+    private final SiparisRepository siparisRepository;
+    private final BelgeNoService belgeNoService;
+    
+    public Siparis kaydet(Siparis siparis) {
+        if (siparis.getSiparisNo() == null) {
+            siparis.setSiparisNo(belgeNoService.siparisNo(siparis.getSiparisTarihi()));
+        }
+        return siparisRepository.save(siparis);
+    }
+    
+    public Optional<Siparis> getir(Integer id) {
+        return siparisRepository.findById(id);
+    }
+    
+    public List<Siparis> tumunuGetir() {
+        return siparisRepository.findAll();
+    }
+    
+    public List<Siparis> cariyeBul(Cari cari) {
+        return siparisRepository.findByCari(cari);
+    }
+    
+    public List<Siparis> durumaBul(SiparisDurumu durum) {
+        return siparisRepository.findByDurum(durum);
+    }
+    
+    // English aliases for controllers
+    public List<Siparis> findAll() {
+        return tumunuGetir();
+    }
+    
+    public Siparis save(Siparis siparis) {
+        return kaydet(siparis);
+    }
+    
+    public Optional<Siparis> findById(Integer id) {
+        return getir(id);
+    }
+}
@@ -0,0 +1,194 @@
+package com.ticari.service;
+
+import com.ticari.enums.StokGoruntuPeriyodu;
+import com.ticari.repository.StokProjeksiyonJdbcRepository;
+import com.ticari.repository.StokProjeksiyonJdbcRepository.UrunSecimi;
+import com.ticari.utils.ParalelAraliklar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Geçmiş bir tarihteki stok. Kapanan her dönemin sonunda, dönem içinde hareketi olan ürünler için
+ * stok miktarı StokAnlikGoruntuleri tablosuna yazılır; D tarihindeki stok ürünün D'ye kadarki son
+ * görüntüsüne görüntü gününden sonraki hareketlerin eklenmesiyle bulunur. Böylece yıl sonu sayımı
+ * tüm geçmişi değil, en fazla bir dönemlik hareketi toplar.
+ *
+ * <p>Kapanmış bir döneme tarihli hareket eklenir ya da silinirse etkilenen ürünlerin görüntüleri
+ * aynı transaction'da, ürün başına değil ürün kümesi için tek geçişte yeniden hesaplanır. Tüm görüntüler ürün kimliği aralıklarına bölünerek
+ * paralel olarak yeniden oluşturulabilir; her aralık kendi transaction'ında yazılır.
+ */
+@Service
+public class StokProjeksiyonService {
+
+    private final StokProjeksiyonJdbcRepository stokProjeksiyonJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StokGoruntuPeriyodu periyot;
+
+    public StokProjeksiyonService(StokProjeksiyonJdbcRepository stokProjeksiyonJdbcRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${ticari.stok.goruntu-periyodu:AYLIK}") StokGoruntuPeriyodu periyot) {
+        this.stokProjeksiyonJdbcRepository = stokProjeksiyonJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.periyot = periyot;
+    }
+
+    /**
+     * Ürünün {@code tarih} günü bitimindeki stoğu.
+     */
+    @Transactional(readOnly = true)
+    public int stokTarihinde(int urunId, LocalDate tarih) {
+        int[] miktar = { 0 };
+        stokProjeksiyonJdbcRepository.tarihtekiStoklar(tarih, urunId, urunId, (id, m) -> miktar[0] = m);
+        return miktar[0];
+    }
+
+    /**
+     * Tüm ürünlerin {@code tarih} günü bitimindeki stoğu, ürün kimliğine göre.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> tumStoklarTarihinde(LocalDate tarih) {
+        Map<Integer, Integer> stoklar = new HashMap<>();
+        stokProjeksiyonJdbcRepository.tarihtekiStoklar(tarih,
+                StokProjeksiyonJdbcRepository.TUM_URUNLER_ILK, StokProjeksiyonJdbcRepository.TUM_URUNLER_SON,
+                stoklar::put);
+        return stoklar;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void donemleriKapatmayaBasla() {
+        Thread thread = new Thread(this::donemleriKapat, "stok-goruntuleri");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Son kapanan dönemden bu yana tamamlanan dönemlerin görüntülerini yazar. İlk çalışmada
+     * tüm geçmiş işlenir.
+     */
+    @Scheduled(cron = "${ticari.stok.goruntu-zamani:0 15 0 * * *}")
+    public synchronized void donemleriKapat() {
+        LocalDate hedef = periyot.tamamlanmisSonDonem(LocalDate.now());
+        LocalDate sonKapanan = stokProjeksiyonJdbcRepository.sonKapanan(periyot);
+        if (sonKapanan != null && !sonKapanan.isBefore(hedef)) {
+            return;
+        }
+        LocalDate baslangic = sonKapanan != null ? sonKapanan.plusDays(1) : stokProjeksiyonJdbcRepository.ilkHareketTarihi();
+        if (baslangic != null && !baslangic.isAfter(hedef)) {
+            long sure = System.currentTimeMillis();
+            int satir = paralelOlustur(baslangic, hedef);
+            System.out.println("Stok görüntüleri " + hedef + " tarihine kadar kapatıldı: " + satir + " satır ("
+                    + (System.currentTimeMillis() - sure) + " ms)");
+        }
+        transactionTemplate.executeWithoutResult(durum -> stokProjeksiyonJdbcRepository.sonKapananYaz(periyot, hedef));
+    }
+
+    /**
+     * {@code baslangic} tarihini içeren dönemden itibaren tüm görüntüleri hareketlerden yeniden
+     * hesaplar; tarih verilmezse tüm geçmiş. Kapanmış dönem yoksa önce dönemler kapatılır.
+     *
+     * @return yazılan görüntü satırı sayısı
+     */
+    public synchronized int yenidenOlustur(LocalDate baslangic) {
+        LocalDate sonKapanan = stokProjeksiyonJdbcRepository.sonKapanan(periyot);
+        if (sonKapanan == null) {
+            donemleriKapat();
+            return 0;
+        }
+        if (baslangic == null) {
+            baslangic = stokProjeksiyonJdbcRepository.ilkHareketTarihi();
+        }
+        if (baslangic == null || baslangic.isAfter(sonKapanan)) {
+            return 0;
+        }
+        return paralelOlustur(baslangic, sonKapanan);
+    }
+
+    /**
+     * Kapanmış bir döneme dokunan hareket değişikliklerinden sonra çağrılır; ürünlerin görüntüleri
+     * çağıranın transaction'ında yeniden yazılır. Ürünler en fazla {@link StokProjeksiyonJdbcRepository#IN_BOYUTU}
+     * elemanlı kümeler halinde, her küme için bir açılış okuması, bir silme ve bir hareket akışıyla
+     * işlenir. Açık dönemdeki değişiklikler için bir şey yapmaz.
+     */
+    public void hareketDegisti(Collection<Integer> urunIdler, LocalDateTime enEskiTarih) {
+        if (urunIdler.isEmpty() || enEskiTarih == null) {
+            return;
+        }
+        LocalDate sonKapanan = stokProjeksiyonJdbcRepository.sonKapanan(periyot);
+        if (sonKapanan == null || enEskiTarih.toLocalDate().isAfter(sonKapanan)) {
+            return;
+        }
+        // Sıralı bölünen kümelerin kimlik aralıkları dar kalır
+        List<Integer> liste = urunIdler.stream().sorted().toList();
+        for (int i = 0; i < liste.size(); i += StokProjeksiyonJdbcRepository.IN_BOYUTU) {
+            List<Integer> parca = liste.subList(i, Math.min(i + StokProjeksiyonJdbcRepository.IN_BOYUTU, liste.size()));
+            olustur(enEskiTarih.toLocalDate(), sonKapanan, UrunSecimi.kume(parca));
+        }
+    }
+
+    private int paralelOlustur(LocalDate baslangic, LocalDate bitis) {
+        int[] urunAraligi = stokProjeksiyonJdbcRepository.urunAraligi();
+        if (urunAraligi == null) {
+            return 0;
+        }
+        return ParalelAraliklar.isle(urunAraligi[0], urunAraligi[1], "stok-goruntusu",
+                (ilk, son) -> transactionTemplate.execute(durum -> olustur(baslangic, bitis, UrunSecimi.aralik(ilk, son))));
+    }
+
+    /**
+     * Seçilen ürünler için {@code baslangic} tarihini içeren dönemden {@code bitis} dönem sonuna kadarki
+     * görüntüleri siler ve bir önceki dönem sonundaki stoktan başlayarak hareketleri sırayla
+     * toplayıp yeniden yazar. Satırlar hareket akışı kapandıktan sonra batch ile eklenir.
+     */
+    private int olustur(LocalDate baslangic, LocalDate bitis, UrunSecimi urunler) {
+        LocalDate oncekiDonemSonu = periyot.tamamlanmisSonDonem(baslangic);
+        Map<Integer, Integer> acilis = new HashMap<>();
+        stokProjeksiyonJdbcRepository.tarihtekiStoklar(oncekiDonemSonu, urunler, acilis::put);
+        stokProjeksiyonJdbcRepository.goruntuleriSil(oncekiDonemSonu.plusDays(1), urunler);
+
+        List<Object[]> satirlar = new ArrayList<>();
+        // Akıştaki ürün, o ürünün işlenen dönem sonu ve o ana kadarki stok
+        int[] urun = { 0 };
+        int[] stok = { 0 };
+        LocalDate[] donemSonu = { null };
+        Runnable donemiYaz = () -> {
+            if (donemSonu[0] != null) {
+                satirlar.add(new Object[] { urun[0], Date.valueOf(donemSonu[0]), stok[0] });
+            }
+        };
+
+        stokProjeksiyonJdbcRepository.hareketleriAkit(urunler,
+                oncekiDonemSonu.plusDays(1).atStartOfDay(), bitis.plusDays(1).atStartOfDay(),
+                (urunId, tarih, fark) -> {
+                    LocalDate hareketDonemi = periyot.donemSonu(tarih.toLocalDate());
+                    if (urunId != urun[0] || donemSonu[0] == null) {
+                        donemiYaz.run();
+                        urun[0] = urunId;
+                        stok[0] = acilis.getOrDefault(urunId, 0);
+                        donemSonu[0] = hareketDonemi;
+                    } else if (!hareketDonemi.equals(donemSonu[0])) {
+                        donemiYaz.run();
+                        donemSonu[0] = hareketDonemi;
+                    }
+                    stok[0] += fark;
+                });
+        donemiYaz.run();
+
+        stokProjeksiyonJdbcRepository.goruntuleriEkle(satirlar);
+        return satirlar.size();
+    }
+}
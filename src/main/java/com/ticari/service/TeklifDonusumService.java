@@ -0,0 +1,147 @@
+package com.ticari.service;
+
+import com.ticari.entity.Cari;
+import com.ticari.entity.Fatura;
+import com.ticari.entity.Siparis;
+import com.ticari.entity.StokGirisCikis;
+import com.ticari.enums.FaturaTuru;
+import com.ticari.enums.SiparisDurumu;
+import com.ticari.enums.StokIslemTuru;
+import com.ticari.repository.CariRepository;
+import com.ticari.repository.TeklifJdbcRepository;
+import com.ticari.repository.TeklifJdbcRepository.DonusturulecekTeklif;
+import com.ticari.repository.TeklifJdbcRepository.TeklifSatiri;
+import com.ticari.repository.TeklifRepository;
+import com.ticari.repository.UrunRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Onaylanmış tekliflerin toplu olarak siparişe ve satış faturasına dönüştürülmesi. Teklifler
+ * partiler halinde işlenir ve her parti kendi transaction'ında çalışır. Bir partide teklifler ve
+ * satırları birer sorguyla okunur, siparişler batch ile eklenir, faturalar stok satırlarıyla
+ * birlikte {@link FaturaService#topluKaydet} ile kaydedilir. İlerleme her partiden sonra bildirilir.
+ *
+ * <p>Siparişi olan teklif dönüştürülmüş sayılır ve atlanır; yarıda kalan bir dönüşüm aynı
+ * kimliklerle yeniden başlatılabilir. Ürün satırı olmayan teklifler de atlanır.
+ */
+@Service
+public class TeklifDonusumService {
+
+    private static final int PARTI_BOYUTU = 200;
+
+    private final TeklifJdbcRepository teklifJdbcRepository;
+    private final TeklifRepository teklifRepository;
+    private final CariRepository cariRepository;
+    private final UrunRepository urunRepository;
+    private final FaturaService faturaService;
+    private final BelgeNoService belgeNoService;
+    private final TransactionTemplate transactionTemplate;
+
+    @FunctionalInterface
+    public interface Ilerleme {
+        void bildir(int islenen, int toplam);
+    }
+
+    public record DonusumSonucu(int donusturulen, int atlanan) {
+    }
+
+    public TeklifDonusumService(TeklifJdbcRepository teklifJdbcRepository, TeklifRepository teklifRepository,
+                                CariRepository cariRepository, UrunRepository urunRepository,
+                                FaturaService faturaService, BelgeNoService belgeNoService,
+                                PlatformTransactionManager transactionManager) {
+        this.teklifJdbcRepository = teklifJdbcRepository;
+        this.teklifRepository = teklifRepository;
+        this.cariRepository = cariRepository;
+        this.urunRepository = urunRepository;
+        this.faturaService = faturaService;
+        this.belgeNoService = belgeNoService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Onaylanmış ve henüz dönüştürülmemiş tüm teklifleri dönüştürür.
+     */
+    public DonusumSonucu onaylanmislariDonustur(Ilerleme ilerleme) {
+        return donustur(teklifJdbcRepository.donusturulecekIdler(), ilerleme);
+    }
+
+    public DonusumSonucu donustur(List<Integer> teklifIdler, Ilerleme ilerleme) {
+        List<Integer> idler = teklifIdler.stream().distinct().sorted().toList();
+        int donusturulen = 0;
+        for (int i = 0; i < idler.size(); i += PARTI_BOYUTU) {
+            List<Integer> parti = idler.subList(i, Math.min(i + PARTI_BOYUTU, idler.size()));
+            Integer sayi = transactionTemplate.execute(durum -> partiyiDonustur(parti));
+            donusturulen += sayi != null ? sayi : 0;
+            ilerleme.bildir(i + parti.size(), idler.size());
+        }
+        return new DonusumSonucu(donusturulen, idler.size() - donusturulen);
+    }
+
+    private int partiyiDonustur(List<Integer> teklifIdler) {
+        List<DonusturulecekTeklif> teklifler = teklifJdbcRepository.donusturulecekler(teklifIdler);
+        if (teklifler.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, List<TeklifSatiri>> teklifBazinda = new HashMap<>();
+        for (TeklifSatiri satir : teklifJdbcRepository.satirlar(teklifler.stream().map(DonusturulecekTeklif::teklifId).toList())) {
+            teklifBazinda.computeIfAbsent(satir.teklifId(), id -> new ArrayList<>()).add(satir);
+        }
+
+        LocalDateTime simdi = LocalDateTime.now();
+        List<Siparis> siparisler = new ArrayList<>(teklifler.size());
+        List<Fatura> faturalar = new ArrayList<>(teklifler.size());
+        for (DonusturulecekTeklif teklif : teklifler) {
+            List<TeklifSatiri> satirlar = teklifBazinda.get(teklif.teklifId());
+            if (satirlar == null) {
+                continue;
+            }
+            Cari cari = cariRepository.getReferenceById(teklif.cariId());
+
+            Siparis siparis = new Siparis();
+            siparis.setSiparisNo(belgeNoService.siparisNo(simdi));
+            siparis.setTeklif(teklifRepository.getReferenceById(teklif.teklifId()));
+            siparis.setCari(cari);
+            siparis.setSiparisTarihi(simdi);
+            siparis.setDurum(SiparisDurumu.TAMAMLANDI);
+            siparisler.add(siparis);
+
+            List<StokGirisCikis> hareketler = new ArrayList<>(satirlar.size());
+            BigDecimal satirToplami = BigDecimal.ZERO;
+            for (TeklifSatiri satir : satirlar) {
+                StokGirisCikis hareket = new StokGirisCikis();
+                hareket.setUrun(urunRepository.getReferenceById(satir.urunId()));
+                hareket.setSiparis(siparis);
+                hareket.setIslemTuru(StokIslemTuru.CIKIS);
+                hareket.setMiktar(satir.miktar());
+                hareket.setBirimFiyat(satir.birimFiyat());
+                hareket.setTarih(simdi);
+                hareketler.add(hareket);
+                satirToplami = satirToplami.add(satir.birimFiyat().multiply(BigDecimal.valueOf(satir.miktar())));
+            }
+
+            Fatura fatura = new Fatura();
+            fatura.setCari(cari);
+            fatura.setFaturaTarihi(simdi);
+            fatura.setTur(FaturaTuru.SATIS);
+            fatura.setGenelToplam(teklif.toplamTutar() != null ? teklif.toplamTutar() : satirToplami);
+            if (teklif.teklifNo() != null) {
+                fatura.setAciklama(teklif.teklifNo() + " nolu tekliften");
+            }
+            fatura.setStokGirisCikislar(hareketler);
+            faturalar.add(fatura);
+        }
+
+        teklifJdbcRepository.siparisleriEkle(siparisler);
+        faturaService.topluKaydet(faturalar);
+        return faturalar.size();
+    }
+}
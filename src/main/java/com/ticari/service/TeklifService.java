@@ -5,6 +5,8 @@ import com.ticari.entity.Teklif;
 import com.ticari.enums.TeklifDurumu;
 import com.ticari.repository.TeklifRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,21 +20,41 @@ import java.util.Optional;
 public class TeklifService {
     
     private final TeklifRepository teklifRepository;
+    private final AramaService aramaService;
+    private final BelgeNoService belgeNoService;
     
     public Teklif kaydet(Teklif teklif) {
-        return teklifRepository.save(teklif);
+        if (teklif.getTeklifNo() == null) {
+            teklif.setTeklifNo(belgeNoService.teklifNo(teklif.getTeklifTarihi()));
+        }
+        Teklif kaydedilen = teklifRepository.save(teklif);
+        aramaService.teklifIndeksle(kaydedilen.getTeklifId());
+        return kaydedilen;
     }
     
     public Optional<Teklif> getir(Integer id) {
         return teklifRepository.findById(id);
     }
     
+    public Optional<Teklif> detayGetir(Integer id) {
+        return teklifRepository.findDetayByTeklifId(id);
+    }
+    
     public List<Teklif> tumunuGetir() {
         return teklifRepository.findAll();
     }
     
+    public Slice<Teklif> sayfaGetir(Pageable pageable) {
+        return teklifRepository.findAllBy(pageable);
+    }
+    
+    public long say() {
+        return teklifRepository.count();
+    }
+    
     public void sil(Integer id) {
         teklifRepository.deleteById(id);
+        aramaService.teklifCikar(id);
     }
     
     public List<Teklif> cariyeBul(Cari cari) {
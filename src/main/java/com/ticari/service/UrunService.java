@@ -4,6 +4,8 @@ import com.ticari.entity.Kategori;
 import com.ticari.entity.Urun;
 import com.ticari.repository.UrunRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +18,16 @@ import java.util.Optional;
 public class UrunService {
     
     private final UrunRepository urunRepository;
+    private final AramaService aramaService;
+    private final DashboardAggregateService dashboardAggregateService;
+    private final KritikStokTakibi kritikStokTakibi;
     
     public Urun kaydet(Urun urun) {
-        return urunRepository.save(urun);
+        Urun kaydedilen = urunRepository.save(urun);
+        aramaService.urunIndeksle(kaydedilen.getUrunId());
+        kritikStokTakibi.urunDegisti(kaydedilen);
+        dashboardAggregateService.gecersizKil();
+        return kaydedilen;
     }
     
     public Optional<Urun> getir(Integer id) {
@@ -29,8 +38,19 @@ public class UrunService {
         return urunRepository.findAll();
     }
     
+    public Slice<Urun> sayfaGetir(Pageable pageable) {
+        return urunRepository.findAllBy(pageable);
+    }
+    
+    public long say() {
+        return urunRepository.count();
+    }
+    
     public void sil(Integer id) {
         urunRepository.deleteById(id);
+        aramaService.urunCikar(id);
+        kritikStokTakibi.urunSilindi(id);
+        dashboardAggregateService.gecersizKil();
     }
     
     public List<Urun> kategoriyeGoreGetir(Kategori kategori) {
@@ -38,11 +58,15 @@ public class UrunService {
     }
     
     public List<Urun> urunAdaGoreAra(String urunAd) {
-        return urunRepository.findByUrunAdContainingIgnoreCase(urunAd);
+        return aramaService.urunAra(urunAd);
     }
     
+    /**
+     * Stoğu minimumun altındaki ürünler; KritikStokta indeksinden okunur. Sıralı ve bellekteki
+     * liste için {@link KritikStokTakibi}.
+     */
     public List<Urun> dusukStokluUrunleriGetir() {
-        return urunRepository.findDusukStokluUrunler();
+        return urunRepository.findByKritikStoktaTrue();
     }
     
     public void stokGuncelle(Integer urunId, Integer miktar) {
@@ -51,6 +75,8 @@ public class UrunService {
             Urun urun = urunOpt.get();
             urun.setMevcutStokMiktari(urun.getMevcutStokMiktari() + miktar);
             urunRepository.save(urun);
+            kritikStokTakibi.urunDegisti(urun);
+            dashboardAggregateService.gecersizKil();
         }
     }
     
@@ -0,0 +1,86 @@
+package com.ticari.ui;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Arama kutusunu tuş vuruşlarında değil, yazma durduğunda sorgular.
+ * Sorgu FX thread dışında çalışır; yeni bir sorgu başladığında eskisi iptal edilir
+ * ve geç gelen eski sonuçlar tabloya yazılmaz.
+ */
+public class DebouncedSearch<T> {
+
+    public static final Duration VARSAYILAN_GECIKME = Duration.millis(250);
+
+    private static final ExecutorService ARAMA_HAVUZU = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "arama");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PauseTransition bekleme;
+    private final Function<String, List<T>> sorgu;
+    private final Consumer<List<T>> sonucIsleyici;
+
+    private long nesil;
+    private Future<?> calisanSorgu;
+
+    public DebouncedSearch(TextField alan, Function<String, List<T>> sorgu,
+                           Consumer<List<T>> sonucIsleyici, Runnable temizleyici) {
+        this(alan, VARSAYILAN_GECIKME, sorgu, sonucIsleyici, temizleyici);
+    }
+
+    public DebouncedSearch(TextField alan, Duration gecikme, Function<String, List<T>> sorgu,
+                           Consumer<List<T>> sonucIsleyici, Runnable temizleyici) {
+        this.sorgu = sorgu;
+        this.sonucIsleyici = sonucIsleyici;
+        this.bekleme = new PauseTransition(gecikme);
+        this.bekleme.setOnFinished(e -> calistir(alan.getText().trim()));
+
+        alan.textProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue == null || newValue.trim().isEmpty()) {
+                bekleme.stop();
+                iptalEt();
+                temizleyici.run();
+            } else {
+                bekleme.playFromStart();
+            }
+        });
+    }
+
+    private void calistir(String metin) {
+        iptalEt();
+        long buNesil = nesil;
+        calisanSorgu = ARAMA_HAVUZU.submit(() -> {
+            try {
+                List<T> sonuc = sorgu.apply(metin);
+                Platform.runLater(() -> {
+                    if (buNesil == nesil) {
+                        sonucIsleyici.accept(sonuc);
+                    }
+                });
+            } catch (Exception e) {
+                if (!Thread.currentThread().isInterrupted()) {
+                    System.err.println("Arama hatası: " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void iptalEt() {
+        nesil++;
+        if (calisanSorgu != null) {
+            calisanSorgu.cancel(true);
+            calisanSorgu = null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ticari.ui;
+
+import com.ticari.entity.Cari;
+import com.ticari.service.EkstreService;
+import com.ticari.service.EkstreService.EkstreImleci;
+import com.ticari.service.EkstreService.EkstreSatiri;
+import com.ticari.service.EkstreService.EkstreSayfasi;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Cari ekstresini sayfa sayfa gösteren pencere. İlk sayfa hemen yüklenir;
+ * "Devamını Yükle" bir sonraki sayfayı son satırın imlecinden getirir.
+ */
+public class EkstrePenceresi {
+
+    private final EkstreService ekstreService;
+    private final Cari cari;
+    private final ObservableList<EkstreSatiri> satirlar = FXCollections.observableArrayList();
+    private final TableView<EkstreSatiri> tablo = new TableView<>(satirlar);
+    private final Button btnDevami = new Button("Devamını Yükle");
+    private final Label lblDurum = new Label();
+
+    private EkstreImleci sonraki;
+
+    public EkstrePenceresi(EkstreService ekstreService, Cari cari) {
+        this.ekstreService = ekstreService;
+        this.cari = cari;
+    }
+
+    public void goster() {
+        kolonlariKur();
+
+        Button btnCsv = new Button("CSV Olarak Kaydet");
+        btnCsv.setOnAction(e -> csvKaydet());
+        btnDevami.setOnAction(e -> sonrakiSayfa());
+
+        HBox altPanel = new HBox(10, btnDevami, btnCsv, lblDurum);
+        altPanel.setPadding(new Insets(8));
+        BorderPane kok = new BorderPane(tablo);
+        kok.setBottom(altPanel);
+
+        ekle(ekstreService.ilkSayfa(cari.getCariId(), EkstreService.VARSAYILAN_SAYFA_BOYUTU));
+
+        Stage stage = new Stage();
+        stage.setTitle("Cari Ekstre - " + cari.getUnvan());
+        stage.setScene(new Scene(kok, 900, 600));
+        stage.show();
+    }
+
+    private void kolonlariKur() {
+        TableColumn<EkstreSatiri, String> colTarih = new TableColumn<>("Tarih");
+        colTarih.setCellValueFactory(c -> new SimpleStringProperty(
+                c.getValue().tarih() != null ? c.getValue().tarih().toLocalDate().toString() : ""));
+        TableColumn<EkstreSatiri, String> colKaynak = new TableColumn<>("Kaynak");
+        colKaynak.setCellValueFactory(c -> new SimpleStringProperty(c.getValue().kaynak()));
+        TableColumn<EkstreSatiri, String> colAciklama = new TableColumn<>("Açıklama");
+        colAciklama.setCellValueFactory(c -> new SimpleStringProperty(c.getValue().aciklama()));
+        TableColumn<EkstreSatiri, BigDecimal> colBorc = new TableColumn<>("Borç");
+        colBorc.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().borc()));
+        TableColumn<EkstreSatiri, BigDecimal> colAlacak = new TableColumn<>("Alacak");
+        colAlacak.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().alacak()));
+        TableColumn<EkstreSatiri, BigDecimal> colBakiye = new TableColumn<>("Bakiye");
+        colBakiye.setCellValueFactory(c -> new SimpleObjectProperty<>(c.getValue().bakiye()));
+
+        tablo.getColumns().setAll(List.of(colTarih, colKaynak, colAciklama, colBorc, colAlacak, colBakiye));
+        // Sıralama sunucudaki yürüyen bakiyeyi bozacağından kapalı
+        tablo.getColumns().forEach(k -> k.setSortable(false));
+        tablo.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+    }
+
+    private void sonrakiSayfa() {
+        if (sonraki != null) {
+            ekle(ekstreService.sayfaGetir(cari.getCariId(), sonraki, EkstreService.VARSAYILAN_SAYFA_BOYUTU));
+        }
+    }
+
+    private void ekle(EkstreSayfasi sayfa) {
+        satirlar.addAll(sayfa.satirlar());
+        sonraki = sayfa.sonraki();
+        btnDevami.setDisable(sonraki == null);
+        lblDurum.setText(satirlar.size() + " hareket" + (sonraki == null ? "" : " (devamı var)"));
+    }
+
+    private void csvKaydet() {
+        FileChooser secici = new FileChooser();
+        secici.setInitialFileName("ekstre-" + cari.getCariKod() + ".csv");
+        File dosya = secici.showSaveDialog(tablo.getScene().getWindow());
+        if (dosya == null) {
+            return;
+        }
+        try (BufferedWriter yazici = Files.newBufferedWriter(dosya.toPath(), StandardCharsets.UTF_8)) {
+            ekstreService.csvYaz(cari.getCariId(), yazici);
+        } catch (IOException | RuntimeException e) {
+            Alert alert = new Alert(Alert.AlertType.ERROR, "Ekstre kaydedilemedi: " + e.getMessage());
+            alert.setHeaderText(null);
+            alert.showAndWait();
+        }
+    }
+}
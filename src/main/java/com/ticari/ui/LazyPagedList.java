@@ -0,0 +1,194 @@
+package com.ticari.ui;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * TableView için sunucu tarafında sayfalanan ve sıralanan liste.
+ * Satırlar yalnızca tablo onları çizmek istediğinde sayfa sayfa çekilir;
+ * bellekte en fazla {@link #ONBELLEK_SAYFA_SAYISI} sayfa tutulur.
+ *
+ * <p>Sayfalar FX thread dışında yüklenir: henüz gelmemiş satırlar boş görünür, sayfa gelince o
+ * aralık için değişiklik bildirilir. Yenileme ya da sıralamadan önce istenmiş geç sayfalar atılır.
+ * Yalnızca satır sayısı (tek bir COUNT sorgusu) yenilemede FX thread üzerinde alınır.
+ *
+ * <p>OFFSET sayfalamanın kararlı olması için sıralamanın sonuna her zaman kimlik alanı eklenir;
+ * aksi halde eşit değerli satırlar sayfalar arasında yer değiştirip tekrar edebilir ya da kaybolabilir.
+ */
+public class LazyPagedList<T> extends ObservableListBase<T> {
+
+    public static final int VARSAYILAN_SAYFA_BOYUTU = 100;
+    private static final int ONBELLEK_SAYFA_SAYISI = 20;
+
+    private static final ExecutorService SAYFA_HAVUZU = Executors.newFixedThreadPool(2, r -> {
+        Thread thread = new Thread(r, "sayfa");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int sayfaBoyutu;
+    private final Map<Integer, List<T>> sayfalar = new LinkedHashMap<>(ONBELLEK_SAYFA_SAYISI, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+            return size() > ONBELLEK_SAYFA_SAYISI;
+        }
+    };
+
+    private final Set<Integer> yuklenenSayfalar = new HashSet<>();
+    private final String kimlikAlani;
+
+    private Function<Pageable, Slice<T>> sayfaGetirici;
+    private LongSupplier sayac;
+    private Sort siralama;
+    private int boyut;
+    private long nesil;
+
+    /**
+     * @param kimlikAlani sıralamanın son anahtarı olarak kullanılan tekil alan, örn. {@code "cariId"}
+     */
+    public LazyPagedList(Function<Pageable, Slice<T>> sayfaGetirici, LongSupplier sayac, String kimlikAlani) {
+        this(sayfaGetirici, sayac, kimlikAlani, VARSAYILAN_SAYFA_BOYUTU);
+    }
+
+    public LazyPagedList(Function<Pageable, Slice<T>> sayfaGetirici, LongSupplier sayac, String kimlikAlani,
+                         int sayfaBoyutu) {
+        this.sayfaGetirici = sayfaGetirici;
+        this.sayac = sayac;
+        this.kimlikAlani = kimlikAlani;
+        this.siralama = Sort.by(kimlikAlani);
+        this.sayfaBoyutu = sayfaBoyutu;
+        this.boyut = sayiyiGetir();
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= boyut) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        List<T> sayfa = sayfalar.get(index / sayfaBoyutu);
+        if (sayfa == null) {
+            sayfaIste(index / sayfaBoyutu);
+            return null;
+        }
+        int sayfaIci = index % sayfaBoyutu;
+        // Sayım ile sayfa arasında silinen satırlar boş hücre olarak görünür
+        return sayfaIci < sayfa.size() ? sayfa.get(sayfaIci) : null;
+    }
+
+    @Override
+    public int size() {
+        return boyut;
+    }
+
+    public void yenile() {
+        int eskiBoyut = boyut;
+        nesil++;
+        sayfalar.clear();
+        yuklenenSayfalar.clear();
+        boyut = sayiyiGetir();
+
+        beginChange();
+        nextReplace(0, boyut, Collections.nCopies(eskiBoyut, null));
+        endChange();
+    }
+
+    public void sirala(Sort yeniSiralama) {
+        this.siralama = yeniSiralama.getOrderFor(kimlikAlani) != null
+                ? yeniSiralama
+                : yeniSiralama.and(Sort.by(kimlikAlani));
+        yenile();
+    }
+
+    public void kaynakDegistir(Function<Pageable, Slice<T>> yeniGetirici, LongSupplier yeniSayac) {
+        this.sayfaGetirici = yeniGetirici;
+        this.sayac = yeniSayac;
+        yenile();
+    }
+
+    /**
+     * Listeyi tabloya bağlar ve tablo başlığından yapılan sıralamayı sunucuya yönlendirir.
+     * Eşleme verilmeyen kolonlar sıralanamaz hale getirilir.
+     */
+    public void tabloyaBagla(TableView<T> tablo, Map<TableColumn<T, ?>, String> siralamaAlanlari) {
+        for (TableColumn<T, ?> kolon : tablo.getColumns()) {
+            kolon.setSortable(siralamaAlanlari.containsKey(kolon));
+        }
+        tablo.setSortPolicy(tv -> {
+            if (tv.getItems() != this) {
+                return TableView.DEFAULT_SORT_POLICY.call(tv);
+            }
+            List<Sort.Order> siralar = new ArrayList<>();
+            for (TableColumn<T, ?> kolon : tv.getSortOrder()) {
+                String alan = siralamaAlanlari.get(kolon);
+                if (alan != null) {
+                    siralar.add(kolon.getSortType() == TableColumn.SortType.ASCENDING
+                            ? Sort.Order.asc(alan)
+                            : Sort.Order.desc(alan));
+                }
+            }
+            sirala(Sort.by(siralar));
+            return true;
+        });
+        tablo.setItems(this);
+    }
+
+    private void sayfaIste(int sayfaNo) {
+        if (!yuklenenSayfalar.add(sayfaNo)) {
+            return;
+        }
+        long buNesil = nesil;
+        Function<Pageable, Slice<T>> getirici = sayfaGetirici;
+        Pageable istek = PageRequest.of(sayfaNo, sayfaBoyutu, siralama);
+        SAYFA_HAVUZU.execute(() -> {
+            try {
+                List<T> icerik = getirici.apply(istek).getContent();
+                Platform.runLater(() -> sayfaGeldi(buNesil, sayfaNo, icerik));
+            } catch (Exception e) {
+                System.err.println("Sayfa yüklenemedi: " + e.getMessage());
+                // Satırlar bir sonraki çizimde yeniden istenir
+                Platform.runLater(() -> {
+                    if (buNesil == nesil) {
+                        yuklenenSayfalar.remove(sayfaNo);
+                    }
+                });
+            }
+        });
+    }
+
+    private void sayfaGeldi(long buNesil, int sayfaNo, List<T> icerik) {
+        if (buNesil != nesil) {
+            return;
+        }
+        yuklenenSayfalar.remove(sayfaNo);
+        sayfalar.put(sayfaNo, icerik);
+        int bas = sayfaNo * sayfaBoyutu;
+        int son = Math.min(bas + sayfaBoyutu, boyut);
+        if (bas < son) {
+            beginChange();
+            nextReplace(bas, son, Collections.nCopies(son - bas, null));
+            endChange();
+        }
+    }
+
+    private int sayiyiGetir() {
+        return (int) Math.min(Integer.MAX_VALUE, sayac.getAsLong());
+    }
+}
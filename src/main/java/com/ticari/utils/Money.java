@@ -0,0 +1,125 @@
+package com.ticari.utils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Para tutarları için kuruş (en küçük birim) cinsinden {@code long} aritmetiği.
+ * Toplama ve çarpma taşmada {@link ArithmeticException} atar, bölme ve oran işlemleri
+ * yarım yukarı (sıfırdan uzağa) yuvarlar. Hiçbir işlem nesne üretmez; {@link BigDecimal}'e
+ * yalnızca veritabanı ve ekran sınırında dönülür.
+ *
+ * <p>KDV fatura satırı başına hesaplanıp kuruşa yuvarlanır, fatura KDV'si satır KDV'lerinin
+ * toplamıdır (toplam matrahın KDV'si değil).
+ */
+public final class Money {
+
+    public static final int ONDALIK = 2;
+    public static final long KURUS = 100L;
+
+    private Money() {
+    }
+
+    public static long topla(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long cikar(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Birim fiyat × miktar.
+     */
+    public static long carp(long kurus, long miktar) {
+        return Math.multiplyExact(kurus, miktar);
+    }
+
+    /**
+     * {@code tutar × pay / payda}, yarım yukarı yuvarlanmış. Payda pozitif olmalıdır.
+     * Ara çarpım taşarsa (çok nadir) hesap BigDecimal ile yapılır.
+     */
+    public static long carpBol(long tutar, long pay, long payda) {
+        long carpim;
+        try {
+            carpim = Math.multiplyExact(tutar, pay);
+        } catch (ArithmeticException e) {
+            return BigDecimal.valueOf(tutar).multiply(BigDecimal.valueOf(pay))
+                    .divide(BigDecimal.valueOf(payda), 0, RoundingMode.HALF_UP).longValueExact();
+        }
+        long bolum = carpim / payda;
+        long kalan = carpim % payda;
+        if (Math.abs(kalan) * 2 >= payda) {
+            bolum += Long.signum(carpim);
+        }
+        return bolum;
+    }
+
+    /**
+     * Matrahın KDV'si, kuruşa yuvarlanmış.
+     */
+    public static long kdv(long matrah, int oranYuzde) {
+        return carpBol(matrah, oranYuzde, 100);
+    }
+
+    /**
+     * KDV dahil tutardan matrahı ayırır; KDV {@code brut - matrah} olarak bulunur,
+     * böylece ikisinin toplamı her zaman brüt tutara eşittir.
+     */
+    public static long kdvHaricMatrah(long brut, int oranYuzde) {
+        return carpBol(brut, 100, 100 + oranYuzde);
+    }
+
+    public static long kurus(BigDecimal tutar) {
+        return tutar == null ? 0L : tutar.setScale(ONDALIK, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Kullanıcı girişini kuruşa çevirir; ondalık ayraç nokta ya da virgül olabilir.
+     *
+     * @throws NumberFormatException sayı değilse
+     */
+    public static long kurus(String metin) {
+        return kurus(new BigDecimal(metin.trim().replace(',', '.')));
+    }
+
+    public static BigDecimal bigDecimal(long kurus) {
+        return BigDecimal.valueOf(kurus, ONDALIK);
+    }
+
+    /**
+     * Tutarı {@code -1234.56} biçiminde yazar; CSV ve raporlar için ara String üretmez.
+     */
+    public static void yaz(Appendable hedef, long kurus) throws IOException {
+        if (kurus < 0) {
+            hedef.append('-');
+        }
+        long mutlak = Math.abs(kurus);
+        long lira = mutlak / KURUS;
+        int kalan = (int) (mutlak % KURUS);
+        if (lira == 0) {
+            hedef.append('0');
+        } else {
+            liraYaz(hedef, lira);
+        }
+        hedef.append('.').append((char) ('0' + kalan / 10)).append((char) ('0' + kalan % 10));
+    }
+
+    public static String bicimle(long kurus) {
+        StringBuilder sb = new StringBuilder(24);
+        try {
+            yaz(sb, kurus);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    private static void liraYaz(Appendable hedef, long lira) throws IOException {
+        if (lira >= 10) {
+            liraYaz(hedef, lira / 10);
+        }
+        hedef.append((char) ('0' + lira % 10));
+    }
+}
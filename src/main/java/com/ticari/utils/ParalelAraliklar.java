@@ -0,0 +1,73 @@
+package com.ticari.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Bir kimlik aralığını eşit parçalara bölüp parçaları sabit sayıda iş parçacığında işler.
+ * Ürün bazında yeniden hesaplamalar (stok görüntüleri, maliyet) için kullanılır; her parça
+ * genellikle kendi transaction'ında çalışır. İş parçacığı sayısı bağlantı havuzunu tüketmemek
+ * için sınırlıdır.
+ */
+public final class ParalelAraliklar {
+
+    public static final int AZAMI_IS_PARCACIGI = 4;
+    private static final int IS_PARCACIGI_BASINA_ARALIK = 4;
+
+    @FunctionalInterface
+    public interface AralikIsi {
+        int isle(int ilk, int son);
+    }
+
+    private ParalelAraliklar() {
+    }
+
+    /**
+     * {@code [ilk, son]} aralığını parçalara bölüp işler ve sonuçların toplamını döner.
+     * Parçalar bittikçe toplanır; bir parça hata verirse henüz başlamamış parçalar hiç çalıştırılmaz,
+     * çalışanlara kesme gönderilir ve hata {@link IllegalStateException} olarak hemen iletilir.
+     * Tamamlanan parçaların sonuçları kalır. Kesmeyi dikkate almayan bir JDBC çağrısındaki parça
+     * yöntem döndükten sonra da bitip kendi transaction'ını commit edebilir.
+     */
+    public static int isle(int ilk, int son, String ad, AralikIsi is) {
+        int isParcacigi = Math.min(Runtime.getRuntime().availableProcessors(), AZAMI_IS_PARCACIGI);
+        int parcaSayisi = isParcacigi * IS_PARCACIGI_BASINA_ARALIK;
+        long genislik = (long) son - ilk + 1;
+        long parcaBoyu = Math.max(1, (genislik + parcaSayisi - 1) / parcaSayisi);
+
+        List<Callable<Integer>> isler = new ArrayList<>();
+        for (long parcaIlk = ilk; parcaIlk <= son; parcaIlk += parcaBoyu) {
+            int a = (int) parcaIlk;
+            int b = (int) Math.min(parcaIlk + parcaBoyu - 1, son);
+            isler.add(() -> is.isle(a, b));
+        }
+
+        ExecutorService havuz = Executors.newFixedThreadPool(isParcacigi, r -> {
+            Thread thread = new Thread(r, ad);
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<Integer> tamamlanan = new ExecutorCompletionService<>(havuz);
+        try {
+            isler.forEach(tamamlanan::submit);
+            int toplam = 0;
+            for (int i = 0; i < isler.size(); i++) {
+                toplam += tamamlanan.take().get();
+            }
+            return toplam;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ad + " kesildi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(ad + " tamamlanamadı", e.getCause());
+        } finally {
+            havuz.shutdownNow();
+        }
+    }
+}
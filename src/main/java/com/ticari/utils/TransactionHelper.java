@@ -0,0 +1,27 @@
+package com.ticari.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionHelper {
+
+    private TransactionHelper() {
+    }
+
+    /**
+     * Bellekteki yapılara yansıtılacak değişiklikleri işlem commit edildikten sonra çalıştırır;
+     * rollback olan işlemler önbellekleri bozmaz. Aktif işlem yoksa hemen çalıştırır.
+     */
+    public static void commitSonrasi(Runnable is) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    is.run();
+                }
+            });
+        } else {
+            is.run();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FinansHareketleri.IslemTuru kısıtına CEK_ODEMESI değerini ekler. Temel alınan veritabanlarında
+ * kısıt Hibernate'in verdiği adla (CK__FinansHar__...) durduğundan adı INFORMATION_SCHEMA'dan
+ * bulunur; bu yüzden SQL yerine Java ile yazılmıştır.
+ */
+public class V3__finans_islem_turleri extends BaseJavaMigration {
+
+    private static final String KISITLAR_SQL =
+            "SELECT cu.CONSTRAINT_NAME FROM INFORMATION_SCHEMA.CONSTRAINT_COLUMN_USAGE cu "
+            + "JOIN INFORMATION_SCHEMA.CHECK_CONSTRAINTS cc ON cc.CONSTRAINT_NAME = cu.CONSTRAINT_NAME "
+            + "WHERE UPPER(cu.TABLE_NAME) = ? AND UPPER(cu.COLUMN_NAME) = ?";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection baglanti = context.getConnection();
+        String tirnak = baglanti.getMetaData().getIdentifierQuoteString().trim();
+        try (Statement st = baglanti.createStatement()) {
+            for (String kisit : kisitlar(baglanti, "FINANSHAREKETLERI", "ISLEMTURU")) {
+                st.execute("ALTER TABLE FinansHareketleri DROP CONSTRAINT " + tirnak + kisit + tirnak);
+            }
+            st.execute("ALTER TABLE FinansHareketleri ADD CONSTRAINT CK_FinansHareketleri_IslemTuru "
+                    + "CHECK (IslemTuru IN ('TAHSILAT', 'ODEME', 'MAAS', 'CEK_TAHSILATI', 'CEK_ODEMESI'))");
+        }
+    }
+
+    private static List<String> kisitlar(Connection baglanti, String tablo, String kolon) throws SQLException {
+        List<String> sonuc = new ArrayList<>();
+        try (PreparedStatement ps = baglanti.prepareStatement(KISITLAR_SQL)) {
+            ps.setString(1, tablo);
+            ps.setString(2, kolon);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    sonuc.add(rs.getString(1));
+                }
+            }
+        }
+        return sonuc;
+    }
+}
@@ -0,0 +1,62 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Kimlik sekanslarını oluşturur. Temel alınan veritabanlarında kimlikler elle verildiğinden her
+ * sekans tablodaki en büyük kimliğin bir fazlasından başlar. Flyway göçleri veritabanı kilidi
+ * altında ve uygulamanın ilk sorgusundan önce bir kez çalıştırdığından, aynı anda açılan terminaller
+ * sekansı birbirinin elinden alıp geri saramaz.
+ *
+ * <p>INCREMENT BY, {@code ticari.id.blok-boyutu} varsayılanıyla aynı olmalıdır.
+ */
+public class V5__kimlik_sekanslari extends BaseJavaMigration {
+
+    private static final int BLOK_BOYUTU = 50;
+
+    // Tablo -> kimlik kolonu; sekans adı Tablo_SEQ
+    private static final Map<String, String> TABLOLAR = new LinkedHashMap<>();
+
+    static {
+        TABLOLAR.put("Atiklar", "AtikID");
+        TABLOLAR.put("AtikNedenleri", "NedenID");
+        TABLOLAR.put("Cariler", "CariID");
+        TABLOLAR.put("CekSenetler", "EvrakID");
+        TABLOLAR.put("Faturalar", "FaturaID");
+        TABLOLAR.put("FaturaHizmetKalemleri", "KalemID");
+        TABLOLAR.put("FinansHareketleri", "HareketID");
+        TABLOLAR.put("Hizmetler", "HizmetID");
+        TABLOLAR.put("KasaBanka", "HesapID");
+        TABLOLAR.put("Kategoriler", "KategoriID");
+        TABLOLAR.put("Kurlar", "KurID");
+        TABLOLAR.put("Personeller", "PersonelID");
+        TABLOLAR.put("Siparisler", "SiparisID");
+        TABLOLAR.put("StokGirisCikis", "HareketID");
+        TABLOLAR.put("Teklifler", "TeklifID");
+        TABLOLAR.put("TeklifDetaylari", "DetayID");
+        TABLOLAR.put("Urunler", "UrunID");
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement st = context.getConnection().createStatement()) {
+            for (Map.Entry<String, String> e : TABLOLAR.entrySet()) {
+                long baslangic;
+                try (ResultSet rs = st.executeQuery(
+                        "SELECT COALESCE(MAX(" + e.getValue() + "), 0) + 1 FROM " + e.getKey())) {
+                    rs.next();
+                    baslangic = rs.getLong(1);
+                }
+                st.execute("CREATE SEQUENCE " + e.getKey() + "_SEQ START WITH " + baslangic
+                        + " INCREMENT BY " + BLOK_BOYUTU);
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+-- Flyway'den önceki sürümün (ddl-auto=update) varlık eşlemelerinden oluşan şema. Önceden kurulmuş
+-- veritabanları bu sürümde temel alınır (spring.flyway.baseline-on-migrate) ve V1 çalıştırılmadan
+-- V2'den itibaren güncellenir; bu yüzden dosya o şemayla birebir aynı kalmalı, sonraki her
+-- değişiklik yeni bir sürümle yapılmalıdır.
+--
+-- Tablo ve kolon adları eşlemelerdeki ve JDBC sorgularındaki gibidir (Urunler.MevcutStokMiktari);
+-- Hibernate'e de olduğu gibi verilir (PhysicalNamingStrategyStandardImpl). Spring'in varsayılan
+-- snake_case adlandırmasıyla kurulmuş bir veritabanı (urunler.mevcut_stok_miktari) bu şemayla aynı
+-- değildir; temel almadan önce adları bu dosyadakilere çevrilmelidir, yoksa açılıştaki şema
+-- doğrulaması eksik tablo/kolon hatası verir.
+--
+-- Kısıt adları temel alınan veritabanlarında Hibernate'in ürettiği adlardır (FK..., UK..., CK__...);
+-- sonraki sürümler kısıtlara adıyla erişmemeli, gerekirse adı INFORMATION_SCHEMA'dan bulmalıdır.
+-- SQL Server ve H2 (MODE=MSSQLServer) ile çalışır.
+
+-- Tanımlar
+
+CREATE TABLE ParaBirimleri (
+    ParaKod VARCHAR(3) NOT NULL,
+    Aciklama VARCHAR(50),
+    Sembol VARCHAR(5),
+    CONSTRAINT PK_ParaBirimleri PRIMARY KEY (ParaKod)
+);
+
+CREATE TABLE Kategoriler (
+    KategoriID INT NOT NULL,
+    KategoriAd VARCHAR(50) NOT NULL,
+    CONSTRAINT PK_Kategoriler PRIMARY KEY (KategoriID),
+    CONSTRAINT UK_Kategoriler_KategoriAd UNIQUE (KategoriAd)
+);
+
+CREATE TABLE Cariler (
+    CariID INT NOT NULL,
+    CariKod VARCHAR(20),
+    Unvan VARCHAR(200) NOT NULL,
+    Tur VARCHAR(10),
+    VergiNo VARCHAR(20),
+    GuncelBakiye NUMERIC(15, 2),
+    CONSTRAINT PK_Cariler PRIMARY KEY (CariID),
+    CONSTRAINT UK_Cariler_CariKod UNIQUE (CariKod),
+    CONSTRAINT CK_Cariler_Tur CHECK (Tur IN ('ALICI', 'SATICI', 'DIGER'))
+);
+
+CREATE TABLE KasaBanka (
+    HesapID INT NOT NULL,
+    HesapAdi VARCHAR(50),
+    Tur VARCHAR(10),
+    Bakiye NUMERIC(15, 2),
+    CONSTRAINT PK_KasaBanka PRIMARY KEY (HesapID),
+    CONSTRAINT CK_KasaBanka_Tur CHECK (Tur IN ('KASA', 'BANKA', 'POS'))
+);
+
+CREATE TABLE Personeller (
+    PersonelID INT NOT NULL,
+    AdSoyad VARCHAR(100) NOT NULL,
+    Gorev VARCHAR(50),
+    Maas NUMERIC(10, 2),
+    IseGirisTarihi DATE,
+    AktifMi BIT,
+    CONSTRAINT PK_Personeller PRIMARY KEY (PersonelID)
+);
+
+CREATE TABLE Hizmetler (
+    HizmetID INT NOT NULL,
+    HizmetAd VARCHAR(100) NOT NULL,
+    Tur VARCHAR(10),
+    KDVOrani INT,
+    CONSTRAINT PK_Hizmetler PRIMARY KEY (HizmetID),
+    CONSTRAINT CK_Hizmetler_Tur CHECK (Tur IN ('GELIR', 'GIDER'))
+);
+
+CREATE TABLE AtikNedenleri (
+    NedenID INT NOT NULL,
+    Aciklama VARCHAR(100),
+    CONSTRAINT PK_AtikNedenleri PRIMARY KEY (NedenID)
+);
+
+CREATE TABLE Urunler (
+    UrunID INT NOT NULL,
+    UrunAd VARCHAR(100) NOT NULL,
+    KategoriID INT NOT NULL,
+    MevcutSatisFiyati NUMERIC(10, 2),
+    MinimumStokSeviyesi INT,
+    MevcutStokMiktari INT,
+    CONSTRAINT PK_Urunler PRIMARY KEY (UrunID),
+    CONSTRAINT FK_Urunler_Kategoriler FOREIGN KEY (KategoriID) REFERENCES Kategoriler (KategoriID)
+);
+
+-- KurID o sürümde IDENTITY idi
+CREATE TABLE Kurlar (
+    KurID INT IDENTITY NOT NULL,
+    ParaKod VARCHAR(3),
+    KurTarihi DATE NOT NULL,
+    Kur NUMERIC(18, 6) NOT NULL,
+    Kaynak VARCHAR(20),
+    CONSTRAINT PK_Kurlar PRIMARY KEY (KurID),
+    CONSTRAINT FK_Kurlar_ParaBirimleri FOREIGN KEY (ParaKod) REFERENCES ParaBirimleri (ParaKod)
+);
+
+-- Belgeler
+
+CREATE TABLE Teklifler (
+    TeklifID INT NOT NULL,
+    CariID INT NOT NULL,
+    TeklifTarihi DATETIME2(6),
+    GecerlilikTarihi DATE,
+    Durum VARCHAR(20),
+    ToplamTutar NUMERIC(15, 2),
+    CONSTRAINT PK_Teklifler PRIMARY KEY (TeklifID),
+    CONSTRAINT FK_Teklifler_Cariler FOREIGN KEY (CariID) REFERENCES Cariler (CariID),
+    CONSTRAINT CK_Teklifler_Durum CHECK (Durum IN ('BEKLIYOR', 'ONAYLANDI', 'REDDEDILDI'))
+);
+
+CREATE TABLE TeklifDetaylari (
+    DetayID INT NOT NULL,
+    TeklifID INT NOT NULL,
+    UrunID INT,
+    Miktar INT,
+    BirimFiyat NUMERIC(10, 2),
+    CONSTRAINT PK_TeklifDetaylari PRIMARY KEY (DetayID),
+    CONSTRAINT FK_TeklifDetaylari_Teklifler FOREIGN KEY (TeklifID) REFERENCES Teklifler (TeklifID),
+    CONSTRAINT FK_TeklifDetaylari_Urunler FOREIGN KEY (UrunID) REFERENCES Urunler (UrunID)
+);
+
+CREATE TABLE Siparisler (
+    SiparisID INT NOT NULL,
+    TeklifID INT,
+    CariID INT NOT NULL,
+    SiparisTarihi DATETIME2(6),
+    Durum VARCHAR(20),
+    CONSTRAINT PK_Siparisler PRIMARY KEY (SiparisID),
+    CONSTRAINT FK_Siparisler_Teklifler FOREIGN KEY (TeklifID) REFERENCES Teklifler (TeklifID),
+    CONSTRAINT FK_Siparisler_Cariler FOREIGN KEY (CariID) REFERENCES Cariler (CariID),
+    CONSTRAINT CK_Siparisler_Durum CHECK (Durum IN ('HAZIRLANIYOR', 'TAMAMLANDI', 'IPTAL'))
+);
+
+CREATE TABLE Faturalar (
+    FaturaID INT NOT NULL,
+    CariID INT NOT NULL,
+    FaturaTarihi DATETIME2(6),
+    FaturaNo VARCHAR(50) NOT NULL,
+    Tur VARCHAR(10) NOT NULL,
+    GenelToplam NUMERIC(15, 2) NOT NULL,
+    Aciklama VARCHAR(255),
+    ParaBirimi VARCHAR(3),
+    Kur NUMERIC(18, 6),
+    CONSTRAINT PK_Faturalar PRIMARY KEY (FaturaID),
+    CONSTRAINT FK_Faturalar_Cariler FOREIGN KEY (CariID) REFERENCES Cariler (CariID),
+    CONSTRAINT FK_Faturalar_ParaBirimleri FOREIGN KEY (ParaBirimi) REFERENCES ParaBirimleri (ParaKod),
+    CONSTRAINT CK_Faturalar_Tur CHECK (Tur IN ('ALIS', 'SATIS', 'GIDER'))
+);
+
+CREATE TABLE FaturaHizmetKalemleri (
+    KalemID INT NOT NULL,
+    FaturaID INT NOT NULL,
+    HizmetID INT NOT NULL,
+    Aciklama VARCHAR(100),
+    Tutar NUMERIC(10, 2),
+    ParaBirimi VARCHAR(3),
+    Kur NUMERIC(18, 6),
+    CONSTRAINT PK_FaturaHizmetKalemleri PRIMARY KEY (KalemID),
+    CONSTRAINT FK_FaturaHizmetKalemleri_Faturalar FOREIGN KEY (FaturaID) REFERENCES Faturalar (FaturaID),
+    CONSTRAINT FK_FaturaHizmetKalemleri_Hizmetler FOREIGN KEY (HizmetID) REFERENCES Hizmetler (HizmetID),
+    CONSTRAINT FK_FaturaHizmetKalemleri_ParaBirimleri FOREIGN KEY (ParaBirimi) REFERENCES ParaBirimleri (ParaKod)
+);
+
+CREATE TABLE StokGirisCikis (
+    HareketID INT NOT NULL,
+    FaturaID INT NOT NULL,
+    UrunID INT NOT NULL,
+    SiparisID INT,
+    IslemTuru VARCHAR(10) NOT NULL,
+    Miktar INT NOT NULL,
+    BirimFiyat NUMERIC(10, 2) NOT NULL,
+    Tarih DATETIME2(6),
+    ParaBirimi VARCHAR(3),
+    Kur NUMERIC(18, 6),
+    CONSTRAINT PK_StokGirisCikis PRIMARY KEY (HareketID),
+    CONSTRAINT FK_StokGirisCikis_Faturalar FOREIGN KEY (FaturaID) REFERENCES Faturalar (FaturaID),
+    CONSTRAINT FK_StokGirisCikis_Urunler FOREIGN KEY (UrunID) REFERENCES Urunler (UrunID),
+    CONSTRAINT FK_StokGirisCikis_Siparisler FOREIGN KEY (SiparisID) REFERENCES Siparisler (SiparisID),
+    CONSTRAINT FK_StokGirisCikis_ParaBirimleri FOREIGN KEY (ParaBirimi) REFERENCES ParaBirimleri (ParaKod),
+    CONSTRAINT CK_StokGirisCikis_IslemTuru CHECK (IslemTuru IN ('GIRIS', 'CIKIS'))
+);
+
+CREATE TABLE Atiklar (
+    AtikID INT NOT NULL,
+    UrunID INT,
+    NedenID INT,
+    Miktar INT,
+    Tarih DATETIME2(6),
+    CONSTRAINT PK_Atiklar PRIMARY KEY (AtikID),
+    CONSTRAINT FK_Atiklar_Urunler FOREIGN KEY (UrunID) REFERENCES Urunler (UrunID),
+    CONSTRAINT FK_Atiklar_AtikNedenleri FOREIGN KEY (NedenID) REFERENCES AtikNedenleri (NedenID)
+);
+
+-- Finans
+
+CREATE TABLE CekSenetler (
+    EvrakID INT NOT NULL,
+    CariID INT,
+    Tur VARCHAR(10),
+    Yon VARCHAR(10),
+    VadeTarihi DATE NOT NULL,
+    Tutar NUMERIC(15, 2) NOT NULL,
+    Durum VARCHAR(20),
+    BankaAdi VARCHAR(50),
+    CONSTRAINT PK_CekSenetler PRIMARY KEY (EvrakID),
+    CONSTRAINT FK_CekSenetler_Cariler FOREIGN KEY (CariID) REFERENCES Cariler (CariID),
+    CONSTRAINT CK_CekSenetler_Tur CHECK (Tur IN ('CEK', 'SENET')),
+    CONSTRAINT CK_CekSenetler_Yon CHECK (Yon IN ('GIRIS', 'CIKIS')),
+    CONSTRAINT CK_CekSenetler_Durum CHECK (Durum IN ('PORTFOYDE', 'TAHSIL_EDILDI', 'CIRO_EDILDI', 'KARSILIKSIZ'))
+);
+
+CREATE TABLE FinansHareketleri (
+    HareketID INT NOT NULL,
+    HesapID INT,
+    CariID INT,
+    PersonelID INT,
+    EvrakID INT,
+    IslemTuru VARCHAR(20),
+    Tutar NUMERIC(15, 2),
+    Tarih DATETIME2(6),
+    ParaBirimi VARCHAR(3),
+    Kur NUMERIC(18, 6),
+    CONSTRAINT PK_FinansHareketleri PRIMARY KEY (HareketID),
+    CONSTRAINT FK_FinansHareketleri_KasaBanka FOREIGN KEY (HesapID) REFERENCES KasaBanka (HesapID),
+    CONSTRAINT FK_FinansHareketleri_Cariler FOREIGN KEY (CariID) REFERENCES Cariler (CariID),
+    CONSTRAINT FK_FinansHareketleri_Personeller FOREIGN KEY (PersonelID) REFERENCES Personeller (PersonelID),
+    CONSTRAINT FK_FinansHareketleri_CekSenetler FOREIGN KEY (EvrakID) REFERENCES CekSenetler (EvrakID),
+    CONSTRAINT FK_FinansHareketleri_ParaBirimleri FOREIGN KEY (ParaBirimi) REFERENCES ParaBirimleri (ParaKod),
+    CONSTRAINT CK_FinansHareketleri_IslemTuru CHECK (IslemTuru IN ('TAHSILAT', 'ODEME', 'MAAS', 'CEK_TAHSILATI'))
+);
@@ -0,0 +1,50 @@
+-- Mevcut tablolara eklenen kolonlar ve Kurlar'ın kimlik kolonu. Eski satırlarda boş kalırlar; açılışta doldurulanlar
+-- (Urunler.KritikStokta) ya da boşken katkı vermeyenler (Faturalar.KalanTutar) buna göre yazılmıştır.
+
+-- Vade ve tahsil/ödeme bekleyen tutar (nakit akışı, ekstre)
+ALTER TABLE Faturalar ADD VadeTarihi DATE;
+ALTER TABLE Faturalar ADD KalanTutar NUMERIC(15, 2);
+
+-- Seri numaraları (belge numarası servisi)
+ALTER TABLE Teklifler ADD TeklifNo VARCHAR(20);
+ALTER TABLE Siparisler ADD SiparisNo VARCHAR(20);
+
+-- Kritik stok bayrağı
+ALTER TABLE Urunler ADD KritikStokta BIT;
+
+-- Çıkışın stok maliyeti
+ALTER TABLE StokGirisCikis ADD Maliyet NUMERIC(15, 2);
+
+-- Vadesinde tahsil/ödeme yapılacak kasa-banka hesabı
+ALTER TABLE CekSenetler ADD HesapID INT;
+ALTER TABLE CekSenetler ADD CONSTRAINT FK_CekSenetler_KasaBanka FOREIGN KEY (HesapID) REFERENCES KasaBanka (HesapID);
+
+-- Kurlar.KurID artık Kurlar_SEQ'ten verilir (aktarımda JDBC ile de). SQL Server IDENTITY özelliğini
+-- kaldırmaya izin vermediğinden tablo geçici bir kopya üzerinden yeniden kurulur.
+CREATE TABLE Kurlar_Gecici (
+    KurID INT NOT NULL,
+    ParaKod VARCHAR(3),
+    KurTarihi DATE NOT NULL,
+    Kur NUMERIC(18, 6) NOT NULL,
+    Kaynak VARCHAR(20)
+);
+INSERT INTO Kurlar_Gecici (KurID, ParaKod, KurTarihi, Kur, Kaynak)
+SELECT KurID, ParaKod, KurTarihi, Kur, Kaynak FROM Kurlar;
+DROP TABLE Kurlar;
+
+CREATE TABLE Kurlar (
+    KurID INT NOT NULL,
+    ParaKod VARCHAR(3),
+    KurTarihi DATE NOT NULL,
+    Kur NUMERIC(18, 6) NOT NULL,
+    Kaynak VARCHAR(20),
+    CONSTRAINT PK_Kurlar PRIMARY KEY (KurID)
+);
+INSERT INTO Kurlar (KurID, ParaKod, KurTarihi, Kur, Kaynak)
+SELECT KurID, ParaKod, KurTarihi, Kur, Kaynak FROM Kurlar_Gecici;
+DROP TABLE Kurlar_Gecici;
+
+-- Para birimi + tarih araması (KurRepository, KurOnbellegi). Yabancı anahtardan önce kurulur; H2 anahtar
+-- için ayrı bir ParaKod indeksi açmaz ve bu indeksi kullanır.
+CREATE INDEX IX_Kurlar_ParaKod_Tarih ON Kurlar (ParaKod, KurTarihi, KurID);
+ALTER TABLE Kurlar ADD CONSTRAINT FK_Kurlar_ParaBirimleri FOREIGN KEY (ParaKod) REFERENCES ParaBirimleri (ParaKod);
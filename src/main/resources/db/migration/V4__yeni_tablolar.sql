@@ -0,0 +1,88 @@
+-- Sonradan eklenen tablolar. Türetilmiş tablolar boşsa açılışta belgelerden doldurulur.
+-- SQL Server ve H2 (MODE=MSSQLServer) ile çalışır.
+
+-- Belge numaraları
+
+CREATE TABLE BelgeNoSerileri (
+    Seri VARCHAR(3) NOT NULL,
+    Yil INT NOT NULL,
+    SonNumara BIGINT NOT NULL,
+    CONSTRAINT PK_BelgeNoSerileri PRIMARY KEY (Seri, Yil)
+);
+
+CREATE TABLE BelgeNoRezervasyonlari (
+    Seri VARCHAR(3) NOT NULL,
+    Yil INT NOT NULL,
+    Terminal VARCHAR(50) NOT NULL,
+    Siradaki BIGINT NOT NULL,
+    Bitis BIGINT NOT NULL,
+    CONSTRAINT PK_BelgeNoRezervasyonlari PRIMARY KEY (Seri, Terminal, Yil)
+);
+
+-- Türetilmiş tablolar; belgelerden yeniden oluşturulabilir.
+-- Gömülü anahtarların kolonları Hibernate'in oluşturduğu gibi alan adı sırasındadır.
+
+CREATE TABLE GunlukSatisOzetleri (
+    Tarih DATE NOT NULL,
+    Tur VARCHAR(10) NOT NULL,
+    KategoriID INT NOT NULL,
+    ParaBirimi VARCHAR(3) NOT NULL,
+    Tutar NUMERIC(15, 2) NOT NULL,
+    YerelTutar NUMERIC(15, 2) NOT NULL,
+    CONSTRAINT PK_GunlukSatisOzetleri PRIMARY KEY (KategoriID, ParaBirimi, Tarih, Tur)
+);
+
+CREATE TABLE StokAnlikGoruntuleri (
+    UrunID INT NOT NULL,
+    Tarih DATE NOT NULL,
+    Miktar INT NOT NULL,
+    CONSTRAINT PK_StokAnlikGoruntuleri PRIMARY KEY (Tarih, UrunID)
+);
+
+CREATE TABLE StokGoruntuDurumu (
+    Periyot VARCHAR(10) NOT NULL,
+    SonKapanan DATE NOT NULL,
+    CONSTRAINT PK_StokGoruntuDurumu PRIMARY KEY (Periyot)
+);
+
+CREATE TABLE UrunMaliyetleri (
+    UrunID INT NOT NULL,
+    Miktar INT NOT NULL,
+    Maliyet NUMERIC(15, 2) NOT NULL,
+    SonGirisMiktar INT NOT NULL,
+    SonGirisMaliyet NUMERIC(15, 2) NOT NULL,
+    SonHareketTarihi DATETIME2(6),
+    SonHareketID INT,
+    Gecersiz BIT NOT NULL,
+    CONSTRAINT PK_UrunMaliyetleri PRIMARY KEY (UrunID)
+);
+
+CREATE TABLE MaliyetKatmanlari (
+    HareketID INT NOT NULL,
+    UrunID INT NOT NULL,
+    Tarih DATETIME2(6) NOT NULL,
+    KalanMiktar INT NOT NULL,
+    KalanMaliyet NUMERIC(15, 2) NOT NULL,
+    CONSTRAINT PK_MaliyetKatmanlari PRIMARY KEY (HareketID)
+);
+
+CREATE TABLE UrunTuketimleri (
+    UrunID INT NOT NULL,
+    GunlukOrtalama FLOAT(53) NOT NULL,
+    GunlukVaryans FLOAT(53) NOT NULL,
+    SonGun DATE NOT NULL,
+    TedarikciID INT,
+    GuvenlikStogu INT NOT NULL,
+    YenidenSiparisNoktasi INT NOT NULL,
+    CONSTRAINT PK_UrunTuketimleri PRIMARY KEY (UrunID),
+    CONSTRAINT FK_UrunTuketimleri_Cariler FOREIGN KEY (TedarikciID) REFERENCES Cariler (CariID)
+);
+
+CREATE TABLE NakitAkisKovalari (
+    Tarih DATE NOT NULL,
+    HesapID INT NOT NULL,
+    Kaynak VARCHAR(10) NOT NULL,
+    Giris NUMERIC(15, 2) NOT NULL,
+    Cikis NUMERIC(15, 2) NOT NULL,
+    CONSTRAINT PK_NakitAkisKovalari PRIMARY KEY (HesapID, Kaynak, Tarih)
+);
@@ -0,0 +1,62 @@
+-- Depo sorgularının indeksleri; varlıklardaki @Index tanımlarıyla aynı tutulmalıdır.
+-- Tarih aralığı sorguları (findBy...Between) ve cari/hesap/ürün bazlı listeler tablo taraması
+-- yerine indeks aramasıyla çalışır. Toplam sorgularında istenen kolonlar da anahtara eklenmiştir;
+-- sorgu tabloya dönmeden indeksten cevaplanır. INCLUDE ve filtreli indeksler H2'de olmadığından
+-- kullanılmamıştır.
+--
+-- İndekslenmeyenler: değeri az olan enum finder'ları (Cariler.Tur, CekSenetler.Tur/Yon,
+-- Hizmetler.Tur, KasaBanka.Tur, Personeller.AktifMi) zaten taramayla çalışır; ...Containing
+-- aramaları B-ağacı indeksi kullanamaz ve bellek içi n-gram indeksinden cevaplanır.
+
+-- Ürünler: kritik stok listesi
+CREATE INDEX IX_Urunler_KritikStokta ON Urunler (KritikStokta);
+
+-- Faturalar: tarih aralığı, tür + tarih toplamı (dashboard), cari ekstresi, numara ile arama
+CREATE INDEX IX_Faturalar_FaturaTarihi ON Faturalar (FaturaTarihi);
+CREATE INDEX IX_Faturalar_Tur_Tarih ON Faturalar (Tur, FaturaTarihi, GenelToplam);
+CREATE INDEX IX_Faturalar_Cari_Tarih ON Faturalar (CariID, FaturaTarihi);
+CREATE INDEX IX_Faturalar_FaturaNo ON Faturalar (FaturaNo);
+
+-- Stok hareketleri: ürün + tarih (projeksiyon, maliyet), fatura satırları, tarih aralığı,
+-- işlem türü + tarih (tüketim hesabı)
+CREATE INDEX IX_StokGirisCikis_Urun_Tarih ON StokGirisCikis (UrunID, Tarih);
+CREATE INDEX IX_StokGirisCikis_Fatura ON StokGirisCikis (FaturaID);
+CREATE INDEX IX_StokGirisCikis_Tarih ON StokGirisCikis (Tarih);
+CREATE INDEX IX_StokGirisCikis_IslemTuru_Tarih ON StokGirisCikis (IslemTuru, Tarih);
+
+-- Finans hareketleri: tarih aralığı, hesap ve cari ekstreleri, işlem türü
+CREATE INDEX IX_FinansHareketleri_Tarih ON FinansHareketleri (Tarih);
+CREATE INDEX IX_FinansHareketleri_Hesap_Tarih ON FinansHareketleri (HesapID, Tarih);
+CREATE INDEX IX_FinansHareketleri_Cari_Tarih ON FinansHareketleri (CariID, Tarih);
+CREATE INDEX IX_FinansHareketleri_IslemTuru_Tarih ON FinansHareketleri (IslemTuru, Tarih);
+
+-- Çek/senetler: bekleyenlerin vadesi, vade aralığı ve cari ekstresi
+CREATE INDEX IX_CekSenetler_Durum_Vade ON CekSenetler (Durum, VadeTarihi);
+CREATE INDEX IX_CekSenetler_VadeTarihi ON CekSenetler (VadeTarihi);
+CREATE INDEX IX_CekSenetler_Cari ON CekSenetler (CariID);
+
+-- Siparişler ve teklifler: cari, tarih aralığı, durum; teklifin siparişi (dönüşüm)
+CREATE INDEX IX_Siparisler_Cari_Tarih ON Siparisler (CariID, SiparisTarihi);
+CREATE INDEX IX_Siparisler_SiparisTarihi ON Siparisler (SiparisTarihi);
+CREATE INDEX IX_Siparisler_Teklif ON Siparisler (TeklifID);
+CREATE INDEX IX_Siparisler_Durum ON Siparisler (Durum);
+CREATE INDEX IX_Teklifler_Cari_Tarih ON Teklifler (CariID, TeklifTarihi);
+CREATE INDEX IX_Teklifler_TeklifTarihi ON Teklifler (TeklifTarihi);
+CREATE INDEX IX_Teklifler_Durum ON Teklifler (Durum, TeklifID);
+CREATE INDEX IX_TeklifDetaylari_Teklif ON TeklifDetaylari (TeklifID, DetayID);
+CREATE INDEX IX_FaturaHizmetKalemleri_Fatura ON FaturaHizmetKalemleri (FaturaID);
+
+-- Tanımlar
+CREATE INDEX IX_Atiklar_Urun ON Atiklar (UrunID);
+CREATE INDEX IX_Atiklar_Tarih ON Atiklar (Tarih);
+-- IX_Kurlar_ParaKod_Tarih tablo yeniden kurulurken V2'de oluşturulur
+CREATE INDEX IX_Kurlar_KurTarihi ON Kurlar (KurTarihi);
+CREATE INDEX IX_Urunler_Kategori ON Urunler (KategoriID);
+CREATE INDEX IX_Cariler_VergiNo ON Cariler (VergiNo);
+
+-- Türetilmiş tablolar: birincil anahtarları tür + tarih ya da yalnız tarih ile başlamaz
+CREATE INDEX IX_GunlukSatisOzetleri_Tur_Tarih ON GunlukSatisOzetleri (Tur, Tarih, KategoriID, YerelTutar);
+CREATE INDEX IX_NakitAkisKovalari_Tarih ON NakitAkisKovalari (Tarih);
+CREATE INDEX IX_UrunMaliyetleri_Gecersiz ON UrunMaliyetleri (Gecersiz);
+CREATE INDEX IX_StokAnlikGoruntuleri_Urun_Tarih ON StokAnlikGoruntuleri (UrunID, Tarih);
+CREATE INDEX IX_MaliyetKatmanlari_Urun_Tarih ON MaliyetKatmanlari (UrunID, Tarih, HareketID);
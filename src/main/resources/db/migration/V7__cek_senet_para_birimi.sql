@@ -0,0 +1,5 @@
+-- Yabancı para birimli çek/senetler. Boş para birimi yerel paradır. Kur, kayıttaki kurdur ve nakit akışı
+-- tahmininde kullanılır; vadede işlenirken tutar o günün kuruyla çevrilir.
+ALTER TABLE CekSenetler ADD ParaBirimi VARCHAR(3);
+ALTER TABLE CekSenetler ADD Kur NUMERIC(18, 6);
+ALTER TABLE CekSenetler ADD CONSTRAINT FK_CekSenetler_ParaBirimleri FOREIGN KEY (ParaBirimi) REFERENCES ParaBirimleri (ParaKod);
@@ -0,0 +1,91 @@
+package com.ticari.entity;
+
+import com.ticari.repository.CariRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Varlıkların equals/hashCode/toString yöntemlerinin veritabanına gitmediğini denetler. Yüklenmiş
+ * varlıklar ve başlatılmamış vekiller kümelere konup yazdırılırken tek bir SQL çalışmamalıdır.
+ * Vekillerde equals/hashCode kimliği vekilin kendisinden okur; hedef nesne yüklenmez.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class VarlikEsitligiTest {
+
+    private static final int CARI_SAYISI = 100_000;
+    private static final int ILK_ID = 10_000_000;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CariRepository cariRepository;
+
+    private Statistics istatistik;
+
+    @BeforeEach
+    void carileriYukle() {
+        List<Object[]> satirlar = new ArrayList<>(CARI_SAYISI);
+        for (int i = 0; i < CARI_SAYISI; i++) {
+            satirlar.add(new Object[] {ILK_ID + i, "HSH-" + i, "Cari " + i, "ALICI"});
+        }
+        new JdbcTemplate(dataSource).batchUpdate(
+                "INSERT INTO Cariler (CariID, CariKod, Unvan, Tur, GuncelBakiye) VALUES (?, ?, ?, ?, 0)", satirlar);
+        istatistik = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        istatistik.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void yukluVarliklariKumeyeKoymakSorguCalistirmaz() {
+        List<Cari> cariler = cariRepository.findAll().stream()
+                .filter(c -> c.getCariId() >= ILK_ID)
+                .toList();
+        istatistik.clear();
+
+        Set<Cari> kume = new HashSet<>(cariler);
+        long yaziUzunlugu = cariler.stream().mapToLong(c -> c.toString().length()).sum();
+
+        assertThat(kume).hasSize(CARI_SAYISI);
+        assertThat(yaziUzunlugu).isPositive();
+        assertThat(istatistik.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void vekilleriKumeyeKoymakOnlariBaslatmaz() {
+        entityManager.clear();
+        istatistik.clear();
+
+        Set<Cari> kume = new HashSet<>();
+        for (int i = 0; i < CARI_SAYISI; i++) {
+            kume.add(entityManager.getReference(Cari.class, ILK_ID + i));
+        }
+
+        assertThat(kume).hasSize(CARI_SAYISI);
+        assertThat(kume).contains(entityManager.getReference(Cari.class, ILK_ID));
+        assertThat(kume).noneMatch(Hibernate::isInitialized);
+        assertThat(istatistik.getPrepareStatementCount()).isZero();
+        assertThat(istatistik.getEntityLoadCount()).isZero();
+    }
+}
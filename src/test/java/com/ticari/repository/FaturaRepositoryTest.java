@@ -0,0 +1,179 @@
+package com.ticari.repository;
+
+import com.ticari.entity.Fatura;
+import com.ticari.entity.StokGirisCikis;
+import com.ticari.service.EkstreService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fatura okuma kullanım durumlarının çalıştırdığı sorgu sayısını denetler: liste sayfası carisi ve
+ * para birimiyle, fatura detayı stok satırları ve satır ürünleriyle birlikte tek sorguda yüklenir;
+ * ilişkilere erişmek ek sorgu (N+1) çalıştırmamalıdır. Cari ekstresi JDBC ile okunur, her sayfası
+ * ve CSV çıktısının tamamı tek sorgudur.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class FaturaRepositoryTest {
+
+    private static final int FATURA_ID = 20_000_000;
+    private static final int SATIR_SAYISI = 5;
+    // Liste için her biri ayrı cariye kesilmiş faturalar; ekstre için detay carisine kesilmiş faturalar
+    private static final int LISTE_FATURA_SAYISI = 4;
+    private static final int EKSTRE_FATURA_SAYISI = 6;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FaturaRepository faturaRepository;
+
+    private Statistics istatistik;
+
+    @BeforeEach
+    void faturaYaz() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO ParaBirimleri (ParaKod, Aciklama, Sembol) VALUES ('XTS', 'Test', 'X')");
+        jdbc.update("INSERT INTO Kategoriler (KategoriID, KategoriAd) VALUES (?, 'Detay testi')", FATURA_ID);
+        jdbc.update("INSERT INTO Cariler (CariID, CariKod, Unvan, Tur, GuncelBakiye) VALUES (?, 'DTY-1', 'Detay Carisi', 'ALICI', 0)",
+                FATURA_ID);
+        jdbc.update("INSERT INTO Faturalar (FaturaID, CariID, FaturaTarihi, FaturaNo, Tur, GenelToplam, ParaBirimi, Kur) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP, 'DTY2099000000001', 'SATIS', 50, 'XTS', 1)", FATURA_ID, FATURA_ID);
+        for (int i = 0; i < SATIR_SAYISI; i++) {
+            int id = FATURA_ID + i;
+            jdbc.update("INSERT INTO Urunler (UrunID, UrunAd, KategoriID, MevcutSatisFiyati, MinimumStokSeviyesi, MevcutStokMiktari) "
+                    + "VALUES (?, ?, ?, 10, 0, 100)", id, "Ürün " + i, FATURA_ID);
+            jdbc.update("INSERT INTO StokGirisCikis (HareketID, FaturaID, UrunID, IslemTuru, Miktar, BirimFiyat, Tarih, ParaBirimi, Kur) "
+                    + "VALUES (?, ?, ?, 'CIKIS', 1, 10, CURRENT_TIMESTAMP, 'XTS', 1)", id, FATURA_ID, id);
+        }
+        for (int i = 1; i <= LISTE_FATURA_SAYISI; i++) {
+            int id = FATURA_ID + i;
+            jdbc.update("INSERT INTO Cariler (CariID, CariKod, Unvan, Tur, GuncelBakiye) VALUES (?, ?, ?, 'ALICI', 0)",
+                    id, "DTY-LST-" + i, "Liste Carisi " + i);
+            faturaYaz(jdbc, id, id, "DTY20990000001" + i);
+        }
+        for (int i = 0; i < EKSTRE_FATURA_SAYISI; i++) {
+            faturaYaz(jdbc, FATURA_ID + 100 + i, FATURA_ID, "DTY20990000002" + i);
+        }
+        entityManager.clear();
+        istatistik = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        istatistik.setStatisticsEnabled(true);
+        istatistik.clear();
+    }
+
+    @Test
+    void detayTekSorgudaYuklenir() {
+        Fatura fatura = faturaRepository.findDetayByFaturaId(FATURA_ID).orElseThrow();
+
+        assertThat(fatura.getCari().getUnvan()).isEqualTo("Detay Carisi");
+        assertThat(fatura.getParaBirimi().getSembol()).isEqualTo("X");
+        assertThat(fatura.getStokGirisCikislar()).hasSize(SATIR_SAYISI);
+        for (StokGirisCikis satir : fatura.getStokGirisCikislar()) {
+            assertThat(satir.getUrun().getUrunAd()).startsWith("Ürün ");
+        }
+        assertThat(istatistik.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(istatistik.getEntityFetchCount()).isZero();
+        assertThat(istatistik.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void listeSayfasiTekSorgudaYuklenir() {
+        // FaturaService.sayfaGetir
+        Slice<Fatura> sayfa = faturaRepository.findAllBy(PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "faturaId")));
+
+        assertThat(sayfa.getContent()).hasSizeGreaterThanOrEqualTo(1 + LISTE_FATURA_SAYISI + EKSTRE_FATURA_SAYISI);
+        for (Fatura fatura : sayfa) {
+            assertThat(fatura.getCari().getUnvan()).isNotNull();
+            assertThat(fatura.getParaBirimi().getSembol()).isNotNull();
+        }
+        assertThat(istatistik.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(istatistik.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void ekstreSayfasiTekSorgudur() {
+        AtomicInteger sorgular = new AtomicInteger();
+        EkstreService ekstreService = new EkstreService(new JdbcTemplate(sayanKaynak(sorgular)));
+        int sayfaBoyutu = 3;
+
+        int sayfaSayisi = 0;
+        int satirSayisi = 0;
+        EkstreService.EkstreImleci imlec = null;
+        do {
+            EkstreService.EkstreSayfasi sayfa = ekstreService.sayfaGetir(FATURA_ID, imlec, sayfaBoyutu);
+            sayfaSayisi++;
+            satirSayisi += sayfa.satirlar().size();
+            imlec = sayfa.sonraki();
+        } while (imlec != null);
+
+        assertThat(satirSayisi).isEqualTo(1 + EKSTRE_FATURA_SAYISI);
+        assertThat(sorgular).hasValue(sayfaSayisi);
+
+        sorgular.set(0);
+        StringWriter csv = new StringWriter();
+        ekstreService.csvYaz(FATURA_ID, csv);
+        assertThat(csv.toString().lines()).hasSize(2 + EKSTRE_FATURA_SAYISI);
+        assertThat(sorgular).hasValue(1);
+    }
+
+    private static void faturaYaz(JdbcTemplate jdbc, int faturaId, int cariId, String faturaNo) {
+        jdbc.update("INSERT INTO Faturalar (FaturaID, CariID, FaturaTarihi, FaturaNo, Tur, GenelToplam, ParaBirimi, Kur) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP, ?, 'SATIS', 10, 'XTS', 1)", faturaId, cariId, faturaNo);
+    }
+
+    /**
+     * Testin işlemine bağlı bağlantıyı veren ve hazırlanan sorguları sayan veri kaynağı.
+     * EkstreService JDBC kullandığından Hibernate istatistiklerine girmez.
+     */
+    private DataSource sayanKaynak(AtomicInteger sayac) {
+        DataSource islemeBagli = new TransactionAwareDataSourceProxy(dataSource);
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {DataSource.class},
+                (kaynak, yontem, argumanlar) -> {
+                    Object sonuc = cagir(yontem, islemeBagli, argumanlar);
+                    if (!(sonuc instanceof Connection baglanti)) {
+                        return sonuc;
+                    }
+                    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                            (b, y, a) -> {
+                                if (y.getName().equals("prepareStatement") || y.getName().equals("createStatement")) {
+                                    sayac.incrementAndGet();
+                                }
+                                return cagir(y, baglanti, a);
+                            });
+                });
+    }
+
+    private static Object cagir(Method yontem, Object hedef, Object[] argumanlar) throws Throwable {
+        try {
+            return yontem.invoke(hedef, argumanlar);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
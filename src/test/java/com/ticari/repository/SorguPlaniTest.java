@@ -0,0 +1,92 @@
+package com.ticari.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Depo sorgularının H2 planlarında tablo taraması yerine göçlerdeki indeksleri kullandığını denetler.
+ * Sorgular depo yöntemlerinin ürettiği WHERE koşullarıyla aynıdır. Beklenen indeks boş bırakılanlarda
+ * H2'nin yabancı anahtar için kendi oluşturduğu indeks de seçilebildiğinden yalnızca taramanın
+ * olmadığına bakılır.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class SorguPlaniTest {
+
+    private static final String ARALIK = " BETWEEN TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-01-31 23:59:59'";
+    private static final String GUN_ARALIGI = " BETWEEN DATE '2024-01-01' AND DATE '2024-01-31'";
+
+    @Autowired
+    private DataSource dataSource;
+
+    static Stream<Arguments> sorgular() {
+        return Stream.of(
+                // FaturaRepository
+                Arguments.of("SELECT * FROM Faturalar WHERE FaturaTarihi" + ARALIK, "IX_Faturalar_FaturaTarihi"),
+                Arguments.of("SELECT COALESCE(SUM(GenelToplam), 0) FROM Faturalar WHERE Tur = 'SATIS' AND FaturaTarihi" + ARALIK,
+                        "IX_Faturalar_Tur_Tarih"),
+                Arguments.of("SELECT * FROM Faturalar WHERE FaturaNo = 'FAT-2024-000001'", "IX_Faturalar_FaturaNo"),
+                Arguments.of("SELECT * FROM Faturalar WHERE CariID = 1", null),
+                // StokGirisCikisRepository, stok projeksiyonu ve tüketim hesabı
+                Arguments.of("SELECT * FROM StokGirisCikis WHERE Tarih" + ARALIK, "IX_StokGirisCikis_Tarih"),
+                Arguments.of("SELECT * FROM StokGirisCikis WHERE UrunID = 1 AND Tarih" + ARALIK, "IX_StokGirisCikis_Urun_Tarih"),
+                Arguments.of("SELECT * FROM StokGirisCikis WHERE IslemTuru = 'CIKIS' AND Tarih" + ARALIK,
+                        "IX_StokGirisCikis_IslemTuru_Tarih"),
+                Arguments.of("SELECT * FROM StokGirisCikis WHERE FaturaID = 1", null),
+                // FinansHareketiRepository
+                Arguments.of("SELECT * FROM FinansHareketleri WHERE Tarih" + ARALIK, "IX_FinansHareketleri_Tarih"),
+                Arguments.of("SELECT * FROM FinansHareketleri WHERE HesapID = 1 AND Tarih" + ARALIK, "IX_FinansHareketleri_Hesap_Tarih"),
+                Arguments.of("SELECT * FROM FinansHareketleri WHERE CariID = 1 AND Tarih" + ARALIK, "IX_FinansHareketleri_Cari_Tarih"),
+                Arguments.of("SELECT * FROM FinansHareketleri WHERE IslemTuru = 'TAHSILAT'", "IX_FinansHareketleri_IslemTuru_Tarih"),
+                // CekSenetRepository ve vade işi
+                Arguments.of("SELECT * FROM CekSenetler WHERE VadeTarihi" + GUN_ARALIGI, "IX_CekSenetler_VadeTarihi"),
+                Arguments.of("SELECT * FROM CekSenetler WHERE Durum = 'PORTFOYDE' AND VadeTarihi <= DATE '2024-01-31'",
+                        "IX_CekSenetler_Durum_Vade"),
+                Arguments.of("SELECT * FROM CekSenetler WHERE CariID = 1", null),
+                // SiparisRepository, TeklifRepository
+                Arguments.of("SELECT * FROM Siparisler WHERE SiparisTarihi" + ARALIK, "IX_Siparisler_SiparisTarihi"),
+                Arguments.of("SELECT * FROM Siparisler WHERE Durum = 'HAZIRLANIYOR'", "IX_Siparisler_Durum"),
+                Arguments.of("SELECT * FROM Teklifler WHERE TeklifTarihi" + ARALIK, "IX_Teklifler_TeklifTarihi"),
+                Arguments.of("SELECT * FROM Teklifler WHERE Durum = 'ONAYLANDI'", "IX_Teklifler_Durum"),
+                Arguments.of("SELECT * FROM TeklifDetaylari WHERE TeklifID = 1", null),
+                // AtikRepository, KurRepository, UrunRepository, CariRepository
+                Arguments.of("SELECT * FROM Atiklar WHERE Tarih" + ARALIK, "IX_Atiklar_Tarih"),
+                Arguments.of("SELECT * FROM Kurlar WHERE ParaKod = 'USD' AND KurTarihi = DATE '2024-01-15'", "IX_Kurlar_ParaKod_Tarih"),
+                Arguments.of("SELECT * FROM Kurlar WHERE KurTarihi" + GUN_ARALIGI, "IX_Kurlar_KurTarihi"),
+                Arguments.of("SELECT * FROM Urunler WHERE KritikStokta = CAST(1 AS BIT)", "IX_Urunler_KritikStokta"),
+                Arguments.of("SELECT * FROM Cariler WHERE VergiNo = '1234567890'", "IX_Cariler_VergiNo"),
+                // Türetilmiş tablolar
+                Arguments.of("SELECT SUM(YerelTutar) FROM GunlukSatisOzetleri WHERE Tur = 'SATIS' AND Tarih" + GUN_ARALIGI,
+                        "IX_GunlukSatisOzetleri_Tur_Tarih"),
+                Arguments.of("SELECT * FROM NakitAkisKovalari WHERE Tarih <= DATE '2024-01-31'", "IX_NakitAkisKovalari_Tarih"),
+                Arguments.of("SELECT * FROM StokAnlikGoruntuleri WHERE UrunID = 1 AND Tarih <= DATE '2024-01-31'",
+                        "IX_StokAnlikGoruntuleri_Urun_Tarih"),
+                Arguments.of("SELECT * FROM MaliyetKatmanlari WHERE UrunID = 1 ORDER BY Tarih, HareketID",
+                        "IX_MaliyetKatmanlari_Urun_Tarih"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sorgular")
+    void sorguIndeksKullanir(String sql, String beklenenIndeks) {
+        String plan = new JdbcTemplate(dataSource).queryForObject("EXPLAIN " + sql, String.class);
+        String buyukHarf = plan.toUpperCase(Locale.ROOT);
+
+        assertThat(buyukHarf).as(plan).doesNotContain("TABLESCAN");
+        if (beklenenIndeks != null) {
+            assertThat(buyukHarf).as(plan).contains(beklenenIndeks.toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ticari.service;
+
+import com.ticari.repository.BelgeNoJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Aynı seriden birden çok terminal ve iş parçacığıyla eşzamanlı alınan belge numaralarının
+ * tekil olduğunu denetler. Terminaller ayrı servis örnekleriyle temsil edilir; biri kapanıp aynı
+ * adla yeniden açılınca geri yazdığı bloğu kaldığı yerden kullanmalıdır.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BelgeNoServiceTest {
+
+    private static final String SERI = "TST";
+    private static final int YIL = 2099;
+    private static final int BLOK_BOYUTU = 7;
+    private static final int IS_PARCACIGI_SAYISI = 16;
+    private static final int PARCACIK_BASINA_NUMARA = 500;
+
+    @Autowired
+    private BelgeNoJdbcRepository belgeNoJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void esZamanliNumaralarTekildir() throws Exception {
+        BelgeNoService[] terminaller = {terminal("KASA1"), terminal("KASA2"), terminal("KASA3")};
+        Set<String> numaralar = ConcurrentHashMap.newKeySet();
+
+        numaraAl(terminaller, numaralar);
+        // KASA1 kalan bloğunu geri yazar; aynı adla açılan örnek oradan devam eder
+        terminaller[0].kapat();
+        terminaller[0] = terminal("KASA1");
+        numaraAl(terminaller, numaralar);
+
+        assertThat(numaralar).hasSize(2 * IS_PARCACIGI_SAYISI * PARCACIK_BASINA_NUMARA);
+        assertThat(numaralar).allMatch(no -> no.startsWith(SERI + YIL) && no.length() == 16);
+    }
+
+    @Test
+    void uzunTerminalAdiReddedilir() {
+        assertThatThrownBy(() -> terminal("T".repeat(51)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ticari.terminal");
+    }
+
+    private BelgeNoService terminal(String ad) {
+        return new BelgeNoService(belgeNoJdbcRepository, transactionManager, BLOK_BOYUTU, ad);
+    }
+
+    private static void numaraAl(BelgeNoService[] terminaller, Set<String> numaralar) throws Exception {
+        ExecutorService havuz = Executors.newFixedThreadPool(IS_PARCACIGI_SAYISI);
+        CountDownLatch baslangic = new CountDownLatch(1);
+        List<Future<?>> isler = new ArrayList<>();
+        try {
+            for (int i = 0; i < IS_PARCACIGI_SAYISI; i++) {
+                BelgeNoService servis = terminaller[i % terminaller.length];
+                isler.add(havuz.submit(() -> {
+                    baslangic.await();
+                    for (int j = 0; j < PARCACIK_BASINA_NUMARA; j++) {
+                        String numara = servis.sonraki(SERI, YIL);
+                        assertThat(numaralar.add(numara)).as("tekrarlanan numara %s", numara).isTrue();
+                    }
+                    return null;
+                }));
+            }
+            baslangic.countDown();
+            for (Future<?> is : isler) {
+                is.get();
+            }
+        } finally {
+            havuz.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ticari.service;
+
+import com.ticari.entity.Cari;
+import com.ticari.entity.FinansHareketi;
+import com.ticari.entity.KasaBanka;
+import com.ticari.enums.CariTuru;
+import com.ticari.enums.FinansIslemTuru;
+import com.ticari.enums.HesapTuru;
+import com.ticari.repository.CariRepository;
+import com.ticari.repository.KasaBankaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aynı cari ve hesaba paralel yazılan finans hareketlerinde bakiye güncellemesi kaybolmadığını denetler.
+ * Bakiye satırı okunup yazılsaydı eşzamanlı işlemler birbirinin farkını ezerdi; son bakiye tüm
+ * hareketlerin toplamına eşit olmalıdır.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FinansServiceEszamanlilikTest {
+
+    private static final int HAREKET_SAYISI = 10_000;
+    private static final int IS_PARCACIGI_SAYISI = 16;
+
+    @Autowired
+    private FinansService finansService;
+
+    @Autowired
+    private CariRepository cariRepository;
+
+    @Autowired
+    private KasaBankaRepository kasaBankaRepository;
+
+    @Test
+    void paralelHareketlerdeBakiyeKaybolmaz() throws Exception {
+        Cari cari = new Cari();
+        cari.setCariKod("ESZ-" + System.nanoTime() % 1_000_000_000L);
+        cari.setUnvan("Eşzamanlılık Carisi");
+        cari.setTur(CariTuru.ALICI);
+        cari = cariRepository.save(cari);
+
+        KasaBanka hesap = new KasaBanka();
+        hesap.setHesapAdi("Eşzamanlılık Kasası");
+        hesap.setTur(HesapTuru.KASA);
+        hesap = kasaBankaRepository.save(hesap);
+
+        Cari hareketCarisi = cari;
+        KasaBanka hareketHesabi = hesap;
+        BigDecimal beklenenKasa = BigDecimal.ZERO;
+        List<Future<FinansHareketi>> sonuclar = new ArrayList<>(HAREKET_SAYISI);
+        ExecutorService havuz = Executors.newFixedThreadPool(IS_PARCACIGI_SAYISI);
+        try {
+            for (int i = 0; i < HAREKET_SAYISI; i++) {
+                FinansIslemTuru tur = i % 3 == 0 ? FinansIslemTuru.ODEME : FinansIslemTuru.TAHSILAT;
+                BigDecimal tutar = BigDecimal.valueOf(i % 97 + 1, 2);
+                beklenenKasa = tur == FinansIslemTuru.TAHSILAT ? beklenenKasa.add(tutar) : beklenenKasa.subtract(tutar);
+                sonuclar.add(havuz.submit(() -> finansService.kaydet(hareket(hareketCarisi, hareketHesabi, tur, tutar))));
+            }
+            for (Future<FinansHareketi> sonuc : sonuclar) {
+                sonuc.get();
+            }
+        } finally {
+            havuz.shutdownNow();
+        }
+
+        // Tahsilat kasayı artırıp cari bakiyesini düşürür, ödeme tersini yapar
+        BigDecimal kasa = beklenenKasa;
+        assertThat(kasaBankaRepository.bakiyeGetir(hesap.getHesapId())).hasValueSatisfying(
+                bakiye -> assertThat(bakiye).isEqualByComparingTo(kasa));
+        assertThat(cariRepository.bakiyeGetir(cari.getCariId())).hasValueSatisfying(
+                bakiye -> assertThat(bakiye).isEqualByComparingTo(kasa.negate()));
+    }
+
+    private static FinansHareketi hareket(Cari cari, KasaBanka hesap, FinansIslemTuru tur, BigDecimal tutar) {
+        FinansHareketi hareket = new FinansHareketi();
+        hareket.setCari(cari);
+        hareket.setHesap(hesap);
+        hareket.setIslemTuru(tur);
+        hareket.setTutar(tutar);
+        hareket.setTarih(LocalDateTime.now());
+        return hareket;
+    }
+}